@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.benchmarks;
+
+import org.eclipse.lemminx.commons.TextDocument;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMNode;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses a sequence of 100, 1000 or 10000 mediators after a change in its middle mediator, either incrementally with
+ * {@link DOMParser#parse(TextDocument, DOMDocument, org.eclipse.lemminx.commons.TextEditRange,
+ * org.eclipse.lemminx.uriresolver.URIResolverExtensionManager, boolean,
+ * org.eclipse.lsp4j.jsonrpc.CancelChecker)} or with a full parse. A space is inserted in the start tag of the
+ * mediator and then deleted, so that the document does not grow between the invocations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DOMParserIncrementalBenchmark {
+
+    @State(Scope.Thread)
+    public static class EditedDocument {
+
+        @Param({"100", "1000", "10000"})
+        public int mediatorCount;
+
+        private TextDocument document;
+        private DOMDocument xmlDocument;
+        private List<TextDocumentContentChangeEvent> insert;
+        private List<TextDocumentContentChangeEvent> delete;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+
+            StringBuilder text = new StringBuilder();
+            text.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+            text.append("<sequence name=\"LargeSequence\" xmlns=\"http://ws.apache.org/ns/synapse\">\n");
+            for (int i = 0; i < mediatorCount; i++) {
+                text.append("    <log level=\"custom\">\n");
+                text.append("        <property name=\"index\" value=\"").append(i).append("\"/>\n");
+                text.append("    </log>\n");
+            }
+            text.append("</sequence>\n");
+            document = new TextDocument(text.toString(), "file:///LargeSequence.xml");
+            document.setIncremental(true);
+            document.setEditRangeTracked(true);
+            xmlDocument = DOMParser.getInstance().parse(document, null);
+
+            // after the '<log' of the middle mediator
+            Position position = new Position(2 + mediatorCount / 2 * 3, 8);
+            insert = List.of(new TextDocumentContentChangeEvent(new Range(position, position), 0, " "));
+            Position end = new Position(position.getLine(), position.getCharacter() + 1);
+            delete = List.of(new TextDocumentContentChangeEvent(new Range(position, end), 1, ""));
+        }
+
+        private DOMDocument parseIncrementally() {
+
+            xmlDocument = DOMParser.getInstance().parse(document, xmlDocument, document.takeEditRange(), null, true,
+                    null);
+            return xmlDocument;
+        }
+
+        private DOMDocument parse() {
+
+            document.takeEditRange();
+            xmlDocument = DOMParser.getInstance().parse(document, null);
+            return xmlDocument;
+        }
+    }
+
+    @Benchmark
+    public DOMDocument incrementalParse(EditedDocument editedDocument) {
+
+        editedDocument.document.update(editedDocument.insert);
+        editedDocument.parseIncrementally();
+        editedDocument.document.update(editedDocument.delete);
+        return editedDocument.parseIncrementally();
+    }
+
+    /**
+     * Visits all the nodes of the incrementally parsed documents, as the validation does, which copies all the nodes
+     * which are not copied yet.
+     */
+    @Benchmark
+    public int incrementalParseAndVisit(EditedDocument editedDocument) {
+
+        editedDocument.document.update(editedDocument.insert);
+        int count = visit(editedDocument.parseIncrementally());
+        editedDocument.document.update(editedDocument.delete);
+        return count + visit(editedDocument.parseIncrementally());
+    }
+
+    @Benchmark
+    public DOMDocument fullParse(EditedDocument editedDocument) {
+
+        editedDocument.document.update(editedDocument.insert);
+        editedDocument.parse();
+        editedDocument.document.update(editedDocument.delete);
+        return editedDocument.parse();
+    }
+
+    private static int visit(DOMNode node) {
+
+        int count = node.hasAttributes() ? node.getAttributeNodes().size() : 0;
+        for (DOMNode child : node.getChildren()) {
+            count += 1 + visit(child);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Generates MI projects with the given number of artifacts for the benchmarks.
+ * <p>
+ * A third of the artifacts are sequences, a third are endpoints and a third are APIs. Each API calls the endpoint and
+ * the sequence generated before it, so that the artifacts have dependencies as in a real project.
+ */
+public class MIProjectGenerator {
+
+    public static final String RUNTIME_VERSION = "4.4.0";
+
+    private static final String SYNAPSE_NAMESPACE = "http://ws.apache.org/ns/synapse";
+    private static final String ARTIFACTS_PATH = "src/main/wso2mi/artifacts";
+
+    private MIProjectGenerator() {
+
+    }
+
+    /**
+     * Generates a project in a new temporary folder.
+     *
+     * @param artifactCount the number of artifacts
+     * @return the generated project
+     * @throws IOException if the project cannot be written
+     */
+    public static GeneratedProject generate(int artifactCount) throws IOException {
+
+        Path projectPath = Files.createTempDirectory("mi-benchmark-" + artifactCount + "-");
+        Files.writeString(projectPath.resolve("pom.xml"), createPom(artifactCount));
+        List<Path> artifacts = new ArrayList<>();
+        List<Path> apis = new ArrayList<>();
+        for (int i = 0; i < artifactCount; i++) {
+            Path artifact;
+            switch (i % 3) {
+                case 0:
+                    artifact = write(projectPath, "sequences", "Sequence" + i, createSequence(i));
+                    break;
+                case 1:
+                    artifact = write(projectPath, "endpoints", "Endpoint" + i, createEndpoint(i));
+                    break;
+                default:
+                    artifact = write(projectPath, "apis", "API" + i, createApi(i));
+                    apis.add(artifact);
+                    break;
+            }
+            artifacts.add(artifact);
+        }
+        return new GeneratedProject(projectPath, artifacts, apis);
+    }
+
+    private static Path write(Path projectPath, String folder, String name, String content) throws IOException {
+
+        Path artifact = projectPath.resolve(ARTIFACTS_PATH).resolve(folder).resolve(name + ".xml");
+        Files.createDirectories(artifact.getParent());
+        Files.writeString(artifact, content);
+        return artifact;
+    }
+
+    private static String createPom(int artifactCount) {
+
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+                "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n" +
+                "  <modelVersion>4.0.0</modelVersion>\n" +
+                "  <groupId>com.microintegrator.projects</groupId>\n" +
+                "  <artifactId>benchmark" + artifactCount + "</artifactId>\n" +
+                "  <version>1.0.0</version>\n" +
+                "  <packaging>pom</packaging>\n" +
+                "  <properties>\n" +
+                "    <projectType>integration-project</projectType>\n" +
+                "    <project.runtime.version>" + RUNTIME_VERSION + "</project.runtime.version>\n" +
+                "  </properties>\n" +
+                "</project>\n";
+    }
+
+    private static String createSequence(int index) {
+
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+                "<sequence name=\"Sequence" + index + "\" trace=\"disable\" xmlns=\"" + SYNAPSE_NAMESPACE + "\">\n" +
+                "    <log category=\"INFO\" level=\"custom\">\n" +
+                "        <property name=\"sequence\" value=\"Sequence" + index + "\"/>\n" +
+                "    </log>\n" +
+                "    <property name=\"requestId\" expression=\"get-property('MessageID')\" scope=\"default\" " +
+                "type=\"STRING\"/>\n" +
+                "    <filter regex=\"POST\" source=\"get-property('axis2', 'HTTP_METHOD')\">\n" +
+                "        <then>\n" +
+                "            <property name=\"method\" value=\"POST\"/>\n" +
+                "        </then>\n" +
+                "        <else>\n" +
+                "            <property name=\"method\" value=\"GET\"/>\n" +
+                "        </else>\n" +
+                "    </filter>\n" +
+                "</sequence>\n";
+    }
+
+    private static String createEndpoint(int index) {
+
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+                "<endpoint name=\"Endpoint" + index + "\" xmlns=\"" + SYNAPSE_NAMESPACE + "\">\n" +
+                "    <http method=\"get\" uri-template=\"http://localhost:8290/backend/" + index + "\">\n" +
+                "        <suspendOnFailure>\n" +
+                "            <initialDuration>-1</initialDuration>\n" +
+                "            <progressionFactor>1</progressionFactor>\n" +
+                "        </suspendOnFailure>\n" +
+                "        <markForSuspension>\n" +
+                "            <retriesBeforeSuspension>0</retriesBeforeSuspension>\n" +
+                "        </markForSuspension>\n" +
+                "    </http>\n" +
+                "</endpoint>\n";
+    }
+
+    private static String createApi(int index) {
+
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+                "<api context=\"/api" + index + "\" name=\"API" + index + "\" xmlns=\"" + SYNAPSE_NAMESPACE + "\">\n" +
+                "    <resource methods=\"GET\" uri-template=\"/items/{id}\">\n" +
+                "        <inSequence>\n" +
+                "            <log category=\"INFO\" level=\"full\"/>\n" +
+                "            <sequence key=\"Sequence" + (index - 2) + "\"/>\n" +
+                "            <call>\n" +
+                "                <endpoint key=\"Endpoint" + (index - 1) + "\"/>\n" +
+                "            </call>\n" +
+                "            <respond/>\n" +
+                "        </inSequence>\n" +
+                "        <faultSequence>\n" +
+                "            <log category=\"ERROR\" level=\"full\"/>\n" +
+                "        </faultSequence>\n" +
+                "    </resource>\n" +
+                "    <resource methods=\"POST\" uri-template=\"/items\">\n" +
+                "        <inSequence>\n" +
+                "            <payloadFactory media-type=\"json\" template-type=\"default\">\n" +
+                "                <format>{\"api\": \"API" + index + "\", \"id\": $1}</format>\n" +
+                "                <args>\n" +
+                "                    <arg expression=\"$.id\" evaluator=\"json\"/>\n" +
+                "                </args>\n" +
+                "            </payloadFactory>\n" +
+                "            <call>\n" +
+                "                <endpoint key=\"Endpoint" + (index - 1) + "\"/>\n" +
+                "            </call>\n" +
+                "            <respond/>\n" +
+                "        </inSequence>\n" +
+                "        <faultSequence/>\n" +
+                "    </resource>\n" +
+                "</api>\n";
+    }
+
+    /**
+     * A generated project, which is deleted when closed.
+     */
+    public static class GeneratedProject implements AutoCloseable {
+
+        private final Path projectPath;
+        private final List<Path> artifacts;
+        private final List<Path> apis;
+
+        private GeneratedProject(Path projectPath, List<Path> artifacts, List<Path> apis) {
+
+            this.projectPath = projectPath;
+            this.artifacts = Collections.unmodifiableList(artifacts);
+            this.apis = Collections.unmodifiableList(apis);
+        }
+
+        public Path getProjectPath() {
+
+            return projectPath;
+        }
+
+        public List<Path> getArtifacts() {
+
+            return artifacts;
+        }
+
+        public List<Path> getApis() {
+
+            return apis;
+        }
+
+        @Override
+        public void close() throws IOException {
+
+            try (Stream<Path> files = Files.walk(projectPath)) {
+                for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+}
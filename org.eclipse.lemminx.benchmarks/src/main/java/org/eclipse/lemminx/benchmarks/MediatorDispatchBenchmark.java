@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.benchmarks;
+
+import org.eclipse.lemminx.customservice.synapse.connectors.ConnectorHolder;
+import org.eclipse.lemminx.customservice.synapse.mediatorService.MediatorDispatchTable;
+import org.eclipse.lemminx.customservice.synapse.mediatorService.mediators.LogMediator;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.core.Log;
+import org.eclipse.lemminx.customservice.synapse.utils.Utils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Retrieves the data of a log mediator, either through the {@link MediatorDispatchTable} or with the reflective lookup
+ * and invocation of the mediator processor done per request before the dispatch table.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MediatorDispatchBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Mediators {
+
+        private MediatorDispatchTable dispatchTable;
+        private Log log;
+
+        @Setup(Level.Trial)
+        public void setUp() throws Exception {
+
+            dispatchTable = MediatorDispatchTable.build(Utils.getMediatorList("4.4.0", ConnectorHolder.getInstance()));
+            log = new Log();
+            log.setDescription("Log the request");
+        }
+    }
+
+    @Benchmark
+    public Object dispatchTable(Mediators mediators) throws Exception {
+
+        return mediators.dispatchTable.get("log").retrieveData(mediators.log);
+    }
+
+    @Benchmark
+    public Object reflectiveDispatch(Mediators mediators) throws Exception {
+
+        Class<?> processorClass = Class.forName(LogMediator.class.getName());
+        Object processor = processorClass.getDeclaredConstructor().newInstance();
+        Method method = processorClass.getMethod("getDataFromST440", Class.forName(Log.class.getName()));
+        return method.invoke(processor, mediators.log);
+    }
+}
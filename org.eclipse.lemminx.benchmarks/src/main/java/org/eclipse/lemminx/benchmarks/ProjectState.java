@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.benchmarks;
+
+import org.eclipse.lemminx.commons.TextDocument;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A generated MI project of 100, 1000 or 5000 artifacts, with the text documents of its artifacts.
+ */
+@State(Scope.Benchmark)
+public class ProjectState {
+
+    @Param({"100", "1000", "5000"})
+    public int artifactCount;
+
+    private MIProjectGenerator.GeneratedProject project;
+    private List<TextDocument> documents;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+
+        project = MIProjectGenerator.generate(artifactCount);
+        documents = new ArrayList<>();
+        for (Path artifact : project.getArtifacts()) {
+            documents.add(new TextDocument(Files.readString(artifact), artifact.toUri().toString()));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+
+        project.close();
+    }
+
+    public MIProjectGenerator.GeneratedProject getProject() {
+
+        return project;
+    }
+
+    public String getProjectPath() {
+
+        return project.getProjectPath().toString();
+    }
+
+    public List<TextDocument> getDocuments() {
+
+        return documents;
+    }
+}
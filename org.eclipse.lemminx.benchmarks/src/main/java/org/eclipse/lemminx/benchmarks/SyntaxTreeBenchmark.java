@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.benchmarks;
+import org.eclipse.lemminx.commons.TextDocument;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.SyntaxTreeGenerator;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates the syntax trees of all the artifacts of the project with {@link SyntaxTreeGenerator#getSyntaxTree}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SyntaxTreeBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class ParsedDocuments {
+
+        private List<DOMDocument> documents;
+
+        @Setup(Level.Trial)
+        public void setUp(ProjectState project) {
+
+            documents = new ArrayList<>();
+            for (TextDocument document : project.getDocuments()) {
+                documents.add(DOMParser.getInstance().parse(document, null));
+            }
+        }
+    }
+
+    @Benchmark
+    public void getSyntaxTree(ParsedDocuments parsedDocuments, Blackhole blackhole) {
+
+        SyntaxTreeGenerator generator = new SyntaxTreeGenerator();
+        for (DOMDocument document : parsedDocuments.documents) {
+            blackhole.consume(generator.getSyntaxTree(document));
+        }
+    }
+}
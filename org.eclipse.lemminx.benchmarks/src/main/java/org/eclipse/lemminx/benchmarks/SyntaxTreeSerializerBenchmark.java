@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.benchmarks;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import org.eclipse.lemminx.commons.TextDocument;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.SyntaxTreeGenerator;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.SyntaxTreeSerializer;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.STNode;
+import org.eclipse.lemminx.customservice.synapse.utils.EnumTypeAdapter;
+import org.eclipse.lemminx.customservice.synapse.utils.OptionalTypeAdapter;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes the syntax trees of all the artifacts of the project to JSON, either with the shared
+ * {@link SyntaxTreeSerializer} or with a new reflective Gson and an intermediate JSON tree per tree, as the syntax
+ * tree requests did before the shared serializer.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SyntaxTreeSerializerBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class SyntaxTrees {
+
+        private List<STNode> trees;
+
+        @Setup(Level.Trial)
+        public void setUp(ProjectState project) {
+
+            trees = new ArrayList<>();
+            SyntaxTreeGenerator generator = new SyntaxTreeGenerator();
+            for (TextDocument document : project.getDocuments()) {
+                STNode tree = generator.getSyntaxTree(DOMParser.getInstance().parse(document, null)).getSyntaxTree();
+                if (tree != null) {
+                    trees.add(tree);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void sharedSerializer(SyntaxTrees syntaxTrees, Blackhole blackhole) {
+
+        for (STNode tree : syntaxTrees.trees) {
+            blackhole.consume(SyntaxTreeSerializer.getInstance().toJson(tree));
+        }
+    }
+
+    @Benchmark
+    public void reflectiveSerialization(SyntaxTrees syntaxTrees, Blackhole blackhole) {
+
+        for (STNode tree : syntaxTrees.trees) {
+            Gson gson = new GsonBuilder()
+                    .registerTypeHierarchyAdapter(Optional.class, new OptionalTypeAdapter())
+                    .registerTypeHierarchyAdapter(Enum.class, new EnumTypeAdapter())
+                    .disableHtmlEscaping()
+                    .create();
+            JsonObject root = new JsonObject();
+            root.add(tree.getTag(), gson.toJsonTree(tree));
+            blackhole.consume(root.toString());
+        }
+    }
+}
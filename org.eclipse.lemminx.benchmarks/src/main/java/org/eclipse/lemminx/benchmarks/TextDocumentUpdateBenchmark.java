@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.benchmarks;
+import org.eclipse.lemminx.commons.TextDocument;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies incremental edits to all the artifacts of the project with {@link TextDocument#update(List)}, as the
+ * client does while typing. A space is inserted in each document and then deleted, so that the documents do not grow
+ * between the invocations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TextDocumentUpdateBenchmark {
+
+    private static final List<TextDocumentContentChangeEvent> INSERT = List.of(new TextDocumentContentChangeEvent(
+            new Range(new Position(2, 4), new Position(2, 4)), 0, " "));
+    private static final List<TextDocumentContentChangeEvent> DELETE = List.of(new TextDocumentContentChangeEvent(
+            new Range(new Position(2, 4), new Position(2, 5)), 1, ""));
+
+    @State(Scope.Benchmark)
+    public static class OpenDocuments {
+
+        private List<TextDocument> documents;
+
+        @Setup(Level.Trial)
+        public void setUp(ProjectState project) {
+
+            documents = new ArrayList<>();
+            for (TextDocument document : project.getDocuments()) {
+                TextDocument openDocument = new TextDocument(document.getText(), document.getUri());
+                openDocument.setIncremental(true);
+                documents.add(openDocument);
+            }
+        }
+    }
+
+    @Benchmark
+    public int update(OpenDocuments openDocuments) {
+
+        int length = 0;
+        for (TextDocument document : openDocuments.documents) {
+            document.update(INSERT);
+            document.update(DELETE);
+            length += document.getText().length();
+        }
+        return length;
+    }
+}
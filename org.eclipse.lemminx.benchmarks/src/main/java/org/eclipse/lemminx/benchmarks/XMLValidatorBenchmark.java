@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.benchmarks;
+import org.eclipse.lemminx.commons.TextDocument;
+import org.eclipse.lemminx.customservice.synapse.utils.Utils;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.eclipse.lemminx.extensions.contentmodel.model.ContentModelManager;
+import org.eclipse.lemminx.extensions.contentmodel.participants.diagnostics.XMLValidator;
+import org.eclipse.lemminx.extensions.contentmodel.settings.XMLFileAssociation;
+import org.eclipse.lemminx.extensions.contentmodel.settings.XMLValidationSettings;
+import org.eclipse.lemminx.extensions.xsd.contentmodel.CMXSDContentModelProvider;
+import org.eclipse.lemminx.uriresolver.URIResolverExtensionManager;
+import org.eclipse.lsp4j.Diagnostic;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validates all the artifacts of the project against the Synapse XSD with
+ * {@link XMLValidator#doDiagnostics}. The XSD is associated with the artifacts as done by the MI extension, and the
+ * compiled grammar is cached after the first validation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class XMLValidatorBenchmark {
+
+    private static final String SCHEMAS_PATH = "org/eclipse/lemminx/schemas/" +
+            MIProjectGenerator.RUNTIME_VERSION.replace(".", "");
+    private static final String SYNAPSE_SCHEMA = "synapse_config.xsd";
+
+    @State(Scope.Benchmark)
+    public static class ValidationState {
+
+        private URIResolverExtensionManager resolverManager;
+        private ContentModelManager contentModelManager;
+        private XMLValidationSettings validationSettings;
+        private List<DOMDocument> documents;
+
+        @Setup(Level.Trial)
+        public void setUp(ProjectState project) throws Exception {
+
+            Path schemasPath = Files.createTempDirectory("mi-benchmark-schemas");
+            schemasPath.toFile().deleteOnExit();
+            Utils.extractJarFolder(SCHEMAS_PATH, schemasPath);
+
+            resolverManager = new URIResolverExtensionManager();
+            contentModelManager = new ContentModelManager(resolverManager);
+            contentModelManager.registerModelProvider(new CMXSDContentModelProvider(resolverManager));
+            XMLFileAssociation association = new XMLFileAssociation();
+            association.setPattern("**/*.xml");
+            association.setSystemId(schemasPath.resolve(SYNAPSE_SCHEMA).toUri().toString());
+            contentModelManager.fileAssociationResolver.setFileAssociations(new XMLFileAssociation[]{association});
+            validationSettings = new XMLValidationSettings();
+
+            documents = new ArrayList<>();
+            for (TextDocument document : project.getDocuments()) {
+                documents.add(DOMParser.getInstance().parse(document, resolverManager));
+            }
+        }
+    }
+
+    @Benchmark
+    public int validate(ValidationState state) {
+
+        int diagnosticCount = 0;
+        for (DOMDocument document : state.documents) {
+            List<Diagnostic> diagnostics = new ArrayList<>();
+            XMLValidator.doDiagnostics(document, state.resolverManager, diagnostics, state.validationSettings,
+                    state.contentModelManager, () -> {
+                    });
+            diagnosticCount += diagnostics.size();
+        }
+        return diagnosticCount;
+    }
+}
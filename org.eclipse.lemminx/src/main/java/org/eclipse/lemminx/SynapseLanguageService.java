@@ -16,6 +16,7 @@ package org.eclipse.lemminx;
 
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import org.eclipse.lemminx.commons.ModelTextDocument;
 import org.eclipse.lemminx.customservice.ISynapseLanguageService;
 import org.eclipse.lemminx.customservice.SynapseLanguageClientAPI;
 import org.eclipse.lemminx.customservice.synapse.CodeDiagnosticRequest;
@@ -42,25 +43,31 @@ import org.eclipse.lemminx.customservice.synapse.dataService.CheckDBDriverReques
 import org.eclipse.lemminx.customservice.synapse.dataService.CheckDBDriverResponseParams;
 import org.eclipse.lemminx.customservice.synapse.dataService.ModifyDriverRequestParams;
 import org.eclipse.lemminx.customservice.synapse.dataService.QueryGenRequestParams;
+import org.eclipse.lemminx.customservice.synapse.db.DBConnectionPool;
 import org.eclipse.lemminx.customservice.synapse.db.DBConnectionTestParams;
 import org.eclipse.lemminx.customservice.synapse.db.DBConnectionTestResponse;
 import org.eclipse.lemminx.customservice.synapse.db.DBConnectionTester;
 import org.eclipse.lemminx.customservice.synapse.debugger.entity.StepOverInfo;
 import org.eclipse.lemminx.customservice.synapse.dependency.tree.OverviewModelGenerator;
 import org.eclipse.lemminx.customservice.synapse.dependency.tree.pojo.OverviewModel;
+import org.eclipse.lemminx.customservice.synapse.expression.pojo.BatchExpressionValidationRequest;
+import org.eclipse.lemminx.customservice.synapse.expression.pojo.BatchExpressionValidationResponse;
 import org.eclipse.lemminx.customservice.synapse.expression.pojo.ExpressionError;
 import org.eclipse.lemminx.customservice.synapse.expression.ExpressionHelperProvider;
 import org.eclipse.lemminx.customservice.synapse.expression.ExpressionSignatureProvider;
 import org.eclipse.lemminx.customservice.synapse.expression.ExpressionValidator;
 import org.eclipse.lemminx.customservice.synapse.expression.pojo.ExpressionParam;
 import org.eclipse.lemminx.customservice.synapse.expression.ExpressionCompletionsProvider;
+import org.eclipse.lemminx.customservice.synapse.expression.MediatorTryoutInfoCache;
 import org.eclipse.lemminx.customservice.synapse.expression.pojo.ExpressionValidationResponse;
 import org.eclipse.lemminx.customservice.synapse.expression.pojo.HelperPanelData;
 import org.eclipse.lemminx.customservice.synapse.inbound.conector.InboundConnectorResponse;
 import org.eclipse.lemminx.customservice.synapse.inbound.conector.InboundConnectorHolder;
 import org.eclipse.lemminx.customservice.synapse.inbound.conector.InboundConnectorParam;
+import org.eclipse.lemminx.customservice.synapse.dependency.tree.DependencyCache;
 import org.eclipse.lemminx.customservice.synapse.dependency.tree.DependencyScanner;
 import org.eclipse.lemminx.customservice.synapse.dependency.tree.pojo.DependencyTree;
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.CAPPCacheManager;
 import org.eclipse.lemminx.customservice.synapse.mediator.tryout.TryOutManager;
 import org.eclipse.lemminx.customservice.synapse.InvalidConfigurationException;
 import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.MediatorTryoutRequest;
@@ -92,7 +99,9 @@ import org.eclipse.lemminx.customservice.synapse.debugger.entity.ValidationRespo
 import org.eclipse.lemminx.customservice.synapse.api.generator.pojo.GenerateAPIParam;
 import org.eclipse.lemminx.customservice.synapse.api.generator.RestApiAdmin;
 import org.eclipse.lemminx.customservice.synapse.resourceFinder.ResourceFileScanner;
+import org.eclipse.lemminx.customservice.synapse.resourceFinder.ArtifactIndex;
 import org.eclipse.lemminx.customservice.synapse.resourceFinder.ResourceFinderFactory;
+import org.eclipse.lemminx.customservice.synapse.resourceFinder.ResourceUsageGraph;
 import org.eclipse.lemminx.customservice.synapse.resourceFinder.ResourceUsageFinder;
 import org.eclipse.lemminx.customservice.synapse.resourceFinder.ResourceUsagesRequest;
 import org.eclipse.lemminx.customservice.synapse.resourceFinder.pojo.ResourceParam;
@@ -102,7 +111,9 @@ import org.eclipse.lemminx.customservice.synapse.connectors.AbstractConnectorLoa
 import org.eclipse.lemminx.customservice.synapse.connectors.SchemaGenerate;
 import org.eclipse.lemminx.customservice.synapse.definition.SynapseDefinitionProvider;
 import org.eclipse.lemminx.customservice.synapse.directoryTree.DirectoryMapResponse;
-import org.eclipse.lemminx.customservice.synapse.directoryTree.DirectoryTreeBuilder;
+import org.eclipse.lemminx.customservice.synapse.directoryTree.DirectoryTreeDelta;
+import org.eclipse.lemminx.customservice.synapse.directoryTree.DirectoryTreeDeltaRequest;
+import org.eclipse.lemminx.customservice.synapse.directoryTree.DirectoryTreeModel;
 import org.eclipse.lemminx.customservice.synapse.driver.DriverDownloadRequest;
 import org.eclipse.lemminx.customservice.synapse.driver.DriverLoader;
 import org.eclipse.lemminx.customservice.synapse.dynamic.db.DynamicField;
@@ -113,11 +124,16 @@ import org.eclipse.lemminx.customservice.synapse.schemagen.util.SchemaGenFromCon
 import org.eclipse.lemminx.customservice.synapse.schemagen.util.SchemaGenRequest;
 import org.eclipse.lemminx.customservice.synapse.schemagen.util.SchemaGenResponse;
 import org.eclipse.lemminx.customservice.synapse.schemagen.util.SchemaGeneratorHelper;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.SyntaxTreeDeltaRequest;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.SyntaxTreeDeltaResponse;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.SyntaxTreeGenerator;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.SyntaxTreeResponse;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.SyntaxTreeSessions;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.factory.mediators.MediatorFactoryFinder;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.ArtifactTypeResponse;
 import org.eclipse.lemminx.customservice.synapse.utils.Constant;
+import org.eclipse.lemminx.customservice.synapse.utils.DOMDocumentCache;
+import org.eclipse.lemminx.customservice.synapse.utils.DocumentAccess;
 import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.MediatorTryoutInfo;
 import org.eclipse.lemminx.customservice.synapse.utils.Utils;
 import org.eclipse.lemminx.dom.DOMDocument;
@@ -127,6 +143,7 @@ import org.eclipse.lemminx.settings.SharedSettings;
 import org.eclipse.lemminx.uriresolver.URIResolverExtensionManager;
 import org.eclipse.lsp4j.DefinitionParams;
 import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.FileChangeType;
 import org.eclipse.lsp4j.Location;
 import org.eclipse.lsp4j.PublishDiagnosticsParams;
 import org.eclipse.lsp4j.SignatureHelp;
@@ -147,6 +164,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -159,6 +177,8 @@ public class SynapseLanguageService implements ISynapseLanguageService {
             // Do nothing.
         }
     };
+    private static final String WARM_UP_SEQUENCE =
+            "<sequence name=\"warmUp\" xmlns=\"http://ws.apache.org/ns/synapse\"/>";
 
     private XMLTextDocumentService xmlTextDocumentService;
     private XMLLanguageServer xmlLanguageServer;
@@ -171,20 +191,28 @@ public class SynapseLanguageService implements ISynapseLanguageService {
     private MediatorHandler mediatorHandler;
     private final ConnectorHolder connectorHolder;
     private AbstractResourceFinder resourceFinder;
+    private ResourceUsageGraph resourceUsageGraph;
+    private final Map<String, DirectoryTreeModel> directoryTreeModels = new ConcurrentHashMap<>();
+    private final Map<String, String> processedFileChanges = new ConcurrentHashMap<>();
+    private final DependencyCache dependencyCache = new DependencyCache();
     private final InboundConnectorHolder inboundConnectorHolder;
     private final ConnectionHandler connectionHandler;
     private Path synapseXSDPath;
     private TryOutManager tryOutManager;
     private String miServerPath;
+    private int tryOutServerPoolSize = 1;
     private ExpressionHelperProvider expressionHelperProvider;
     private DynamicFieldsHandler dynamicFieldsHandler;
     private final URIResolverExtensionManager uriResolverExtensionManager;
+    private CompletableFuture<Void> grammarWarmUp = CompletableFuture.completedFuture(null);
 
     public SynapseLanguageService(XMLTextDocumentService xmlTextDocumentService, XMLLanguageServer xmlLanguageServer) {
 
         this.xmlTextDocumentService = xmlTextDocumentService;
         this.xmlLanguageServer = xmlLanguageServer;
         uriResolverExtensionManager = xmlLanguageServer.getXMLLanguageService().getResolverExtensionManager();
+        xmlLanguageServer.getXMLLanguageService()
+                .registerDocumentLifecycleParticipant(SyntaxTreeSessions.getInstance());
         this.connectorHolder = ConnectorHolder.getInstance();
         this.inboundConnectorHolder = new InboundConnectorHolder();
         mediatorHandler = new MediatorHandler();
@@ -198,6 +226,9 @@ public class SynapseLanguageService implements ISynapseLanguageService {
         if (settings != null) {
             extensionPath = ((JsonObject) settings).get("extensionPath").getAsString();
             miServerPath = ((JsonObject) settings).get("miServerPath").getAsString();
+            if (((JsonObject) settings).has("tryOutServerPoolSize")) {
+                tryOutServerPoolSize = ((JsonObject) settings).get("tryOutServerPoolSize").getAsInt();
+            }
         }
         if (projectUri != null) {
             this.projectUri = projectUri;
@@ -210,7 +241,8 @@ public class SynapseLanguageService implements ISynapseLanguageService {
                 connectionHandler.init(connectorHolder);
                 MediatorFactoryFinder.init(projectServerVersion, projectUri, connectorHolder);
                 DynamicClassLoader.updateClassLoader(Path.of(projectUri, "deployment", "libs").toFile());
-                this.tryOutManager = new TryOutManager(projectUri, miServerPath, connectorHolder, languageClient);
+                this.tryOutManager = new TryOutManager(projectUri, miServerPath, connectorHolder, languageClient,
+                        tryOutServerPoolSize);
             } catch (Exception e) {
                 log.log(Level.SEVERE, "Error while updating class loader for DB drivers.", e);
             }
@@ -219,6 +251,113 @@ public class SynapseLanguageService implements ISynapseLanguageService {
             log.log(Level.SEVERE, "Project path is null. Language server initialization failed.");
         }
         resourceFinder = ResourceFinderFactory.getResourceFinder(isLegacyProject);
+        if (projectUri != null) {
+            CompletableFuture.runAsync(() -> resourceFinder.initArtifactIndex(projectUri));
+            // the graph indexes the src/main/wso2mi layout, legacy projects are scanned on each lookup
+            if (!isLegacyProject) {
+                resourceUsageGraph = new ResourceUsageGraph(projectUri);
+            }
+        }
+        DOMDocumentCache.getInstance().setOpenDocumentProvider(this::getOpenDocument);
+        CompletableFuture.runAsync(ExpressionValidator::warmUp);
+        grammarWarmUp = CompletableFuture.runAsync(this::warmUpSynapseGrammar).exceptionally(e -> {
+            log.log(Level.WARNING, "Error while warming up the Synapse grammar", e);
+            return null;
+        });
+    }
+
+    /**
+     * Validates a minimal sequence so that the Synapse XSD of the project runtime version is compiled and cached in
+     * the grammar pool before the first artifact is opened. The validations don't wait for the warm up, a validation
+     * which starts before the warm up completes loads the grammar as usual.
+     */
+    private void warmUpSynapseGrammar() {
+
+        if (synapseXSDPath == null) {
+            return;
+        }
+        DOMDocument xmlDocument = Utils.getDOMDocument(WARM_UP_SEQUENCE, uriResolverExtensionManager);
+        doDiagnostics(xmlDocument, NULL_CANCEL_CHECKER);
+    }
+
+    /**
+     * Returns the warm up of the Synapse grammar started by {@link #init}.
+     *
+     * @return the future completed once the Synapse grammar is cached, or once the warm up failed
+     */
+    CompletableFuture<Void> getGrammarWarmUp() {
+
+        return grammarWarmUp;
+    }
+
+    private DOMDocument getOpenDocument(File file) {
+
+        ModelTextDocument<DOMDocument> document = xmlTextDocumentService.getDocument(file.toPath().toUri().toString());
+        if (document == null) {
+            String path = file.getAbsolutePath();
+            document = xmlTextDocumentService.allDocuments().stream()
+                    .filter(openDocument -> path.equals(Utils.getAbsolutePath(openDocument.getUri())))
+                    .findFirst().orElse(null);
+        }
+        return document != null ? document.getModel() : null;
+    }
+
+    /**
+     * Updates the project level caches for a file that was created, changed or deleted.
+     * <p>
+     * A save is notified both by the save of the document and by the watched-file event of the client, hence a change
+     * is skipped if the file has the same modification time and length as when its last change was processed.
+     *
+     * @param uri        the uri of the file
+     * @param changeType the type of the change
+     */
+    public void didChangeWatchedFile(String uri, FileChangeType changeType) {
+
+        if (uri == null) {
+            return;
+        }
+        File file = new File(Utils.getAbsolutePath(uri));
+        if (FileChangeType.Deleted.equals(changeType)) {
+            processedFileChanges.remove(file.getAbsolutePath());
+        } else if (file.lastModified() > 0) {
+            String fileStamp = file.lastModified() + ":" + file.length();
+            String processedStamp = processedFileChanges.put(file.getAbsolutePath(), fileStamp);
+            if (FileChangeType.Changed.equals(changeType) && fileStamp.equals(processedStamp)) {
+                return;
+            }
+        }
+        DOMDocumentCache.getInstance().invalidate(file);
+        MediatorTryoutInfoCache.getInstance().invalidate(file);
+        for (DirectoryTreeModel directoryTreeModel : directoryTreeModels.values()) {
+            if (directoryTreeModel.contains(file.getAbsolutePath())) {
+                directoryTreeModel.fileChanged(file.getAbsolutePath());
+            }
+        }
+        if (projectUri == null) {
+            return;
+        }
+        CAPPCacheManager.fileChanged(projectUri, file.getAbsolutePath());
+        ArtifactIndex artifactIndex = resourceFinder != null ? resourceFinder.getArtifactIndex() : null;
+        if (artifactIndex != null) {
+            if (FileChangeType.Deleted.equals(changeType)) {
+                artifactIndex.remove(file);
+            } else {
+                artifactIndex.update(file);
+            }
+        }
+        if (resourceUsageGraph != null) {
+            if (FileChangeType.Created.equals(changeType)) {
+                resourceUsageGraph.artifactCreated(file.getAbsolutePath());
+            } else if (FileChangeType.Deleted.equals(changeType)) {
+                resourceUsageGraph.artifactDeleted(file.getAbsolutePath());
+            } else {
+                resourceUsageGraph.artifactChanged(file.getAbsolutePath());
+            }
+        }
+        if (!FileChangeType.Changed.equals(changeType)) {
+            // the keys of the artifacts might now resolve to other files
+            dependencyCache.clear();
+        }
     }
 
     private void initializeConnectorLoader() throws InvalidConfigurationException {
@@ -242,6 +381,16 @@ public class SynapseLanguageService implements ISynapseLanguageService {
         });
     }
 
+    @Override
+    public CompletableFuture<SyntaxTreeDeltaResponse> syntaxTreeDelta(SyntaxTreeDeltaRequest param) {
+
+        return xmlTextDocumentService.computeDOMAsync(param.getTextDocument(), (xmlDocument, cancelChecker) -> {
+            SyntaxTreeGenerator generator = new SyntaxTreeGenerator();
+            generator.setProjectPath(projectUri);
+            return SyntaxTreeSessions.getInstance().getSyntaxTree(xmlDocument, param.getBaseVersion(), generator);
+        });
+    }
+
     @Override
     public CompletableFuture<DBConnectionTestResponse> testDBConnection(DBConnectionTestParams dbConnectionTestParams) {
 
@@ -298,13 +447,39 @@ public class SynapseLanguageService implements ISynapseLanguageService {
         });
     }
 
+    @Override
+    public CompletableFuture<BatchExpressionValidationResponse> batchExpressionValidation(
+            BatchExpressionValidationRequest param) {
+
+        return CompletableFuture.supplyAsync(() -> {
+            List<String> expressions = new ArrayList<>();
+            for (String expression : param.getExpressions()) {
+                if (expression.startsWith("${") && expression.endsWith("}")) {
+                    expression = expression.substring(2, expression.length() - 1);
+                }
+                expressions.add(expression);
+            }
+            List<ExpressionValidationResponse> results = new ArrayList<>();
+            for (List<ExpressionError> errors : ExpressionValidator.validate(expressions)) {
+                results.add(new ExpressionValidationResponse(errors.isEmpty(), errors));
+            }
+            return new BatchExpressionValidationResponse(results);
+        });
+    }
+
     @Override
     public CompletableFuture<DirectoryMapResponse> directoryTree(WorkspaceFolder param) {
 
-        DirectoryMapResponse response = DirectoryTreeBuilder.buildDirectoryTree(param);
+        DirectoryMapResponse response = getDirectoryTreeModel(param).getDirectoryTree();
         return CompletableFuture.supplyAsync(() -> response);
     }
 
+    private DirectoryTreeModel getDirectoryTreeModel(WorkspaceFolder projectFolder) {
+
+        return directoryTreeModels.computeIfAbsent(projectFolder.getUri(),
+                uri -> new DirectoryTreeModel(projectFolder));
+    }
+
     @Override
     public CompletableFuture<Location> definition(
             DefinitionParams params) {
@@ -383,9 +558,14 @@ public class SynapseLanguageService implements ISynapseLanguageService {
     @Override
     public CompletableFuture<List<String>> getResourceUsages(ResourceUsagesRequest resourceUsagesRequest) {
 
-        List<String> resourceUsagesProjectIdentifiers =
-                ResourceUsageFinder.findResourceUsagesProjectIdentifiers(projectUri,
-                        resourceUsagesRequest.getResourceFilePath(), connectorHolder, isLegacyProject);
+        List<String> resourceUsagesProjectIdentifiers;
+        if (resourceUsageGraph != null) {
+            resourceUsagesProjectIdentifiers = ResourceUsageFinder.findResourceUsagesProjectIdentifiers(projectUri,
+                    resourceUsagesRequest.getResourceFilePath(), resourceUsageGraph, connectorHolder);
+        } else {
+            resourceUsagesProjectIdentifiers = ResourceUsageFinder.findResourceUsagesProjectIdentifiers(projectUri,
+                    resourceUsagesRequest.getResourceFilePath(), connectorHolder, isLegacyProject);
+        }
         return CompletableFuture.supplyAsync(() -> resourceUsagesProjectIdentifiers);
     }
 
@@ -435,7 +615,8 @@ public class SynapseLanguageService implements ISynapseLanguageService {
 
         SchemaGeneratorHelper schemaGenerate = new SchemaGeneratorHelper();
         FileType fileType = FileType.valueOf(schemaGenRequest.type);
-        String schema = schemaGenerate.getSchemaContent(fileType, schemaGenRequest.filePath, schemaGenRequest.delimiter);
+        String schema = schemaGenerate.getSchemaContent(fileType, schemaGenRequest.filePath, schemaGenRequest.delimiter,
+                schemaGenRequest.sampleSize);
         SchemaGenResponse schemaGenResponse = new SchemaGenResponse(schema);
         return CompletableFuture.supplyAsync(() -> schemaGenResponse);
     }
@@ -446,7 +627,7 @@ public class SynapseLanguageService implements ISynapseLanguageService {
         SchemaGeneratorHelper schemaGenerate = new SchemaGeneratorHelper();
         FileType fileType = FileType.valueOf(schemaGenRequest.type);
         String schema = schemaGenerate.getSchemaFromContent(fileType,
-                schemaGenRequest.fileContent, schemaGenRequest.delimiter);
+                schemaGenRequest.fileContent, schemaGenRequest.delimiter, schemaGenRequest.sampleSize);
         SchemaGenResponse schemaGenResponse = new SchemaGenResponse(schema);
         return CompletableFuture.supplyAsync(() -> schemaGenResponse);
     }
@@ -507,14 +688,14 @@ public class SynapseLanguageService implements ISynapseLanguageService {
     @Override
     public CompletableFuture<DependencyTree> dependencyTree(TextDocumentIdentifier param) {
 
-        DependencyScanner dependencyScanner = new DependencyScanner(projectUri);
+        DependencyScanner dependencyScanner = new DependencyScanner(projectUri, dependencyCache);
         DependencyTree dependencyTree = dependencyScanner.analyzeArtifact(param.getUri());
         return CompletableFuture.supplyAsync(() -> dependencyTree);
     }
 
     @Override
     public CompletableFuture<OverviewModel> getOverviewModel() {
-        OverviewModel overviewModel = OverviewModelGenerator.getOverviewModel(projectUri);
+        OverviewModel overviewModel = OverviewModelGenerator.getOverviewModel(projectUri, dependencyCache);
         return CompletableFuture.supplyAsync(() -> overviewModel);
     }
 
@@ -558,7 +739,15 @@ public class SynapseLanguageService implements ISynapseLanguageService {
     @Override
     public CompletableFuture<DirectoryMapResponse> getProjectExplorerModel(WorkspaceFolder param) {
 
-        DirectoryMapResponse response = DirectoryTreeBuilder.getProjectExplorerModel(param);
+        DirectoryMapResponse response = getDirectoryTreeModel(param).getProjectExplorerModel();
+        return CompletableFuture.supplyAsync(() -> response);
+    }
+
+    @Override
+    public CompletableFuture<DirectoryTreeDelta> getDirectoryTreeDelta(DirectoryTreeDeltaRequest param) {
+
+        DirectoryTreeModel directoryTreeModel = getDirectoryTreeModel(new WorkspaceFolder(param.getProjectUri()));
+        DirectoryTreeDelta response = directoryTreeModel.getDelta(param.getVersion());
         return CompletableFuture.supplyAsync(() -> response);
     }
 
@@ -769,6 +958,12 @@ public class SynapseLanguageService implements ISynapseLanguageService {
 
     public void dispose() {
 
+        if (resourceFinder != null && resourceFinder.getArtifactIndex() != null) {
+            resourceFinder.getArtifactIndex().saveSnapshot();
+        }
+        DOMDocumentCache.getInstance().logStatistics();
+        DocumentAccess.getInstance().logStatistics();
         tryOutManager.shutdown();
+        DBConnectionPool.getInstance().closeAll();
     }
 }
@@ -246,6 +246,7 @@ public class XMLLanguageServer implements ProcessLanguageServer, XMLLanguageServ
 			if (serverSettings != null) {
 				String workDir = serverSettings.getNormalizedWorkDir();
 				FilesUtils.setCachePathSetting(workDir);
+				xmlTextDocumentService.setIncrementalParsing(serverSettings.isIncrementalParsing());
 			}
 		}
 		ContentModelSettings cmSettings = ContentModelSettings.getContentModelXMLSettings(initSettings);
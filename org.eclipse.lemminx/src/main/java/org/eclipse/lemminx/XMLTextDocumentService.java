@@ -43,6 +43,7 @@ import org.eclipse.lemminx.services.DocumentSymbolsResult;
 import org.eclipse.lemminx.services.SymbolInformationResult;
 import org.eclipse.lemminx.services.XMLLanguageService;
 import org.eclipse.lemminx.services.data.DataEntryField;
+import org.eclipse.lemminx.services.extensions.diagnostics.DiagnosticsResult;
 import org.eclipse.lemminx.services.extensions.save.AbstractSaveContext;
 import org.eclipse.lemminx.settings.CompositeSettings;
 import org.eclipse.lemminx.settings.SharedSettings;
@@ -52,6 +53,7 @@ import org.eclipse.lemminx.settings.XMLFoldingSettings;
 import org.eclipse.lemminx.settings.XMLFormattingOptions;
 import org.eclipse.lemminx.settings.XMLPreferences;
 import org.eclipse.lemminx.settings.XMLSymbolSettings;
+import org.eclipse.lemminx.uriresolver.URIResolverExtensionManager;
 import org.eclipse.lemminx.utils.XMLPositionUtility;
 import org.eclipse.lsp4j.ClientCapabilities;
 import org.eclipse.lsp4j.CodeAction;
@@ -81,6 +83,7 @@ import org.eclipse.lsp4j.DocumentLinkParams;
 import org.eclipse.lsp4j.DocumentRangeFormattingParams;
 import org.eclipse.lsp4j.DocumentSymbol;
 import org.eclipse.lsp4j.DocumentSymbolParams;
+import org.eclipse.lsp4j.FileChangeType;
 import org.eclipse.lsp4j.FoldingRange;
 import org.eclipse.lsp4j.FoldingRangeRequestParams;
 import org.eclipse.lsp4j.Hover;
@@ -194,17 +197,26 @@ public class XMLTextDocumentService implements TextDocumentService {
 
 	private Boolean clientConfigurationSupport;
 
+	private boolean incrementalParsing;
+
 	public XMLTextDocumentService(XMLLanguageServer xmlLanguageServer) {
 		this.xmlLanguageServer = xmlLanguageServer;
 		DOMParser parser = DOMParser.getInstance();
 		this.documents = new ModelTextDocuments<DOMDocument>((document, cancelChecker) -> {
 			return parser.parse(document, getXMLLanguageService().getResolverExtensionManager(), true, cancelChecker);
+		}, (document, previousDocument, editRange, cancelChecker) -> {
+			URIResolverExtensionManager resolverExtensionManager = getXMLLanguageService()
+					.getResolverExtensionManager();
+			if (!incrementalParsing) {
+				return parser.parse(document, resolverExtensionManager, true, cancelChecker);
+			}
+			return parser.parse(document, previousDocument, editRange, resolverExtensionManager, true, cancelChecker);
 		});
 		this.sharedSettings = new SharedSettings();
 		this.limitExceededWarner = null;
 		this.xmlValidatorDelayer = new ModelValidatorDelayer<DOMDocument>((document) -> {
 			DOMDocument xmlDocument = document.getModel();
-			validate(xmlDocument, Collections.emptyMap());
+			validate(xmlDocument, Collections.singletonMap(DiagnosticsResult.DID_CHANGE_KEY, true));
 
 			getXMLLanguageService().getDocumentLifecycleParticipants().forEach(participant -> {
 				try {
@@ -601,6 +613,8 @@ public class XMLTextDocumentService implements TextDocumentService {
 			// A document was saved, collect documents to revalidate
 			SaveContext context = new SaveContext(params.getTextDocument().getUri());
 			doSave(context);
+			((SynapseLanguageService) xmlLanguageServer.getSynapseLanguageService())
+					.didChangeWatchedFile(params.getTextDocument().getUri(), FileChangeType.Changed);
 
 			// Manage didSave document lifecycle participants
 			final DOMDocument xmlDocument = documents.getModel(params.getTextDocument().getUri());
@@ -754,6 +768,10 @@ public class XMLTextDocumentService implements TextDocumentService {
 		return documents.isIncremental();
 	}
 
+	public void setIncrementalParsing(boolean incrementalParsing) {
+		this.incrementalParsing = incrementalParsing;
+	}
+
 	public XMLFoldingSettings getSharedFoldingSettings() {
 		return sharedSettings.getFoldingSettings();
 	}
@@ -92,12 +92,15 @@ public class XMLWorkspaceService implements WorkspaceService, IXMLCommandService
 	public void didChangeWatchedFiles(DidChangeWatchedFilesParams params) {
 		XMLTextDocumentService xmlTextDocumentService = (XMLTextDocumentService) xmlLanguageServer
 				.getTextDocumentService();
+		SynapseLanguageService synapseLanguageService = (SynapseLanguageService) xmlLanguageServer
+				.getSynapseLanguageService();
 		List<FileEvent> changes = params.getChanges();
 		for (FileEvent change : changes) {
+			synapseLanguageService.didChangeWatchedFile(change.getUri(), change.getType());
 			if (change.getUri().contains(Constant.INBOUND_CONNECTORS_DIR) && change.getUri().contains(".zip")) {
-				((SynapseLanguageService) xmlLanguageServer.getSynapseLanguageService()).updateInboundConnectors();
+				synapseLanguageService.updateInboundConnectors();
 			} else if (change.getUri().contains(Constant.CONNECTORS) && change.getUri().contains(".zip")) {
-				((SynapseLanguageService) xmlLanguageServer.getSynapseLanguageService()).updateConnectors();
+				synapseLanguageService.updateConnectors();
 			} else {
 				if (!xmlTextDocumentService.documentIsOpen(change.getUri())) {
 					xmlTextDocumentService.doSave(change.getUri());
@@ -27,20 +27,65 @@ import org.eclipse.lsp4j.jsonrpc.CancelChecker;
  */
 public class ModelTextDocument<T> extends TextDocument {
 
+	/**
+	 * Parse of a model which reuses the model parsed before the last changes of
+	 * the text.
+	 *
+	 * @param <T> the model type (ex : DOM Document)
+	 */
+	@FunctionalInterface
+	public interface IncrementalParse<T> {
+
+		/**
+		 * Returns the model of the given text document.
+		 *
+		 * @param document      the text document.
+		 * @param previousModel the model of the text before the changes.
+		 * @param editRange     the range of the text changed since the previous
+		 *                      model, or null if the text didn't change.
+		 * @param cancelChecker the cancel checker.
+		 * @return the model of the given text document.
+		 */
+		T parse(TextDocument document, T previousModel, TextEditRange editRange, CancelChecker cancelChecker);
+	}
+
 	private static final Logger LOGGER = Logger.getLogger(ModelTextDocument.class.getName());
 
 	private final BiFunction<TextDocument, CancelChecker, T> parse;
 
+	private final IncrementalParse<T> incrementalParse;
+
 	private T model;
 
+	/**
+	 * The last parsed model, and the range of the text changed since it was parsed,
+	 * which are only kept when an incremental parse is installed.
+	 */
+	private T previousModel;
+	private TextEditRange previousEditRange;
+
 	public ModelTextDocument(TextDocumentItem document, BiFunction<TextDocument, CancelChecker, T> parse) {
+		this(document, parse, null);
+	}
+
+	public ModelTextDocument(TextDocumentItem document, BiFunction<TextDocument, CancelChecker, T> parse,
+			IncrementalParse<T> incrementalParse) {
 		super(document);
 		this.parse = parse;
+		this.incrementalParse = incrementalParse;
+		setEditRangeTracked(incrementalParse != null);
 	}
 
 	public ModelTextDocument(String text, String uri, BiFunction<TextDocument, CancelChecker, T> parse) {
+		this(text, uri, parse, null);
+	}
+
+	public ModelTextDocument(String text, String uri, BiFunction<TextDocument, CancelChecker, T> parse,
+			IncrementalParse<T> incrementalParse) {
 		super(text, uri);
 		this.parse = parse;
+		this.incrementalParse = incrementalParse;
+		setEditRangeTracked(incrementalParse != null);
 	}
 
 	/**
@@ -85,7 +130,7 @@ public class ModelTextDocument<T> extends TextDocument {
 			// version of document changes
 			CancelChecker cancelChecker = new TextDocumentVersionChecker(this, version);
 			// parse the model
-			model = parse.apply(this, cancelChecker);
+			model = parseModel(cancelChecker);
 		} catch (CancellationException e) {
 			LOGGER.fine("Stop parsing parsing of model with version '" + version + "' in "
 					+ (System.currentTimeMillis() - start) + "ms");
@@ -97,9 +142,33 @@ public class ModelTextDocument<T> extends TextDocument {
 		return model;
 	}
 
+	private T parseModel(CancelChecker cancelChecker) {
+		if (incrementalParse == null) {
+			return parse.apply(this, cancelChecker);
+		}
+		TextEditRange editRange = TextEditRange.merge(previousEditRange, takeEditRange());
+		T previousModel = this.previousModel;
+		T model;
+		try {
+			model = previousModel != null ? incrementalParse.parse(this, previousModel, editRange, cancelChecker)
+					: parse.apply(this, cancelChecker);
+		} catch (CancellationException e) {
+			// the previous model is not changed by a canceled parse
+			previousEditRange = editRange;
+			throw e;
+		} catch (RuntimeException e) {
+			this.previousModel = null;
+			previousEditRange = null;
+			throw e;
+		}
+		// the model can be reused only if the text didn't change while it was parsed
+		this.previousModel = hasEditRange() ? null : model;
+		previousEditRange = null;
+		return model;
+	}
+
 	@Override
-	public void setText(String text) {
-		super.setText(text);
+	protected void textChanged() {
 		// text changed, cancel the completable future which load the model
 		cancelModel();
 	}
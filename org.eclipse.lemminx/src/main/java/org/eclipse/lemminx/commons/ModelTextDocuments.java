@@ -15,6 +15,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
+import org.eclipse.lemminx.commons.ModelTextDocument.IncrementalParse;
 import org.eclipse.lsp4j.TextDocumentIdentifier;
 import org.eclipse.lsp4j.TextDocumentItem;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
@@ -32,13 +33,20 @@ public class ModelTextDocuments<T> extends TextDocuments<ModelTextDocument<T>> {
 
 	private final BiFunction<TextDocument, CancelChecker, T> parse;
 
+	private final IncrementalParse<T> incrementalParse;
+
 	public ModelTextDocuments(BiFunction<TextDocument, CancelChecker, T> parse) {
+		this(parse, null);
+	}
+
+	public ModelTextDocuments(BiFunction<TextDocument, CancelChecker, T> parse, IncrementalParse<T> incrementalParse) {
 		this.parse = parse;
+		this.incrementalParse = incrementalParse;
 	}
 
 	@Override
 	public ModelTextDocument<T> createDocument(TextDocumentItem document) {
-		ModelTextDocument<T> doc = new ModelTextDocument<T>(document, parse);
+		ModelTextDocument<T> doc = new ModelTextDocument<T>(document, parse, incrementalParse);
 		doc.setIncremental(isIncremental());
 		return doc;
 	}
@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+package org.eclipse.lemminx.commons;
+
+import java.util.Random;
+
+/**
+ * Piece table of a text which is edited with {@link #replace(int, int, String)}.
+ * <p>
+ * The text is never copied on edit: it is the sequence of the pieces of the
+ * original text and of the inserted texts. The pieces are kept in a balanced
+ * tree (a treap ordered by offset), so that an edit and {@link #charAt(int)}
+ * take O(log n) for n pieces. The text is materialized by
+ * {@link #toString()}, and cached until the next edit.
+ * </p>
+ */
+public class PieceTable implements CharSequence {
+
+	private static class Piece {
+
+		private final boolean added;
+		private final int start;
+		private final int priority;
+		private int length;
+		private int size;
+		private Piece left;
+		private Piece right;
+
+		Piece(boolean added, int start, int length, int priority) {
+			this.added = added;
+			this.start = start;
+			this.length = length;
+			this.priority = priority;
+			this.size = length;
+		}
+	}
+
+	private final String original;
+	private final StringBuilder added;
+	private final Random random;
+	private Piece root;
+	private String text;
+
+	public PieceTable(String text) {
+		this.original = text;
+		this.added = new StringBuilder();
+		this.random = new Random();
+		this.root = text.isEmpty() ? null : new Piece(false, 0, text.length(), random.nextInt());
+		this.text = text;
+	}
+
+	/**
+	 * Replaces the given range of the text with the given text.
+	 *
+	 * @param offset the offset of the range
+	 * @param length the length of the range
+	 * @param text   the text to insert
+	 */
+	public void replace(int offset, int length, String text) {
+		if (offset < 0 || length < 0 || offset + length > length()) {
+			throw new IndexOutOfBoundsException(
+					"Range [" + offset + ", " + (offset + length) + ") out of bounds for length " + length());
+		}
+		Piece[] head = split(root, offset);
+		Piece[] tail = split(head[1], length);
+		Piece inserted = null;
+		if (!text.isEmpty()) {
+			inserted = new Piece(true, added.length(), text.length(), random.nextInt());
+			added.append(text);
+		}
+		root = merge(merge(head[0], inserted), tail[1]);
+		this.text = null;
+	}
+
+	@Override
+	public int length() {
+		return size(root);
+	}
+
+	@Override
+	public char charAt(int index) {
+		if (text != null) {
+			return text.charAt(index);
+		}
+		if (index < 0) {
+			throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + length());
+		}
+		int offset = index;
+		Piece piece = root;
+		while (piece != null) {
+			int leftSize = size(piece.left);
+			if (offset < leftSize) {
+				piece = piece.left;
+			} else if (offset < leftSize + piece.length) {
+				return getBuffer(piece).charAt(piece.start + offset - leftSize);
+			} else {
+				offset -= leftSize + piece.length;
+				piece = piece.right;
+			}
+		}
+		throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + length());
+	}
+
+	@Override
+	public String subSequence(int start, int end) {
+		if (text != null) {
+			return text.substring(start, end);
+		}
+		if (start < 0 || start > end || end > length()) {
+			throw new IndexOutOfBoundsException(
+					"Range [" + start + ", " + end + ") out of bounds for length " + length());
+		}
+		StringBuilder builder = new StringBuilder(end - start);
+		append(root, start, end, builder);
+		return builder.toString();
+	}
+
+	@Override
+	public String toString() {
+		if (text == null) {
+			text = subSequence(0, length());
+		}
+		return text;
+	}
+
+	/**
+	 * Returns the number of pieces of the text.
+	 *
+	 * @return the number of pieces of the text.
+	 */
+	public int getPieceCount() {
+		return count(root);
+	}
+
+	private void append(Piece piece, int start, int end, StringBuilder builder) {
+		if (piece == null || start >= end) {
+			return;
+		}
+		int leftSize = size(piece.left);
+		if (start < leftSize) {
+			append(piece.left, start, Math.min(end, leftSize), builder);
+		}
+		int pieceEnd = leftSize + piece.length;
+		int from = Math.max(start, leftSize);
+		int to = Math.min(end, pieceEnd);
+		if (from < to) {
+			builder.append(getBuffer(piece), piece.start + from - leftSize, piece.start + to - leftSize);
+		}
+		if (end > pieceEnd) {
+			append(piece.right, Math.max(start, pieceEnd) - pieceEnd, end - pieceEnd, builder);
+		}
+	}
+
+	/**
+	 * Splits the given tree into the tree of the first offset characters and the
+	 * tree of the remaining characters. A piece which contains the offset is split
+	 * in two pieces.
+	 */
+	private static Piece[] split(Piece piece, int offset) {
+		if (piece == null) {
+			return new Piece[] { null, null };
+		}
+		int leftSize = size(piece.left);
+		if (offset <= leftSize) {
+			Piece[] pair = split(piece.left, offset);
+			piece.left = pair[1];
+			update(piece);
+			return new Piece[] { pair[0], piece };
+		}
+		int pieceEnd = leftSize + piece.length;
+		if (offset >= pieceEnd) {
+			Piece[] pair = split(piece.right, offset - pieceEnd);
+			piece.right = pair[0];
+			update(piece);
+			return new Piece[] { piece, pair[1] };
+		}
+		int inner = offset - leftSize;
+		// The tail takes the priority of the split piece, since it becomes the parent
+		// of the right children of the piece.
+		Piece tail = new Piece(piece.added, piece.start + inner, piece.length - inner, piece.priority);
+		tail.right = piece.right;
+		update(tail);
+		piece.length = inner;
+		piece.right = null;
+		update(piece);
+		return new Piece[] { piece, tail };
+	}
+
+	private static Piece merge(Piece left, Piece right) {
+		if (left == null) {
+			return right;
+		}
+		if (right == null) {
+			return left;
+		}
+		if (left.priority > right.priority) {
+			left.right = merge(left.right, right);
+			update(left);
+			return left;
+		}
+		right.left = merge(left, right.left);
+		update(right);
+		return right;
+	}
+
+	private CharSequence getBuffer(Piece piece) {
+		return piece.added ? added : original;
+	}
+
+	private static void update(Piece piece) {
+		piece.size = size(piece.left) + piece.length + size(piece.right);
+	}
+
+	private static int size(Piece piece) {
+		return piece != null ? piece.size : 0;
+	}
+
+	private static int count(Piece piece) {
+		return piece != null ? count(piece.left) + 1 + count(piece.right) : 0;
+	}
+}
@@ -39,6 +39,23 @@ public class TextDocument extends TextDocumentItem {
 
 	private boolean incremental;
 
+	/**
+	 * The text edited by the incremental changes, which is materialized in the
+	 * text of the document when the text is requested.
+	 */
+	private volatile PieceTable buffer;
+
+	/**
+	 * True if the range of the changed text is tracked for an incremental parse.
+	 */
+	private volatile boolean editRangeTracked;
+
+	/**
+	 * The range of the text changed since the last call of
+	 * {@link #takeEditRange()}.
+	 */
+	private TextEditRange editRange;
+
 	public TextDocument(TextDocumentItem document) {
 		this(document.getText(), document.getUri());
 		super.setVersion(document.getVersion());
@@ -61,6 +78,88 @@ public class TextDocument extends TextDocumentItem {
 		return incremental;
 	}
 
+	/**
+	 * Sets whether the range of the text changed since the last call of
+	 * {@link #takeEditRange()} is tracked. The range is only used by an
+	 * incremental parse, so it is not tracked by default.
+	 *
+	 * @param editRangeTracked true if the range of the changed text is tracked.
+	 */
+	public void setEditRangeTracked(boolean editRangeTracked) {
+		synchronized (lock) {
+			this.editRangeTracked = editRangeTracked;
+			editRange = null;
+		}
+	}
+
+	public boolean isEditRangeTracked() {
+		return editRangeTracked;
+	}
+
+	@Override
+	public String getText() {
+		if (buffer != null) {
+			synchronized (lock) {
+				PieceTable buffer = this.buffer;
+				if (buffer != null) {
+					super.setText(buffer.toString());
+					this.buffer = null;
+				}
+			}
+		}
+		return super.getText();
+	}
+
+	@Override
+	public void setText(String text) {
+		synchronized (lock) {
+			if (editRangeTracked) {
+				String oldText = super.getText();
+				int oldLength = buffer != null ? buffer.length() : oldText != null ? oldText.length() : 0;
+				int newLength = text != null ? text.length() : 0;
+				editRange = TextEditRange.merge(editRange, new TextEditRange(0, oldLength, newLength));
+			}
+			buffer = null;
+			super.setText(text);
+		}
+		textChanged();
+	}
+
+	/**
+	 * Returns the range of the text changed since the last call of this method
+	 * and null if the text didn't change or if the range is not tracked.
+	 *
+	 * @return the range of the text changed since the last call of this method
+	 *         and null if the text didn't change or if the range is not tracked.
+	 */
+	public TextEditRange takeEditRange() {
+		synchronized (lock) {
+			TextEditRange editRange = this.editRange;
+			this.editRange = null;
+			return editRange;
+		}
+	}
+
+	/**
+	 * Returns true if the text changed since the last call of
+	 * {@link #takeEditRange()} and false otherwise.
+	 *
+	 * @return true if the text changed since the last call of
+	 *         {@link #takeEditRange()} and false otherwise.
+	 */
+	public boolean hasEditRange() {
+		synchronized (lock) {
+			return editRange != null;
+		}
+	}
+
+	/**
+	 * Called when the text of the document changed.
+	 */
+	protected void textChanged() {
+		// Do nothing
+	}
+
 	public Position positionAt(int position) throws BadLocationException {
 		ILineTracker lineTracker = getLineTracker();
 		return lineTracker.getPositionAt(position);
@@ -74,8 +173,7 @@ public class TextDocument extends TextDocumentItem {
 	public String lineText(int lineNumber) throws BadLocationException {
 		ILineTracker lineTracker = getLineTracker();
 		Line line = lineTracker.getLineInformation(lineNumber);
-		String text = super.getText();
-		return text.substring(line.offset, line.offset + line.length);
+		return substring(line.offset, line.offset + line.length);
 	}
 
 	public int lineOffsetAt(int position) throws BadLocationException {
@@ -103,8 +201,7 @@ public class TextDocument extends TextDocumentItem {
 			Position pos = positionAt(textOffset);
 			ILineTracker lineTracker = getLineTracker();
 			Line line = lineTracker.getLineInformation(pos.getLine());
-			String text = super.getText();
-			String lineText = text.substring(line.offset, textOffset);
+			String lineText = substring(line.offset, textOffset);
 			int position = lineText.length();
 			Matcher m = wordDefinition.matcher(lineText);
 			int currentPosition = 0;
@@ -125,6 +222,22 @@ public class TextDocument extends TextDocumentItem {
 		}
 	}
 
+	/**
+	 * Returns the given range of the text without materializing the incremental
+	 * changes.
+	 */
+	private String substring(int start, int end) {
+		if (buffer != null) {
+			synchronized (lock) {
+				PieceTable buffer = this.buffer;
+				if (buffer != null) {
+					return buffer.subSequence(start, end);
+				}
+			}
+		}
+		return super.getText().substring(start, end);
+	}
+
 	private ILineTracker getLineTracker() {
 		if (lineTracker == null) {
 			lineTracker = createLineTracker();
@@ -137,7 +250,7 @@ public class TextDocument extends TextDocumentItem {
 			return lineTracker;
 		}
 		ILineTracker lineTracker = isIncremental() ? new TreeLineTracker(new ListLineTracker()) : new ListLineTracker();
-		lineTracker.set(super.getText());
+		lineTracker.set(getText());
 		return lineTracker;
 	}
 
@@ -156,8 +269,9 @@ public class TextDocument extends TextDocumentItem {
 			try {
 				long start = System.currentTimeMillis();
 				synchronized (lock) {
-					// Initialize buffer and line tracker from the current text document
-					StringBuilder buffer = new StringBuilder(getText());
+					// Apply the changes to the pending buffer, or to a new buffer over the current
+					// text which is not copied
+					PieceTable buffer = this.buffer != null ? this.buffer : new PieceTable(super.getText());
 
 					// Loop for each changes and update the buffer
 					for (int i = 0; i < changes.size(); i++) {
@@ -175,12 +289,17 @@ public class TextDocument extends TextDocumentItem {
 						}
 						String text = changeEvent.getText();
 						int startOffset = offsetAt(range.getStart());
-						buffer.replace(startOffset, startOffset + length, text);
+						buffer.replace(startOffset, length, text);
 						lineTracker.replace(startOffset, length, text);
+						if (editRangeTracked) {
+							editRange = TextEditRange.merge(editRange,
+									new TextEditRange(startOffset, startOffset + length, startOffset + text.length()));
+						}
 					}
-					// Update the new text content from the updated buffer
-					setText(buffer.toString());
+					// The text is materialized when it is requested
+					this.buffer = buffer;
 				}
+				textChanged();
 				LOGGER.fine("Text document content updated in " + (System.currentTimeMillis() - start) + "ms");
 			} catch (BadLocationException e) {
 				// Should never occur.
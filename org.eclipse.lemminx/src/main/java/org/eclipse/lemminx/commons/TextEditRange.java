@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+package org.eclipse.lemminx.commons;
+
+/**
+ * Range of a text which was changed by one or several edits.
+ * <p>
+ * The range [start, oldEnd) of the old text was replaced by the range [start,
+ * newEnd) of the new text. The text before start and the text after the range
+ * are not changed, the text after the range is only shifted by
+ * {@link #getDelta()}.
+ * </p>
+ */
+public class TextEditRange {
+
+	private final int start;
+	private final int oldEnd;
+	private final int newEnd;
+
+	public TextEditRange(int start, int oldEnd, int newEnd) {
+		this.start = start;
+		this.oldEnd = oldEnd;
+		this.newEnd = newEnd;
+	}
+
+	/**
+	 * Returns the range changed by the given range and then by the given next
+	 * range, which is relative to the text changed by the first range.
+	 *
+	 * @param range     the first range, or null
+	 * @param nextRange the next range, or null
+	 * @return the range changed by the two ranges.
+	 */
+	public static TextEditRange merge(TextEditRange range, TextEditRange nextRange) {
+		if (range == null) {
+			return nextRange;
+		}
+		if (nextRange == null) {
+			return range;
+		}
+		int start = Math.min(range.start, nextRange.start);
+		// The parts of the next range outside of the first range are mapped back to
+		// the old text with the delta of the first range
+		int oldEnd = Math.max(range.oldEnd, nextRange.oldEnd - range.getDelta());
+		int newEnd = Math.max(nextRange.newEnd, range.newEnd + nextRange.getDelta());
+		return new TextEditRange(start, oldEnd, newEnd);
+	}
+
+	/**
+	 * Returns the start offset of the range.
+	 *
+	 * @return the start offset of the range.
+	 */
+	public int getStart() {
+		return start;
+	}
+
+	/**
+	 * Returns the end offset of the range in the old text.
+	 *
+	 * @return the end offset of the range in the old text.
+	 */
+	public int getOldEnd() {
+		return oldEnd;
+	}
+
+	/**
+	 * Returns the end offset of the range in the new text.
+	 *
+	 * @return the end offset of the range in the new text.
+	 */
+	public int getNewEnd() {
+		return newEnd;
+	}
+
+	/**
+	 * Returns the difference between the length of the new text and the length
+	 * of the old text.
+	 *
+	 * @return the difference between the length of the new text and the length
+	 *         of the old text.
+	 */
+	public int getDelta() {
+		return newEnd - oldEnd;
+	}
+
+	@Override
+	public String toString() {
+		return "[" + start + ", " + oldEnd + ") -> [" + start + ", " + newEnd + ")";
+	}
+}
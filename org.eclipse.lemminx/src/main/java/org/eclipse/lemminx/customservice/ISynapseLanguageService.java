@@ -44,9 +44,13 @@ import org.eclipse.lemminx.customservice.synapse.debugger.entity.ValidationRespo
 import org.eclipse.lemminx.customservice.synapse.dependency.tree.pojo.DependencyTree;
 import org.eclipse.lemminx.customservice.synapse.dependency.tree.pojo.OverviewModel;
 import org.eclipse.lemminx.customservice.synapse.directoryTree.DirectoryMapResponse;
+import org.eclipse.lemminx.customservice.synapse.directoryTree.DirectoryTreeDelta;
+import org.eclipse.lemminx.customservice.synapse.directoryTree.DirectoryTreeDeltaRequest;
 import org.eclipse.lemminx.customservice.synapse.driver.DriverDownloadRequest;
 import org.eclipse.lemminx.customservice.synapse.dynamic.db.DynamicField;
 import org.eclipse.lemminx.customservice.synapse.dynamic.db.GetDynamicFieldsRequest;
+import org.eclipse.lemminx.customservice.synapse.expression.pojo.BatchExpressionValidationRequest;
+import org.eclipse.lemminx.customservice.synapse.expression.pojo.BatchExpressionValidationResponse;
 import org.eclipse.lemminx.customservice.synapse.expression.pojo.ExpressionParam;
 import org.eclipse.lemminx.customservice.synapse.expression.pojo.ExpressionValidationResponse;
 import org.eclipse.lemminx.customservice.synapse.expression.pojo.HelperPanelData;
@@ -69,6 +73,8 @@ import org.eclipse.lemminx.customservice.synapse.resourceFinder.pojo.ResourceRes
 import org.eclipse.lemminx.customservice.synapse.schemagen.util.SchemaGenFromContentRequest;
 import org.eclipse.lemminx.customservice.synapse.schemagen.util.SchemaGenRequest;
 import org.eclipse.lemminx.customservice.synapse.schemagen.util.SchemaGenResponse;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.SyntaxTreeDeltaRequest;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.SyntaxTreeDeltaResponse;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.SyntaxTreeResponse;
 import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.MediatorTryoutInfo;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.ArtifactTypeResponse;
@@ -95,6 +101,9 @@ public interface ISynapseLanguageService {
     @JsonRequest
     CompletableFuture<SyntaxTreeResponse> syntaxTree(TextDocumentIdentifier param);
 
+    @JsonRequest
+    CompletableFuture<SyntaxTreeDeltaResponse> syntaxTreeDelta(SyntaxTreeDeltaRequest param);
+
     @JsonRequest
     CompletableFuture<PublishDiagnosticsParams> diagnostic(TextDocumentIdentifier param);
 
@@ -104,6 +113,10 @@ public interface ISynapseLanguageService {
     @JsonRequest
     CompletableFuture<ExpressionValidationResponse> expressionValidation(ExpressionParam param);
 
+    @JsonRequest
+    CompletableFuture<BatchExpressionValidationResponse> batchExpressionValidation(
+            BatchExpressionValidationRequest param);
+
     @JsonRequest
     CompletableFuture<DirectoryMapResponse> directoryTree(WorkspaceFolder param);
 
@@ -200,6 +213,9 @@ public interface ISynapseLanguageService {
     @JsonRequest
     CompletableFuture<DirectoryMapResponse> getProjectExplorerModel(WorkspaceFolder param);
 
+    @JsonRequest
+    CompletableFuture<DirectoryTreeDelta> getDirectoryTreeDelta(DirectoryTreeDeltaRequest param);
+
     @JsonRequest
     CompletableFuture<List<String>> getProjectIntegrationType(WorkspaceFolder param);
 
@@ -19,6 +19,10 @@ public class ConnectorStatusNotification {
     String connector;
     boolean isSuccess;
     String message;
+    // Number of connectors loaded so far and the number of connectors being loaded, if the connector is loaded as
+    // part of a batch.
+    Integer completed;
+    Integer total;
 
     public ConnectorStatusNotification(String connector, boolean isSuccess, String message) {
 
@@ -26,4 +30,12 @@ public class ConnectorStatusNotification {
         this.isSuccess = isSuccess;
         this.message = message;
     }
+
+    public ConnectorStatusNotification(String connector, boolean isSuccess, String message, int completed,
+                                       int total) {
+
+        this(connector, isSuccess, message);
+        this.completed = completed;
+        this.total = total;
+    }
 }
@@ -25,12 +25,17 @@ import org.eclipse.lemminx.customservice.synapse.utils.Utils;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import static org.eclipse.lemminx.customservice.synapse.utils.Constant.INBOUND_CONNECTOR_PREFIX;
 
@@ -40,6 +45,8 @@ import static org.eclipse.lemminx.customservice.synapse.utils.Constant.INBOUND_C
 public abstract class AbstractConnectorLoader {
 
     private static final Logger log = Logger.getLogger(AbstractConnectorLoader.class.getName());
+    private static final int MAX_LOADER_THREADS = 4;
+    private static final String ZIP_HASH_FILE = ".zip.sha256";
     private SynapseLanguageClientAPI languageClient;
     protected ConnectorHolder connectorHolder;
     protected InboundConnectorHolder inboundConnectorHolder;
@@ -76,11 +83,25 @@ public abstract class AbstractConnectorLoader {
             connectorHolder.setConnectorZips(Collections.unmodifiableList(connectorZips));
             cleanOldConnectors(connectorExtractFolder, connectorZips);
             copyToProjectIfNeeded(connectorZips);
-            extractZips(connectorZips, connectorExtractFolder);
-            readConnectors(connectorExtractFolder);
+            ExecutorService executor = Executors.newFixedThreadPool(getLoaderThreadCount(), runnable -> {
+                Thread thread = new Thread(runnable, "Connector-Loader");
+                thread.setDaemon(true);
+                return thread;
+            });
+            try {
+                extractZips(connectorZips, connectorExtractFolder, executor);
+                readConnectors(connectorExtractFolder, executor);
+            } finally {
+                executor.shutdown();
+            }
         }
     }
 
+    private static int getLoaderThreadCount() {
+
+        return Math.max(1, Math.min(MAX_LOADER_THREADS, Runtime.getRuntime().availableProcessors()));
+    }
+
     protected abstract void copyToProjectIfNeeded(List<File> connectorZips);
 
     protected abstract File getConnectorExtractFolder();
@@ -114,53 +135,119 @@ public abstract class AbstractConnectorLoader {
 
     }
 
-    private void extractZips(List<File> connectorZips, File extractFolder) {
+    private void extractZips(List<File> connectorZips, File extractFolder, ExecutorService executor) {
 
-        File[] tempFiles = extractFolder.listFiles();
-        List<String> tempConnectorNames =
-                Arrays.stream(tempFiles).filter(File::isDirectory).map(File::getName).collect(Collectors.toList());
+        List<Future<File>> extractions = new ArrayList<>();
         for (File zip : connectorZips) {
-            String zipName = zip.getName();
-            zipName = zipName.substring(0, zipName.lastIndexOf(Constant.DOT));
-            if (!tempConnectorNames.contains(zipName)) {
-                String extractTo = extractFolder.getAbsolutePath() + File.separator + zipName;
-                File extractToFolder = new File(extractTo);
+            extractions.add(executor.submit(() -> extractIfChanged(zip, extractFolder)));
+        }
+        for (Future<File> extraction : extractions) {
+            File extractToFolder = getResult(extraction);
+            // Inbound connectors are saved one at a time, as the inbound connector holder is not thread safe.
+            if (extractToFolder != null && extractToFolder.getName().contains(INBOUND_CONNECTOR_PREFIX)) {
                 try {
-                    Utils.extractZip(zip, extractToFolder);
-                    if (zipName.contains(INBOUND_CONNECTOR_PREFIX)) {
-                        String schema = Utils.readFile(extractToFolder.toPath().resolve(Constant.RESOURCES)
-                                .resolve(Constant.UI_SCHEMA_JSON).toFile());
-                        inboundConnectorHolder.saveInboundConnector(Utils.getJsonObject(schema)
-                                .get(Constant.NAME).getAsString(), schema);
-                    }
+                    String schema = Utils.readFile(extractToFolder.toPath().resolve(Constant.RESOURCES)
+                            .resolve(Constant.UI_SCHEMA_JSON).toFile());
+                    inboundConnectorHolder.saveInboundConnector(Utils.getJsonObject(schema)
+                            .get(Constant.NAME).getAsString(), schema);
                 } catch (IOException e) {
-                    log.log(Level.WARNING, "Failed to extract connector zip:" + zipName, e);
+                    log.log(Level.WARNING, "Failed to read inbound connector:" + extractToFolder.getName(), e);
                 }
             }
         }
     }
 
-    private void readConnectors(File connectorFolder) {
+    /**
+     * Extracts the given connector zip, unless it is already extracted from a zip with the same content.
+     *
+     * @return the folder the zip is extracted to, or null if the zip is not extracted
+     */
+    private File extractIfChanged(File zip, File extractFolder) {
+
+        String zipName = zip.getName();
+        zipName = zipName.substring(0, zipName.lastIndexOf(Constant.DOT));
+        File extractToFolder = new File(extractFolder, zipName);
+        File zipHashFile = new File(extractToFolder, ZIP_HASH_FILE);
+        try {
+            String zipHash = Utils.getFileHash(zip);
+            // Utils.readFile ends each line with a newline
+            if (zipHashFile.exists() && zipHash.equals(Utils.readFile(zipHashFile).trim())) {
+                return null;
+            }
+            if (extractToFolder.exists()) {
+                // The zip is replaced with a different version of the connector
+                connectorHolder.removeConnector(getConnectorName(extractToFolder));
+                Utils.deleteDirectory(extractToFolder.toPath());
+            }
+            Utils.extractZip(zip, extractToFolder);
+            Utils.writeToFile(zipHashFile.getAbsolutePath(), zipHash);
+            return extractToFolder;
+        } catch (IOException e) {
+            log.log(Level.WARNING, "Failed to extract connector zip:" + zipName, e);
+        }
+        return null;
+    }
+
+    private void readConnectors(File connectorFolder, ExecutorService executor) {
 
         File[] files = connectorFolder.listFiles(File::isDirectory);
+        List<String> connectorNames = new ArrayList<>();
+        List<Future<Connector>> connectorReads = new ArrayList<>();
         for (File f : files) {
             String connectorName = getConnectorName(f);
             String connectorPath = f.getAbsolutePath();
             if (!(connectorHolder.exists(connectorName) || connectorPath.contains(INBOUND_CONNECTOR_PREFIX))) {
-                Connector connector = connectorReader.readConnector(connectorPath, projectUri);
-                if (connector != null) {
+                // The connection types of a connector reader are shared by the connectors it reads, hence a reader
+                // is used per connector.
+                connectorNames.add(connectorName);
+                connectorReads.add(executor.submit(() -> new ConnectorReader().readConnector(connectorPath,
+                        projectUri)));
+            }
+        }
+        // Connectors are added in the folder order as they are read, so that they are usable before all the
+        // connectors are loaded. Each wait publishes the next connector together with the following ones that are
+        // already read, so that the holder indexes are not rebuilt for every connector.
+        int total = connectorReads.size();
+        int next = 0;
+        while (next < total) {
+            int batchStart = next;
+            List<Connector> batch = new ArrayList<>();
+            Set<String> batchNames = new HashSet<>();
+            do {
+                Connector connector = getResult(connectorReads.get(next));
+                if (connector != null && !connectorHolder.exists(connector.getName()) &&
+                        batchNames.add(connector.getName().toLowerCase(Locale.ROOT))) {
                     connector.setConnectorZipPath(
                             getConnectorZip(connectorHolder.getConnectorZips(), connector.getExtractedConnectorPath()));
-                    connectorHolder.addConnector(connector);
-                    notifyAddConnector(connector.getName(), true, "Connector added successfully");
-                    continue;
+                    batch.add(connector);
+                }
+                next++;
+            } while (next < total && connectorReads.get(next).isDone());
+            connectorHolder.addConnectors(batch);
+            for (int i = batchStart; i < next; i++) {
+                Connector connector = getResult(connectorReads.get(i));
+                if (connector != null && batch.contains(connector)) {
+                    notifyAddConnector(connector.getName(), true, "Connector added successfully", i + 1, total);
+                } else if (connector == null) {
+                    notifyAddConnector(connectorNames.get(i), false, "Failed to add connector. " +
+                            "Corrupted connector file.", i + 1, total);
                 }
-                notifyAddConnector(connectorName, false, "Failed to add connector. " +
-                        "Corrupted connector file.");
             }
         }
     }
 
+    private static <T> T getResult(Future<T> future) {
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.log(Level.WARNING, "Error while loading connector", e.getCause());
+        }
+        return null;
+    }
+
     private String getConnectorZip(List<File> connectorZips, String extractedConnectorPath) {
 
         String extractedConnectorName =
@@ -184,6 +271,14 @@ public abstract class AbstractConnectorLoader {
         languageClient.addConnectorStatus(status);
     }
 
+    private void notifyAddConnector(String connector, boolean isSuccessful, String message, int completed,
+                                    int total) {
+
+        ConnectorStatusNotification status =
+                new ConnectorStatusNotification(connector, isSuccessful, message, completed, total);
+        languageClient.addConnectorStatus(status);
+    }
+
     protected void notifyRemoveConnector(String connector, boolean isSuccessful, String message) {
 
         ConnectorStatusNotification status = new ConnectorStatusNotification(connector, isSuccessful, message);
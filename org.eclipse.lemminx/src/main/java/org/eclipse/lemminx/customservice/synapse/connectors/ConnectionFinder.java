@@ -100,18 +100,9 @@ public class ConnectionFinder {
             try {
                 String localEntryName = resource.getName();
                 String filePath = ((ArtifactResource) resource).getAbsolutePath();
-                File file = new File(filePath);
-                DOMDocument document = Utils.getDOMDocument(file);
-                DOMElement childElement = Utils.getFirstElement(document.getDocumentElement());
-                if (childElement != null) {
-                    String nodeName = childElement.getNodeName();
-                    String connectorName = getConnectorName(nodeName);
-                    String connectionType = getConnectionType(childElement);
-                    List<ConnectionParameter> parameters = getParameters(childElement);
-                    if (connectorName != null) {
-                        addToConnections(connections, connectorName, localEntryName, connectionType, parameters,
-                                filePath);
-                    }
+                Connection connection = getConnection(localEntryName, filePath);
+                if (connection != null && connections.containsKey(connection.getConnectorName())) {
+                    connections.get(connection.getConnectorName()).addConnection(connection);
                 }
             } catch (IOException e) {
                 log.log(Level.SEVERE, "Error while reading local entry file", e);
@@ -119,6 +110,33 @@ public class ConnectionFinder {
         }
     }
 
+    /**
+     * Reads the connection defined in the given local entry file.
+     *
+     * @param localEntryName name of the local entry
+     * @param filePath       absolute path of the local entry file
+     * @return the connection, or null if the local entry does not define a connector connection
+     * @throws IOException if an error occurs while reading the file
+     */
+    public static Connection getConnection(String localEntryName, String filePath) throws IOException {
+
+        DOMDocument document = Utils.getDOMDocument(new File(filePath));
+        if (document.getDocumentElement() == null) {
+            return null;
+        }
+        DOMElement childElement = Utils.getFirstElement(document.getDocumentElement());
+        if (childElement != null) {
+            String nodeName = childElement.getNodeName();
+            String connectorName = getConnectorName(nodeName);
+            if (connectorName != null) {
+                String connectionType = getConnectionType(childElement);
+                List<ConnectionParameter> parameters = getParameters(childElement);
+                return new Connection(connectorName, localEntryName, connectionType, parameters, filePath);
+            }
+        }
+        return null;
+    }
+
     private static List<ConnectionParameter> getParameters(DOMElement element) {
 
         List<ConnectionParameter> parameters = new ArrayList<>();
@@ -161,16 +179,6 @@ public class ConnectionFinder {
         return null;
     }
 
-    private static void addToConnections(Map<String, Connections> connections, String connectorName,
-                                         String connectionName, String connectionType,
-                                         List<ConnectionParameter> parameters, String path) {
-
-        if (connections.containsKey(connectorName)) {
-            Connection connection = new Connection(connectorName, connectionName, connectionType, parameters, path);
-            connections.get(connectorName).addConnection(connection);
-        }
-    }
-
     private static String getConnectionType(DOMElement element) {
 
         List<DOMNode> children = element.getChildren();
@@ -20,18 +20,31 @@ import org.eclipse.lemminx.customservice.synapse.connectors.entity.ConnectorActi
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Holds the connectors of the project.
+ * <p>
+ * The connectors are kept in an immutable snapshot together with lowercase-keyed indexes of the connectors and their
+ * operations. Readers use the current snapshot without locking, while additions and removals build a new snapshot and
+ * publish it at once.
+ */
 public class ConnectorHolder {
 
-    private static List<Connector> connectors;
-    private List<File> connectorZips;
+    private static volatile ConnectorSnapshot snapshot = ConnectorSnapshot.EMPTY;
+    private volatile List<File> connectorZips;
     private static ConnectorHolder instance;
 
     private ConnectorHolder() {
 
-        this.connectors = new ArrayList<>();
+        snapshot = ConnectorSnapshot.EMPTY;
     }
 
     public static synchronized ConnectorHolder getInstance() {
@@ -44,32 +57,39 @@ public class ConnectorHolder {
 
     public void addConnector(Connector connector) {
 
-        connectors.add(connector);
+        addConnectors(Collections.singletonList(connector));
     }
 
-    public boolean exists(String connectorName) {
+    /**
+     * Adds the given connectors and publishes the updated indexes at once.
+     *
+     * @param newConnectors the connectors to add
+     */
+    public void addConnectors(Collection<Connector> newConnectors) {
 
-        for (Connector connector : connectors) {
-            if (connector.getName().equalsIgnoreCase(connectorName)) {
-                return true;
-            }
+        synchronized (ConnectorHolder.class) {
+            List<Connector> connectors = new ArrayList<>(snapshot.connectors);
+            connectors.addAll(newConnectors);
+            snapshot = new ConnectorSnapshot(connectors);
         }
-        return false;
+    }
+
+    public boolean exists(String connectorName) {
+
+        return connectorName != null && snapshot.connectorNames.contains(toKey(connectorName));
     }
 
     public List<Connector> getConnectors() {
 
-        return Collections.unmodifiableList(connectors);
+        return snapshot.connectors;
     }
 
     public Connector getConnector(String name) {
 
-        for (Connector connector : connectors) {
-            if (isConnectorMatched(name, connector)) {
-                return connector;
-            }
+        if (name == null) {
+            return null;
         }
-        return null;
+        return snapshot.connectorsByName.get(toKey(name));
     }
 
     /**
@@ -80,46 +100,35 @@ public class ConnectorHolder {
      */
     public ConnectorAction getConnectorAction(String operationTag) {
 
-        if (StringUtils.isEmpty(operationTag) || !operationTag.contains(".")) {
+        if (StringUtils.isEmpty(operationTag)) {
             return null;
         }
-        String connectorName = operationTag.split("\\.")[0];
-        String actionName = operationTag.split("\\.")[1];
-        Connector connector = getConnector(connectorName);
-        if (connector == null) {
+        int connectorEnd = operationTag.indexOf('.');
+        if (connectorEnd < 0) {
             return null;
         }
-        return connector.getAction(actionName);
-    }
-
-    private boolean isConnectorMatched(String name, Connector connector) {
-
-        return connector.getName().equalsIgnoreCase(name) ||
-                (connector.getDisplayName() != null && connector.getDisplayName().equalsIgnoreCase(name));
+        int actionEnd = operationTag.indexOf('.', connectorEnd + 1);
+        String connectorName = operationTag.substring(0, connectorEnd);
+        String actionName = operationTag.substring(connectorEnd + 1, actionEnd < 0 ? operationTag.length() : actionEnd);
+        return snapshot.actionsByTag.get(toKey(connectorName) + "." + actionName);
     }
 
     public static Boolean isValidConnector(String name) {
 
-        String connectorName = name.split("\\.")[0];
-        for (Connector connector : connectors) {
-            if (connector.getName().equalsIgnoreCase(connectorName)) {
-                for (ConnectorAction action : connector.getActions()) {
-                    String tag = action.getTag();
-                    if (tag != null && tag.equalsIgnoreCase(name)) {
-                        return Boolean.TRUE;
-                    }
-                }
-            }
-        }
-        return Boolean.FALSE;
+        return name != null && snapshot.validTags.contains(toKey(name));
     }
 
     public void removeConnector(String connectorName) {
 
-        if (connectorName != null) {
-            for (Connector connector : connectors) {
-                if (connector.getName().equalsIgnoreCase(connectorName)) {
-                    connectors.remove(connector);
+        if (connectorName == null) {
+            return;
+        }
+        synchronized (ConnectorHolder.class) {
+            List<Connector> connectors = new ArrayList<>(snapshot.connectors);
+            for (int i = 0; i < connectors.size(); i++) {
+                if (connectors.get(i).getName().equalsIgnoreCase(connectorName)) {
+                    connectors.remove(i);
+                    snapshot = new ConnectorSnapshot(connectors);
                     break;
                 }
             }
@@ -138,6 +147,54 @@ public class ConnectorHolder {
 
     public void clearConnectors() {
 
-        connectors.clear();
+        synchronized (ConnectorHolder.class) {
+            snapshot = ConnectorSnapshot.EMPTY;
+        }
+    }
+
+    private static String toKey(String name) {
+
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Immutable view of the connectors and their indexes.
+     */
+    private static class ConnectorSnapshot {
+
+        private static final ConnectorSnapshot EMPTY = new ConnectorSnapshot(Collections.emptyList());
+
+        private final List<Connector> connectors;
+        private final Set<String> connectorNames = new HashSet<>();
+        // Connector name or display name -> connector. The first connector wins, as in the connector list order.
+        private final Map<String, Connector> connectorsByName = new HashMap<>();
+        // <connector name or display name>.<action name> -> action of the connector resolved for that name
+        private final Map<String, ConnectorAction> actionsByTag = new HashMap<>();
+        // Operation tags that are prefixed with the name of the connector that defines them
+        private final Set<String> validTags = new HashSet<>();
+
+        ConnectorSnapshot(List<Connector> connectors) {
+
+            this.connectors = Collections.unmodifiableList(new ArrayList<>(connectors));
+            for (Connector connector : this.connectors) {
+                String name = toKey(connector.getName());
+                connectorNames.add(name);
+                connectorsByName.putIfAbsent(name, connector);
+                if (connector.getDisplayName() != null) {
+                    connectorsByName.putIfAbsent(toKey(connector.getDisplayName()), connector);
+                }
+                for (ConnectorAction action : connector.getActions()) {
+                    String tag = action.getTag();
+                    if (tag != null && name.equals(toKey(tag.split("\\.")[0]))) {
+                        validTags.add(toKey(tag));
+                    }
+                }
+            }
+            for (Map.Entry<String, Connector> entry : connectorsByName.entrySet()) {
+                for (ConnectorAction action : entry.getValue().getActions()) {
+                    actionsByTag.putIfAbsent(entry.getKey() + "." + action.getName(), action);
+                }
+            }
+        }
     }
 }
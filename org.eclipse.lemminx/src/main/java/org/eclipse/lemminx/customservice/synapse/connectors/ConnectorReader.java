@@ -33,7 +33,9 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
@@ -77,9 +79,10 @@ public class ConnectorReader {
                     connector.setIconPath(connectorPath + File.separator + "icon");
                     connector.setUiSchemaPath(connectorPath + File.separator + "uischema");
                     connector.setOutputSchemaPath(connectorPath + File.separator + "outputschema");
-                    populateAllowedConnectionTypesMap(connector);
-                    populateConnectorActions(connector, componentElement);
-                    populateConnectionUiSchema(connector);
+                    Map<File, JsonObject> uiSchemas = readUISchemas(connector);
+                    populateAllowedConnectionTypesMap(uiSchemas);
+                    populateConnectorActions(connector, componentElement, uiSchemas);
+                    populateConnectionUiSchema(connector, uiSchemas);
                 } catch (Exception e) {
                     log.log(Level.SEVERE, "Error reading connector file", e);
                 }
@@ -137,21 +140,21 @@ public class ConnectorReader {
         return StringUtils.EMPTY;
     }
 
-    private void populateAllowedConnectionTypesMap(Connector connector) {
+    /**
+     * Reads the UI schemas shipped with the connector, so that each schema file is parsed only once.
+     */
+    private Map<File, JsonObject> readUISchemas(Connector connector) {
 
-        String uiSchemaPath = connector.getUiSchemaPath();
-        File uiSchemaFolder = new File(uiSchemaPath);
+        Map<File, JsonObject> uiSchemas = new LinkedHashMap<>();
+        File uiSchemaFolder = new File(connector.getUiSchemaPath());
         if (uiSchemaFolder.exists()) {
             File[] files = uiSchemaFolder.listFiles();
             if (files != null) {
                 for (File file : files) {
                     try {
-                        String schema = Utils.readFile(file);
-                        JsonObject uiJson = Utils.getJsonObject(schema);
-                        JsonElement operation = uiJson.get("operationName");
-                        if (operation != null) {
-                            String operationName = operation.getAsString();
-                            getAllowedConnectionTypes(uiJson, operationName);
+                        JsonObject uiJson = Utils.getJsonObject(Utils.readFile(file));
+                        if (uiJson != null) {
+                            uiSchemas.put(file, uiJson);
                         }
                     } catch (IOException e) {
                         log.log(Level.SEVERE, "Error while reading connector ui schema file.", e);
@@ -159,6 +162,18 @@ public class ConnectorReader {
                 }
             }
         }
+        return uiSchemas;
+    }
+
+    private void populateAllowedConnectionTypesMap(Map<File, JsonObject> uiSchemas) {
+
+        for (JsonObject uiJson : uiSchemas.values()) {
+            JsonElement operation = uiJson.get("operationName");
+            if (operation != null) {
+                String operationName = operation.getAsString();
+                getAllowedConnectionTypes(uiJson, operationName);
+            }
+        }
     }
 
     private void getAllowedConnectionTypes(JsonObject uiJson, String operationName) {
@@ -212,48 +227,51 @@ public class ConnectorReader {
         }
     }
 
-    private void populateConnectorActions(Connector connector, DOMNode componentElement) {
+    private void populateConnectorActions(Connector connector, DOMNode componentElement,
+                                          Map<File, JsonObject> uiSchemas) {
 
         List<String> dependencies = getDependencies(componentElement);
         readDependencies(connector, dependencies);
-        readUISchema(connector);
+        addUISchemasFromConnector(connector, uiSchemas);
         readOutputSchema(connector);
     }
 
-    private void readUISchema(Connector connector) {
-
-        addUISchemasFromConnector(connector);
-        generateUISchemasIfNeeded(connector);
-    }
-
-    private void addUISchemasFromConnector(Connector connector) {
+    private void addUISchemasFromConnector(Connector connector, Map<File, JsonObject> uiSchemas) {
 
-        String uiSchemaPath = connector.getUiSchemaPath();
-        File uiSchemaFolder = new File(uiSchemaPath);
+        File uiSchemaFolder = new File(connector.getUiSchemaPath());
         if (uiSchemaFolder.exists()) {
             File[] files = uiSchemaFolder.listFiles();
             if (files != null) {
                 for (File file : files) {
-                    processUISchemaFile(file, connector);
+                    processUISchemaFile(file, uiSchemas.get(file), connector);
                 }
             }
         }
     }
 
-    private void generateUISchemasIfNeeded(Connector connector) {
-
-        for (ConnectorAction action : connector.getActions()) {
-            if (action.getUiSchemaPath() == null && !action.getHidden()) {
+    /**
+     * Returns the UI schema path of the given connector operation. If the connector does not ship a UI schema for the
+     * operation, the UI schema is generated from the operation parameters on the first request.
+     *
+     * @param connector the connector
+     * @param action    the connector operation
+     * @return the UI schema path of the operation
+     */
+    public static String getUISchemaPath(Connector connector, ConnectorAction action) {
+
+        synchronized (action) {
+            if (action.getUiSchemaPath() == null && !Boolean.TRUE.equals(action.getHidden())) {
                 try {
                     generateUISchema(action, connector);
                 } catch (IOException e) {
                     log.log(Level.SEVERE, "Error while generating ui schema", e);
                 }
             }
+            return action.getUiSchemaPath();
         }
     }
 
-    private void generateUISchema(ConnectorAction action, Connector connector) throws IOException {
+    private static void generateUISchema(ConnectorAction action, Connector connector) throws IOException {
 
         JsonObject uiSchema = new JsonObject();
         uiSchema.addProperty(Constant.CONNECTOR_NAME, connector.getName());
@@ -279,30 +297,19 @@ public class ConnectorReader {
         action.setUiSchemaPath(uiSchemaPath.toString());
     }
 
-    private void processUISchemaFile(File file, Connector connector) {
+    private void processUISchemaFile(File file, JsonObject uiJson, Connector connector) {
 
-        try {
-            String fileName = Utils.getFileName(file);
-            if (connector.getAction(fileName) != null) {
-                connector.addOperationUiSchema(fileName, file.getAbsolutePath());
-            } else {
-                JsonElement operation = getOperationNameFromUISchema(file);
-                if (operation != null) {
-                    connector.addOperationUiSchema(operation.getAsString(), file.getAbsolutePath());
-                }
+        String fileName = Utils.getFileName(file);
+        if (connector.getAction(fileName) != null) {
+            connector.addOperationUiSchema(fileName, file.getAbsolutePath());
+        } else if (uiJson != null) {
+            JsonElement operation = uiJson.get(Constant.OPERATION_NAME);
+            if (operation != null) {
+                connector.addOperationUiSchema(operation.getAsString(), file.getAbsolutePath());
             }
-        } catch (IOException e) {
-            log.log(Level.SEVERE, "Error while reading connector ui schema file", e);
         }
     }
 
-    private JsonElement getOperationNameFromUISchema(File file) throws IOException {
-
-        String schema = Utils.readFile(file);
-        JsonObject uiJson = Utils.getJsonObject(schema);
-        return uiJson.get(Constant.OPERATION_NAME);
-    }
-
     private void readOutputSchema(Connector connector) {
 
         String outputSchemaPath = connector.getOutputSchemaPath();
@@ -319,38 +326,15 @@ public class ConnectorReader {
         }
     }
 
-    private void populateConnectionUiSchema(Connector connector) {
-
-        File uiSchemaFolder = new File(connector.getUiSchemaPath());
-        if (uiSchemaFolder.exists()) {
-            File[] files = uiSchemaFolder.listFiles();
-            if (files != null) {
-                for (File file : files) {
-                    String connectionName = getConnectionSchemaName(file);
-                    if (connectionName != null) {
-                        connector.addConnectionUiSchema(connectionName.toUpperCase(), file.getAbsolutePath());
-                    }
-                }
-            }
-        }
-    }
-
-    private String getConnectionSchemaName(File file) {
+    private void populateConnectionUiSchema(Connector connector, Map<File, JsonObject> uiSchemas) {
 
-        String connectionName = null;
-        try {
-            String schema = Utils.readFile(file);
-            JsonObject uiJson = Utils.getJsonObject(schema);
-            if (uiJson != null) {
-                JsonElement connectionNameEle = uiJson.get("connectionName");
-                if (connectionNameEle != null) {
-                    connectionName = connectionNameEle.getAsString();
-                }
+        for (Map.Entry<File, JsonObject> uiSchema : uiSchemas.entrySet()) {
+            JsonElement connectionNameEle = uiSchema.getValue().get("connectionName");
+            if (connectionNameEle != null) {
+                connector.addConnectionUiSchema(connectionNameEle.getAsString().toUpperCase(),
+                        uiSchema.getKey().getAbsolutePath());
             }
-        } catch (IOException e) {
-            log.log(Level.WARNING, "Error while reading connection ui schema file", e);
         }
-        return connectionName;
     }
 
     private List<String> getDependencies(DOMNode connectorElement) {
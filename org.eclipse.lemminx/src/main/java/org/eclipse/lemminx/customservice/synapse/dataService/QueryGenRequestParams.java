@@ -22,6 +22,7 @@ public class QueryGenRequestParams {
     String url;
     String tableData;
     String datasourceName;
+    boolean refresh;
 
     public void setClassName(String className) {
         this.className = className;
@@ -47,6 +48,10 @@ public class QueryGenRequestParams {
         this.datasourceName = datasourceName;
     }
 
+    public void setRefresh(boolean refresh) {
+        this.refresh = refresh;
+    }
+
     public String getClassName() {
         return className;
     }
@@ -62,4 +67,8 @@ public class QueryGenRequestParams {
     public String getUrl() {
         return url;
     }
+
+    public boolean isRefresh() {
+        return refresh;
+    }
 }
@@ -24,9 +24,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.sql.Connection;
-import java.sql.DatabaseMetaData;
 import java.sql.Driver;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -51,7 +49,10 @@ import org.eclipse.lemminx.customservice.synapse.dataService.queryBuilders.Delet
 import org.eclipse.lemminx.customservice.synapse.dataService.queryBuilders.InsertQueryBuilder;
 import org.eclipse.lemminx.customservice.synapse.dataService.queryBuilders.SelectAllQueryBuilder;
 import org.eclipse.lemminx.customservice.synapse.dataService.queryBuilders.UpdateQueryBuilder;
-import org.eclipse.lemminx.customservice.synapse.db.DBConnectionTester;
+import org.eclipse.lemminx.customservice.synapse.db.DBColumn;
+import org.eclipse.lemminx.customservice.synapse.db.DBConnectionPool;
+import org.eclipse.lemminx.customservice.synapse.db.DBDataSource;
+import org.eclipse.lemminx.customservice.synapse.db.DBMetadataCache;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 
@@ -67,26 +68,30 @@ public class QueryGenerator {
      * @return dbs file content with resources and queries
      */
     public static String generateDSSQueries(QueryGenRequestParams requestParams) {
-        DBConnectionTester dbConnectionTester = new DBConnectionTester();
+        DBDataSource dataSource = getDataSource(requestParams);
         DocumentBuilderFactory docFactory = DocumentBuilderFactory.newInstance();
-        try (Connection connection = dbConnectionTester.getConnection(requestParams.url, requestParams.username,
-                requestParams.password, requestParams.className)) {
+        try (Connection connection = DBConnectionPool.getInstance().getConnection(dataSource)) {
+            if (connection == null) {
+                return "";
+            }
             DocumentBuilder docBuilder = docFactory.newDocumentBuilder();
 
             Document doc = docBuilder.newDocument();
             Element dataElement = doc.createElement("data");
 
-            DatabaseMetaData metadata = connection.getMetaData();
-
             ObjectMapper mapper = new ObjectMapper();
             Map<String, String> tableData = mapper.readValue(requestParams.tableData, Map.class);
 
+            DBMetadataCache metadataCache = DBMetadataCache.getInstance();
+            Map<String, List<DBColumn>> tableColumns =
+                    metadataCache.getColumns(dataSource, connection, tableData.keySet());
             for (Map.Entry<String, String> entry : tableData.entrySet()) {
                 String table = entry.getKey();
-                List<Map<String, String>> tableDetails = extractTableColumns(metadata, table);
+                List<Map<String, String>> tableDetails = extractTableColumns(tableColumns.get(table));
                 Map<String, String> columnsList = tableDetails.get(0);
                 Map<String, String> autoIncrementFields = tableDetails.get(1);
-                Map<String, String> primaryKeys = extractTablePrimaryKeys(metadata, table, columnsList, autoIncrementFields);
+                Map<String, String> primaryKeys = extractTablePrimaryKeys(
+                        metadataCache.getPrimaryKeys(dataSource, connection, table), columnsList, autoIncrementFields);
                 String columnNamesCombined = String.join(", ", columnsList.keySet());
 
                 String methods = entry.getValue();
@@ -114,35 +119,22 @@ public class QueryGenerator {
     }
 
     /**
-     * Extract the tables in a datasource
+     * Extract the tables in a datasource. The cached metadata of the datasource is read again when the request asks
+     * for a refresh.
      *
      * @param requestParams datasource parameters object
      *
      * @return List of tables that exist in the database
      */
     public static Map<String, List<Boolean>> getTableList(QueryGenRequestParams requestParams) {
-        DBConnectionTester dbConnectionTester = new DBConnectionTester();
-        try (Connection connection = dbConnectionTester.getConnection(requestParams.url, requestParams.username,
-                requestParams.password, requestParams.className)) {
+        DBDataSource dataSource = getDataSource(requestParams);
+        if (requestParams.isRefresh()) {
+            DBMetadataCache.getInstance().refresh(dataSource);
+        }
+        try (Connection connection = DBConnectionPool.getInstance().getConnection(dataSource)) {
             Map<String, List<Boolean>> tablesMap = new HashMap<String, List<Boolean>>();
-            DatabaseMetaData mObject = null;
             if (connection != null) {
-                mObject = connection.getMetaData();
-                ResultSet tableNamesList = null;
-                try {
-                    String schema = extractDatabaseSchema(mObject, connection);
-                    tableNamesList = mObject.getTables(connection.getCatalog(), schema, "%",
-                            new String[]{"TABLE"});
-                    while (tableNamesList.next()) {
-                        String tableName = tableNamesList.getString("TABLE_NAME");
-                        ResultSet rs = mObject.getPrimaryKeys(null, null, tableName);
-                        tablesMap.put(tableName, Arrays.asList(mObject.isReadOnly(), rs.next()));
-                    }
-                } finally {
-                    if (tableNamesList != null) {
-                        tableNamesList.close();
-                    }
-                }
+                tablesMap.putAll(DBMetadataCache.getInstance().getTables(dataSource, connection));
             }
             return tablesMap;
         } catch (SQLException e) {
@@ -377,25 +369,20 @@ public class QueryGenerator {
     /**
      * Extract data columns in a DB table
      *
-     * @param metadata Metadata of the database
-     * @param table Name of the table
+     * @param columns Columns of the table from the database metadata
      *
      * @return List of columns in the table
      */
-    private static List<Map<String, String>> extractTableColumns(DatabaseMetaData metadata, String table) throws SQLException {
+    private static List<Map<String, String>> extractTableColumns(List<DBColumn> columns) {
         Map<String, String> columnsList = new HashMap<>();
         Map<String, String> autoIncrementFields = new HashMap<String, String>();
-        try (ResultSet rs = metadata.getColumns(null, null, table, null)) {
-            while (rs.next()) {
-                String name = rs.getString(DataServiceConstants.COLUMN_NAME);
-                int type = rs.getInt(DataServiceConstants.DATA_TYPE);
-                String sqlType = getSQLType(type);
-                if (isAutoIncrementField(rs)) {
-                    autoIncrementFields.put(name, sqlType);
-                    continue;
-                }
-                columnsList.put(name, sqlType);
+        for (DBColumn column : columns) {
+            String sqlType = getSQLType(column.getDataType());
+            if (column.isAutoIncrement()) {
+                autoIncrementFields.put(column.getName(), sqlType);
+                continue;
             }
+            columnsList.put(column.getName(), sqlType);
         }
         return Arrays.asList(columnsList, autoIncrementFields);
     }
@@ -403,66 +390,28 @@ public class QueryGenerator {
     /**
      * Extract primary keys in a DB table
      *
-     * @param metadata Metadata of the database
-     * @param table Name of the table
+     * @param primaryKeyNames Primary key columns of the table from the database metadata
      * @param columnsList Columns in the table
      * @param autoIncrementFields Auto-increment columns in the table
      *
      * @return Details of primary keys in the table
      */
-    private static Map<String, String> extractTablePrimaryKeys(DatabaseMetaData metadata, String table,
-                                           Map<String, String> columnsList, Map<String, String> autoIncrementFields)
-                                                throws SQLException {
+    private static Map<String, String> extractTablePrimaryKeys(List<String> primaryKeyNames,
+                                           Map<String, String> columnsList, Map<String, String> autoIncrementFields) {
         Map<String, String> primaryKeys = new HashMap<>();
-        try (ResultSet rs = metadata.getPrimaryKeys(null, null, table)) {
-            while (rs.next()) {
-                String name = rs.getString(DataServiceConstants.COLUMN_NAME);
-                String sqlType = columnsList.get(name);
-                if (sqlType == null) {
-                    sqlType = autoIncrementFields.get(name);
-                }
-                primaryKeys.put(name, sqlType);
+        for (String name : primaryKeyNames) {
+            String sqlType = columnsList.get(name);
+            if (sqlType == null) {
+                sqlType = autoIncrementFields.get(name);
             }
+            primaryKeys.put(name, sqlType);
         }
         return primaryKeys;
     }
 
-    /**
-     * Extract database schema
-     *
-     * @param metadata Metadata of the database
-     * @param connection Database connection
-     *
-     * @return Database schema
-     */
-    private static String extractDatabaseSchema(DatabaseMetaData metadata, Connection connection) throws SQLException {
-        String dbType = metadata.getDatabaseProductName();
-        String schema = null;
-        if ("Oracle".equalsIgnoreCase(dbType)) {
-            schema = connection.getSchema();
-        } else if ("PostgreSQL".equalsIgnoreCase(dbType)) {
-            ResultSet schemas = metadata.getSchemas();
-            while (schemas.next()) {
-                schema = schemas.getString("TABLE_SCHEM");
-            }
-        }
-        return schema;
-    }
-
-    private static boolean isAutoIncrementField(ResultSet columnNames) {
-        try {
-            String autoIncrString = columnNames.getString(DataServiceConstants.AUTOINCREMENT_COLUMN);
-            if (DataServiceConstants.IS_AUTOINCREMENT.equalsIgnoreCase(autoIncrString)) {
-                return true;
-            }
-            Boolean identity = columnNames.getBoolean(DataServiceConstants.IDENTITY_COLUMN);
-            if (identity != null) {
-                return identity;
-            }
-        } catch (SQLException e) {
-            LOGGER.log(Level.SEVERE, "Error occurred while retrieving DB column details.", e);
-        }
-        return false;
+    private static DBDataSource getDataSource(QueryGenRequestParams requestParams) {
+        return new DBDataSource(requestParams.url, requestParams.username, requestParams.password,
+                requestParams.className);
     }
 
     private static String getSQLType(int type) {
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.db;
+
+/**
+ * Metadata of a table column or of a stored procedure parameter, as read from the database metadata.
+ */
+public class DBColumn {
+
+    private final String name;
+    private final int dataType;
+    private final String typeName;
+    private final String nullable;
+    private final boolean autoIncrement;
+    private final int columnType;
+
+    public DBColumn(String name, int dataType, String typeName, String nullable, boolean autoIncrement,
+                    int columnType) {
+
+        this.name = name;
+        this.dataType = dataType;
+        this.typeName = typeName;
+        this.nullable = nullable;
+        this.autoIncrement = autoIncrement;
+        this.columnType = columnType;
+    }
+
+    public String getName() {
+
+        return name;
+    }
+
+    /**
+     * @return the SQL type from {@link java.sql.Types}
+     */
+    public int getDataType() {
+
+        return dataType;
+    }
+
+    public String getTypeName() {
+
+        return typeName;
+    }
+
+    /**
+     * @return the IS_NULLABLE value of the column, which is "YES", "NO" or empty
+     */
+    public String getNullable() {
+
+        return nullable;
+    }
+
+    public boolean isAutoIncrement() {
+
+        return autoIncrement;
+    }
+
+    /**
+     * @return the COLUMN_TYPE of a stored procedure parameter, such as
+     * {@link java.sql.DatabaseMetaData#procedureColumnIn}
+     */
+    public int getColumnType() {
+
+        return columnType;
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.db;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Pool of the database connections used by the data service tooling, with a few idle connections per datasource.
+ * <p>
+ * The connections returned by the pool are given back to the pool when they are closed. An idle connection is
+ * validated before it is reused and is closed when it has not been used for {@link #IDLE_TIMEOUT_MILLIS}.
+ */
+public class DBConnectionPool {
+
+    private static final Logger LOGGER = Logger.getLogger(DBConnectionPool.class.getName());
+    private static final int MAX_IDLE_CONNECTIONS = 4;
+    private static final long IDLE_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(5);
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+    private static final DBConnectionPool INSTANCE = new DBConnectionPool();
+
+    private final Map<DBDataSource, Deque<IdleConnection>> idleConnections = new HashMap<>();
+
+    public static DBConnectionPool getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Returns a connection to the given datasource, which is an idle connection of the pool if there is a valid one.
+     *
+     * @param dataSource the datasource
+     * @return the connection, or null if the connection could not be established
+     */
+    public Connection getConnection(DBDataSource dataSource) {
+
+        Connection connection;
+        while ((connection = pollIdleConnection(dataSource)) != null) {
+            if (isValid(connection)) {
+                return wrap(dataSource, connection);
+            }
+            closeQuietly(connection);
+        }
+        connection = openConnection(dataSource);
+        return connection != null ? wrap(dataSource, connection) : null;
+    }
+
+    /**
+     * Closes the idle connections of all the datasources.
+     */
+    public void closeAll() {
+
+        List<IdleConnection> connections = new ArrayList<>();
+        synchronized (idleConnections) {
+            idleConnections.values().forEach(connections::addAll);
+            idleConnections.clear();
+        }
+        connections.forEach(idle -> closeQuietly(idle.connection));
+    }
+
+    private static Connection openConnection(DBDataSource dataSource) {
+
+        if (StringUtils.isBlank(dataSource.getClassName())) {
+            // The driver is already registered when the datasource was connected with its driver class
+            try {
+                return DriverManager.getConnection(dataSource.getUrl(), dataSource.getUsername(),
+                        dataSource.getPassword());
+            } catch (SQLException e) {
+                LOGGER.log(Level.SEVERE, "Could not establish database connection.", e);
+                return null;
+            }
+        }
+        return DBConnectionTester.getConnection(dataSource.getUrl(), dataSource.getUsername(),
+                dataSource.getPassword(), dataSource.getClassName());
+    }
+
+    private Connection pollIdleConnection(DBDataSource dataSource) {
+
+        List<IdleConnection> expired = new ArrayList<>();
+        IdleConnection idle = null;
+        synchronized (idleConnections) {
+            Deque<IdleConnection> connections = idleConnections.get(dataSource);
+            if (connections != null) {
+                long now = System.currentTimeMillis();
+                Iterator<IdleConnection> iterator = connections.iterator();
+                while (iterator.hasNext()) {
+                    IdleConnection connection = iterator.next();
+                    if (now - connection.idleSince > IDLE_TIMEOUT_MILLIS) {
+                        iterator.remove();
+                        expired.add(connection);
+                    }
+                }
+                idle = connections.poll();
+            }
+        }
+        expired.forEach(connection -> closeQuietly(connection.connection));
+        return idle != null ? idle.connection : null;
+    }
+
+    private void release(DBDataSource dataSource, Connection connection) {
+
+        try {
+            if (!connection.isClosed()) {
+                synchronized (idleConnections) {
+                    Deque<IdleConnection> connections =
+                            idleConnections.computeIfAbsent(dataSource, k -> new ArrayDeque<>());
+                    if (connections.size() < MAX_IDLE_CONNECTIONS) {
+                        connections.push(new IdleConnection(connection));
+                        return;
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            LOGGER.log(Level.FINE, "Could not check the database connection of " + dataSource, e);
+        }
+        closeQuietly(connection);
+    }
+
+    private static boolean isValid(Connection connection) {
+
+        try {
+            return connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+        } catch (SQLException | AbstractMethodError e) {
+            return false;
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            LOGGER.log(Level.FINE, "Error occurred while closing the database connection.", e);
+        }
+    }
+
+    private Connection wrap(DBDataSource dataSource, Connection connection) {
+
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                new PooledConnectionHandler(dataSource, connection));
+    }
+
+    /**
+     * Gives the connection back to the pool instead of closing it.
+     */
+    private class PooledConnectionHandler implements InvocationHandler {
+
+        private final DBDataSource dataSource;
+        private final Connection connection;
+        private boolean closed;
+
+        PooledConnectionHandler(DBDataSource dataSource, Connection connection) {
+
+            this.dataSource = dataSource;
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+
+            switch (method.getName()) {
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        release(dataSource, connection);
+                    }
+                    return null;
+                case "isClosed":
+                    return closed || connection.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Pooled " + connection;
+                default:
+                    if (closed) {
+                        throw new SQLException("The connection is closed.");
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+            }
+        }
+    }
+
+    private static class IdleConnection {
+
+        private final Connection connection;
+        private final long idleSince;
+
+        IdleConnection(Connection connection) {
+
+            this.connection = connection;
+            this.idleSince = System.currentTimeMillis();
+        }
+    }
+}
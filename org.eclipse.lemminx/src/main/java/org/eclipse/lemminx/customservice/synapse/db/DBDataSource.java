@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.db;
+
+import java.util.Objects;
+
+/**
+ * Identifies a datasource by its connection URL, user and driver class. The password is part of the identity so that
+ * a connection opened with other credentials is never reused.
+ */
+public class DBDataSource {
+
+    private final String url;
+    private final String username;
+    private final String password;
+    private final String className;
+
+    public DBDataSource(String url, String username, String password, String className) {
+
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.className = className;
+    }
+
+    public String getUrl() {
+
+        return url;
+    }
+
+    public String getUsername() {
+
+        return username;
+    }
+
+    public String getPassword() {
+
+        return password;
+    }
+
+    public String getClassName() {
+
+        return className;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        DBDataSource that = (DBDataSource) o;
+        return Objects.equals(url, that.url) && Objects.equals(username, that.username) &&
+                Objects.equals(password, that.password) && Objects.equals(className, that.className);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return Objects.hash(url, username, password, className);
+    }
+
+    @Override
+    public String toString() {
+
+        return username + "@" + url;
+    }
+}
@@ -0,0 +1,384 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.db;
+
+import org.eclipse.lemminx.customservice.synapse.dataService.DataServiceConstants;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Cache of the database metadata (tables, columns, primary keys and stored procedures) used by the data service
+ * tooling, so that the metadata is not queried again on each step of the wizards.
+ * <p>
+ * The metadata of a datasource expires after the time to live of the cache and can be refreshed explicitly with
+ * {@link #refresh(DBDataSource)}. The metadata is read with a connection given by the caller, and the columns of
+ * many tables are read with a single metadata query.
+ */
+public class DBMetadataCache {
+
+    private static final Logger LOGGER = Logger.getLogger(DBMetadataCache.class.getName());
+    private static final long DEFAULT_TTL_MILLIS = TimeUnit.MINUTES.toMillis(5);
+    private static final DBMetadataCache INSTANCE = new DBMetadataCache(DEFAULT_TTL_MILLIS);
+
+    /**
+     * Number of tables from which the columns of all the tables of the schema are read with one query, instead of
+     * one query per table.
+     */
+    public static final int COLUMNS_BATCH_THRESHOLD = 8;
+
+    private static final String TABLES = "tables";
+    private static final String COLUMNS = "columns:";
+    private static final String PRIMARY_KEYS = "primaryKeys:";
+    private static final String PROCEDURES = "procedures";
+    private static final String PROCEDURE_COLUMNS = "procedureColumns:";
+    private static final String TABLE_NAME = "TABLE_NAME";
+    private static final String TYPE_NAME = "TYPE_NAME";
+    private static final String IS_NULLABLE = "IS_NULLABLE";
+    private static final String COLUMN_TYPE = "COLUMN_TYPE";
+    private static final String PROCEDURE_NAME = "PROCEDURE_NAME";
+
+    private final long ttlMillis;
+    private final Map<DBDataSource, Map<String, CachedMetadata>> metadata = new ConcurrentHashMap<>();
+
+    public DBMetadataCache(long ttlMillis) {
+
+        this.ttlMillis = ttlMillis;
+    }
+
+    public static DBMetadataCache getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the tables of the datasource, with whether the database is read only and whether the table has a
+     * primary key.
+     *
+     * @param dataSource the datasource
+     * @param connection a connection to the datasource
+     * @return the tables of the datasource
+     * @throws SQLException if the metadata could not be read
+     */
+    public Map<String, List<Boolean>> getTables(DBDataSource dataSource, Connection connection) throws SQLException {
+
+        return get(dataSource, TABLES, () -> {
+            Map<String, List<Boolean>> tables = new HashMap<>();
+            DatabaseMetaData metaData = connection.getMetaData();
+            String schema = extractDatabaseSchema(metaData, connection);
+            List<String> tableNames = new ArrayList<>();
+            try (ResultSet rs = metaData.getTables(connection.getCatalog(), schema, "%", new String[]{"TABLE"})) {
+                while (rs.next()) {
+                    tableNames.add(rs.getString(TABLE_NAME));
+                }
+            }
+            boolean readOnly = metaData.isReadOnly();
+            for (String tableName : tableNames) {
+                try (ResultSet rs = metaData.getPrimaryKeys(null, null, tableName)) {
+                    tables.put(tableName, Arrays.asList(readOnly, rs.next()));
+                }
+            }
+            return Collections.unmodifiableMap(tables);
+        });
+    }
+
+    /**
+     * Returns the columns of a table.
+     *
+     * @param dataSource the datasource
+     * @param connection a connection to the datasource
+     * @param table      the table name
+     * @return the columns of the table
+     * @throws SQLException if the metadata could not be read
+     */
+    public List<DBColumn> getColumns(DBDataSource dataSource, Connection connection, String table)
+            throws SQLException {
+
+        return getColumns(dataSource, connection, Collections.singletonList(table)).get(table);
+    }
+
+    /**
+     * Returns the columns of the given tables. The columns which are not cached are read with one query per table,
+     * or with a single query when there are at least {@link #COLUMNS_BATCH_THRESHOLD} tables to read.
+     *
+     * @param dataSource the datasource
+     * @param connection a connection to the datasource
+     * @param tables     the table names
+     * @return the columns of each table
+     * @throws SQLException if the metadata could not be read
+     */
+    public Map<String, List<DBColumn>> getColumns(DBDataSource dataSource, Connection connection,
+                                                  Collection<String> tables) throws SQLException {
+
+        Map<String, List<DBColumn>> batchedColumns = Collections.emptyMap();
+        Set<String> missingTables = new HashSet<>();
+        for (String table : tables) {
+            if (getIfPresent(dataSource, COLUMNS + table) == null) {
+                missingTables.add(table);
+            }
+        }
+        if (missingTables.size() >= COLUMNS_BATCH_THRESHOLD) {
+            batchedColumns = readColumns(connection, missingTables);
+        }
+        Map<String, List<DBColumn>> columns = new LinkedHashMap<>();
+        for (String table : tables) {
+            List<DBColumn> tableColumns = batchedColumns.get(table);
+            if (tableColumns != null) {
+                put(dataSource, COLUMNS + table, tableColumns);
+            } else {
+                // the tables which are not in the schema of the connection are read one by one
+                tableColumns = get(dataSource, COLUMNS + table, () -> readColumns(connection, table));
+            }
+            columns.put(table, tableColumns);
+        }
+        return columns;
+    }
+
+    /**
+     * Returns the names of the primary key columns of a table.
+     *
+     * @param dataSource the datasource
+     * @param connection a connection to the datasource
+     * @param table      the table name
+     * @return the primary key columns of the table
+     * @throws SQLException if the metadata could not be read
+     */
+    public List<String> getPrimaryKeys(DBDataSource dataSource, Connection connection, String table)
+            throws SQLException {
+
+        return get(dataSource, PRIMARY_KEYS + table, () -> {
+            List<String> primaryKeys = new ArrayList<>();
+            try (ResultSet rs = connection.getMetaData().getPrimaryKeys(null, null, table)) {
+                while (rs.next()) {
+                    primaryKeys.add(rs.getString(DataServiceConstants.COLUMN_NAME));
+                }
+            }
+            return Collections.unmodifiableList(primaryKeys);
+        });
+    }
+
+    /**
+     * Returns the names of the stored procedures of the datasource.
+     *
+     * @param dataSource the datasource
+     * @param connection a connection to the datasource
+     * @return the stored procedure names
+     * @throws SQLException if the metadata could not be read
+     */
+    public List<String> getProcedures(DBDataSource dataSource, Connection connection) throws SQLException {
+
+        return get(dataSource, PROCEDURES, () -> {
+            List<String> procedures = new ArrayList<>();
+            try (ResultSet rs = connection.getMetaData().getProcedures(null, null, null)) {
+                while (rs.next()) {
+                    procedures.add(rs.getString(PROCEDURE_NAME));
+                }
+            }
+            return Collections.unmodifiableList(procedures);
+        });
+    }
+
+    /**
+     * Returns the parameters of a stored procedure.
+     *
+     * @param dataSource the datasource
+     * @param connection a connection to the datasource
+     * @param procedure  the stored procedure name
+     * @return the parameters of the stored procedure
+     * @throws SQLException if the metadata could not be read
+     */
+    public List<DBColumn> getProcedureColumns(DBDataSource dataSource, Connection connection, String procedure)
+            throws SQLException {
+
+        return get(dataSource, PROCEDURE_COLUMNS + procedure, () -> {
+            List<DBColumn> parameters = new ArrayList<>();
+            try (ResultSet rs = connection.getMetaData().getProcedureColumns(null, null, procedure, null)) {
+                while (rs.next()) {
+                    parameters.add(new DBColumn(rs.getString(DataServiceConstants.COLUMN_NAME),
+                            rs.getInt(DataServiceConstants.DATA_TYPE), rs.getString(TYPE_NAME),
+                            rs.getString(IS_NULLABLE), false, rs.getInt(COLUMN_TYPE)));
+                }
+            }
+            return Collections.unmodifiableList(parameters);
+        });
+    }
+
+    /**
+     * Removes the cached metadata of the datasource, so that it is read again from the database.
+     *
+     * @param dataSource the datasource
+     */
+    public void refresh(DBDataSource dataSource) {
+
+        metadata.remove(dataSource);
+    }
+
+    /**
+     * Removes the cached metadata of all the datasources.
+     */
+    public void refreshAll() {
+
+        metadata.clear();
+    }
+
+    private <T> T get(DBDataSource dataSource, String name, MetadataLoader<T> loader) throws SQLException {
+
+        T value = getIfPresent(dataSource, name);
+        if (value == null) {
+            value = loader.load();
+            put(dataSource, name, value);
+        }
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T getIfPresent(DBDataSource dataSource, String name) {
+
+        Map<String, CachedMetadata> values = metadata.get(dataSource);
+        CachedMetadata cached = values != null ? values.get(name) : null;
+        if (cached == null) {
+            return null;
+        }
+        if (System.currentTimeMillis() >= cached.expiresAt) {
+            values.remove(name, cached);
+            return null;
+        }
+        return (T) cached.value;
+    }
+
+    private void put(DBDataSource dataSource, String name, Object value) {
+
+        metadata.computeIfAbsent(dataSource, k -> new ConcurrentHashMap<>())
+                .put(name, new CachedMetadata(value, System.currentTimeMillis() + ttlMillis));
+    }
+
+    private static List<DBColumn> readColumns(Connection connection, String table) throws SQLException {
+
+        List<DBColumn> columns = new ArrayList<>();
+        try (ResultSet rs = connection.getMetaData().getColumns(null, null, table, null)) {
+            while (rs.next()) {
+                columns.add(readColumn(rs));
+            }
+        }
+        return Collections.unmodifiableList(columns);
+    }
+
+    private static Map<String, List<DBColumn>> readColumns(Connection connection, Set<String> tables)
+            throws SQLException {
+
+        Map<String, List<DBColumn>> columns = new HashMap<>();
+        try (ResultSet rs = connection.getMetaData().getColumns(connection.getCatalog(), getSchema(connection), "%",
+                null)) {
+            while (rs.next()) {
+                String table = rs.getString(TABLE_NAME);
+                if (tables.contains(table)) {
+                    columns.computeIfAbsent(table, k -> new ArrayList<>()).add(readColumn(rs));
+                }
+            }
+        }
+        columns.replaceAll((table, tableColumns) -> Collections.unmodifiableList(tableColumns));
+        return columns;
+    }
+
+    private static DBColumn readColumn(ResultSet rs) throws SQLException {
+
+        return new DBColumn(rs.getString(DataServiceConstants.COLUMN_NAME), rs.getInt(DataServiceConstants.DATA_TYPE),
+                rs.getString(TYPE_NAME), rs.getString(IS_NULLABLE), isAutoIncrementField(rs), 0);
+    }
+
+    private static boolean isAutoIncrementField(ResultSet columnNames) {
+
+        try {
+            String autoIncrString = columnNames.getString(DataServiceConstants.AUTOINCREMENT_COLUMN);
+            if (DataServiceConstants.IS_AUTOINCREMENT.equalsIgnoreCase(autoIncrString)) {
+                return true;
+            }
+            Boolean identity = columnNames.getBoolean(DataServiceConstants.IDENTITY_COLUMN);
+            if (identity != null) {
+                return identity;
+            }
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error occurred while retrieving DB column details.", e);
+        }
+        return false;
+    }
+
+    private static String getSchema(Connection connection) {
+
+        try {
+            return connection.getSchema();
+        } catch (SQLException | AbstractMethodError e) {
+            return null;
+        }
+    }
+
+    /**
+     * Extract database schema
+     *
+     * @param metadata Metadata of the database
+     * @param connection Database connection
+     *
+     * @return Database schema
+     */
+    private static String extractDatabaseSchema(DatabaseMetaData metadata, Connection connection) throws SQLException {
+
+        String dbType = metadata.getDatabaseProductName();
+        String schema = null;
+        if ("Oracle".equalsIgnoreCase(dbType)) {
+            schema = connection.getSchema();
+        } else if ("PostgreSQL".equalsIgnoreCase(dbType)) {
+            try (ResultSet schemas = metadata.getSchemas()) {
+                while (schemas.next()) {
+                    schema = schemas.getString("TABLE_SCHEM");
+                }
+            }
+        }
+        return schema;
+    }
+
+    @FunctionalInterface
+    private interface MetadataLoader<T> {
+
+        T load() throws SQLException;
+    }
+
+    private static class CachedMetadata {
+
+        private final Object value;
+        private final long expiresAt;
+
+        CachedMetadata(Object value, long expiresAt) {
+
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
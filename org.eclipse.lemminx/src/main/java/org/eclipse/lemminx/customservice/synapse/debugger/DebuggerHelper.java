@@ -30,7 +30,6 @@ import org.eclipse.lemminx.customservice.synapse.debugger.visitor.stepover.StepO
 import org.eclipse.lemminx.customservice.synapse.debugger.visitor.stepover.StepOverProxyVisitor;
 import org.eclipse.lemminx.customservice.synapse.debugger.visitor.stepover.StepOverSequenceVisitor;
 import org.eclipse.lemminx.customservice.synapse.debugger.visitor.stepover.StepOverTemplateVisitor;
-import org.eclipse.lemminx.customservice.synapse.syntaxTree.SyntaxTreeGenerator;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.NamedSequence;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.STNode;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.api.API;
@@ -38,12 +37,10 @@ import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.inbound.Inbound
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.proxy.Proxy;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.template.Template;
 import org.eclipse.lemminx.customservice.synapse.utils.Constant;
-import org.eclipse.lemminx.customservice.synapse.utils.Utils;
-import org.eclipse.lemminx.dom.DOMDocument;
 
-import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.logging.Level;
@@ -55,14 +52,18 @@ import java.util.logging.Logger;
 public class DebuggerHelper {
 
     private static final Logger LOGGER = Logger.getLogger(DebuggerHelper.class.getName());
+    private static final Comparator<Breakpoint> BREAKPOINT_ORDER = Comparator.comparingInt(Breakpoint::getLine)
+            .thenComparing(Breakpoint::getColumn, Comparator.nullsFirst(Comparator.naturalOrder()));
     private STNode syntaxTree;
     private String filePath;
+    private DebuggerPositionIndex positionIndex;
 
     public DebuggerHelper(String filePath) {
 
         this.filePath = filePath;
         try {
-            this.syntaxTree = getSyntaxTree();
+            this.positionIndex = DebuggerPositionIndex.getIndex(filePath);
+            this.syntaxTree = positionIndex.getSyntaxTree();
         } catch (IOException e) {
             LOGGER.log(Level.SEVERE, "Error while generating syntax tree for: " + filePath, e);
         }
@@ -114,16 +115,32 @@ public class DebuggerHelper {
     }
 
     /**
-     * This method is used to generate the debug info. It will traverse the syntax tree and generate the info for
-     * each breakpoint.
+     * This method is used to generate the debug info. The debug info already resolved for the current version of the
+     * artifact is reused.
      *
      * @param breakPoints list of breakpoints
      * @return list of debug info
      */
     public List<IDebugInfo> generateDebugInfo(List<Breakpoint> breakPoints) {
 
+        if (positionIndex != null) {
+            return positionIndex.getDebugInfo(breakPoints, this::visitDebugInfo);
+        }
+        return visitDebugInfo(breakPoints);
+    }
+
+    /**
+     * Traverses the syntax tree once and generates the info for each breakpoint. The breakpoints are visited in the
+     * order of their positions.
+     *
+     * @param breakPoints list of breakpoints
+     * @return list of debug info
+     */
+    private List<IDebugInfo> visitDebugInfo(List<Breakpoint> breakPoints) {
+
         String tag = syntaxTree.getTag();
         List<Breakpoint> breakpointsCopy = new ArrayList<>(breakPoints);
+        breakpointsCopy.sort(BREAKPOINT_ORDER);
         HashMap<Breakpoint, IDebugInfo> breakpointInfoMap = new HashMap<>(breakPoints.size());
         for (Breakpoint breakpoint : breakPoints) {
             breakpointInfoMap.put(breakpoint, null);
@@ -149,13 +166,11 @@ public class DebuggerHelper {
                     breakpointInfoMap);
             visitor.startVisit();
         }
-        IDebugInfo[] debugInfos = new IDebugInfo[breakPoints.size()];
+        List<IDebugInfo> debugInfos = new ArrayList<>(breakPoints.size());
         for (Breakpoint bp : breakPoints) {
-            IDebugInfo debugInfo = breakpointInfoMap.get(bp);
-            int index = breakPoints.indexOf(bp);
-            debugInfos[index] = debugInfo;
+            debugInfos.add(breakpointInfoMap.get(bp));
         }
-        return List.of(debugInfos);
+        return debugInfos;
     }
 
     /**
@@ -166,6 +181,14 @@ public class DebuggerHelper {
      */
     public StepOverInfo getStepOverBreakpoints(Breakpoint breakpoint) {
 
+        if (positionIndex != null) {
+            return positionIndex.getStepOverInfo(breakpoint, this::visitStepOverBreakpoints);
+        }
+        return visitStepOverBreakpoints(breakpoint);
+    }
+
+    private StepOverInfo visitStepOverBreakpoints(Breakpoint breakpoint) {
+
         String tag = syntaxTree.getTag();
         StepOverInfo stepOverInfo = new StepOverInfo();
         Visitor visitor;
@@ -187,11 +210,4 @@ public class DebuggerHelper {
         }
         return stepOverInfo;
     }
-
-    private STNode getSyntaxTree() throws IOException {
-
-        File file = new File(filePath);
-        DOMDocument document = Utils.getDOMDocument(file);
-        return SyntaxTreeGenerator.buildTree(document.getDocumentElement());
-    }
 }
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.debugger;
+
+import org.eclipse.lemminx.customservice.synapse.debugger.entity.Breakpoint;
+import org.eclipse.lemminx.customservice.synapse.debugger.entity.StepOverInfo;
+import org.eclipse.lemminx.customservice.synapse.debugger.entity.debuginfo.IDebugInfo;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.SyntaxTreeGenerator;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.STNode;
+import org.eclipse.lemminx.customservice.synapse.utils.Utils;
+import org.eclipse.lemminx.dom.DOMDocument;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Debug positions of an artifact, for one version of its DOM document.
+ * <p>
+ * The syntax tree of the artifact is built once, and the debug info and the step over breakpoints resolved for a
+ * position are kept, so that the repeated requests of a debug session for the same positions do not walk the tree
+ * again. The breakpoints which are not resolved yet are all resolved in a single visit of the tree.
+ * <p>
+ * The indexes of the recently debugged artifacts are kept as long as the
+ * {@link org.eclipse.lemminx.customservice.synapse.utils.DOMDocumentCache} returns the same document for the file,
+ * i.e. as long as the file is unchanged.
+ */
+public class DebuggerPositionIndex {
+
+    private static final int MAX_INDEXES = 32;
+    private static final Map<String, DebuggerPositionIndex> INDEXES =
+            new LinkedHashMap<>(MAX_INDEXES, 0.75f, true) {
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, DebuggerPositionIndex> eldest) {
+
+                    return size() > MAX_INDEXES;
+                }
+            };
+
+    private final WeakReference<DOMDocument> document;
+    private final STNode syntaxTree;
+    private final Map<Breakpoint, IDebugInfo> debugInfos = new HashMap<>();
+    private final Map<Breakpoint, StepOverInfo> stepOverInfos = new HashMap<>();
+
+    private DebuggerPositionIndex(DOMDocument document) {
+
+        this.document = new WeakReference<>(document);
+        this.syntaxTree = SyntaxTreeGenerator.buildTree(document.getDocumentElement());
+    }
+
+    /**
+     * Returns the index of the current version of the given artifact.
+     *
+     * @param filePath the path of the artifact
+     * @return the index of the artifact
+     * @throws IOException if the artifact cannot be read
+     */
+    public static DebuggerPositionIndex getIndex(String filePath) throws IOException {
+
+        File file = new File(Utils.getAbsolutePath(filePath));
+        DOMDocument document = Utils.getDOMDocument(file);
+        String key = file.getAbsolutePath();
+        synchronized (INDEXES) {
+            DebuggerPositionIndex index = INDEXES.get(key);
+            if (index == null || index.document.get() != document) {
+                index = new DebuggerPositionIndex(document);
+                INDEXES.put(key, index);
+            }
+            return index;
+        }
+    }
+
+    public STNode getSyntaxTree() {
+
+        return syntaxTree;
+    }
+
+    /**
+     * Returns the debug info of the given breakpoints. The breakpoints which are not indexed yet are resolved with
+     * the given function, in a single visit.
+     *
+     * @param breakpoints the breakpoints
+     * @param resolver    the function resolving the debug info of a list of breakpoints, in the same order
+     * @return the debug info of the breakpoints, in the same order
+     */
+    public synchronized List<IDebugInfo> getDebugInfo(List<Breakpoint> breakpoints,
+                                                      Function<List<Breakpoint>, List<IDebugInfo>> resolver) {
+
+        Set<Breakpoint> missing = new LinkedHashSet<>();
+        for (Breakpoint breakpoint : breakpoints) {
+            if (!debugInfos.containsKey(breakpoint)) {
+                missing.add(copy(breakpoint));
+            }
+        }
+        if (!missing.isEmpty()) {
+            List<Breakpoint> missingList = new ArrayList<>(missing);
+            List<IDebugInfo> resolved = resolver.apply(missingList);
+            for (int i = 0; i < missingList.size(); i++) {
+                debugInfos.put(missingList.get(i), resolved.get(i));
+            }
+        }
+        List<IDebugInfo> result = new ArrayList<>(breakpoints.size());
+        for (Breakpoint breakpoint : breakpoints) {
+            result.add(debugInfos.get(breakpoint));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the step over breakpoints of the given breakpoint, resolving them with the given function if they are
+     * not indexed yet.
+     *
+     * @param breakpoint the breakpoint
+     * @param resolver   the function resolving the step over breakpoints of a breakpoint
+     * @return the step over info
+     */
+    public synchronized StepOverInfo getStepOverInfo(Breakpoint breakpoint,
+                                                     Function<Breakpoint, StepOverInfo> resolver) {
+
+        StepOverInfo stepOverInfo = stepOverInfos.get(breakpoint);
+        if (stepOverInfo == null) {
+            Breakpoint key = copy(breakpoint);
+            stepOverInfo = resolver.apply(key);
+            stepOverInfos.put(key, stepOverInfo);
+        }
+        return stepOverInfo;
+    }
+
+    private static Breakpoint copy(Breakpoint breakpoint) {
+
+        return new Breakpoint(breakpoint.getLine(), breakpoint.getColumn());
+    }
+}
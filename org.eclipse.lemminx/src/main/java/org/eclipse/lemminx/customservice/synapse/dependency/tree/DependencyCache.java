@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.dependency.tree;
+
+import org.eclipse.lemminx.customservice.synapse.dependency.tree.pojo.Dependency;
+import org.eclipse.lemminx.dom.DOMDocument;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Project scoped memo of the dependency subtrees of the referenced artifacts (sequences, endpoints, templates and
+ * message stores), shared by the dependency scans of a project.
+ * <p>
+ * Each subtree keeps the DOM documents of all the artifacts it was built from. The DOM documents are served by the
+ * {@link org.eclipse.lemminx.customservice.synapse.utils.DOMDocumentCache}, which returns the same document as long as
+ * the content of the file is unchanged, hence a subtree is reused only while each of these documents is still the
+ * current one. The documents are weakly referenced so that the memo does not keep the evicted documents alive.
+ * <p>
+ * Creating or deleting a file can change how the keys of the artifacts are resolved, hence the memo should be cleared
+ * on these events.
+ */
+public class DependencyCache {
+
+    private final Map<String, CachedDependency> dependencies = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the memoized dependency of the given artifact if all the artifacts it was built from are unchanged.
+     *
+     * @param path             the absolute path of the artifact
+     * @param currentDocuments the function returning the current DOM document of an artifact path
+     * @return the memoized dependency, or null if there is none or if it is outdated
+     */
+    CachedDependency getDependency(String path, Function<String, DOMDocument> currentDocuments) {
+
+        CachedDependency cached = dependencies.get(path);
+        if (cached == null) {
+            return null;
+        }
+        if (!cached.isCurrent(currentDocuments)) {
+            dependencies.remove(path, cached);
+            return null;
+        }
+        return cached;
+    }
+
+    /**
+     * Memoizes the dependency of the given artifact.
+     *
+     * @param path       the absolute path of the artifact
+     * @param dependency the dependency of the artifact
+     * @param sources    the DOM documents of the artifacts the dependency was built from, by path
+     */
+    void addDependency(String path, Dependency dependency, Map<String, DOMDocument> sources) {
+
+        dependencies.put(path, new CachedDependency(dependency, sources));
+    }
+
+    /**
+     * Removes the dependency of the given artifact.
+     *
+     * @param path the absolute path of the artifact
+     */
+    public void invalidate(String path) {
+
+        dependencies.remove(path);
+    }
+
+    public void clear() {
+
+        dependencies.clear();
+    }
+
+    public int size() {
+
+        return dependencies.size();
+    }
+
+    static class CachedDependency {
+
+        private final Dependency dependency;
+        private final Map<String, WeakReference<DOMDocument>> sources;
+
+        CachedDependency(Dependency dependency, Map<String, DOMDocument> sources) {
+
+            this.dependency = dependency;
+            Map<String, WeakReference<DOMDocument>> references = new HashMap<>();
+            for (Map.Entry<String, DOMDocument> source : sources.entrySet()) {
+                references.put(source.getKey(), new WeakReference<>(source.getValue()));
+            }
+            this.sources = Collections.unmodifiableMap(references);
+        }
+
+        Dependency getDependency() {
+
+            return dependency;
+        }
+
+        Set<String> getSourcePaths() {
+
+            return sources.keySet();
+        }
+
+        private boolean isCurrent(Function<String, DOMDocument> currentDocuments) {
+
+            for (Map.Entry<String, WeakReference<DOMDocument>> source : sources.entrySet()) {
+                DOMDocument document = source.getValue().get();
+                if (document == null || document != currentDocuments.apply(source.getKey())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
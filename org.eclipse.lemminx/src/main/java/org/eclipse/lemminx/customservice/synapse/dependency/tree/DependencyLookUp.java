@@ -15,17 +15,53 @@
 package org.eclipse.lemminx.customservice.synapse.dependency.tree;
 
 import org.eclipse.lemminx.customservice.synapse.dependency.tree.pojo.Dependency;
+import org.eclipse.lemminx.customservice.synapse.utils.Utils;
+import org.eclipse.lemminx.dom.DOMDocument;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
+/**
+ * Lookup table of the artifacts already visited by a dependency scan. A lookup table is used by a single scan at a
+ * time.
+ * <p>
+ * The lookup table keeps the artifacts being visited, so that an artifact which refers back to one of them is not
+ * expanded again. If a {@link DependencyCache} is given, the dependencies of the visited artifacts are memoized in it
+ * and reused by the next scans, except the ones which were cut by such a cycle, as their subtree depends on where the
+ * visit started.
+ */
 public class DependencyLookUp {
 
+    private static final Logger LOGGER = Logger.getLogger(DependencyLookUp.class.getName());
+
     private final Map<String, Dependency> dependencyMap;
+    private final DependencyCache dependencyCache;
+    private final Map<String, DOMDocument> documents;
+    private final Map<String, Set<String>> sourcePaths;
+    private final Deque<Visit> visits;
 
     public DependencyLookUp() {
 
-        dependencyMap = new HashMap<>();
+        this(null);
+    }
+
+    public DependencyLookUp(DependencyCache dependencyCache) {
+
+        this.dependencyMap = new HashMap<>();
+        this.dependencyCache = dependencyCache;
+        this.documents = new HashMap<>();
+        this.sourcePaths = new HashMap<>();
+        this.visits = new ArrayDeque<>();
     }
 
     public void addDependency(String path, Dependency dependency) {
@@ -37,6 +73,135 @@ public class DependencyLookUp {
 
     public Dependency getDependency(String path) {
 
-        return dependencyMap.get(path);
+        if (path == null) {
+            return null;
+        }
+        Dependency dependency = dependencyMap.get(path);
+        if (dependency == null && dependencyCache != null) {
+            DependencyCache.CachedDependency cached = dependencyCache.getDependency(path, this::getDocument);
+            if (cached != null) {
+                dependency = cached.getDependency();
+                dependencyMap.put(path, dependency);
+                sourcePaths.put(path, cached.getSourcePaths());
+            }
+        }
+        if (dependency != null) {
+            addSources(sourcePaths.getOrDefault(path, Collections.emptySet()));
+        }
+        return dependency;
+    }
+
+    /**
+     * Returns the DOM document of the given artifact. The document is read once per scan, so that all the visitors
+     * of the scan see the same content.
+     *
+     * @param path the absolute path of the artifact
+     * @return the DOM document, or null if the artifact cannot be read
+     */
+    public DOMDocument getDocument(String path) {
+
+        if (documents.containsKey(path)) {
+            return documents.get(path);
+        }
+        DOMDocument document = null;
+        try {
+            document = Utils.getDOMDocument(new File(path));
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Error while reading the artifact file: " + path, e);
+        }
+        documents.put(path, document);
+        return document;
+    }
+
+    /**
+     * Returns true if the given artifact is being visited, i.e. if it is referred by one of its own dependencies.
+     *
+     * @param path the absolute path of the artifact
+     * @return true if the artifact is being visited
+     */
+    public boolean isVisiting(String path) {
+
+        for (Visit visit : visits) {
+            if (visit.path.equals(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Records a reference back to an artifact being visited. The artifacts visited since then are not memoized, as
+     * their subtree is cut at this reference.
+     *
+     * @param path the absolute path of the artifact being visited
+     */
+    public void addCycle(String path) {
+
+        for (Visit visit : visits) {
+            if (visit.path.equals(path)) {
+                break;
+            }
+            visit.complete = false;
+        }
+        addSources(Collections.singleton(path));
+    }
+
+    /**
+     * Starts the visit of the given artifact.
+     *
+     * @param path the absolute path of the artifact
+     */
+    public void startVisit(String path) {
+
+        visits.push(new Visit(path));
+    }
+
+    /**
+     * Ends the visit of the given artifact and records its dependency.
+     *
+     * @param path       the absolute path of the artifact
+     * @param dependency the dependency of the artifact, or null if the visit failed
+     */
+    public void endVisit(String path, Dependency dependency) {
+
+        Visit visit = visits.pop();
+        if (dependency == null) {
+            return;
+        }
+        visit.sources.add(path);
+        addDependency(path, dependency);
+        sourcePaths.put(path, visit.sources);
+        addSources(visit.sources);
+        if (visit.complete && dependencyCache != null) {
+            Map<String, DOMDocument> sources = new HashMap<>();
+            for (String sourcePath : visit.sources) {
+                DOMDocument document = getDocument(sourcePath);
+                if (document == null) {
+                    return;
+                }
+                sources.put(sourcePath, document);
+            }
+            dependencyCache.addDependency(path, dependency, sources);
+        }
+    }
+
+    private void addSources(Set<String> paths) {
+
+        Iterator<Visit> iterator = visits.iterator();
+        if (iterator.hasNext()) {
+            iterator.next().sources.addAll(paths);
+        }
+    }
+
+    private static class Visit {
+
+        private final String path;
+        private final Set<String> sources = new HashSet<>();
+        private boolean complete = true;
+
+        Visit(String path) {
+
+            this.path = path;
+        }
     }
 }
@@ -34,10 +34,24 @@ public class DependencyScanner {
 
     private static final Logger LOGGER = Logger.getLogger(DependencyScanner.class.getName());
     private final String projectPath;
+    private final DependencyCache dependencyCache;
 
     public DependencyScanner(String projectPath) {
 
+        this(projectPath, null);
+    }
+
+    /**
+     * Creates a scanner which reuses the dependencies memoized in the given cache. The scanner can analyze several
+     * artifacts concurrently.
+     *
+     * @param projectPath     the project path
+     * @param dependencyCache the project scoped memo of the dependencies, or null
+     */
+    public DependencyScanner(String projectPath, DependencyCache dependencyCache) {
+
         this.projectPath = projectPath;
+        this.dependencyCache = dependencyCache;
     }
 
     public DependencyTree analyzeArtifact(String artifactPath) {
@@ -63,10 +77,16 @@ public class DependencyScanner {
             dependencyTree.setName(artifactName);
         }
         STNode node = SyntaxTreeGenerator.buildTree(document.getDocumentElement());
-        DependencyVisitorFactory dependencyVisitorFactory = new DependencyVisitorFactory(projectPath);
+        DependencyLookUp dependencyLookUp = new DependencyLookUp(dependencyCache);
+        DependencyVisitorFactory dependencyVisitorFactory = new DependencyVisitorFactory(projectPath, dependencyLookUp);
         AbstractDependencyVisitor visitor = dependencyVisitorFactory.createVisitor(node.getTag(), dependencyTree);
         if (visitor != null) {
-            visitor.visit(node);
+            dependencyLookUp.startVisit(dependencyTree.getPath());
+            try {
+                visitor.visit(node);
+            } finally {
+                dependencyLookUp.endVisit(dependencyTree.getPath(), null);
+            }
             dependencyTree.setType(node.getTag().replaceAll("([a-z])([A-Z])", "$1_$2").toUpperCase());
         }
     }
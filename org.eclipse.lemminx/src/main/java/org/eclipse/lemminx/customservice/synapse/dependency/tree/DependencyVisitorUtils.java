@@ -16,17 +16,20 @@ package org.eclipse.lemminx.customservice.synapse.dependency.tree;
 
 import org.eclipse.lemminx.customservice.synapse.AbstractMediatorVisitor;
 import org.eclipse.lemminx.customservice.synapse.dependency.tree.pojo.Dependency;
+import org.eclipse.lemminx.customservice.synapse.dependency.tree.visitor.AbstractDependencyVisitor;
 import org.eclipse.lemminx.customservice.synapse.dependency.tree.visitor.EndpointVisitor;
 import org.eclipse.lemminx.customservice.synapse.dependency.tree.visitor.MediatorDependencyVisitor;
 import org.eclipse.lemminx.customservice.synapse.dependency.tree.visitor.MessageStoreVisitor;
 import org.eclipse.lemminx.customservice.synapse.dependency.tree.visitor.SequenceVisitor;
 import org.eclipse.lemminx.customservice.synapse.dependency.tree.visitor.TemplateVisitor;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.SyntaxTreeGenerator;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.endpoint.NamedEndpoint;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.Mediator;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.misc.common.Sequence;
 import org.eclipse.lemminx.customservice.synapse.utils.ConfigFinder;
 import org.eclipse.lemminx.customservice.synapse.utils.Constant;
 import org.eclipse.lemminx.customservice.synapse.utils.Utils;
+import org.eclipse.lemminx.dom.DOMDocument;
 
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
@@ -53,14 +56,8 @@ public class DependencyVisitorUtils {
 
         String inSequencePath = DependencyVisitorUtils.getDependencyPath(sequenceName, "sequences", projectPath);
         if (inSequencePath != null) {
-            Dependency dependency = dependencyLookUp.getDependency(sequenceName);
-            if (dependency != null) {
-                return dependency;
-            }
-            SequenceVisitor sequenceVisitor = new SequenceVisitor(projectPath, dependencyLookUp);
-            sequenceVisitor.visit(inSequencePath);
-            return new Dependency(sequenceName, ArtifactType.SEQUENCE, inSequencePath,
-                    sequenceVisitor.getDependencyTree().getDependencyList());
+            return visitArtifact(sequenceName, ArtifactType.SEQUENCE, inSequencePath,
+                    new SequenceVisitor(projectPath, dependencyLookUp), dependencyLookUp);
         }
         return null;
     }
@@ -139,13 +136,8 @@ public class DependencyVisitorUtils {
         if (endpointKey != null) {
             String endpointPath = DependencyVisitorUtils.getDependencyPath(endpointKey, "endpoints", projectPath);
             if (endpointPath != null) {
-                Dependency dependency = dependencyLookUp.getDependency(endpointPath);
-                if (dependency != null) {
-                    return dependency;
-                }
-                endpointVisitor.visit(endpointPath);
-                return new Dependency(endpointKey, ArtifactType.ENDPOINT, endpointPath,
-                        endpointVisitor.getDependencyTree().getDependencyList());
+                return visitArtifact(endpointKey, ArtifactType.ENDPOINT, endpointPath, endpointVisitor,
+                        dependencyLookUp);
             }
         } else {
             UUID uuid = UUID.randomUUID();
@@ -169,14 +161,8 @@ public class DependencyVisitorUtils {
 
         String endpointPath = DependencyVisitorUtils.getDependencyPath(endpoint, "endpoints", projectPath);
         if (endpointPath != null) {
-            Dependency dependency = dependencyLookUp.getDependency(endpointPath);
-            if (dependency != null) {
-                return dependency;
-            }
-            EndpointVisitor endpointVisitor = new EndpointVisitor(projectPath, dependencyLookUp);
-            endpointVisitor.visit(endpointPath);
-            return new Dependency(endpoint, ArtifactType.ENDPOINT, endpointPath,
-                    endpointVisitor.getDependencyTree().getDependencyList());
+            return visitArtifact(endpoint, ArtifactType.ENDPOINT, endpointPath,
+                    new EndpointVisitor(projectPath, dependencyLookUp), dependencyLookUp);
         }
         return null;
     }
@@ -193,14 +179,8 @@ public class DependencyVisitorUtils {
 
         String templatePath = DependencyVisitorUtils.getDependencyPath(template, "templates", projectPath);
         if (templatePath != null) {
-            Dependency dependency = dependencyLookUp.getDependency(templatePath);
-            if (dependency != null) {
-                return dependency;
-            }
-            TemplateVisitor templateVisitor = new TemplateVisitor(projectPath, dependencyLookUp);
-            templateVisitor.visit(templatePath);
-            return new Dependency(template, ArtifactType.TEMPLATE, templatePath,
-                    templateVisitor.getDependencyTree().getDependencyList());
+            return visitArtifact(template, ArtifactType.TEMPLATE, templatePath,
+                    new TemplateVisitor(projectPath, dependencyLookUp), dependencyLookUp);
         }
         return null;
     }
@@ -236,15 +216,44 @@ public class DependencyVisitorUtils {
 
         String path = getDependencyPath(messageStore, "message-stores", projectPath);
         if (path != null) {
-            Dependency dependency = dependencyLookUp.getDependency(path);
-            if (dependency != null) {
-                return dependency;
-            }
-            MessageStoreVisitor messageStoreVisitor = new MessageStoreVisitor(projectPath, dependencyLookUp);
-            messageStoreVisitor.visit(path);
-            return new Dependency(messageStore, ArtifactType.MESSAGE_STORE, path,
-                    messageStoreVisitor.getDependencyTree().getDependencyList());
+            return visitArtifact(messageStore, ArtifactType.MESSAGE_STORE, path,
+                    new MessageStoreVisitor(projectPath, dependencyLookUp), dependencyLookUp);
         }
         return null;
     }
+
+    /**
+     * Visits the referenced artifact and returns its dependency. The dependency is reused if the artifact was already
+     * visited, and an artifact referring back to one of the artifacts being visited is not expanded again.
+     *
+     * @param name             The key of the artifact.
+     * @param type             The type of the artifact.
+     * @param path             The path of the artifact.
+     * @param visitor          The visitor to visit the artifact.
+     * @param dependencyLookUp The lookup table for already visited nodes.
+     * @return The dependency of the artifact.
+     */
+    private static Dependency visitArtifact(String name, ArtifactType type, String path,
+                                            AbstractDependencyVisitor visitor, DependencyLookUp dependencyLookUp) {
+
+        Dependency dependency = dependencyLookUp.getDependency(path);
+        if (dependency != null) {
+            return dependency;
+        }
+        if (dependencyLookUp.isVisiting(path)) {
+            dependencyLookUp.addCycle(path);
+            return new Dependency(name, type, path);
+        }
+        DOMDocument document = dependencyLookUp.getDocument(path);
+        dependencyLookUp.startVisit(path);
+        try {
+            if (document != null) {
+                visitor.visit(SyntaxTreeGenerator.buildTree(document.getDocumentElement()));
+            }
+            dependency = new Dependency(name, type, path, visitor.getDependencyTree().getDependencyList());
+        } finally {
+            dependencyLookUp.endVisit(path, dependency);
+        }
+        return dependency;
+    }
 }
@@ -33,9 +33,11 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class OverviewModelGenerator {
 
+    private static final int PARALLEL_SCAN_THRESHOLD = 8;
     private static int connectionId = 1;
 
     /**
@@ -46,7 +48,19 @@ public class OverviewModelGenerator {
      * @return overview model for the project
      */
     public static OverviewModel getOverviewModel(String projectPath) {
-        List<DependencyTree> dependencyTreeList = new ArrayList<>();
+        return getOverviewModel(projectPath, new DependencyCache());
+    }
+
+    /**
+     * Generate the overview model for the project, reusing the dependencies of the artifacts memoized in the given
+     * cache. The entrypoints are analyzed in parallel when there are many of them.
+     *
+     * @param projectPath absolute path of the project
+     * @param dependencyCache project scoped memo of the dependencies
+     *
+     * @return overview model for the project
+     */
+    public static OverviewModel getOverviewModel(String projectPath, DependencyCache dependencyCache) {
         List<String> types = List.of(Constant.API, Constant.TASK, Constant.INBOUND_DASH_ENDPOINT);
         List<RequestedResource> requiredResources = new ArrayList<>();
         for (String type : types) {
@@ -54,11 +68,15 @@ public class OverviewModelGenerator {
         }
         NewProjectResourceFinder newProjectResourceFinder = new NewProjectResourceFinder();
         ResourceResponse response = newProjectResourceFinder.getAvailableResources(projectPath, Either.forRight(requiredResources));
+        List<String> artifactPaths = new ArrayList<>();
         for (Resource resource : response.getResources()) {
-            DependencyScanner dependencyScanner = new DependencyScanner(projectPath);
-            DependencyTree dependencyTree = dependencyScanner.analyzeArtifact(((ArtifactResource) resource).getAbsolutePath());
-            dependencyTreeList.add(dependencyTree);
+            artifactPaths.add(((ArtifactResource) resource).getAbsolutePath());
         }
+        DependencyScanner dependencyScanner = new DependencyScanner(projectPath, dependencyCache);
+        Stream<String> artifactStream = artifactPaths.size() < PARALLEL_SCAN_THRESHOLD ? artifactPaths.stream() :
+                artifactPaths.parallelStream();
+        List<DependencyTree> dependencyTreeList =
+                artifactStream.map(dependencyScanner::analyzeArtifact).collect(Collectors.toList());
         return convertDataToOverviewModel(Paths.get(projectPath).getFileName().toString(), dependencyTreeList);
     }
 
@@ -38,6 +38,11 @@ public class APIVisitor extends AbstractDependencyVisitor {
         super(dependencyTree, projectPath, new DependencyLookUp());
     }
 
+    public APIVisitor(DependencyTree dependencyTree, String projectPath, DependencyLookUp dependencyLookUp) {
+
+        super(dependencyTree, projectPath, dependencyLookUp);
+    }
+
     @Override
     public void visit(STNode node) {
 
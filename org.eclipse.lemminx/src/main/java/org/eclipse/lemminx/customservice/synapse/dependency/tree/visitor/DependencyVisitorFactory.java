@@ -14,16 +14,24 @@
 
 package org.eclipse.lemminx.customservice.synapse.dependency.tree.visitor;
 
+import org.eclipse.lemminx.customservice.synapse.dependency.tree.DependencyLookUp;
 import org.eclipse.lemminx.customservice.synapse.dependency.tree.pojo.DependencyTree;
 import org.eclipse.lemminx.customservice.synapse.utils.Constant;
 
 public class DependencyVisitorFactory {
 
     private final String projectPath;
+    private final DependencyLookUp dependencyLookUp;
 
     public DependencyVisitorFactory(String projectPath) {
 
+        this(projectPath, new DependencyLookUp());
+    }
+
+    public DependencyVisitorFactory(String projectPath, DependencyLookUp dependencyLookUp) {
+
         this.projectPath = projectPath;
+        this.dependencyLookUp = dependencyLookUp;
     }
 
     /**
@@ -37,25 +45,25 @@ public class DependencyVisitorFactory {
 
         switch (tag) {
             case Constant.API:
-                return new APIVisitor(dependencyTree, projectPath);
+                return new APIVisitor(dependencyTree, projectPath, dependencyLookUp);
             case Constant.ENDPOINT:
-                return new EndpointVisitor(dependencyTree, projectPath);
+                return new EndpointVisitor(dependencyTree, projectPath, dependencyLookUp);
             case Constant.SEQUENCE:
-                return new SequenceVisitor(dependencyTree, projectPath);
+                return new SequenceVisitor(dependencyTree, projectPath, dependencyLookUp);
             case Constant.PROXY:
-                return new ProxyServiceVisitor(dependencyTree, projectPath);
+                return new ProxyServiceVisitor(dependencyTree, projectPath, dependencyLookUp);
             case Constant.INBOUND_ENDPOINT:
-                return new InboundEndpointVisitor(dependencyTree, projectPath);
+                return new InboundEndpointVisitor(dependencyTree, projectPath, dependencyLookUp);
             case Constant.MESSAGE_STORE:
-                return new MessageStoreVisitor(dependencyTree, projectPath);
+                return new MessageStoreVisitor(dependencyTree, projectPath, dependencyLookUp);
             case Constant.MESSAGE_PROCESSOR:
-                return new MessageProcessorVisitor(dependencyTree, projectPath);
+                return new MessageProcessorVisitor(dependencyTree, projectPath, dependencyLookUp);
             case Constant.TASK:
-                return new TaskVisitor(dependencyTree, projectPath);
+                return new TaskVisitor(dependencyTree, projectPath, dependencyLookUp);
             case Constant.LOCAL_ENTRY:
-                return new LocalEntryVisitor(dependencyTree, projectPath);
+                return new LocalEntryVisitor(dependencyTree, projectPath, dependencyLookUp);
             case Constant.TEMPLATE:
-                return new TemplateVisitor(dependencyTree, projectPath);
+                return new TemplateVisitor(dependencyTree, projectPath, dependencyLookUp);
             case Constant.DATA:
                 return new DataServiceVisitor(dependencyTree, projectPath);
             case Constant.DATA_SOURCE:
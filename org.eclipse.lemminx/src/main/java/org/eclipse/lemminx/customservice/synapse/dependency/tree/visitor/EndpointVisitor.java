@@ -48,6 +48,11 @@ public class EndpointVisitor extends AbstractDependencyVisitor {
         super(dependencyTree, projectPath, new DependencyLookUp());
     }
 
+    public EndpointVisitor(DependencyTree dependencyTree, String projectPath, DependencyLookUp dependencyLookUp) {
+
+        super(dependencyTree, projectPath, dependencyLookUp);
+    }
+
     @Override
     public void visit(STNode node) {
 
@@ -30,6 +30,11 @@ public class MessageStoreVisitor extends AbstractDependencyVisitor {
         super(dependencyTree, projectPath, new DependencyLookUp());
     }
 
+    public MessageStoreVisitor(DependencyTree dependencyTree, String projectPath, DependencyLookUp dependencyLookUp) {
+
+        super(dependencyTree, projectPath, dependencyLookUp);
+    }
+
     public MessageStoreVisitor(String projectPath, DependencyLookUp dependencyLookUp) {
 
         super(new DependencyTree(), projectPath, dependencyLookUp);
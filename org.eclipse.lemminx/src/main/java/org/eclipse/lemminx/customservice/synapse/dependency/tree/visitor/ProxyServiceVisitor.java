@@ -36,6 +36,11 @@ public class ProxyServiceVisitor extends AbstractDependencyVisitor {
         super(dependencyTree, projectPath, new DependencyLookUp());
     }
 
+    public ProxyServiceVisitor(DependencyTree dependencyTree, String projectPath, DependencyLookUp dependencyLookUp) {
+
+        super(dependencyTree, projectPath, dependencyLookUp);
+    }
+
     @Override
     public void visit(STNode node) {
 
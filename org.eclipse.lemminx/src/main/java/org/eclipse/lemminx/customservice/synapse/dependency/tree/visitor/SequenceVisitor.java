@@ -34,6 +34,11 @@ public class SequenceVisitor extends AbstractDependencyVisitor {
         super(dependencyTree, projectPath, new DependencyLookUp());
     }
 
+    public SequenceVisitor(DependencyTree dependencyTree, String projectPath, DependencyLookUp dependencyLookUp) {
+
+        super(dependencyTree, projectPath, dependencyLookUp);
+    }
+
     public SequenceVisitor(String projectPath, DependencyLookUp dependencyLookUp) {
 
         super(new DependencyTree(), projectPath, dependencyLookUp);
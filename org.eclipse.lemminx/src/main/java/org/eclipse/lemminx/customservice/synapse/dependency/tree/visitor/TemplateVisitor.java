@@ -30,6 +30,11 @@ public class TemplateVisitor extends AbstractDependencyVisitor {
         super(dependencyTree, projectPath, new DependencyLookUp());
     }
 
+    public TemplateVisitor(DependencyTree dependencyTree, String projectPath, DependencyLookUp dependencyLookUp) {
+
+        super(dependencyTree, projectPath, dependencyLookUp);
+    }
+
     public TemplateVisitor(String projectPath, DependencyLookUp dependencyLookUp) {
 
         super(new DependencyTree(), projectPath, dependencyLookUp);
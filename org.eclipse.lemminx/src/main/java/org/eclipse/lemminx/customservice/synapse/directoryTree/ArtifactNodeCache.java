@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.directoryTree;
+
+import org.eclipse.lemminx.customservice.synapse.directoryTree.node.Node;
+
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of the directory tree nodes created for the artifact files of a project. A cached node is reused only while
+ * the modified time and the size of the file are unchanged.
+ */
+public class ArtifactNodeCache {
+
+    private final Map<String, CachedNode> nodes = new ConcurrentHashMap<>();
+
+    public Node get(File file) {
+
+        CachedNode cached = nodes.get(file.getAbsolutePath());
+        if (cached != null && cached.lastModified == file.lastModified() && cached.size == file.length()) {
+            return cached.node;
+        }
+        return null;
+    }
+
+    public void put(File file, Node node) {
+
+        nodes.put(file.getAbsolutePath(), new CachedNode(node, file.lastModified(), file.length()));
+    }
+
+    /**
+     * Removes the node of the given file, or the nodes of all the files under the given folder.
+     *
+     * @param path the changed file or folder path
+     */
+    public void invalidate(String path) {
+
+        String folderPrefix = path + File.separator;
+        nodes.keySet().removeIf(nodePath -> nodePath.equals(path) || nodePath.startsWith(folderPrefix));
+    }
+
+    public void clear() {
+
+        nodes.clear();
+    }
+
+    public int size() {
+
+        return nodes.size();
+    }
+
+    private static class CachedNode {
+
+        private final Node node;
+        private final long lastModified;
+        private final long size;
+
+        CachedNode(Node node, long lastModified, long size) {
+
+            this.node = node;
+            this.lastModified = lastModified;
+            this.size = size;
+        }
+    }
+}
@@ -40,6 +40,11 @@ public class DirectoryMapResponse {
         this.directoryMap = jsonTree;
     }
 
+    public DirectoryMapResponse(JsonElement directoryMap) {
+
+        this.directoryMap = directoryMap;
+    }
+
     public DirectoryMapResponse(Tree directoryTree) {
 
         Gson gson = new GsonBuilder()
@@ -48,14 +48,14 @@ import org.eclipse.lsp4j.WorkspaceFolder;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.UnsupportedEncodingException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.net.URLDecoder;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -69,25 +69,97 @@ public class DirectoryTreeBuilder {
     private static final String WSO2MI = "wso2mi";
     private static final String RESOURCES = "resources";
     private static final String JAVA = "java";
-    private static String projectPath;
-    private static String mainSequence;
-    private static List<String> artifactResourcePaths = new ArrayList<>();
+    private final ArtifactNodeCache nodeCache;
+    private final Set<String> artifactResourcePaths = new HashSet<>();
+    private String projectPath;
+    private String mainSequence;
+
+    public DirectoryTreeBuilder() {
+
+        this(null);
+    }
+
+    private DirectoryTreeBuilder(ArtifactNodeCache nodeCache) {
+
+        this.nodeCache = nodeCache;
+    }
 
     public static DirectoryMapResponse buildDirectoryTree(WorkspaceFolder projectFolder) {
 
+        return buildDirectoryTree(projectFolder, null);
+    }
+
+    /**
+     * Build the directory tree of the given project, reusing the artifact nodes in the given cache for the files
+     * that are not modified since they were cached.
+     *
+     * @param projectFolder project folder
+     * @param nodeCache     artifact node cache of the project, or null to analyze all the artifacts
+     * @return directory tree of the project
+     */
+    public static DirectoryMapResponse buildDirectoryTree(WorkspaceFolder projectFolder, ArtifactNodeCache nodeCache) {
+
         //Support old project structure
         if (DirectoryTreeUtils.isLegacyProject(projectFolder)) {
             return LegacyDirectoryTreeBuilder.buildDirectoryTree(projectFolder);
         }
-        try {
-            String encodedPath = projectFolder.getUri();
-            if (encodedPath.startsWith(Constant.FILE_PREFIX)) {
-                encodedPath = encodedPath.substring(7);
-            }
-            projectPath = URLDecoder.decode(encodedPath, "UTF-8");
-        } catch (UnsupportedEncodingException e) {
-            LOGGER.log(Level.SEVERE, "Could not decode the file path.", e);
+        return new DirectoryMapResponse(new DirectoryTreeBuilder(nodeCache).build(projectFolder));
+    }
+
+    /**
+     * Build the directory tree model of the given project, reusing the artifact nodes in the given cache for the
+     * files that are not modified since they were cached.
+     *
+     * @param projectFolder project folder
+     * @param nodeCache     artifact node cache of the project
+     * @return directory tree model of the project, or null for legacy projects
+     */
+    static Tree buildTree(WorkspaceFolder projectFolder, ArtifactNodeCache nodeCache) {
+
+        if (DirectoryTreeUtils.isLegacyProject(projectFolder)) {
+            return null;
+        }
+        return new DirectoryTreeBuilder(nodeCache).build(projectFolder);
+    }
+
+    /**
+     * Updates the node of the given artifact file in the given directory tree model. Only the files directly inside
+     * an artifact folder of an integration project are updated in place.
+     *
+     * @param directoryTree directory tree model of the project
+     * @param path          absolute path of the created, changed or deleted file
+     * @param nodeCache     artifact node cache of the project
+     * @return true if the tree is updated, false if the tree has to be built again
+     */
+    static boolean updateArtifact(Tree directoryTree, String path, ArtifactNodeCache nodeCache) {
+
+        if (!(directoryTree instanceof IntegrationDirectoryTree)) {
+            return false;
+        }
+        IntegrationDirectoryTree integrationTree = (IntegrationDirectoryTree) directoryTree;
+        Path artifactsPath = Path.of(integrationTree.projectPath, Constant.SRC, MAIN, WSO2MI, Constant.ARTIFACTS);
+        Path folderPath = Path.of(path).getParent();
+        if (folderPath == null || !artifactsPath.equals(folderPath.getParent())) {
+            return false;
+        }
+        File file = new File(path);
+        if (file.isDirectory()) {
+            return false;
+        }
+        integrationTree.removeArtifact(path);
+        if (file.isFile() && !file.isHidden()) {
+            DirectoryTreeBuilder builder = new DirectoryTreeBuilder(nodeCache);
+            builder.projectPath = integrationTree.projectPath;
+            builder.updateMainSequence();
+            builder.addArtifact(integrationTree, file, getType(folderPath.getFileName().toString()));
         }
+        integrationTree.sort();
+        return true;
+    }
+
+    private Tree build(WorkspaceFolder projectFolder) {
+
+        projectPath = DirectoryTreeUtils.getProjectPath(projectFolder);
         Tree directoryTree = null;
         if (projectPath != null) {
             String projectType = DirectoryTreeUtils.getProjectType(projectPath);
@@ -102,9 +174,7 @@ public class DirectoryTreeBuilder {
                 analyzeDistributionProject((DistributionDirectoryTree) directoryTree);
             }
         }
-
-        DirectoryMapResponse directoryMapResponse = new DirectoryMapResponse(directoryTree);
-        return directoryMapResponse;
+        return directoryTree;
     }
 
     /**
@@ -115,14 +185,26 @@ public class DirectoryTreeBuilder {
      * @return project explorer structure
      */
     public static DirectoryMapResponse getProjectExplorerModel(WorkspaceFolder projectFolder) {
-        DirectoryMapResponse directoryMap = buildDirectoryTree(projectFolder);
-        if (directoryMap.getDirectoryMap() == null) {
+
+        return getProjectExplorerModel(buildDirectoryTree(projectFolder));
+    }
+
+    /**
+     * Generate model for the project explorer from the given directory tree. The given directory tree is not modified.
+     *
+     * @param directoryTree directory tree of the project
+     *
+     * @return project explorer structure
+     */
+    public static DirectoryMapResponse getProjectExplorerModel(DirectoryMapResponse directoryTree) {
+
+        if (directoryTree.getDirectoryMap() == null) {
             LOGGER.log(Level.SEVERE, "Error occurred while building directory tree.");
             return null;
         }
         try {
             ObjectMapper mapper = new ObjectMapper();
-            JsonNode root = mapper.readTree(directoryMap.getDirectoryMap().getAsJsonObject().toString());
+            JsonNode root = mapper.readTree(directoryTree.getDirectoryMap().getAsJsonObject().toString());
             JsonNode artifacts = root.path(Constant.SRC).path(MAIN).path(WSO2MI).path(Constant.ARTIFACTS);
             JsonNode resources = root.path(Constant.SRC).path(MAIN).path(WSO2MI).path(Constant.RESOURCES);
             ObjectNode newArtifacts = mapper.createObjectNode();
@@ -171,8 +253,7 @@ public class DirectoryTreeBuilder {
             ((ObjectNode) root.path(Constant.SRC).path(MAIN).path(WSO2MI)).set(Constant.ARTIFACTS, newArtifacts);
             ObjectMapper objectMapper = new ObjectMapper();
             String jsonNodeAsString = objectMapper.writeValueAsString(root);
-            directoryMap.setDirectoryMap(JsonParser.parseString(jsonNodeAsString));
-            return directoryMap;
+            return new DirectoryMapResponse(JsonParser.parseString(jsonNodeAsString));
 
         } catch (JsonProcessingException e) {
             LOGGER.log(Level.SEVERE, "Error occurred while building the project explorer directory tree.", e);
@@ -225,7 +306,7 @@ public class DirectoryTreeBuilder {
         }
     }
 
-    private static void updateMainSequence() {
+    private void updateMainSequence() {
 
         mainSequence = null;
         Path pomPath = Path.of(projectPath, "pom.xml");
@@ -254,9 +335,9 @@ public class DirectoryTreeBuilder {
         }
     }
 
-    private static void analyzeIntegrationProject(IntegrationDirectoryTree directoryTree) {
+    private void analyzeIntegrationProject(IntegrationDirectoryTree directoryTree) {
 
-        artifactResourcePaths = new ArrayList<>();
+        artifactResourcePaths.clear();
         analyzeArtifacts(directoryTree);
         analyzeResources(directoryTree);
         analyzeJavaProjects(directoryTree);
@@ -264,9 +345,9 @@ public class DirectoryTreeBuilder {
         analyzeTestsFolder(directoryTree);
     }
 
-    private static void analyzeDistributionProject(DistributionDirectoryTree directoryTree) {
+    private void analyzeDistributionProject(DistributionDirectoryTree directoryTree) {
 
-        artifactResourcePaths = new ArrayList<>();
+        artifactResourcePaths.clear();
         File folder = new File(projectPath);
         if (folder != null && folder.exists() && !folder.isHidden()) {
             String folderName = folder.getName();
@@ -277,7 +358,7 @@ public class DirectoryTreeBuilder {
         }
     }
 
-    private static void analyzeArtifacts(IntegrationDirectoryTree directoryTree) {
+    private void analyzeArtifacts(IntegrationDirectoryTree directoryTree) {
 
         String artifactsPath = projectPath + File.separator + Constant.SRC + File.separator + MAIN
                 + File.separator + WSO2MI + File.separator + "artifacts";
@@ -305,31 +386,14 @@ public class DirectoryTreeBuilder {
         return name1;
     }
 
-    private static void analyzeByType(IntegrationDirectoryTree directoryTree, File folder, String type) {
+    private void analyzeByType(IntegrationDirectoryTree directoryTree, File folder, String type) {
 
         try {
             File[] listOfFiles = folder.listFiles();
             if (listOfFiles != null) {
                 for (File file : listOfFiles) {
                     if (file.isFile() && !file.isHidden()) {
-                        String name = file.getName();
-                        String path = file.getAbsolutePath();
-                        Node advancedComponent = createEsbComponent(type, name, path);
-                        if (advancedComponent != null) {
-                            try {
-                                String methodName;
-                                if (advancedComponent instanceof ConnectionNode) {
-                                    methodName = "addConnection";
-                                } else {
-                                    methodName = "add" + type;
-                                }
-                                Method method = directoryTree.getClass().getMethod(methodName, Node.class);
-                                method.invoke(directoryTree, advancedComponent);
-                            } catch (NoSuchMethodException | IllegalArgumentException | IllegalAccessException |
-                                     InvocationTargetException e) {
-                                LOGGER.log(Level.WARNING, "Error while trying to execute method.", e);
-                            }
-                        }
+                        addArtifact(directoryTree, file, type);
                     }
                 }
             }
@@ -338,7 +402,29 @@ public class DirectoryTreeBuilder {
         }
     }
 
-    private static void analyzeResources(IntegrationDirectoryTree directoryTree) {
+    private void addArtifact(IntegrationDirectoryTree directoryTree, File file, String type) {
+
+        String name = file.getName();
+        String path = file.getAbsolutePath();
+        Node advancedComponent = createEsbComponent(type, name, path);
+        if (advancedComponent != null) {
+            try {
+                String methodName;
+                if (advancedComponent instanceof ConnectionNode) {
+                    methodName = "addConnection";
+                } else {
+                    methodName = "add" + type;
+                }
+                Method method = directoryTree.getClass().getMethod(methodName, Node.class);
+                method.invoke(directoryTree, advancedComponent);
+            } catch (NoSuchMethodException | IllegalArgumentException | IllegalAccessException |
+                     InvocationTargetException e) {
+                LOGGER.log(Level.WARNING, "Error while trying to execute method.", e);
+            }
+        }
+    }
+
+    private void analyzeResources(IntegrationDirectoryTree directoryTree) {
 
         analyzeRegistryResources(directoryTree);
         analyzeConnectorResources(directoryTree);
@@ -346,7 +432,7 @@ public class DirectoryTreeBuilder {
         analyzeNewResources(directoryTree);
     }
 
-    private static void analyzeNewResources(IntegrationDirectoryTree directoryTree) {
+    private void analyzeNewResources(IntegrationDirectoryTree directoryTree) {
 
         String registryPath = projectPath + File.separator + Constant.SRC + File.separator +
                 MAIN + File.separator + WSO2MI + File.separator + RESOURCES;
@@ -361,13 +447,13 @@ public class DirectoryTreeBuilder {
         }
     }
 
-    private static void analyzeRegistryResources(IntegrationDirectoryTree directoryTree) {
+    private void analyzeRegistryResources(IntegrationDirectoryTree directoryTree) {
 
         analyzeRegistryByType(directoryTree, Constant.GOV);
         analyzeRegistryByType(directoryTree, Constant.CONF);
     }
 
-    private static void analyzeRegistryByType(IntegrationDirectoryTree directoryTree, String type) {
+    private void analyzeRegistryByType(IntegrationDirectoryTree directoryTree, String type) {
 
         String registryPath = projectPath + File.separator + Constant.SRC + File.separator +
                 MAIN + File.separator + WSO2MI + File.separator + RESOURCES +
@@ -387,7 +473,7 @@ public class DirectoryTreeBuilder {
         }
     }
 
-    private static void analyzeConnectorResources(IntegrationDirectoryTree directoryTree) {
+    private void analyzeConnectorResources(IntegrationDirectoryTree directoryTree) {
 
         String connectorPath = projectPath + File.separator + Constant.SRC + File.separator + MAIN
                 + File.separator + WSO2MI + File.separator + RESOURCES + File.separator + "connectors";
@@ -405,7 +491,7 @@ public class DirectoryTreeBuilder {
         }
     }
 
-    private static void analyzeMetadataResources(IntegrationDirectoryTree directoryTree) {
+    private void analyzeMetadataResources(IntegrationDirectoryTree directoryTree) {
 
         String metadataPath = projectPath + File.separator + Constant.SRC + File.separator + MAIN +
                 File.separator + WSO2MI + File.separator + RESOURCES +
@@ -424,7 +510,7 @@ public class DirectoryTreeBuilder {
         }
     }
 
-    private static void analyzeJavaProjects(IntegrationDirectoryTree directoryTree) {
+    private void analyzeJavaProjects(IntegrationDirectoryTree directoryTree) {
 
         String javaPath =
                 projectPath + File.separator + Constant.SRC + File.separator + MAIN +
@@ -440,7 +526,7 @@ public class DirectoryTreeBuilder {
         }
     }
 
-    private static void analyzeBallerinaProjects(IntegrationDirectoryTree directoryTree) {
+    private void analyzeBallerinaProjects(IntegrationDirectoryTree directoryTree) {
 
         String ballerinaPath = projectPath + File.separator + Constant.SRC + File.separator + MAIN +
                         File.separator + Constant.BALLERINA;
@@ -453,7 +539,7 @@ public class DirectoryTreeBuilder {
         }
     }
 
-    private static void analyzeTestsFolder(IntegrationDirectoryTree directoryTree) {
+    private void analyzeTestsFolder(IntegrationDirectoryTree directoryTree) {
 
         TestFolder testFolder = new TestFolder();
         String testsPath = projectPath + File.separator + Constant.SRC + File.separator + "test";
@@ -462,7 +548,7 @@ public class DirectoryTreeBuilder {
         directoryTree.setTests(testFolder);
     }
 
-    private static void analyzeSubTestFolder(String testPath, String testName, Consumer<FolderNode> setter) {
+    private void analyzeSubTestFolder(String testPath, String testName, Consumer<FolderNode> setter) {
 
         File subFolder = new File(testPath + File.separator + testName);
         if (subFolder != null && subFolder.exists() && !subFolder.isHidden()) {
@@ -473,7 +559,7 @@ public class DirectoryTreeBuilder {
         }
     }
 
-    private static void traverseFolder(FolderNode folderNode, IntegrationDirectoryTree directoryTree) {
+    private void traverseFolder(FolderNode folderNode, IntegrationDirectoryTree directoryTree) {
 
         File[] listOfFiles = folderNode.listFiles();
         for (File file : listOfFiles) {
@@ -505,7 +591,7 @@ public class DirectoryTreeBuilder {
         }
     }
 
-    private static void addResourceToIntegrationTree(IntegrationDirectoryTree directoryTree, String path) {
+    private void addResourceToIntegrationTree(IntegrationDirectoryTree directoryTree, String path) {
 
         if (path.endsWith(".xml")) {
             try {
@@ -531,7 +617,7 @@ public class DirectoryTreeBuilder {
         }
     }
 
-    private static Node createRegistryNode(String name, String type, String path) {
+    private Node createRegistryNode(String name, String type, String path) {
 
         StringBuilder key = new StringBuilder();
         if (path.contains(Constant.GOV)) {
@@ -548,7 +634,22 @@ public class DirectoryTreeBuilder {
         return registry;
     }
 
-    private static Node createEsbComponent(String type, String name, String path) {
+    private Node createEsbComponent(String type, String name, String path) {
+
+        if (nodeCache == null) {
+            return analyzeEsbComponent(type, name, path);
+        }
+        File file = new File(path);
+        Node cached = nodeCache.get(file);
+        if (cached != null) {
+            return cached;
+        }
+        Node component = analyzeEsbComponent(type, name, path);
+        nodeCache.put(file, component);
+        return component;
+    }
+
+    private Node analyzeEsbComponent(String type, String name, String path) {
 
         String artifactName;
         String nodeType = Utils.addUnderscoreBetweenWords(type).toUpperCase();
@@ -613,7 +714,7 @@ public class DirectoryTreeBuilder {
         }
     }
 
-    private static AdvancedNode createAdvancedEsbComponent(Node component, String type, String path) {
+    private AdvancedNode createAdvancedEsbComponent(Node component, String type, String path) {
 
         AdvancedNode advancedNode;
         switch (type.toLowerCase()) {
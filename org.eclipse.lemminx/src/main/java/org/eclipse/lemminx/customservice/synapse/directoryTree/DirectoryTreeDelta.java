@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.directoryTree;
+
+import com.google.gson.JsonElement;
+import org.eclipse.lemminx.customservice.synapse.directoryTree.node.Node;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Changes of a project directory tree since a version known by the client. If the changes since the requested
+ * version are no longer available, the whole directory tree is sent instead.
+ */
+public class DirectoryTreeDelta {
+
+    private long version;
+    private boolean fullTree;
+    private JsonElement directoryMap;
+    private List<Node> artifacts = new ArrayList<>();
+    private List<String> changedPaths = new ArrayList<>();
+    private List<String> removedPaths = new ArrayList<>();
+
+    public DirectoryTreeDelta(long version) {
+
+        this.version = version;
+    }
+
+    public DirectoryTreeDelta(long version, JsonElement directoryMap) {
+
+        this.version = version;
+        this.fullTree = true;
+        this.directoryMap = directoryMap;
+    }
+
+    public long getVersion() {
+
+        return version;
+    }
+
+    public boolean isFullTree() {
+
+        return fullTree;
+    }
+
+    public JsonElement getDirectoryMap() {
+
+        return directoryMap;
+    }
+
+    public List<Node> getArtifacts() {
+
+        return artifacts;
+    }
+
+    public void addArtifact(Node artifact) {
+
+        artifacts.add(artifact);
+    }
+
+    public List<String> getChangedPaths() {
+
+        return changedPaths;
+    }
+
+    public void addChangedPath(String path) {
+
+        changedPaths.add(path);
+    }
+
+    public List<String> getRemovedPaths() {
+
+        return removedPaths;
+    }
+
+    public void addRemovedPath(String path) {
+
+        removedPaths.add(path);
+    }
+}
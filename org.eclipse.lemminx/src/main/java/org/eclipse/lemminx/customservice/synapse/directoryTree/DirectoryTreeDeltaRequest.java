@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.directoryTree;
+
+public class DirectoryTreeDeltaRequest {
+
+    private String projectUri;
+    private long version;
+
+    public DirectoryTreeDeltaRequest(String projectUri, long version) {
+
+        this.projectUri = projectUri;
+        this.version = version;
+    }
+
+    public String getProjectUri() {
+
+        return projectUri;
+    }
+
+    public long getVersion() {
+
+        return version;
+    }
+}
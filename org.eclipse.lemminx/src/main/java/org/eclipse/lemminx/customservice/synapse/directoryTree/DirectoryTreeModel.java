@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.directoryTree;
+
+import org.eclipse.lemminx.customservice.synapse.directoryTree.node.Node;
+import org.eclipse.lemminx.customservice.synapse.directoryTree.utils.DirectoryTreeUtils;
+import org.eclipse.lemminx.customservice.synapse.utils.Constant;
+import org.eclipse.lsp4j.WorkspaceFolder;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Resident directory tree of a workspace folder.
+ * <p>
+ * The tree is built on the first request and is reused until a file of the project changes. When an artifact file is
+ * created, changed or deleted, only the node of that artifact is updated in the tree. On the other changes, the tree
+ * is rebuilt and only the nodes of the changed artifacts are re-created. Each change increments the version of the
+ * model so that clients can request the changes since the version they hold. The initial version is based on the
+ * current time, hence a version held by a client from an earlier server session is never mistaken for a current one.
+ */
+public class DirectoryTreeModel {
+
+    private static final int MAX_CHANGES = 1000;
+
+    private final WorkspaceFolder projectFolder;
+    private final String projectPath;
+    private final ArtifactNodeCache nodeCache = new ArtifactNodeCache();
+    private final NavigableMap<Long, String> changes = new TreeMap<>();
+    private long version = System.currentTimeMillis();
+    private Tree tree;
+    private DirectoryMapResponse directoryTree;
+    private DirectoryMapResponse projectExplorerModel;
+
+    public DirectoryTreeModel(WorkspaceFolder projectFolder) {
+
+        this.projectFolder = projectFolder;
+        this.projectPath = DirectoryTreeUtils.getProjectPath(projectFolder);
+    }
+
+    public synchronized DirectoryMapResponse getDirectoryTree() {
+
+        if (directoryTree == null) {
+            if (tree == null) {
+                tree = DirectoryTreeBuilder.buildTree(projectFolder, nodeCache);
+            }
+            if (tree != null) {
+                directoryTree = new DirectoryMapResponse(tree);
+            } else {
+                directoryTree = DirectoryTreeBuilder.buildDirectoryTree(projectFolder, nodeCache);
+            }
+        }
+        return directoryTree;
+    }
+
+    public synchronized DirectoryMapResponse getProjectExplorerModel() {
+
+        if (projectExplorerModel == null) {
+            projectExplorerModel = DirectoryTreeBuilder.getProjectExplorerModel(getDirectoryTree());
+        }
+        return projectExplorerModel;
+    }
+
+    /**
+     * Checks whether the given path belongs to this project.
+     *
+     * @param path the absolute file path
+     * @return true if the path is inside the project folder
+     */
+    public boolean contains(String path) {
+
+        return projectPath != null && path != null && Path.of(path).startsWith(projectPath);
+    }
+
+    /**
+     * Records a created, changed or deleted file or folder of the project.
+     *
+     * @param path the absolute path of the file or folder
+     */
+    public synchronized void fileChanged(String path) {
+
+        if (Path.of(projectPath, Constant.POM).toString().equals(path)) {
+            // The project type and the main sequence are defined in the pom
+            nodeCache.clear();
+            tree = null;
+        } else {
+            nodeCache.invalidate(path);
+            if (tree != null && !DirectoryTreeBuilder.updateArtifact(tree, path, nodeCache)) {
+                tree = null;
+            }
+        }
+        directoryTree = null;
+        projectExplorerModel = null;
+        version++;
+        changes.put(version, path);
+        while (changes.size() > MAX_CHANGES) {
+            changes.pollFirstEntry();
+        }
+    }
+
+    /**
+     * Returns the changes of the directory tree since the given version. The whole tree is returned if the changes
+     * since the given version are not available.
+     *
+     * @param sinceVersion the version of the tree held by the client
+     * @return the changes since the given version
+     */
+    public synchronized DirectoryTreeDelta getDelta(long sinceVersion) {
+
+        DirectoryMapResponse currentTree = getDirectoryTree();
+        if (sinceVersion == version) {
+            return new DirectoryTreeDelta(version);
+        }
+        if (sinceVersion > version || changes.isEmpty() || sinceVersion + 1 < changes.firstKey()) {
+            return new DirectoryTreeDelta(version, currentTree.getDirectoryMap());
+        }
+        DirectoryTreeDelta delta = new DirectoryTreeDelta(version);
+        Set<String> changedPaths = new LinkedHashSet<>(changes.subMap(sinceVersion, false, version, true).values());
+        for (String path : changedPaths) {
+            File file = new File(path);
+            if (file.exists()) {
+                delta.addChangedPath(path);
+                Node artifact = file.isFile() ? nodeCache.get(file) : null;
+                if (artifact != null) {
+                    delta.addArtifact(artifact);
+                }
+            } else {
+                delta.addRemovedPath(path);
+            }
+        }
+        return delta;
+    }
+
+    public synchronized long getVersion() {
+
+        return version;
+    }
+}
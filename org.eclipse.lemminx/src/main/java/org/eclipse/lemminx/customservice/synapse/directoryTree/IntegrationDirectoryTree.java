@@ -23,6 +23,7 @@ import org.eclipse.lemminx.customservice.synapse.directoryTree.node.TestFolder;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.function.Predicate;
 
 // Directory tree class for integration projects
 public class IntegrationDirectoryTree implements Tree {
@@ -158,6 +159,29 @@ public class IntegrationDirectoryTree implements Tree {
         this.tests = tests;
     }
 
+    /**
+     * Removes the artifact node of the given file.
+     *
+     * @param path absolute path of the artifact file
+     */
+    public void removeArtifact(String path) {
+
+        Predicate<Node> isArtifact = node -> path.equals(node.getPath());
+        apis.removeIf(isArtifact);
+        endpoints.removeIf(isArtifact);
+        inboundEndpoints.removeIf(isArtifact);
+        localEntries.removeIf(isArtifact);
+        messageProcessors.removeIf(isArtifact);
+        messageStores.removeIf(isArtifact);
+        proxyServices.removeIf(isArtifact);
+        sequences.removeIf(isArtifact);
+        tasks.removeIf(isArtifact);
+        templates.removeIf(isArtifact);
+        dataServices.removeIf(isArtifact);
+        dataSources.removeIf(isArtifact);
+        connections.removeIf(isArtifact);
+    }
+
     public void sort() {
 
         apis.sort(Comparator.comparing(Node::getName));
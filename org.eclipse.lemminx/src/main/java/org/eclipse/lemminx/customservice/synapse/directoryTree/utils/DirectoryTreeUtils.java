@@ -23,10 +23,36 @@ import org.eclipse.lsp4j.WorkspaceFolder;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
 import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 public class DirectoryTreeUtils {
 
+    private static final Logger LOGGER = Logger.getLogger(DirectoryTreeUtils.class.getName());
+
+    /**
+     * Get the decoded file system path of the given workspace folder.
+     *
+     * @param workspaceFolder workspace folder
+     * @return project path, or null if the uri cannot be decoded
+     */
+    public static String getProjectPath(WorkspaceFolder workspaceFolder) {
+
+        try {
+            String encodedPath = workspaceFolder.getUri();
+            if (encodedPath.startsWith(Constant.FILE_PREFIX)) {
+                encodedPath = encodedPath.substring(7);
+            }
+            return URLDecoder.decode(encodedPath, "UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            LOGGER.log(Level.SEVERE, "Could not decode the file path.", e);
+        }
+        return null;
+    }
+
     public static boolean isLegacyProject(WorkspaceFolder workspaceFolder) {
 
         String projectFilePath = workspaceFolder.getUri() + File.separator + Constant.DOT_PROJECT;
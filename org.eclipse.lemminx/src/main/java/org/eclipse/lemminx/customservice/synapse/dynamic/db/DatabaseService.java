@@ -16,70 +16,63 @@ package org.eclipse.lemminx.customservice.synapse.dynamic.db;
 
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
-import java.sql.DriverManager;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.apache.commons.lang3.StringUtils;
+import org.eclipse.lemminx.customservice.synapse.db.DBColumn;
+import org.eclipse.lemminx.customservice.synapse.db.DBDataSource;
+import org.eclipse.lemminx.customservice.synapse.db.DBMetadataCache;
 
 public class DatabaseService {
     private static final Logger LOGGER = Logger.getLogger(DatabaseService.class.getName());
 
     private static final String FIELD_TYPE_ATTRIBUTE = "attribute";
     private static final String DYN_PARAM_PREFIX = "dyn_param_";
-    private static final String IS_NULLABLE_COLUMN = "IS_NULLABLE";
     private static final String NULLABLE_NO = "NO";
     private static final String BOOLEAN_TRUE = "true";
     private static final String BOOLEAN_FALSE = "false";
-    private static final String COLUMN_NAME_COLUMN = "COLUMN_NAME";
-    private static final String TYPE_NAME_COLUMN = "TYPE_NAME";
 
     /**
      * Retrieves the columns of a specified table from the database and returns them as a list of DynamicField objects.
-     * @param connectionUrl
-     * @param username
-     * @param password
+     * @param dataSource
+     * @param connection
      * @param table
      * @param fieldName
      * @param markNull
      * @return List<DynamicField> containing the columns of the table.
      */
-    public List<DynamicField> getTableColumns(String connectionUrl, String username, String password, String table,
+    public List<DynamicField> getTableColumns(DBDataSource dataSource, Connection connection, String table,
             String fieldName, boolean markNull) {
         List<DynamicField> fields = new ArrayList<>();
 
-        try (Connection conn = DriverManager.getConnection(connectionUrl, username, password)) {
-            DatabaseMetaData metaData = conn.getMetaData();
+        try {
+            for (DBColumn column : DBMetadataCache.getInstance().getColumns(dataSource, connection, table)) {
+                DynamicField field = new DynamicField();
+                DynamicFieldValue value = new DynamicFieldValue();
 
-            try (ResultSet columns = metaData.getColumns(null, null, table, null)) {
-                while (columns.next()) {
-                    DynamicField field = new DynamicField();
-                    DynamicFieldValue value = new DynamicFieldValue();
+                String columnName = column.getName();
+                String dataType = column.getTypeName();
+                String inputType = mapSqlTypeToInputType(dataType);
+                String xmlSafeColumnName = toXmlSafeName(columnName);
 
-                    String columnName = columns.getString(COLUMN_NAME_COLUMN);
-                    String dataType = columns.getString(TYPE_NAME_COLUMN);
-                    String inputType = mapSqlTypeToInputType(dataType);
-                    String xmlSafeColumnName = toXmlSafeName(columnName);
+                field.setType(FIELD_TYPE_ATTRIBUTE);
+                value.setName(DYN_PARAM_PREFIX + fieldName + "_" + dataType + "_" + xmlSafeColumnName);
+                value.setDisplayName(columnName);
+                value.setInputType(inputType);
 
-                    field.setType(FIELD_TYPE_ATTRIBUTE);
-                    value.setName(DYN_PARAM_PREFIX + fieldName + "_" + dataType + "_" + xmlSafeColumnName);
-                    value.setDisplayName(columnName);
-                    value.setInputType(inputType);
+                // Determine if the column is required
+                boolean isRequiredBasedOnDb = NULLABLE_NO.equals(column.getNullable());
+                value.setRequired(markNull && isRequiredBasedOnDb ? BOOLEAN_TRUE : BOOLEAN_FALSE);
 
-                    // Determine if the column is required
-                    boolean isRequiredBasedOnDb = columns.getString(IS_NULLABLE_COLUMN).equals(NULLABLE_NO);
-                    value.setRequired(markNull && isRequiredBasedOnDb ? BOOLEAN_TRUE : BOOLEAN_FALSE);
+                value.setHelpTip("Column type: " + dataType);
+                value.setPlaceholder("Enter " + columnName);
+                value.setDefaultValue(StringUtils.EMPTY);
 
-                    value.setHelpTip("Column type: " + dataType);
-                    value.setPlaceholder("Enter " + columnName);
-                    value.setDefaultValue(StringUtils.EMPTY);
-
-                    field.setValue(value);
-                    fields.add(field);
-                }
+                field.setValue(value);
+                fields.add(field);
             }
         } catch (SQLException e) {
             LOGGER.log(Level.SEVERE, "Error getting table columns for table: " + table, e);
@@ -91,50 +84,46 @@ public class DatabaseService {
     /**
      * Retrieves the parameters of a specified stored procedure from the database and returns them as a list of
      * DynamicField objects.
-     * @param connectionUrl
-     * @param username
-     * @param password
+     * @param dataSource
+     * @param connection
      * @param procedureName
      * @param fieldName
      * @return List<DynamicField> containing the parameters of the stored procedure.
      */
-    public List<DynamicField> getStoredProcedureParameters(String connectionUrl, String username, String password,
+    public List<DynamicField> getStoredProcedureParameters(DBDataSource dataSource, Connection connection,
             String procedureName, String fieldName) {
         List<DynamicField> fields = new ArrayList<>();
 
-        try (Connection conn = DriverManager.getConnection(connectionUrl, username, password)) {
-            DatabaseMetaData metaData = conn.getMetaData();
-
-            try (ResultSet parameters = metaData.getProcedureColumns(null, null, procedureName, null)) {
-                while (parameters.next()) {
-                    // Skip return value parameter if present (often the first one without a name)
-                    String parameterName = parameters.getString(COLUMN_NAME_COLUMN);
-                    if (StringUtils.isEmpty(parameterName)) {
-                        continue;
-                    }
-
-                    DynamicField field = new DynamicField();
-                    DynamicFieldValue value = new DynamicFieldValue();
-
-                    String dataType = parameters.getString(TYPE_NAME_COLUMN);
-                    String inputType = mapSqlTypeToInputType(dataType);
-                    String xmlSafeParameterName = toXmlSafeName(parameterName);
-
-                    field.setType(FIELD_TYPE_ATTRIBUTE);
-                    value.setName(DYN_PARAM_PREFIX + fieldName + "_" + dataType + "_" + xmlSafeParameterName);
-                    value.setDisplayName(parameterName);
-                    value.setInputType(inputType);
-
-                    value.setRequired(
-                            parameters.getInt("COLUMN_TYPE") == DatabaseMetaData.procedureColumnIn ? BOOLEAN_TRUE
-                                    : BOOLEAN_FALSE);
-                    value.setHelpTip("Parameter type: " + dataType);
-                    value.setPlaceholder("Enter " + parameterName);
-                    value.setDefaultValue(StringUtils.EMPTY);
-
-                    field.setValue(value);
-                    fields.add(field);
+        try {
+            for (DBColumn parameter : DBMetadataCache.getInstance().getProcedureColumns(dataSource, connection,
+                    procedureName)) {
+                // Skip return value parameter if present (often the first one without a name)
+                String parameterName = parameter.getName();
+                if (StringUtils.isEmpty(parameterName)) {
+                    continue;
                 }
+
+                DynamicField field = new DynamicField();
+                DynamicFieldValue value = new DynamicFieldValue();
+
+                String dataType = parameter.getTypeName();
+                String inputType = mapSqlTypeToInputType(dataType);
+                String xmlSafeParameterName = toXmlSafeName(parameterName);
+
+                field.setType(FIELD_TYPE_ATTRIBUTE);
+                value.setName(DYN_PARAM_PREFIX + fieldName + "_" + dataType + "_" + xmlSafeParameterName);
+                value.setDisplayName(parameterName);
+                value.setInputType(inputType);
+
+                value.setRequired(
+                        parameter.getColumnType() == DatabaseMetaData.procedureColumnIn ? BOOLEAN_TRUE
+                                : BOOLEAN_FALSE);
+                value.setHelpTip("Parameter type: " + dataType);
+                value.setPlaceholder("Enter " + parameterName);
+                value.setDefaultValue(StringUtils.EMPTY);
+
+                field.setValue(value);
+                fields.add(field);
             }
         } catch (SQLException e) {
             LOGGER.log(Level.SEVERE, "Error getting stored procedure parameters for procedure: " + procedureName, e);
@@ -15,9 +15,6 @@
 package org.eclipse.lemminx.customservice.synapse.dynamic.db;
 
 import java.sql.Connection;
-import java.sql.DatabaseMetaData;
-import java.sql.DriverManager;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -28,7 +25,9 @@ import java.util.logging.Logger;
 
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.lemminx.customservice.synapse.dataService.QueryGenRequestParams;
-import org.eclipse.lemminx.customservice.synapse.db.DBConnectionTester;
+import org.eclipse.lemminx.customservice.synapse.db.DBConnectionPool;
+import org.eclipse.lemminx.customservice.synapse.db.DBDataSource;
+import org.eclipse.lemminx.customservice.synapse.db.DBMetadataCache;
 
 public class DynamicFieldsHandler {
     private final DatabaseService databaseService;
@@ -82,8 +81,8 @@ public class DynamicFieldsHandler {
                 return response;
             }
 
-            try {
-                Connection connection = DBConnectionTester.getConnection(url, username, password, className);
+            DBDataSource dataSource = new DBDataSource(url, username, password, className);
+            try (Connection connection = DBConnectionPool.getInstance().getConnection(dataSource)) {
 
                 if (connection == null) {
                     log.log(Level.SEVERE, "Failed to establish database connection.");
@@ -100,12 +99,12 @@ public class DynamicFieldsHandler {
                         case OP_INSERT:
                         case OP_EXECUTE_QUERY:
                             boolean markNull = !(OP_SELECT.equals(operationName) || OP_DELETE.equals(operationName));
-                            dynamicData = databaseService.getTableColumns(url, username, password, selectedValue,
+                            dynamicData = databaseService.getTableColumns(dataSource, connection, selectedValue,
                                     fieldName, markNull);
                             break;
                         case OP_CALL:
                         case OP_STORED_PROCEDURE:
-                            dynamicData = databaseService.getStoredProcedureParameters(url, username, password,
+                            dynamicData = databaseService.getStoredProcedureParameters(dataSource, connection,
                                     selectedValue, fieldName);
                             break;
                         default:
@@ -149,14 +148,16 @@ public class DynamicFieldsHandler {
         String password = requestParams.getPassword();
 
         if (url != null && username != null && password != null) {
-            try (Connection conn = DriverManager.getConnection(url, username, password)) {
-                DatabaseMetaData metaData = conn.getMetaData();
-                try (ResultSet rs = metaData.getProcedures(null, null, null)) {
-                    while (rs.next()) {
-                        String procedureName = rs.getString("PROCEDURE_NAME");
-                        procedures.add(procedureName);
-                    }
+            DBDataSource dataSource = new DBDataSource(url, username, password, requestParams.getClassName());
+            if (requestParams.isRefresh()) {
+                DBMetadataCache.getInstance().refresh(dataSource);
+            }
+            try (Connection conn = DBConnectionPool.getInstance().getConnection(dataSource)) {
+                if (conn == null) {
+                    log.log(Level.SEVERE, "Failed to establish database connection.");
+                    return procedures;
                 }
+                procedures.addAll(DBMetadataCache.getInstance().getProcedures(dataSource, conn));
             } catch (SQLException e) {
                 log.log(Level.SEVERE, "Error retrieving stored procedures", e);
             } catch (Exception e) {
@@ -31,6 +31,7 @@ import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.MediatorTr
 import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.Params;
 import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.Properties;
 import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.Property;
+import org.eclipse.lemminx.customservice.synapse.utils.DocumentAccess;
 import org.eclipse.lemminx.customservice.synapse.utils.Utils;
 import org.eclipse.lemminx.dom.DOMDocument;
 import org.eclipse.lemminx.services.extensions.completion.ICompletionRequest;
@@ -71,7 +72,7 @@ public class ExpressionCompletionsProvider {
             try {
                 DOMDocument document = null;
                 if (param.getDocumentUri() != null) {
-                    document = Utils.getDOMDocument(new File(param.getDocumentUri()));
+                    document = DocumentAccess.getInstance().getDocument("expressionCompletion", param.getDocumentUri());
                 }
                 String expressionInput = param.getExpression() != null ? param.getExpression() : StringUtils.EMPTY;
                 String expression = EXPRESSION_PREFIX + expressionInput;
@@ -122,6 +123,12 @@ public class ExpressionCompletionsProvider {
         if (request.getXMLDocument() == null) {
             return null;
         }
+        return MediatorTryoutInfoCache.getInstance().get(request.getXMLDocument(), request.getOffset(),
+                isNewMediator, () -> computeMediatorProperties(request, isNewMediator));
+    }
+
+    private static MediatorTryoutInfo computeMediatorProperties(ICompletionRequest request, boolean isNewMediator) {
+
         String projectPath = getProjectPath(request.getXMLDocument().getDocumentURI());
         ServerLessTryoutHandler serverLessTryoutHandler = new ServerLessTryoutHandler(projectPath);
 
@@ -14,7 +14,6 @@
 
 package org.eclipse.lemminx.customservice.synapse.expression;
 
-import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.DefaultErrorStrategy;
@@ -23,30 +22,153 @@ import org.eclipse.lemminx.util.synapse_expression.ExpressionLexer;
 import org.eclipse.lemminx.util.synapse_expression.ExpressionParser;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
+/**
+ * Validates the syntax of Synapse Expressions.
+ * <p>
+ * Since most of the expressions of a document do not change between edits, the validation results are cached by the
+ * expression text. The lexer and the parser are reused per thread, and the ANTLR DFA cache shared by the parsers is
+ * warmed up at startup.
+ */
 public class ExpressionValidator {
 
+    private static final Logger LOGGER = Logger.getLogger(ExpressionValidator.class.getName());
+    private static final int MAX_CACHED_RESULTS = 2048;
+    private static final String[] WARM_UP_EXPRESSIONS = {
+            "payload.orders[0].price * 2 + vars.total",
+            "vars.count >= 10 and headers[\"Content-Type\"] == \"application/json\"",
+            "exists(payload.name) ? toUpper(payload.name) : 'unknown'",
+            "params.queryParams.id != null or props.synapse.REST_METHOD == 'GET'",
+            "length(payload.items[?(@.price > 10)]) % 2",
+            "subString(configs.endpoint, 0, indexOf(configs.endpoint, \"/\"))",
+            "(vars.a - vars.b) / abs(-1.5)",
+            "payload..name",
+            "vars."
+    };
+
+    private static final Map<String, List<ExpressionError>> RESULT_CACHE =
+            new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, List<ExpressionError>> eldest) {
+
+                    return size() > MAX_CACHED_RESULTS;
+                }
+            };
+    private static final ThreadLocal<ParsePipeline> PARSE_PIPELINE = ThreadLocal.withInitial(ParsePipeline::new);
+    private static final AtomicLong CACHE_HIT_COUNT = new AtomicLong();
+    private static final AtomicLong CACHE_MISS_COUNT = new AtomicLong();
+
     public static List<ExpressionError> validate(String expression) {
 
-        List<ExpressionError> errors = new ArrayList<>();
-        CharStream input = CharStreams.fromString(expression);
-        ExpressionLexer lexer = new ExpressionLexer(input);
-        CommonTokenStream tokens = new CommonTokenStream(lexer);
-        ExpressionParser parser = new ExpressionParser(tokens);
-        parser.setErrorHandler(new DefaultErrorStrategy());
-        parser.removeErrorListeners();
-        SyntaxErrorListener errorListener = new SyntaxErrorListener();
-        parser.addErrorListener(errorListener);
-
-        parser.expression();
-
-        if (errorListener.hasErrors()) {
-            for (ExpressionError err : errorListener.getErrors()) {
-                errors.add(new ExpressionError(expression, err.getLine(), err.getCharPositionInLine(),
-                        err.getMessage(), err.getOffendingSymbol(), err.getException()));
+        synchronized (RESULT_CACHE) {
+            List<ExpressionError> errors = RESULT_CACHE.get(expression);
+            if (errors != null) {
+                CACHE_HIT_COUNT.incrementAndGet();
+                return errors;
             }
         }
+        CACHE_MISS_COUNT.incrementAndGet();
+        List<ExpressionError> errors = Collections.unmodifiableList(PARSE_PIPELINE.get().parse(expression));
+        synchronized (RESULT_CACHE) {
+            RESULT_CACHE.put(expression, errors);
+        }
         return errors;
     }
+
+    /**
+     * Validates all the given expressions, such as the expressions of a document.
+     *
+     * @param expressions the expressions to validate
+     * @return the syntax errors of each expression, in the order of the given expressions
+     */
+    public static List<List<ExpressionError>> validate(List<String> expressions) {
+
+        List<List<ExpressionError>> results = new ArrayList<>(expressions.size());
+        for (String expression : expressions) {
+            results.add(validate(expression));
+        }
+        return results;
+    }
+
+    /**
+     * Parses a set of representative expressions so that the ANTLR DFA cache is populated before the first
+     * validation request.
+     */
+    public static void warmUp() {
+
+        try {
+            ParsePipeline pipeline = new ParsePipeline();
+            for (String expression : WARM_UP_EXPRESSIONS) {
+                pipeline.parse(expression);
+            }
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Error while warming up the expression parser", e);
+        }
+    }
+
+    public static void clearCache() {
+
+        synchronized (RESULT_CACHE) {
+            RESULT_CACHE.clear();
+        }
+    }
+
+    public static long getCacheHitCount() {
+
+        return CACHE_HIT_COUNT.get();
+    }
+
+    public static long getCacheMissCount() {
+
+        return CACHE_MISS_COUNT.get();
+    }
+
+    /**
+     * Lexer and parser that are reset for each input instead of being created per expression.
+     */
+    private static class ParsePipeline {
+
+        private final ExpressionLexer lexer;
+        private final CommonTokenStream tokens;
+        private final ExpressionParser parser;
+        private final SyntaxErrorListener errorListener;
+
+        ParsePipeline() {
+
+            lexer = new ExpressionLexer(CharStreams.fromString(""));
+            tokens = new CommonTokenStream(lexer);
+            parser = new ExpressionParser(tokens);
+            parser.setErrorHandler(new DefaultErrorStrategy());
+            parser.removeErrorListeners();
+            errorListener = new SyntaxErrorListener();
+            parser.addErrorListener(errorListener);
+        }
+
+        List<ExpressionError> parse(String expression) {
+
+            lexer.setInputStream(CharStreams.fromString(expression));
+            tokens.setTokenSource(lexer);
+            parser.setTokenStream(tokens);
+            errorListener.reset();
+
+            parser.expression();
+
+            List<ExpressionError> errors = new ArrayList<>();
+            if (errorListener.hasErrors()) {
+                for (ExpressionError err : errorListener.getErrors()) {
+                    // The recognition exception is dropped, as it holds the parse tree of the expression.
+                    errors.add(new ExpressionError(expression, err.getLine(), err.getCharPositionInLine(),
+                            err.getMessage(), err.getOffendingSymbol(), null));
+                }
+            }
+            return errors;
+        }
+    }
 }
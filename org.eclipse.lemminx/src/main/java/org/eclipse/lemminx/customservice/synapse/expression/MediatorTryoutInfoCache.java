@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.expression;
+
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.MediatorTryoutInfo;
+import org.eclipse.lemminx.customservice.synapse.parser.Constants;
+import org.eclipse.lemminx.customservice.synapse.utils.Utils;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMElement;
+import org.eclipse.lemminx.dom.DOMNode;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Cache of the serverless try-out info used to provide the expression completions at a mediator.
+ * <p>
+ * The info at a mediator depends only on the configuration before the mediator. Hence, an entry is keyed by the
+ * document and the syntactic path to the mediator, and is validated with a fingerprint of the document content
+ * before the mediator. Typing inside the mediator or editing the mediators after it keeps the entry valid. The
+ * document version of an entry is recorded so that repeated requests on the same version skip the fingerprint.
+ * <p>
+ * The info also depends on the saved document, on its try-out payloads and on the configurables of the project, hence
+ * the entries which depend on a project file are removed when the file changes.
+ */
+public class MediatorTryoutInfoCache {
+
+    private static final Logger LOGGER = Logger.getLogger(MediatorTryoutInfoCache.class.getName());
+    private static final int DEFAULT_MAX_ENTRIES = 256;
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final String TRYOUT_DIRECTORY = ".tryout";
+    private static final String JSON_EXTENSION = ".json";
+    private static final MediatorTryoutInfoCache INSTANCE = new MediatorTryoutInfoCache(DEFAULT_MAX_ENTRIES);
+
+    private final Map<String, CachedInfo> entries;
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    public MediatorTryoutInfoCache(int maxEntries) {
+
+        this.entries = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedInfo> eldest) {
+
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public static MediatorTryoutInfoCache getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the try-out info at the given offset of the document, computing it only if the document content before
+     * the mediator changed since the info was cached.
+     *
+     * @param document      the document
+     * @param offset        the offset of the completion request
+     * @param isNewMediator whether the completion is requested for a mediator that is not in the document yet
+     * @param loader        computes the try-out info if it is not cached
+     * @return the try-out info
+     */
+    public MediatorTryoutInfo get(DOMDocument document, int offset, boolean isNewMediator,
+                                  Supplier<MediatorTryoutInfo> loader) {
+
+        DOMNode node = document.findNodeAt(offset);
+        boolean isMediator = !isNewMediator && node instanceof DOMElement;
+        int upstreamEnd = isMediator ? node.getStart() : offset;
+        String key = document.getDocumentURI() + "#" + getMediatorPath(node, isMediator, offset);
+        int version = document.getTextDocument().getVersion();
+
+        synchronized (this) {
+            CachedInfo cachedInfo = entries.get(key);
+            // Versions are only tracked for the documents open in the editor.
+            if (cachedInfo != null && version > 0 && cachedInfo.version == version) {
+                hitCount.incrementAndGet();
+                return cachedInfo.info;
+            }
+        }
+        long fingerprint = getFingerprint(document.getText(), upstreamEnd);
+        synchronized (this) {
+            CachedInfo cachedInfo = entries.get(key);
+            if (cachedInfo != null && cachedInfo.fingerprint == fingerprint) {
+                cachedInfo.version = version;
+                hitCount.incrementAndGet();
+                return cachedInfo.info;
+            }
+        }
+        missCount.incrementAndGet();
+        MediatorTryoutInfo info = loader.get();
+        if (info != null) {
+            synchronized (this) {
+                entries.put(key, new CachedInfo(info, version, fingerprint,
+                        new File(Utils.getAbsolutePath(document.getDocumentURI()))));
+            }
+        }
+        return info;
+    }
+
+    /**
+     * Removes the entries which depend on the given project file, that is the entries of the document saved in the
+     * file, the entries of the document whose try-out payloads are in the file, or all the entries if the file holds
+     * the configurables.
+     *
+     * @param file the created, changed or deleted file
+     */
+    public synchronized void invalidate(File file) {
+
+        String fileName = file.getName();
+        if (Constants.CONFIG_FILE.equals(fileName)) {
+            entries.clear();
+            return;
+        }
+        File parent = file.getParentFile();
+        if (parent != null && TRYOUT_DIRECTORY.equals(parent.getName()) && fileName.endsWith(JSON_EXTENSION)) {
+            String documentName = Utils.getFileName(file);
+            entries.values().removeIf(cachedInfo -> documentName.equals(Utils.getFileName(cachedInfo.document)));
+        } else {
+            entries.values().removeIf(cachedInfo -> file.getAbsoluteFile().equals(cachedInfo.document));
+        }
+    }
+
+    public synchronized void clear() {
+
+        entries.clear();
+    }
+
+    public synchronized int size() {
+
+        return entries.size();
+    }
+
+    public long getHitCount() {
+
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+
+        return missCount.get();
+    }
+
+    public void logStatistics() {
+
+        LOGGER.info(String.format("Mediator try-out info cache: %d hits, %d misses", getHitCount(), getMissCount()));
+    }
+
+    /**
+     * Returns the path of the element names and sibling indexes from the root element to the given mediator. For a
+     * new mediator, the path ends with the number of the elements before the offset in the parent element.
+     */
+    private static String getMediatorPath(DOMNode node, boolean isMediator, int offset) {
+
+        StringBuilder path = new StringBuilder();
+        DOMNode current = node;
+        if (!isMediator) {
+            int index = 0;
+            if (current != null) {
+                for (DOMNode child : current.getChildren()) {
+                    if (child.getEnd() <= offset && child instanceof DOMElement) {
+                        index++;
+                    }
+                }
+            }
+            path.append("/+").append(index);
+        }
+        while (current instanceof DOMElement) {
+            DOMNode parent = current.getParentNode();
+            int index = 0;
+            if (parent != null) {
+                for (DOMNode sibling : parent.getChildren()) {
+                    if (sibling == current) {
+                        break;
+                    }
+                    if (sibling instanceof DOMElement && current.getNodeName().equals(sibling.getNodeName())) {
+                        index++;
+                    }
+                }
+            }
+            path.insert(0, "/" + current.getNodeName() + "[" + index + "]");
+            current = parent;
+        }
+        return path.toString();
+    }
+
+    /**
+     * Computes a 64-bit FNV-1a hash of the document text before the given offset.
+     */
+    private static long getFingerprint(String text, int end) {
+
+        long hash = FNV_OFFSET_BASIS;
+        int length = Math.min(end, text.length());
+        for (int i = 0; i < length; i++) {
+            hash ^= text.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash ^ length;
+    }
+
+    private static class CachedInfo {
+
+        private final MediatorTryoutInfo info;
+        private final long fingerprint;
+        private final File document;
+        private int version;
+
+        CachedInfo(MediatorTryoutInfo info, int version, long fingerprint, File document) {
+
+            this.info = info;
+            this.version = version;
+            this.fingerprint = fingerprint;
+            this.document = document.getAbsoluteFile();
+        }
+    }
+}
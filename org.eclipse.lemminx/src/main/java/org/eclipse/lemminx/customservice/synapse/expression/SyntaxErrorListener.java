@@ -52,6 +52,15 @@ public class SyntaxErrorListener extends BaseErrorListener {
         return Collections.unmodifiableList(errors);
     }
 
+    /**
+     * Clears the captured errors so that the listener can be reused for another input.
+     */
+    public void reset() {
+
+        hasErrors = false;
+        errors.clear();
+    }
+
     @Override
     public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine,
                             String msg, RecognitionException e) {
@@ -32,18 +32,18 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.attribute.BasicFileAttributes;
-import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Stream;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
@@ -57,14 +57,29 @@ public class CAPPCacheManager {
     private static final Logger LOGGER = Logger.getLogger(CAPPCacheManager.class.getName());
     private static final Path TRYOUT_CAPP_BUILD_TEMP =
             Path.of(System.getProperty("user.home")).resolve(".wso2-mi").resolve("tryout_capp_build_temp");
+    private static final Path TRYOUT_CAPP_MANIFEST_LOCATION =
+            Path.of(System.getProperty("user.home")).resolve(".wso2-mi").resolve("tryout_capp_manifest");
+    private static final List<CAPPType> TRYOUT_CAPP_TYPES =
+            List.of(CAPPType.CONNECTOR_AND_CLASS_MEDIATOR, CAPPType.DATA_MAPPER, CAPPType.RESOURCES);
+    private static final Map<String, CAPPCacheManifest> manifests = new ConcurrentHashMap<>();
+    private static final CAPPCacheMetrics metrics = new CAPPCacheMetrics();
     private static ExecutorService executor;
 
-    public static void init() {
+    public static synchronized void init() {
 
-        executor = Executors.newFixedThreadPool(4);
+        if (executor == null || executor.isShutdown()) {
+            executor = Executors.newFixedThreadPool(4);
+        }
     }
 
-    public static void validateCAPPCache(String projectUri) throws ArtifactDeploymentException {
+    /**
+     * Rebuilds the dependency CAPPs of the given project that are out of date. The try-out servers of the pool share
+     * the CAPPs, hence the validations are serialized.
+     *
+     * @param projectUri the project path
+     * @throws ArtifactDeploymentException if a CAPP could not be built
+     */
+    public static synchronized void validateCAPPCache(String projectUri) throws ArtifactDeploymentException {
 
         TRYOUT_CAPP_BUILD_TEMP.toFile().mkdirs();
         validateAllCAPPs(projectUri);
@@ -75,13 +90,38 @@ public class CAPPCacheManager {
 
     private static boolean isCAPPBuildFailed(String projectUri) {
 
-        String projectId = Utils.getHash(projectUri);
-        Path projectCAPPPath = TryOutConstants.CAPP_CACHE_LOCATION.resolve(projectId);
-        if (!Files.exists(projectCAPPPath)) {
-            return Boolean.TRUE;
+        CAPPCacheManifest manifest = getManifest(projectUri);
+        for (CAPPType cappType : TRYOUT_CAPP_TYPES) {
+            if (!manifest.isBuilt(cappType.name()) || getCappPath(projectUri, cappType) == null) {
+                return Boolean.TRUE;
+            }
         }
-        File[] files = projectCAPPPath.toFile().listFiles();
-        return files == null || files.length != 3;
+        return Boolean.FALSE;
+    }
+
+    /**
+     * Records a created, changed or deleted file of the project so that the CAPPs including it are validated again.
+     *
+     * @param projectUri the project path
+     * @param path       the absolute path of the file or folder
+     */
+    public static void fileChanged(String projectUri, String path) {
+
+        CAPPCacheManifest manifest = manifests.get(projectUri);
+        if (manifest != null) {
+            manifest.fileChanged(Path.of(path));
+        }
+    }
+
+    public static CAPPCacheMetrics getMetrics() {
+
+        return metrics;
+    }
+
+    private static CAPPCacheManifest getManifest(String projectUri) {
+
+        return manifests.computeIfAbsent(projectUri, uri -> new CAPPCacheManifest(Path.of(uri),
+                TRYOUT_CAPP_MANIFEST_LOCATION.resolve(Utils.getHash(uri) + ".json")));
     }
 
     private static void validateAllCAPPs(String projectUri) {
@@ -123,15 +163,16 @@ public class CAPPCacheManager {
 
     private static void validateResourcesCAPP(String projectUri) {
 
-        String resourcesPath = TryOutConstants.PROJECT_RESOURCES_RELATIVE_PATH.toString();
         List<String> includePaths = new ArrayList<>();
-        File resourcesFolder = new File(resourcesPath);
+        File resourcesFolder = Path.of(projectUri).resolve(TryOutConstants.PROJECT_RESOURCES_RELATIVE_PATH).toFile();
         File[] resourcesFolders = resourcesFolder.listFiles();
         if (resourcesFolders != null) {
+            Arrays.sort(resourcesFolders);
             for (File file : resourcesFolders) {
                 if (!"datamapper".equals(file.getName()) && !"connectors".equals(file.getName()) &&
                         !"api-definitions".equals(file.getName())) {
-                    includePaths.add(file.getPath());
+                    includePaths.add(TryOutConstants.PROJECT_RESOURCES_RELATIVE_PATH.resolve(file.getName())
+                            .toString());
                 }
             }
         }
@@ -140,31 +181,38 @@ public class CAPPCacheManager {
 
     private static void validateCAPPByType(String projectUri, List<String> includePaths, CAPPType cappType) {
 
+        CAPPCacheManifest manifest = getManifest(projectUri);
         try {
-            if (!isValidCache(projectUri, includePaths, cappType)) {
-                LOGGER.info(cappType.name() + " CAPP cache is invalid. Rebuilding the CAPP.");
-                buildDependencyCAPP(projectUri, includePaths, cappType);
+            CAPPCacheManifest.ChangeReason reason = getChangeReason(projectUri, includePaths, cappType, manifest);
+            if (reason == null) {
+                metrics.recordCacheHit();
+                return;
             }
+            LOGGER.info(String.format("%s CAPP cache is invalid (%s). Rebuilding the CAPP.", cappType.name(), reason));
+            long start = System.currentTimeMillis();
+            manifest.markBuilding(cappType.name());
+            Path cappPath = getCappPath(projectUri, cappType);
+            if (cappPath != null) {
+                Files.deleteIfExists(cappPath);
+            }
+            buildDependencyCAPP(projectUri, includePaths, cappType);
+            manifest.markBuilt(cappType.name());
+            long duration = System.currentTimeMillis() - start;
+            metrics.recordRebuild(cappType.name(), reason, duration);
+            LOGGER.info(String.format("%s CAPP rebuilt in %d ms", cappType.name(), duration));
         } catch (IOException | ArtifactDeploymentException e) {
             LOGGER.log(Level.SEVERE, String.format("Error validating %s CAPP cache", cappType.name()), e);
         }
     }
 
-    private static boolean isValidCache(String projectUri, List<String> includePaths, CAPPType cappType)
-            throws IOException {
+    private static CAPPCacheManifest.ChangeReason getChangeReason(String projectUri, List<String> includePaths,
+                                                                  CAPPType cappType, CAPPCacheManifest manifest) {
 
-        Path projectPath = Path.of(projectUri);
-        Path capppath = getCappPath(projectUri, cappType);
-        if (capppath == null) {
-            return Boolean.FALSE;
-        }
-        FileTime cappCreatedTime = Files.getLastModifiedTime(capppath);
-        for (String includePath : includePaths) {
-            if (checkFileChanges(projectPath.resolve(includePath), cappCreatedTime)) {
-                return Boolean.FALSE;
-            }
+        CAPPCacheManifest.ChangeReason reason = manifest.validate(cappType.name(), includePaths);
+        if (reason == null && getCappPath(projectUri, cappType) == null) {
+            return CAPPCacheManifest.ChangeReason.CAPP_MISSING;
         }
-        return Boolean.TRUE;
+        return reason;
     }
 
     private static Path getCappPath(String projectUri, CAPPType cappType) {
@@ -186,40 +234,6 @@ public class CAPPCacheManager {
         return null;
     }
 
-    private static boolean checkFileChanges(Path pathToCheck, FileTime cappCreatedTime) {
-
-        try {
-            if (!Files.exists(pathToCheck)) {
-                return Boolean.FALSE;
-            }
-
-            if (!Files.isDirectory(pathToCheck)) {
-                FileTime lastModifiedTime = Files.getLastModifiedTime(pathToCheck);
-                return lastModifiedTime.compareTo(cappCreatedTime) > 0;
-            }
-
-            // Walk through all files in the directory and its subdirectories
-            try (Stream<Path> walk = Files.walk(pathToCheck)) {
-                return walk
-                        .filter(Files::isRegularFile)
-                        .anyMatch(file -> {
-                            try {
-                                FileTime lastModifiedTime =
-                                        Files.readAttributes(file, BasicFileAttributes.class).lastModifiedTime();
-                                return lastModifiedTime.compareTo(cappCreatedTime) > 0;
-                            } catch (IOException e) {
-                                LOGGER.log(Level.SEVERE, String.format("Error reading file attributes for: %s", file),
-                                        e);
-                                return Boolean.TRUE;
-                            }
-                        });
-            }
-        } catch (IOException e) {
-            LOGGER.log(Level.SEVERE, String.format("Error walking directory: %s", pathToCheck), e);
-            return Boolean.TRUE;
-        }
-    }
-
     private static void buildDependencyCAPP(String projectUri, List<String> includePaths, CAPPType cappType)
             throws IOException, ArtifactDeploymentException {
 
@@ -318,6 +332,7 @@ public class CAPPCacheManager {
 
     public static void shutdown() {
 
+        LOGGER.info("CAPP cache metrics: " + metrics);
         if (executor != null && !executor.isTerminated()) {
             executor.shutdown();
         }
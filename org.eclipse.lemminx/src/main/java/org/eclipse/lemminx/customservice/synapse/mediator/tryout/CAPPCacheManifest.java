@@ -0,0 +1,352 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.mediator.tryout;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.reflect.TypeToken;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Manifest of the content hashes of the files that were included in each cached dependency CAPP of a project.
+ * <p>
+ * A CAPP is rebuilt only when the content of its files differs from the content it was built with, so touching a
+ * file or checking out the same content does not invalidate the cache. The project files are hashed once per session.
+ * After that, only the paths reported through {@link #fileChanged(Path)} are hashed again. A file is hashed again only
+ * if its modified time or size differs from the recorded values.
+ */
+public class CAPPCacheManifest {
+
+    private static final Logger LOGGER = Logger.getLogger(CAPPCacheManifest.class.getName());
+    private static final Type MANIFEST_TYPE = new TypeToken<Map<String, Map<String, FileEntry>>>() {
+    }.getType();
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Path projectPath;
+    private final Path manifestPath;
+    private final Map<String, CAPPState> states = new ConcurrentHashMap<>();
+
+    public CAPPCacheManifest(Path projectPath, Path manifestPath) {
+
+        this.projectPath = projectPath;
+        this.manifestPath = manifestPath;
+        load();
+    }
+
+    /**
+     * Checks whether the given CAPP has to be rebuilt.
+     *
+     * @param cappType     the CAPP type
+     * @param includePaths the project relative paths included in the CAPP
+     * @return the reason to rebuild the CAPP, or null if the cached CAPP is up to date
+     */
+    public ChangeReason validate(String cappType, List<String> includePaths) {
+
+        CAPPState state = getState(cappType);
+        ChangeReason reason;
+        boolean timesChanged = false;
+        synchronized (state) {
+            if (state.current == null || !includePaths.equals(state.includePaths)) {
+                state.includePaths = new ArrayList<>(includePaths);
+                state.dirtyPaths.clear();
+                state.current = scan(includePaths, state.built);
+            } else if (!state.dirtyPaths.isEmpty()) {
+                applyDirtyPaths(state);
+            }
+            if (state.built == null) {
+                return ChangeReason.NOT_BUILT;
+            }
+            reason = compare(state.built, state.current);
+            if (reason == null && !state.built.equals(state.current)) {
+                // Only the modified times changed. Record them to avoid hashing the files in the next session.
+                state.built = new HashMap<>(state.current);
+                timesChanged = true;
+            }
+        }
+        if (timesChanged) {
+            save();
+        }
+        return reason;
+    }
+
+    /**
+     * Marks the given CAPP as being rebuilt. The CAPP is considered not built until {@link #markBuilt(String)} is
+     * called, so a failed build is detected in the next validation.
+     *
+     * @param cappType the CAPP type
+     */
+    public void markBuilding(String cappType) {
+
+        CAPPState state = getState(cappType);
+        synchronized (state) {
+            state.built = null;
+        }
+        save();
+    }
+
+    /**
+     * Records the files of the last validation as the content of the given CAPP.
+     *
+     * @param cappType the CAPP type
+     */
+    public void markBuilt(String cappType) {
+
+        CAPPState state = getState(cappType);
+        synchronized (state) {
+            state.built = state.current != null ? new HashMap<>(state.current) : null;
+        }
+        save();
+    }
+
+    public boolean isBuilt(String cappType) {
+
+        CAPPState state = getState(cappType);
+        synchronized (state) {
+            return state.built != null;
+        }
+    }
+
+    /**
+     * Records a created, changed or deleted file or folder, to be checked in the next validation.
+     *
+     * @param path the absolute path of the file or folder
+     */
+    public void fileChanged(Path path) {
+
+        if (!path.startsWith(projectPath)) {
+            return;
+        }
+        for (CAPPState state : states.values()) {
+            synchronized (state) {
+                if (state.current != null) {
+                    state.dirtyPaths.add(path);
+                }
+            }
+        }
+    }
+
+    private CAPPState getState(String cappType) {
+
+        return states.computeIfAbsent(cappType, key -> new CAPPState());
+    }
+
+    private Map<String, FileEntry> scan(List<String> includePaths, Map<String, FileEntry> previous) {
+
+        Map<String, FileEntry> files = new HashMap<>();
+        for (String includePath : includePaths) {
+            addFiles(projectPath.resolve(includePath), files, previous);
+        }
+        return files;
+    }
+
+    private void applyDirtyPaths(CAPPState state) {
+
+        Map<String, FileEntry> previous = state.current;
+        Map<String, FileEntry> files = new HashMap<>(previous);
+        Set<Path> rescanPaths = new HashSet<>();
+        for (Path dirtyPath : state.dirtyPaths) {
+            String relativePath = getRelativePath(dirtyPath);
+            String folderPrefix = relativePath + File.separator;
+            files.keySet().removeIf(path -> path.equals(relativePath) || path.startsWith(folderPrefix));
+            for (String includePath : state.includePaths) {
+                Path includedPath = projectPath.resolve(includePath);
+                if (dirtyPath.startsWith(includedPath)) {
+                    rescanPaths.add(dirtyPath);
+                } else if (includedPath.startsWith(dirtyPath)) {
+                    rescanPaths.add(includedPath);
+                }
+            }
+        }
+        for (Path rescanPath : rescanPaths) {
+            addFiles(rescanPath, files, previous);
+        }
+        state.dirtyPaths.clear();
+        state.current = files;
+    }
+
+    private void addFiles(Path path, Map<String, FileEntry> files, Map<String, FileEntry> previous) {
+
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (Stream<Path> walk = Files.walk(path)) {
+            for (Path file : walk.filter(Files::isRegularFile).collect(Collectors.toList())) {
+                String relativePath = getRelativePath(file);
+                files.put(relativePath, createEntry(file, previous != null ? previous.get(relativePath) : null));
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, String.format("Error while reading the files in: %s", path), e);
+        }
+    }
+
+    private FileEntry createEntry(Path file, FileEntry previous) throws IOException {
+
+        long lastModified = Files.getLastModifiedTime(file).toMillis();
+        long size = Files.size(file);
+        if (previous != null && previous.lastModified == lastModified && previous.size == size) {
+            return previous;
+        }
+        return new FileEntry(getContentHash(file), lastModified, size);
+    }
+
+    private static ChangeReason compare(Map<String, FileEntry> built, Map<String, FileEntry> current) {
+
+        if (!current.keySet().containsAll(built.keySet())) {
+            return ChangeReason.FILES_REMOVED;
+        }
+        if (!built.keySet().containsAll(current.keySet())) {
+            return ChangeReason.FILES_ADDED;
+        }
+        for (Map.Entry<String, FileEntry> entry : built.entrySet()) {
+            if (!entry.getValue().hash.equals(current.get(entry.getKey()).hash)) {
+                return ChangeReason.CONTENT_CHANGED;
+            }
+        }
+        return null;
+    }
+
+    private String getRelativePath(Path path) {
+
+        return projectPath.relativize(path).toString();
+    }
+
+    private static String getContentHash(Path file) throws IOException {
+
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return new BigInteger(1, digest.digest()).toString(16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException("Error while creating the content hash of: " + file, e);
+        }
+    }
+
+    private void load() {
+
+        if (!Files.exists(manifestPath)) {
+            return;
+        }
+        try (Reader reader = Files.newBufferedReader(manifestPath, StandardCharsets.UTF_8)) {
+            Map<String, Map<String, FileEntry>> manifest = new Gson().fromJson(reader, MANIFEST_TYPE);
+            if (manifest != null) {
+                manifest.forEach((cappType, files) -> getState(cappType).built = files);
+            }
+        } catch (IOException | JsonSyntaxException e) {
+            LOGGER.log(Level.WARNING, "Error while reading the CAPP cache manifest. Rebuilding the CAPPs.", e);
+        }
+    }
+
+    private synchronized void save() {
+
+        Map<String, Map<String, FileEntry>> manifest = new HashMap<>();
+        states.forEach((cappType, state) -> {
+            synchronized (state) {
+                if (state.built != null) {
+                    manifest.put(cappType, new HashMap<>(state.built));
+                }
+            }
+        });
+        try {
+            Files.createDirectories(manifestPath.getParent());
+            try (Writer writer = Files.newBufferedWriter(manifestPath, StandardCharsets.UTF_8)) {
+                new Gson().toJson(manifest, MANIFEST_TYPE, writer);
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Error while writing the CAPP cache manifest", e);
+        }
+    }
+
+    /**
+     * Reasons to rebuild a cached CAPP.
+     */
+    public enum ChangeReason {
+
+        CAPP_MISSING,
+        NOT_BUILT,
+        FILES_ADDED,
+        FILES_REMOVED,
+        CONTENT_CHANGED
+    }
+
+    private static class CAPPState {
+
+        private Map<String, FileEntry> built;
+        private Map<String, FileEntry> current;
+        private List<String> includePaths;
+        private final Set<Path> dirtyPaths = new HashSet<>();
+    }
+
+    private static class FileEntry {
+
+        private final String hash;
+        private final long lastModified;
+        private final long size;
+
+        FileEntry(String hash, long lastModified, long size) {
+
+            this.hash = hash;
+            this.lastModified = lastModified;
+            this.size = size;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            FileEntry fileEntry = (FileEntry) o;
+            return lastModified == fileEntry.lastModified && size == fileEntry.size &&
+                    Objects.equals(hash, fileEntry.hash);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return Objects.hash(hash, lastModified, size);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.mediator.tryout;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters of the dependency CAPP cache validations, the reasons of the CAPP rebuilds and the time spent on them.
+ */
+public class CAPPCacheMetrics {
+
+    private final AtomicLong cacheHitCount = new AtomicLong();
+    private final Map<CAPPCacheManifest.ChangeReason, AtomicLong> rebuildCounts = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> rebuildTimes = new ConcurrentHashMap<>();
+    private final Map<String, Long> lastRebuildTimes = new ConcurrentHashMap<>();
+
+    public void recordCacheHit() {
+
+        cacheHitCount.incrementAndGet();
+    }
+
+    public void recordRebuild(String cappType, CAPPCacheManifest.ChangeReason reason, long duration) {
+
+        rebuildCounts.computeIfAbsent(reason, key -> new AtomicLong()).incrementAndGet();
+        rebuildTimes.computeIfAbsent(cappType, key -> new AtomicLong()).addAndGet(duration);
+        lastRebuildTimes.put(cappType, duration);
+    }
+
+    public long getCacheHitCount() {
+
+        return cacheHitCount.get();
+    }
+
+    public long getRebuildCount(CAPPCacheManifest.ChangeReason reason) {
+
+        AtomicLong count = rebuildCounts.get(reason);
+        return count != null ? count.get() : 0;
+    }
+
+    /**
+     * Returns the total time spent on rebuilding the given CAPP type.
+     *
+     * @param cappType the CAPP type
+     * @return the total rebuild time in milliseconds
+     */
+    public long getTotalRebuildTime(String cappType) {
+
+        AtomicLong time = rebuildTimes.get(cappType);
+        return time != null ? time.get() : 0;
+    }
+
+    /**
+     * Returns the time spent on the last rebuild of the given CAPP type.
+     *
+     * @param cappType the CAPP type
+     * @return the last rebuild time in milliseconds
+     */
+    public long getLastRebuildTime(String cappType) {
+
+        return lastRebuildTimes.getOrDefault(cappType, 0L);
+    }
+
+    @Override
+    public String toString() {
+
+        return "CAPPCacheMetrics{" +
+                "cacheHits=" + cacheHitCount +
+                ", rebuildReasons=" + rebuildCounts +
+                ", rebuildTimes=" + rebuildTimes +
+                '}';
+    }
+}
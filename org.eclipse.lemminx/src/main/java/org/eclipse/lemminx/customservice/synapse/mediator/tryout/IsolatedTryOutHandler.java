@@ -35,21 +35,17 @@ import java.util.UUID;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import static org.eclipse.lemminx.customservice.synapse.mediator.TryOutConstants.TEMP_FOLDER_PATH;
-
 public class IsolatedTryOutHandler {
 
     private static final Logger LOGGER = Logger.getLogger(IsolatedTryOutHandler.class.getName());
     private String projectRoot;
-    private final TryOutHandler tryOutHandler;
 
-    public IsolatedTryOutHandler(TryOutHandler tryOutHandler, String projectRoot) {
+    public IsolatedTryOutHandler(String projectRoot) {
 
-        this.tryOutHandler = tryOutHandler;
         this.projectRoot = projectRoot;
     }
 
-    public MediatorTryoutInfo tryOut(MediatorTryoutRequest request) {
+    public MediatorTryoutInfo tryOut(MediatorTryoutRequest request, TryOutHandler tryOutHandler) {
 
         String mediatorString = request.getEdits()[0].getText();
         DOMDocument dom = Utils.getDOMDocument(mediatorString);
@@ -61,7 +57,8 @@ public class IsolatedTryOutHandler {
         if (mediator == null) {
             return new MediatorTryoutInfo("Invalid mediator content");
         }
-        String tempProjectPath = TEMP_FOLDER_PATH.resolve(mediator.getTag() + "_" + UUID.randomUUID()).toString();
+        String tempProjectPath =
+                tryOutHandler.getTempFolderPath().resolve(mediator.getTag() + "_" + UUID.randomUUID()).toString();
         String tryoutApi;
         try {
             tryoutApi = TryOutUtils.createAPI(mediator, tempProjectPath);
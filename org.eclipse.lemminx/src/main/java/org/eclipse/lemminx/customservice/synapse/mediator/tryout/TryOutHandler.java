@@ -17,7 +17,6 @@ package org.eclipse.lemminx.customservice.synapse.mediator.tryout;
 import com.google.gson.JsonObject;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.lemminx.commons.BadLocationException;
-import org.eclipse.lemminx.customservice.SynapseLanguageClientAPI;
 import org.eclipse.lemminx.customservice.synapse.debugger.DebuggerHelper;
 import org.eclipse.lemminx.customservice.synapse.debugger.entity.Breakpoint;
 import org.eclipse.lemminx.customservice.synapse.debugger.entity.StepOverInfo;
@@ -67,8 +66,6 @@ import java.util.UUID;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import static org.eclipse.lemminx.customservice.synapse.mediator.TryOutConstants.TEMP_FOLDER_PATH;
-
 public class TryOutHandler {
 
     private static final Logger LOGGER = Logger.getLogger(TryOutHandler.class.getName());
@@ -79,6 +76,7 @@ public class TryOutHandler {
     private final Object lock;
     private final String projectUri;
     private final MIServer server;
+    private final Path tempFolderPath;
     private DebugCommandClient commandClient;
     private DebugEventClient eventClient;
     private BreakpointEventProcessor breakpointEventProcessor;
@@ -88,11 +86,19 @@ public class TryOutHandler {
     private boolean isFault = false;
     private MediatorInfo currentInputInfo;
 
-    public TryOutHandler(String projectUri, String miServerPath, SynapseLanguageClientAPI languageClient) {
+    /**
+     * Creates a try-out handler that runs the try-outs in the given server.
+     *
+     * @param projectUri     the project path
+     * @param server         the MI server to run the try-outs in
+     * @param tempFolderPath the folder to prepare the try-out projects in, used only by this handler
+     */
+    public TryOutHandler(String projectUri, MIServer server, Path tempFolderPath) {
 
         this.projectUri = projectUri;
         this.lock = new Object();
-        server = new MIServer(Path.of(miServerPath), projectUri, languageClient);
+        this.server = server;
+        this.tempFolderPath = tempFolderPath;
         activeBreakpoints = new ArrayList<>();
     }
 
@@ -100,9 +106,9 @@ public class TryOutHandler {
 
         CAPPCacheManager.init();
         server.startServer();
-        commandClient = new DebugCommandClient();
+        commandClient = new DebugCommandClient(server.getDebuggerCommandPort());
         breakpointEventProcessor = new BreakpointEventProcessor(commandClient, lock, activeBreakpoints);
-        eventClient = new DebugEventClient(breakpointEventProcessor);
+        eventClient = new DebugEventClient(breakpointEventProcessor, server.getDebuggerEventPort());
         commandClient.connect();
         eventClient.connect();
         eventClient.start();
@@ -112,6 +118,9 @@ public class TryOutHandler {
 
     /**
      * Executes the artifact that the mediator belongs to and returns the input and output info of the mediator.
+     * <p>
+     * The try-outs of a handler are serialized since they share the debugger of the server. Try-outs of different
+     * documents run concurrently when they are served by different handlers.
      *
      * @param request
      * @return
@@ -119,12 +128,9 @@ public class TryOutHandler {
      */
     public synchronized MediatorTryoutInfo handle(MediatorTryoutRequest request) {
 
-        if (!server.isStarted()) {
-            if (server.isServerRunning()) {
-                return new MediatorTryoutInfo(TryOutConstants.SERVER_ALREADY_IN_USE_ERROR);
-            }
-            LOGGER.info("Initializing the try-out feature");
-            init();
+        MediatorTryoutInfo initFailure = initIfRequired();
+        if (initFailure != null) {
+            return initFailure;
         }
         if (isFault) {
             return new MediatorTryoutInfo(TryOutConstants.TRYOUT_NOT_ACTIVATED_ERROR);
@@ -138,6 +144,25 @@ public class TryOutHandler {
         return resumeTryOut(request);
     }
 
+    /**
+     * Initializes the handler if the server is not started or the debugger clients are not connected yet. The server
+     * may already be started in the background by the server pool.
+     *
+     * @return the error info if the server port is used by another server, or null otherwise
+     */
+    private MediatorTryoutInfo initIfRequired() {
+
+        if (server.isStarted() && commandClient != null) {
+            return null;
+        }
+        if (!server.isStarted() && !server.isStarting() && server.isServerRunning()) {
+            return new MediatorTryoutInfo(TryOutConstants.SERVER_ALREADY_IN_USE_ERROR);
+        }
+        LOGGER.info("Initializing the try-out feature");
+        init();
+        return null;
+    }
+
     private boolean isCompleteTryOut(MediatorTryoutRequest request) {
 
         return request.getMediatorInfo() != null && currentTryoutID == null;
@@ -164,7 +189,7 @@ public class TryOutHandler {
             if (!useSameCAPP) {
                 reset();
                 CAPPCacheManager.validateCAPPCache(projectUri);
-                Path editFilePath = TryOutUtils.cloneAndPreprocessProject(projectUri, request, TEMP_FOLDER_PATH);
+                Path editFilePath = TryOutUtils.cloneAndPreprocessProject(projectUri, request, tempFolderPath);
                 boolean needStepOver = checkNeedStepOver(request, editFilePath);
 
                 String serviceUrl = null;
@@ -174,7 +199,7 @@ public class TryOutHandler {
                     serviceUrl = createApiForSequenceInvocation(request);
                     serviceMethod = TryOutConstants.POST;
                 }
-                server.deployProject(TEMP_FOLDER_PATH.toString(), projectUri);
+                server.deployProject(tempFolderPath.toString(), projectUri);
 
                 // Get the mediator info
                 registerBreakpoints(request, editFilePath);
@@ -288,15 +313,12 @@ public class TryOutHandler {
      * @param request
      * @return
      */
-    public MediatorTryoutInfo handleIsolatedTryOut(String projectPath, MediatorTryoutRequest request,
-                                                   boolean useSameCAPP, Properties context) {
+    public synchronized MediatorTryoutInfo handleIsolatedTryOut(String projectPath, MediatorTryoutRequest request,
+                                                                boolean useSameCAPP, Properties context) {
 
-        if (!server.isStarted()) {
-            if (server.isServerRunning()) {
-                return new MediatorTryoutInfo(TryOutConstants.SERVER_ALREADY_IN_USE_ERROR);
-            }
-            LOGGER.info("Initializing the try-out feature");
-            init();
+        MediatorTryoutInfo initFailure = initIfRequired();
+        if (initFailure != null) {
+            return initFailure;
         }
         try {
             eventClient.clearEventQueue();
@@ -341,6 +363,7 @@ public class TryOutHandler {
         } finally {
             if ("true".equals(context.get(TryOutConstants.POST_CLEANUP))) {
                 reset();
+                server.deleteDeployedFiles();
             } else {
                 resumeTryOutAndDiscard();
             }
@@ -541,7 +564,7 @@ public class TryOutHandler {
                         return null;
                 }
                 String apiContent = APISerializer.serializeAPI(api);
-                Path apiPath = Path.of(TEMP_FOLDER_PATH.toString()).resolve(TryOutConstants.API_RELATIVE_PATH)
+                Path apiPath = tempFolderPath.resolve(TryOutConstants.API_RELATIVE_PATH)
                         .resolve(apiName + ".xml");
                 Utils.writeToFile(apiPath.toString(), apiContent);
                 return TryOutConstants.HTTP_PREFIX + TryOutConstants.LOCALHOST + ":" + server.getServerPort() + "/" +
@@ -621,6 +644,10 @@ public class TryOutHandler {
         }
     }
 
+    /**
+     * Clears the state of the current try-out. The deployed artifacts are kept, hence the next try-out redeploys
+     * only the artifacts that changed.
+     */
     protected void reset() {
 
         if (breakpointEventProcessor == null) {
@@ -634,13 +661,17 @@ public class TryOutHandler {
         eventClient.clearEventQueue();
         breakpointEventProcessor.reset();
         try {
-            Utils.deleteDirectory(TEMP_FOLDER_PATH);
-            server.deleteDeployedFiles();
+            Utils.deleteDirectory(tempFolderPath);
         } catch (IOException e) {
             LOGGER.log(Level.SEVERE, "Error while deleting the temp folder", e);
         }
     }
 
+    public Path getTempFolderPath() {
+
+        return tempFolderPath;
+    }
+
     public boolean shutDown() {
 
         try {
@@ -648,6 +679,7 @@ public class TryOutHandler {
                 commandClient.close();
                 eventClient.close();
             }
+            server.deleteDeployedFiles();
             return server.shutDown();
         } catch (IOException e) {
             LOGGER.log(Level.SEVERE, "Error while closing the clients", e);
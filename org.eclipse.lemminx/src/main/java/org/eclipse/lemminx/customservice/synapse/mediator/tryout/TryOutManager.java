@@ -19,13 +19,26 @@ import org.eclipse.lemminx.customservice.synapse.connectors.ConnectionTester;
 import org.eclipse.lemminx.customservice.synapse.connectors.ConnectorHolder;
 import org.eclipse.lemminx.customservice.synapse.connectors.entity.TestConnectionRequest;
 import org.eclipse.lemminx.customservice.synapse.connectors.entity.TestConnectionResponse;
+import org.eclipse.lemminx.customservice.synapse.mediator.TryOutConstants;
 import org.eclipse.lemminx.customservice.synapse.mediator.schema.generate.ServerLessTryoutHandler;
 import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.MediatorTryoutInfo;
 import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.MediatorTryoutRequest;
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.server.MIServerPool;
+
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 
 public class TryOutManager {
 
-    private final TryOutHandler tryOutHandler;
+    private final MIServerPool serverPool;
+    private final TryOutHandler[] tryOutHandlers;
+    // Maps the tried out documents to the indexes of the handlers that serve them, in the least recently used order.
+    private final Map<String, Integer> sessions = new LinkedHashMap<>(16, 0.75f, true);
+    private final String projectRoot;
     private final IsolatedTryOutHandler isolatedTryOutHandler;
     private final ServerLessTryoutHandler serverLessTryoutHandler;
     private final ConnectionTester connectionTester;
@@ -33,16 +46,36 @@ public class TryOutManager {
     public TryOutManager(String projectRoot, String miServerPath, ConnectorHolder connectorHolder,
                          SynapseLanguageClientAPI languageClient) {
 
-        tryOutHandler = new TryOutHandler(projectRoot, miServerPath, languageClient);
-        isolatedTryOutHandler = new IsolatedTryOutHandler(tryOutHandler, projectRoot);
+        this(projectRoot, miServerPath, connectorHolder, languageClient, 1);
+    }
+
+    /**
+     * Creates a try-out manager that serves the try-outs of up to the given number of documents concurrently, each
+     * in its own MI server.
+     *
+     * @param projectRoot     the project path
+     * @param miServerPath    the MI runtime path
+     * @param connectorHolder the connector holder
+     * @param languageClient  the language client
+     * @param serverPoolSize  the number of MI servers to use for the try-outs
+     */
+    public TryOutManager(String projectRoot, String miServerPath, ConnectorHolder connectorHolder,
+                         SynapseLanguageClientAPI languageClient, int serverPoolSize) {
+
+        this.projectRoot = projectRoot;
+        serverPool = new MIServerPool(Path.of(miServerPath), projectRoot, languageClient, serverPoolSize);
+        tryOutHandlers = new TryOutHandler[serverPool.getSize()];
+        isolatedTryOutHandler = new IsolatedTryOutHandler(projectRoot);
         serverLessTryoutHandler = new ServerLessTryoutHandler(projectRoot);
-        connectionTester = new ConnectionTester(projectRoot, tryOutHandler, connectorHolder);
+        connectionTester = new ConnectionTester(projectRoot, getTryOutHandler(0), connectorHolder);
     }
 
     public final MediatorTryoutInfo tryout(MediatorTryoutRequest request) {
 
+        TryOutHandler tryOutHandler = getSessionHandler(request.getFile());
+        serverPool.warmUp();
         if (request.isIsolatedTryout()) {
-            return isolatedTryOutHandler.tryOut(request);
+            return isolatedTryOutHandler.tryOut(request, tryOutHandler);
         } else {
             return tryOutHandler.handle(request);
         }
@@ -58,10 +91,63 @@ public class TryOutManager {
         return connectionTester.testConnection(request);
     }
 
-    public boolean shutdown() {
+    public synchronized boolean shutdown() {
 
-        tryOutHandler.reset();
+        for (TryOutHandler tryOutHandler : tryOutHandlers) {
+            if (tryOutHandler != null) {
+                tryOutHandler.reset();
+            }
+        }
         CAPPCacheManager.shutdown();
-        return tryOutHandler.shutDown();
+        boolean isShutDown = true;
+        for (TryOutHandler tryOutHandler : tryOutHandlers) {
+            if (tryOutHandler != null) {
+                isShutDown &= tryOutHandler.shutDown();
+            }
+        }
+        return isShutDown;
+    }
+
+    /**
+     * Returns the handler that serves the try-outs of the given document. A document keeps its handler between
+     * try-outs so that the edited artifacts are redeployed to the same server. If all the handlers serve other
+     * documents, the handler of the least recently tried out document is taken over.
+     *
+     * @param document the path of the tried out document
+     * @return the try-out handler
+     */
+    private synchronized TryOutHandler getSessionHandler(String document) {
+
+        Integer index = sessions.get(document);
+        if (index == null) {
+            index = getFreeHandlerIndex();
+            sessions.put(document, index);
+        }
+        return getTryOutHandler(index);
+    }
+
+    private int getFreeHandlerIndex() {
+
+        Set<Integer> usedIndexes = new HashSet<>(sessions.values());
+        for (int i = 0; i < tryOutHandlers.length; i++) {
+            if (!usedIndexes.contains(i)) {
+                return i;
+            }
+        }
+        Iterator<Integer> iterator = sessions.values().iterator();
+        int index = iterator.next();
+        iterator.remove();
+        return index;
+    }
+
+    private synchronized TryOutHandler getTryOutHandler(int index) {
+
+        if (tryOutHandlers[index] == null) {
+            Path tempFolderPath = index == 0 ? TryOutConstants.TEMP_FOLDER_PATH :
+                    TryOutConstants.TEMP_FOLDER_PATH.resolveSibling(
+                            TryOutConstants.TEMP_FOLDER_PATH.getFileName() + "_" + index);
+            tryOutHandlers[index] = new TryOutHandler(projectRoot, serverPool.getServer(index), tempFolderPath);
+        }
+        return tryOutHandlers[index];
     }
 }
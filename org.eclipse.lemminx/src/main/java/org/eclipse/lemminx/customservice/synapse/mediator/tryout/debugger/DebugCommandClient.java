@@ -34,6 +34,15 @@ public class DebugCommandClient {
     private int port = TryOutConstants.DEFAULT_DEBUGGER_COMMAND_PORT;
     private Socket socket;
 
+    public DebugCommandClient() {
+
+    }
+
+    public DebugCommandClient(int port) {
+
+        this.port = port;
+    }
+
     public void connect() {
 
         try {
@@ -43,6 +43,12 @@ public class DebugEventClient extends Thread {
         this.breakpointEventProcessor = breakpointEventProcessor;
     }
 
+    public DebugEventClient(BreakpointEventProcessor breakpointEventProcessor, int port) {
+
+        this(breakpointEventProcessor);
+        this.port = port;
+    }
+
     public void connect() {
 
         try {
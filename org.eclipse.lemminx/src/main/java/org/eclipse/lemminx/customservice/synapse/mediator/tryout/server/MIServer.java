@@ -44,22 +44,29 @@ import java.net.Socket;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CompletionException;
+import java.util.Set;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ForkJoinTask;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class MIServer {
 
     private static final Logger LOGGER = Logger.getLogger(MIServer.class.getName());
     private static final int SERVER_START_TIMEOUT = 30000;
+    private static final int DEPLOYMENT_TIMEOUT = 10000;
     private static final String DEPLOYMENT_INTERVAL_REGEX =
             "(?s)(?<=<DeploymentUpdateInterval>)(.*?)(?=</DeploymentUpdateInterval>)";
     private static final String HOT_DEPLOYMENT_INTERVAL = "1";
@@ -70,12 +77,14 @@ public class MIServer {
 
     // Maps the artifact folder names to the corresponding folder names in the MI server.
     private static final HashMap<String, String> ARTIFACT_FOLDERS_MAP = new HashMap<>();
-    private final List<String> deployedCAAPs = new ArrayList<>();
-    private final List<String> deployedFiles;
-    private boolean isStarted = false;
-    private boolean isStarting = false;
+    // Maps the deployed CAPP paths to the modified time and size of the CAPP files they were deployed from.
+    private final Map<String, String> deployedCAAPs = new HashMap<>();
+    private final Set<String> deployedFiles = new LinkedHashSet<>();
+    private volatile boolean isStarted = false;
+    private volatile boolean isStarting = false;
     private final String projectUri;
-    private ManagementAPIClient managementAPIClient;
+    private final int portOffset;
+    private final ManagementAPIClient managementAPIClient;
     private final SynapseLanguageClientAPI languageClient;
 
     static {
@@ -92,10 +101,43 @@ public class MIServer {
 
     public MIServer(Path serverPath, String projectUri, SynapseLanguageClientAPI languageClient) {
 
+        this(serverPath, projectUri, languageClient, 0);
+    }
+
+    /**
+     * Creates a server that is started with the given port offset. All the listener ports of the server, including
+     * the debugger ports, are shifted by the offset.
+     *
+     * @param serverPath     the MI runtime path
+     * @param projectUri     the project path
+     * @param languageClient the language client to send the server logs
+     * @param portOffset     the port offset of the server
+     */
+    public MIServer(Path serverPath, String projectUri, SynapseLanguageClientAPI languageClient, int portOffset) {
+
+        this(serverPath, projectUri, languageClient, portOffset, new ManagementAPIClient(portOffset));
+    }
+
+    /**
+     * Creates a server that is managed through the given management API client.
+     *
+     * @param serverPath          the MI runtime path
+     * @param projectUri          the project path
+     * @param managementAPIClient the management API client of the server
+     */
+    public MIServer(Path serverPath, String projectUri, ManagementAPIClient managementAPIClient) {
+
+        this(serverPath, projectUri, null, 0, managementAPIClient);
+    }
+
+    private MIServer(Path serverPath, String projectUri, SynapseLanguageClientAPI languageClient, int portOffset,
+                     ManagementAPIClient managementAPIClient) {
+
         this.serverPath = serverPath;
         this.projectUri = projectUri;
-        deployedFiles = new ArrayList<>();
         this.languageClient = languageClient;
+        this.portOffset = portOffset;
+        this.managementAPIClient = managementAPIClient;
     }
 
     public synchronized void startServer() {
@@ -174,6 +216,9 @@ public class MIServer {
             // Unix-like systems
             processBuilder = new ProcessBuilder("./micro-integrator.sh", "-Desb.debug=true");
         }
+        if (portOffset > 0) {
+            processBuilder.command().add("-DportOffset=" + portOffset);
+        }
         Map<String, String> env = processBuilder.environment();
         env.put("JAVA_HOME", System.getProperty("java.home"));
         addUserDefinedEnvs(env);
@@ -261,174 +306,238 @@ public class MIServer {
         }
     }
 
-    public void deployProject(String tempProjectUri, String projectUri)
+    /**
+     * Deploys the artifacts of the given project.
+     * <p>
+     * Artifacts that are already deployed with the same content are kept, hence only the artifacts edited since the
+     * previous deployment are redeployed and waited for. Artifacts of the previous deployment that are not in the
+     * project anymore are undeployed.
+     *
+     * @param tempProjectUri the path of the project to deploy the artifacts from
+     * @param projectUri     the path of the project to deploy the dependency CAPPs of
+     * @throws ArtifactDeploymentException if an artifact could not be deployed
+     */
+    public synchronized void deployProject(String tempProjectUri, String projectUri)
             throws ArtifactDeploymentException {
 
-        copyToMI(tempProjectUri, projectUri);
-        waitForDeployment();
-        LOGGER.log(Level.INFO, "Project deployed successfully");
+        List<Path> changedArtifacts;
+        try {
+            copyDependencyCappToMI(projectUri);
+            changedArtifacts = copyArtifactsToMI(tempProjectUri);
+        } catch (IOException e) {
+            throw new ArtifactDeploymentException("Error copying artifacts to MI", e);
+        }
+        waitForDeployment(changedArtifacts);
+        LOGGER.log(Level.INFO, String.format("Project deployed successfully. Redeployed %d artifact(s)",
+                changedArtifacts.size()));
     }
 
-    private void waitForDeployment() throws ArtifactDeploymentException {
+    private void waitForDeployment(List<Path> artifacts) throws ArtifactDeploymentException {
 
-        if (!deployedFiles.isEmpty()) {
-            List<ForkJoinTask<?>> tasks = new ArrayList<>();
-            for (String filePath : deployedFiles) {
-                ForkJoinTask<?> task = ForkJoinPool.commonPool().submit(() -> {
-                    try {
-                        waitForDeployment(Path.of(filePath));
-                    } catch (ArtifactDeploymentException e) {
-                        LOGGER.log(Level.SEVERE, "Error waiting for deployment", e);
-                    }
-                });
-                tasks.add(task);
-            }
-            List<Throwable> failures = new ArrayList<>();
-            for (ForkJoinTask<?> task : tasks) {
-                try {
-                    task.join();
-                } catch (CompletionException e) {
-                    failures.add(e.getCause());
-                } catch (Exception e) {
-                    failures.add(e);
-                }
+        Map<Path, ForkJoinTask<String>> tasks = new LinkedHashMap<>();
+        for (Path artifact : artifacts) {
+            tasks.put(artifact, ForkJoinPool.commonPool().submit(() -> waitForDeployment(artifact)));
+        }
+        List<String> failures = new ArrayList<>();
+        for (Map.Entry<Path, ForkJoinTask<String>> entry : tasks.entrySet()) {
+            String failure = entry.getValue().join();
+            if (failure != null) {
+                // Remove the failed artifact so that it is deployed again in the next try-out.
+                String failedFile = entry.getKey().toString();
+                deployedFiles.remove(failedFile);
+                deleteDeployedFiles(new ArrayList<>(List.of(failedFile)));
+                failures.add(failure);
             }
-            if (!failures.isEmpty()) {
-                StringBuilder errorMessage = new StringBuilder("Error(s) occurred during deployment:\n");
-                for (Throwable failure : failures) {
-                    errorMessage.append(failure.getMessage()).append("\n");
-                }
-                throw new ArtifactDeploymentException(errorMessage.toString());
+        }
+        if (!failures.isEmpty()) {
+            StringBuilder errorMessage = new StringBuilder("Error(s) occurred during deployment:\n");
+            for (String failure : failures) {
+                errorMessage.append(failure).append("\n");
             }
+            throw new ArtifactDeploymentException(errorMessage.toString());
         }
     }
 
-    private void waitForDeployment(Path filePath) throws ArtifactDeploymentException {
+    /**
+     * Waits until the artifact of the given file is deployed.
+     *
+     * @param filePath the deployed artifact file
+     * @return the error message if the artifact is not deployed, or null if it is deployed
+     */
+    private String waitForDeployment(Path filePath) {
 
         try {
-            DOMDocument document = Utils.getDOMDocument(filePath.toFile());
-            if (document != null) {
-                String resourceName;
-                DeployedArtifactType type;
-                STNode node = SyntaxTreeGenerator.buildTree(document.getDocumentElement());
-                if (node instanceof API) {
-                    resourceName = ((API) node).getName();
-                    type = DeployedArtifactType.APIS;
-                } else if (node instanceof NamedSequence) {
-                    resourceName = ((NamedSequence) node).getName();
-                    type = DeployedArtifactType.SEQUENCES;
-                } else if (node instanceof NamedEndpoint) {
-                    resourceName = ((NamedEndpoint) node).getName();
-                    type = DeployedArtifactType.ENDPOINTS;
-                } else if (node instanceof LocalEntry) {
-                    resourceName = ((LocalEntry) node).getKey();
-                    type = DeployedArtifactType.LOCAL_ENTRIES;
-                } else if (node instanceof Task) {
-                    resourceName = ((Task) node).getName();
-                    type = DeployedArtifactType.TASKS;
-                } else if (node instanceof MessageStore) {
-                    resourceName = ((MessageStore) node).getName();
-                    type = DeployedArtifactType.MESSAGE_STORES;
-                } else if (node instanceof MessageProcessor) {
-                    resourceName = ((MessageProcessor) node).getName();
-                    type = DeployedArtifactType.MESSAGE_PROCESSORS;
-                } else if (node instanceof InboundEndpoint) {
-                    resourceName = ((InboundEndpoint) node).getName();
-                    type = DeployedArtifactType.INBOUND_ENDPOINTS;
-                } else if (node instanceof Template) {
-                    resourceName = ((Template) node).getName();
-                    type = DeployedArtifactType.TEMPLATES;
-                } else if (node instanceof Data) {
-                    resourceName = ((Data) node).getName();
-                    type = DeployedArtifactType.DATA_SERVICES;
-                } else if (node instanceof DatasourceType) {
-                    resourceName = ((DatasourceType) node).getName().getTextNode();
-                    type = DeployedArtifactType.DATA_SOURCES;
-                } else {
-                    return;
-                }
-                int count = 0;
-                while (count < 5) {
-                    if (isDeployed(managementAPIClient, resourceName, type)) {
-                        return;
-                    }
-                    count++;
-                    Thread.sleep(1000);
-                }
-                throw new ArtifactDeploymentException(TryOutConstants.INVALID_ARTIFACT_ERROR);
+            DeployedArtifactInfo artifact = getArtifactInfo(filePath);
+            if (artifact == null || managementAPIClient.waitForArtifact(artifact.type, artifact.name, true,
+                    DEPLOYMENT_TIMEOUT)) {
+                return null;
             }
+            return TryOutConstants.INVALID_ARTIFACT_ERROR;
         } catch (IOException e) {
             LOGGER.log(Level.SEVERE, String.format("Error reading file %s: %s", filePath, e.getMessage()));
-            throw new ArtifactDeploymentException(TryOutConstants.TRYOUT_FAILURE_MESSAGE, e);
+            return TryOutConstants.TRYOUT_FAILURE_MESSAGE;
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
-            throw new ArtifactDeploymentException(TryOutConstants.TRYOUT_FAILURE_MESSAGE, e);
+            return TryOutConstants.TRYOUT_FAILURE_MESSAGE;
         }
     }
 
-    private boolean isDeployed(ManagementAPIClient managementAPIClient, String resourceName, DeployedArtifactType type)
-            throws InterruptedException, IOException {
+    private void waitForUndeployment(List<DeployedArtifactInfo> artifacts) {
 
-        int count = 0;
-        while (count < 10) {
-            count++;
-            List<ManagementAPIClient.DeployedArtifact> deployedArtifacts =
-                    managementAPIClient.getArtifacts(type);
-            if (deployedArtifacts != null) {
-                boolean res = deployedArtifacts.stream()
-                        .anyMatch(artifact -> artifact.getName().equals(resourceName));
-                if (res) {
-                    return Boolean.TRUE;
+        for (DeployedArtifactInfo artifact : artifacts) {
+            try {
+                if (!managementAPIClient.waitForArtifact(artifact.type, artifact.name, false, DEPLOYMENT_TIMEOUT)) {
+                    LOGGER.log(Level.WARNING, String.format("Artifact %s was not undeployed within the timeout period",
+                            artifact.name));
                 }
-                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
             }
         }
-        return Boolean.FALSE;
     }
 
-    private void copyToMI(String tempFolderPath, String projectUri) throws ArtifactDeploymentException {
+    private DeployedArtifactInfo getArtifactInfo(Path filePath) throws IOException {
 
-        try {
-            copyDependencyCappToMI(projectUri);
-            copyArtifactsToMI(tempFolderPath);
-        } catch (IOException e) {
-            throw new ArtifactDeploymentException("Error copying artifacts to MI", e);
+        DOMDocument document = Utils.getDOMDocument(filePath.toFile());
+        if (document == null) {
+            return null;
         }
+        STNode node = SyntaxTreeGenerator.buildTree(document.getDocumentElement());
+        if (node instanceof API) {
+            return new DeployedArtifactInfo(((API) node).getName(), DeployedArtifactType.APIS);
+        } else if (node instanceof NamedSequence) {
+            return new DeployedArtifactInfo(((NamedSequence) node).getName(), DeployedArtifactType.SEQUENCES);
+        } else if (node instanceof NamedEndpoint) {
+            return new DeployedArtifactInfo(((NamedEndpoint) node).getName(), DeployedArtifactType.ENDPOINTS);
+        } else if (node instanceof LocalEntry) {
+            return new DeployedArtifactInfo(((LocalEntry) node).getKey(), DeployedArtifactType.LOCAL_ENTRIES);
+        } else if (node instanceof Task) {
+            return new DeployedArtifactInfo(((Task) node).getName(), DeployedArtifactType.TASKS);
+        } else if (node instanceof MessageStore) {
+            return new DeployedArtifactInfo(((MessageStore) node).getName(), DeployedArtifactType.MESSAGE_STORES);
+        } else if (node instanceof MessageProcessor) {
+            return new DeployedArtifactInfo(((MessageProcessor) node).getName(),
+                    DeployedArtifactType.MESSAGE_PROCESSORS);
+        } else if (node instanceof InboundEndpoint) {
+            return new DeployedArtifactInfo(((InboundEndpoint) node).getName(),
+                    DeployedArtifactType.INBOUND_ENDPOINTS);
+        } else if (node instanceof Template) {
+            return new DeployedArtifactInfo(((Template) node).getName(), DeployedArtifactType.TEMPLATES);
+        } else if (node instanceof Data) {
+            return new DeployedArtifactInfo(((Data) node).getName(), DeployedArtifactType.DATA_SERVICES);
+        } else if (node instanceof DatasourceType) {
+            return new DeployedArtifactInfo(((DatasourceType) node).getName().getTextNode(),
+                    DeployedArtifactType.DATA_SOURCES);
+        }
+        return null;
     }
 
-    public void copyDependencyCappToMI(String projectUri) throws ArtifactDeploymentException {
+    /**
+     * Deploys the dependency CAPPs of the given project. A CAPP that is already deployed from the same CAPP file is
+     * not deployed again.
+     *
+     * @param projectUri the project path
+     * @throws ArtifactDeploymentException if a CAPP could not be deployed
+     */
+    public synchronized void copyDependencyCappToMI(String projectUri) throws ArtifactDeploymentException {
 
         Path targetPath = serverPath.resolve(TryOutConstants.MI_DEPLOYMENT_PATH);
         String projectId = Utils.getHash(projectUri);
         Path projectCAPPPath = TryOutConstants.CAPP_CACHE_LOCATION.resolve(projectId);
         if (Files.exists(projectCAPPPath)) {
             for (File file : projectCAPPPath.toFile().listFiles()) {
+                Path deployedPath = targetPath.resolve(file.getName());
+                String fileInfo = file.lastModified() + ":" + file.length();
+                if (fileInfo.equals(deployedCAAPs.get(deployedPath.toString())) && Files.exists(deployedPath)) {
+                    continue;
+                }
                 if (!managementAPIClient.deployCAPP(file)) {
                     throw new ArtifactDeploymentException("Error waiting for CAPP deployment");
                 }
-                deployedCAAPs.add(targetPath.resolve(file.getName()).toString());
+                deployedCAAPs.put(deployedPath.toString(), fileInfo);
+            }
+        }
+    }
+
+    /**
+     * Copies the changed artifacts of the given project to the MI server and removes the deployed artifacts that are
+     * not in the project anymore.
+     *
+     * @param tempFolderPath the project path
+     * @return the copied artifact files
+     */
+    private List<Path> copyArtifactsToMI(String tempFolderPath) throws IOException {
+
+        Map<Path, Path> artifacts = getArtifactFiles(tempFolderPath);
+        Iterator<String> iterator = deployedFiles.iterator();
+        while (iterator.hasNext()) {
+            Path deployedFile = Path.of(iterator.next());
+            if (!artifacts.containsKey(deployedFile)) {
+                Files.deleteIfExists(deployedFile);
+                iterator.remove();
+            }
+        }
+        List<Path> changedArtifacts = new ArrayList<>();
+        List<DeployedArtifactInfo> replacedArtifacts = new ArrayList<>();
+        for (Map.Entry<Path, Path> entry : artifacts.entrySet()) {
+            Path targetFile = entry.getKey();
+            if (Files.exists(targetFile)) {
+                if (Arrays.equals(Files.readAllBytes(targetFile), Files.readAllBytes(entry.getValue()))) {
+                    deployedFiles.add(targetFile.toString());
+                    continue;
+                }
+                // The server keeps the previous version deployed until it notices the change. Undeploy it first so
+                // that the deployment of the new version can be detected.
+                DeployedArtifactInfo replacedArtifact = getArtifactInfo(targetFile);
+                Files.delete(targetFile);
+                if (replacedArtifact != null) {
+                    replacedArtifacts.add(replacedArtifact);
+                }
             }
+            changedArtifacts.add(targetFile);
         }
+        waitForUndeployment(replacedArtifacts);
+        for (Path targetFile : changedArtifacts) {
+            Files.createDirectories(targetFile.getParent());
+            Files.copy(artifacts.get(targetFile), targetFile, StandardCopyOption.REPLACE_EXISTING);
+            deployedFiles.add(targetFile.toString());
+        }
+        return changedArtifacts;
     }
 
-    private void copyArtifactsToMI(String tempFolderPath) throws IOException {
+    /**
+     * Returns the artifact files of the given project mapped by the paths they are deployed to.
+     */
+    private Map<Path, Path> getArtifactFiles(String tempFolderPath) throws IOException {
 
-        String repositoryPath = serverPath.resolve(TryOutConstants.MI_REPOSITORY_PATH).toString();
+        Path repositoryPath = serverPath.resolve(TryOutConstants.MI_REPOSITORY_PATH);
         Path artifactPath = Path.of(tempFolderPath).resolve(TryOutConstants.PROJECT_ARTIFACT_PATH);
+        Map<Path, Path> artifacts = new LinkedHashMap<>();
         for (Map.Entry<String, String> entry : ARTIFACT_FOLDERS_MAP.entrySet()) {
             Path sourcePath = artifactPath.resolve(entry.getKey());
-            Path targetPath = Path.of(repositoryPath, entry.getValue());
-            Utils.copyFolder(sourcePath, targetPath, deployedFiles);
+            if (!Files.exists(sourcePath)) {
+                continue;
+            }
+            Path targetPath = repositoryPath.resolve(entry.getValue());
+            try (Stream<Path> files = Files.walk(sourcePath)) {
+                for (Path file : files.filter(Files::isRegularFile).collect(Collectors.toList())) {
+                    if (!".DS_Store".equals(file.getFileName().toString())) {
+                        artifacts.put(targetPath.resolve(sourcePath.relativize(file)), file);
+                    }
+                }
+            }
         }
+        return artifacts;
     }
 
-    public void deleteDeployedFiles() {
+    public synchronized void deleteDeployedFiles() {
 
         deleteDeployedFiles(deployedFiles);
-        deleteDeployedFiles(deployedCAAPs);
+        deleteDeployedFiles(deployedCAAPs.keySet());
     }
 
-    public void deleteDeployedFiles(List<String> deployedFiles) {
+    public void deleteDeployedFiles(Collection<String> deployedFiles) {
 
         Iterator<String> iterator = deployedFiles.iterator();
         while (iterator.hasNext()) {
@@ -444,30 +553,29 @@ public class MIServer {
         }
     }
 
-    public synchronized void waitForServerStartup() {
+    /**
+     * Waits until the readiness probe of the server succeeds and logs in to the management API.
+     */
+    public void waitForServerStartup() {
 
-        long startTime = System.currentTimeMillis();
-
-        while (System.currentTimeMillis() - startTime < SERVER_START_TIMEOUT) {
-            try {
-                if (isServerRunning()) {
-                    managementAPIClient = new ManagementAPIClient();
-                    LOGGER.log(Level.INFO, "Server started successfully.");
-                    return;
-                }
-                wait(2000);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                LOGGER.log(Level.WARNING, "Server startup interrupted", e);
+        try {
+            if (managementAPIClient.waitUntilReady(SERVER_START_TIMEOUT)) {
+                managementAPIClient.connect();
+                LOGGER.log(Level.INFO, "Server started successfully.");
                 return;
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.log(Level.WARNING, "Server startup interrupted", e);
+            return;
         }
         LOGGER.log(Level.WARNING, "Server did not start within the timeout period");
     }
 
     public boolean isServerRunning() {
 
-        try (Socket socket = new Socket(TryOutConstants.LOCALHOST, TryOutConstants.DEFAULT_SERVER_INBOUND_PORT)) {
+        try (Socket socket = new Socket(TryOutConstants.LOCALHOST,
+                TryOutConstants.DEFAULT_SERVER_INBOUND_PORT + portOffset)) {
             return socket.isConnected();
         } catch (IOException e) {
             return false;
@@ -477,11 +585,26 @@ public class MIServer {
     public int getServerPort() {
 
         if (isStarted) {
-            return TryOutConstants.DEFAULT_SERVER_PORT;
+            return TryOutConstants.DEFAULT_SERVER_PORT + portOffset;
         }
         return -1;
     }
 
+    public int getDebuggerCommandPort() {
+
+        return TryOutConstants.DEFAULT_DEBUGGER_COMMAND_PORT + portOffset;
+    }
+
+    public int getDebuggerEventPort() {
+
+        return TryOutConstants.DEFAULT_DEBUGGER_EVENT_PORT + portOffset;
+    }
+
+    public int getPortOffset() {
+
+        return portOffset;
+    }
+
     public boolean isStarted() {
 
         return isStarted;
@@ -501,4 +624,16 @@ public class MIServer {
 
         return isStarting;
     }
+
+    private static class DeployedArtifactInfo {
+
+        private final String name;
+        private final DeployedArtifactType type;
+
+        DeployedArtifactInfo(String name, DeployedArtifactType type) {
+
+            this.name = name;
+            this.type = type;
+        }
+    }
 }
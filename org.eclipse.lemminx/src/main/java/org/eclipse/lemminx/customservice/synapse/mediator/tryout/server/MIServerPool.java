@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.mediator.tryout.server;
+
+import org.eclipse.lemminx.customservice.SynapseLanguageClientAPI;
+import org.eclipse.lemminx.customservice.synapse.utils.Utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Pool of MI servers that serve the try-out sessions of different documents concurrently.
+ * <p>
+ * The first server runs from the configured MI runtime. Since a runtime holds the deployed artifacts, the other
+ * servers run from copies of the runtime, each started with its own port offset. Once a server of the pool is in
+ * use, the other servers are started in the background so that they are ready when another document is tried out.
+ */
+public class MIServerPool {
+
+    private static final Logger LOGGER = Logger.getLogger(MIServerPool.class.getName());
+    private static final Path RUNTIME_COPY_LOCATION = Path.of(System.getProperty("user.home"), ".wso2-mi",
+            "tryout_runtimes");
+    private static final int PORT_OFFSET_STEP = 10;
+
+    private final Path serverPath;
+    private final String projectUri;
+    private final SynapseLanguageClientAPI languageClient;
+    private final MIServer[] servers;
+    private boolean isWarmingUp = false;
+
+    public MIServerPool(Path serverPath, String projectUri, SynapseLanguageClientAPI languageClient, int size) {
+
+        this.serverPath = serverPath;
+        this.projectUri = projectUri;
+        this.languageClient = languageClient;
+        this.servers = new MIServer[Math.max(1, size)];
+    }
+
+    public int getSize() {
+
+        return servers.length;
+    }
+
+    /**
+     * Returns the server at the given index of the pool. The runtime of the server is copied on the first request.
+     *
+     * @param index the index of the server
+     * @return the server
+     */
+    public synchronized MIServer getServer(int index) {
+
+        if (servers[index] == null) {
+            servers[index] = new MIServer(getRuntimePath(index), projectUri, languageClient,
+                    index * PORT_OFFSET_STEP);
+        }
+        return servers[index];
+    }
+
+    /**
+     * Starts the servers of the pool that are not started yet, in the background.
+     */
+    public synchronized void warmUp() {
+
+        if (isWarmingUp || servers.length < 2) {
+            return;
+        }
+        isWarmingUp = true;
+        Thread warmUpThread = new Thread(() -> {
+            for (int i = 0; i < servers.length; i++) {
+                MIServer server = getServer(i);
+                if (!server.isStarted()) {
+                    server.startServer();
+                    server.waitForServerStartup();
+                }
+            }
+        }, "Tryout-Server-Warm-Up");
+        warmUpThread.setDaemon(true);
+        warmUpThread.start();
+    }
+
+    private Path getRuntimePath(int index) {
+
+        if (index == 0) {
+            return serverPath;
+        }
+        Path runtimePath = RUNTIME_COPY_LOCATION.resolve(Utils.getHash(serverPath.toString()))
+                .resolve(String.valueOf(index));
+        if (!Files.exists(runtimePath)) {
+            // Copy to a temporary folder first, so that a partial copy is never used as a runtime.
+            Path tempRuntimePath = runtimePath.resolveSibling(index + ".tmp");
+            try {
+                Utils.deleteDirectory(tempRuntimePath);
+                Utils.copyFolder(serverPath, tempRuntimePath, null);
+                Files.move(tempRuntimePath, runtimePath, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                LOGGER.log(Level.SEVERE, String.format("Error while copying the MI runtime to: %s", runtimePath), e);
+            }
+        }
+        return runtimePath;
+    }
+}
@@ -35,6 +35,7 @@ import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.security.cert.X509Certificate;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collections;
@@ -51,25 +52,59 @@ public class ManagementAPIClient {
     private static final int DEFAULT_PORT = 9164;
     private static final String USERNAME = "admin";
     private static final String PASSWORD = "admin";
+    private static final String READINESS_PATH = "/healthz";
+    private static final int READINESS_TIMEOUT = 2000;
+    private static final long INITIAL_POLL_INTERVAL = 50;
+    private static final long MAX_POLL_INTERVAL = 1000;
     private ObjectMapper objectMapper;
     private HttpClient client;
     private static final String HOST = TryOutConstants.LOCALHOST;
-    private int port = DEFAULT_PORT;
+    private final String managementUrl;
+    private final String readinessUrl;
     private String accessToken;
     private boolean isRetried = false;
 
     public ManagementAPIClient() {
 
+        this(0);
         try {
-            objectMapper = new ObjectMapper();
-            init();
             connect();
-        } catch (NoSuchAlgorithmException | KeyManagementException | InterruptedException e) {
+        } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             LOGGER.severe("Failed to initialize the client: " + e.getMessage());
         }
     }
 
+    /**
+     * Creates a client for an MI server started with the given port offset. The client is not logged in until
+     * {@link #connect()} is called, hence it can be used to wait for the server to become ready.
+     *
+     * @param portOffset the port offset of the MI server
+     */
+    public ManagementAPIClient(int portOffset) {
+
+        this(String.format("https://%s:%d", HOST, DEFAULT_PORT + portOffset),
+                String.format("http://%s:%d", HOST, TryOutConstants.DEFAULT_SERVER_INBOUND_PORT + portOffset));
+    }
+
+    /**
+     * Creates a client for the given management API and internal API base URLs.
+     *
+     * @param managementUrl the base URL of the management API
+     * @param readinessUrl  the base URL of the internal API that serves the readiness probe
+     */
+    public ManagementAPIClient(String managementUrl, String readinessUrl) {
+
+        this.managementUrl = managementUrl;
+        this.readinessUrl = readinessUrl;
+        try {
+            objectMapper = new ObjectMapper();
+            init();
+        } catch (NoSuchAlgorithmException | KeyManagementException e) {
+            LOGGER.severe("Failed to initialize the client: " + e.getMessage());
+        }
+    }
+
     public void init() throws NoSuchAlgorithmException, KeyManagementException {
 
         // Create SSL context that ignores certificate verification
@@ -106,7 +141,7 @@ public class ManagementAPIClient {
 
             // Create HTTP request
             HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(String.format("https://%s:%d/management/login", HOST, port)))
+                    .uri(URI.create(managementUrl + "/management/login"))
                     .header("Content-Type", "application/json")
                     .header("Authorization", authHeader)
                     .GET()
@@ -124,10 +159,92 @@ public class ManagementAPIClient {
         }
     }
 
+    /**
+     * Checks the readiness probe of the server. The probe succeeds once the server has started and deployed the
+     * artifacts available at startup.
+     *
+     * @return true if the server is ready to serve requests
+     */
+    public boolean isReady() {
+
+        try {
+            HttpRequest request = HttpRequest.newBuilder()
+                    .uri(URI.create(readinessUrl + READINESS_PATH))
+                    .timeout(Duration.ofMillis(READINESS_TIMEOUT))
+                    .GET()
+                    .build();
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Waits until the readiness probe of the server succeeds.
+     *
+     * @param timeout the maximum time to wait in milliseconds
+     * @return true if the server became ready within the timeout
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public boolean waitUntilReady(long timeout) throws InterruptedException {
+
+        return poll(this::isReady, timeout);
+    }
+
+    /**
+     * Waits until the given artifact is deployed in, or undeployed from, the server.
+     *
+     * @param type     the artifact type
+     * @param name     the artifact name
+     * @param deployed true to wait for the deployment, false to wait for the undeployment
+     * @param timeout  the maximum time to wait in milliseconds
+     * @return true if the artifact reached the expected state within the timeout
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public boolean waitForArtifact(DeployedArtifactType type, String name, boolean deployed, long timeout)
+            throws InterruptedException {
+
+        return poll(() -> isDeployed(type, name) == deployed, timeout);
+    }
+
+    private boolean isDeployed(DeployedArtifactType type, String name) throws InterruptedException {
+
+        try {
+            List<DeployedArtifact> artifacts = getArtifacts(type);
+            return artifacts != null && artifacts.stream().anyMatch(artifact -> artifact.getName().equals(name));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Polls the given condition until it holds or the timeout elapses. The polling interval starts small and grows,
+     * so quick deployments are detected without a fixed delay while slow ones do not flood the server.
+     */
+    private static boolean poll(Condition condition, long timeout) throws InterruptedException {
+
+        long deadline = System.currentTimeMillis() + timeout;
+        long interval = INITIAL_POLL_INTERVAL;
+        while (true) {
+            if (condition.check()) {
+                return true;
+            }
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                return false;
+            }
+            Thread.sleep(Math.min(interval, remaining));
+            interval = Math.min(interval * 2, MAX_POLL_INTERVAL);
+        }
+    }
+
     public List<String> getDeployedCapps() throws IOException, InterruptedException {
 
         HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(String.format("https://%s:%d/management/%s", HOST, port, "applications")))
+                .uri(URI.create(managementUrl + "/management/applications"))
                 .header("Accept", "application/json")
                 .header("Authorization", "Bearer " + accessToken)
                 .GET()
@@ -165,7 +282,7 @@ public class ManagementAPIClient {
 
         // Build the request URL using the passed endpoint
         HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(String.format("https://%s:%d/management/%s", HOST, port, type.getValue())))
+                .uri(URI.create(managementUrl + "/management/" + type.getValue()))
                 .header("Content-Type", "application/json")
                 .header("Authorization", "Bearer " + accessToken)
                 .GET()
@@ -211,7 +328,7 @@ public class ManagementAPIClient {
         try {
             String boundary = "----WebKitFormBoundary7MA4YWxkTrZu0gW";
             HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(String.format("https://%s:%d/management/applications", HOST, port)))
+                    .uri(URI.create(managementUrl + "/management/applications"))
                     .header("Authorization", "Bearer " + accessToken)
                     .header("Content-Type", "multipart/form-data; boundary=" + boundary)
                     .POST(buildMultipartBody(boundary, Path.of(capp.getAbsolutePath())))
@@ -239,6 +356,11 @@ public class ManagementAPIClient {
         return HttpRequest.BodyPublishers.ofByteArrays(byteArrays);
     }
 
+    private interface Condition {
+
+        boolean check() throws InterruptedException;
+    }
+
     public static class DeployedArtifact {
 
         private final String name;
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.mediatorService;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.STNode;
+import org.eclipse.lemminx.customservice.synapse.utils.Constant;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Immutable table of the mediator tags to the processors that convert a mediator to the form data and the form data
+ * to a mediator.
+ * <p>
+ * The table is built once from the mediator list, so that the processor classes and methods are resolved when the
+ * mediators are loaded instead of on each request.
+ */
+public class MediatorDispatchTable {
+
+    private static final Logger LOGGER = Logger.getLogger(MediatorDispatchTable.class.getName());
+    private static final MethodType STORE_METHOD_TYPE =
+            MethodType.methodType(Object.class, Map.class, Object.class, List.class);
+    private static final MethodType RETRIEVE_METHOD_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final Map<String, MediatorDispatch> dispatches;
+
+    private MediatorDispatchTable(Map<String, MediatorDispatch> dispatches) {
+
+        this.dispatches = Collections.unmodifiableMap(dispatches);
+    }
+
+    /**
+     * Builds the dispatch table of the mediators in the given mediator list. The AI mediators are not included, as
+     * they are handled by {@link AIConnectorHandler}.
+     *
+     * @param mediatorList the mediator list
+     * @return the dispatch table
+     */
+    public static MediatorDispatchTable build(JsonObject mediatorList) {
+
+        Map<String, MediatorDispatch> dispatches = new HashMap<>();
+        if (mediatorList != null) {
+            for (Map.Entry<String, JsonElement> entry : mediatorList.entrySet()) {
+                if (Constant.AI.equalsIgnoreCase(entry.getKey())) {
+                    continue;
+                }
+                for (JsonElement mediatorElement : getMediatorsArrayForCategory(entry.getValue())) {
+                    JsonObject mediator = mediatorElement.getAsJsonObject();
+                    JsonElement tag = mediator.get(Constant.TAG);
+                    if (tag == null || dispatches.containsKey(tag.getAsString()) ||
+                            !mediator.has(Constant.MEDIATOR_CLASS) || !mediator.has(Constant.PROCESSING_CLASS)) {
+                        continue;
+                    }
+                    try {
+                        dispatches.put(tag.getAsString(), createDispatch(mediator));
+                    } catch (ReflectiveOperationException e) {
+                        LOGGER.log(Level.WARNING, String.format("Failed to load the processor of the mediator: %s",
+                                tag.getAsString()), e);
+                    }
+                }
+            }
+        }
+        return new MediatorDispatchTable(dispatches);
+    }
+
+    /**
+     * Returns the dispatch of the given mediator tag.
+     *
+     * @param tag the mediator tag
+     * @return the dispatch, or null if the mediator has no processor
+     */
+    public MediatorDispatch get(String tag) {
+
+        return tag != null ? dispatches.get(tag) : null;
+    }
+
+    public int size() {
+
+        return dispatches.size();
+    }
+
+    static JsonArray getMediatorsArrayForCategory(JsonElement value) {
+
+        JsonElement listElements = value.getAsJsonObject().get(Constant.ITEMS);
+        JsonArray mediatorsArray;
+        if (listElements.isJsonArray()) {
+            mediatorsArray = listElements.getAsJsonArray();
+        } else {
+            // Straighten the categorized connectors to a single array
+            mediatorsArray = new JsonArray();
+            listElements.getAsJsonObject().keySet().forEach(key -> {
+                mediatorsArray.addAll(listElements.getAsJsonObject().getAsJsonArray(key));
+            });
+        }
+        return mediatorsArray;
+    }
+
+    private static MediatorDispatch createDispatch(JsonObject mediator) throws ReflectiveOperationException {
+
+        Class<?> mediatorClass = Class.forName(mediator.get(Constant.MEDIATOR_CLASS).getAsString());
+        Class<?> processorClass = Class.forName(mediator.get(Constant.PROCESSING_CLASS).getAsString());
+        Object processor = processorClass.getDeclaredConstructor().newInstance();
+        MethodHandle storeMethod = getMethodHandle(processor, mediator.get(Constant.STORE_METHOD), STORE_METHOD_TYPE,
+                Map.class, mediatorClass, List.class);
+        MethodHandle retrieveMethod = getMethodHandle(processor, mediator.get(Constant.RETRIEVE_METHOD),
+                RETRIEVE_METHOD_TYPE, mediatorClass);
+        return new MediatorDispatch(mediatorClass, storeMethod, retrieveMethod);
+    }
+
+    private static MethodHandle getMethodHandle(Object processor, JsonElement methodName, MethodType type,
+                                                Class<?>... parameterTypes) throws ReflectiveOperationException {
+
+        if (methodName == null) {
+            return null;
+        }
+        Method method = processor.getClass().getMethod(methodName.getAsString(), parameterTypes);
+        MethodHandle methodHandle = MethodHandles.publicLookup().unreflect(method);
+        if (!Modifier.isStatic(method.getModifiers())) {
+            methodHandle = methodHandle.bindTo(processor);
+        }
+        return methodHandle.asType(type);
+    }
+
+    /**
+     * Resolved processor methods of a mediator.
+     */
+    public static class MediatorDispatch {
+
+        private final Class<?> mediatorClass;
+        private final MethodHandle storeMethod;
+        private final MethodHandle retrieveMethod;
+
+        MediatorDispatch(Class<?> mediatorClass, MethodHandle storeMethod, MethodHandle retrieveMethod) {
+
+            this.mediatorClass = mediatorClass;
+            this.storeMethod = storeMethod;
+            this.retrieveMethod = retrieveMethod;
+        }
+
+        public boolean isMediatorNode(STNode node) {
+
+            return mediatorClass.isInstance(node);
+        }
+
+        public boolean canStore() {
+
+            return storeMethod != null;
+        }
+
+        public boolean canRetrieve() {
+
+            return retrieveMethod != null;
+        }
+
+        /**
+         * Converts the form data of the mediator to the data of the mediator template.
+         *
+         * @param data        the form data
+         * @param node        the existing mediator, or null if the mediator is new
+         * @param dirtyFields the fields changed in the form
+         * @return the template data, or the template data of each range to edit
+         * @throws InvocationTargetException if the processor fails
+         */
+        @SuppressWarnings("unchecked")
+        public Either<Map<String, Object>, Map<Range, Map<String, Object>>> processData(Map<String, Object> data,
+                                                                                        STNode node,
+                                                                                        List<String> dirtyFields)
+                throws InvocationTargetException {
+
+            try {
+                return (Either<Map<String, Object>, Map<Range, Map<String, Object>>>)
+                        (Object) storeMethod.invokeExact(data, (Object) node, dirtyFields);
+            } catch (Throwable e) {
+                throw new InvocationTargetException(e);
+            }
+        }
+
+        /**
+         * Converts the mediator to the form data.
+         *
+         * @param node the mediator
+         * @return the form data
+         * @throws InvocationTargetException if the processor fails
+         */
+        public Object retrieveData(STNode node) throws InvocationTargetException {
+
+            try {
+                return (Object) retrieveMethod.invokeExact((Object) node);
+            } catch (Throwable e) {
+                throw new InvocationTargetException(e);
+            }
+        }
+    }
+}
@@ -23,6 +23,7 @@ import com.google.gson.internal.LinkedTreeMap;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.lemminx.commons.BadLocationException;
 import org.eclipse.lemminx.customservice.synapse.connectors.ConnectorHolder;
+import org.eclipse.lemminx.customservice.synapse.connectors.ConnectorReader;
 import org.eclipse.lemminx.customservice.synapse.connectors.entity.ConnectorAction;
 import org.eclipse.lemminx.customservice.synapse.connectors.entity.OperationParameter;
 import org.eclipse.lemminx.customservice.synapse.mediatorService.pojo.SynapseConfigResponse;
@@ -32,6 +33,7 @@ import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.connector.Conne
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.connector.ai.AIConnector;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.InvalidMediator;
 import org.eclipse.lemminx.customservice.synapse.utils.Constant;
+import org.eclipse.lemminx.customservice.synapse.utils.DocumentAccess;
 import org.eclipse.lemminx.customservice.synapse.utils.UISchemaMapper;
 import org.eclipse.lemminx.customservice.synapse.utils.Utils;
 import org.eclipse.lemminx.dom.DOMDocument;
@@ -47,8 +49,6 @@ import java.io.File;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -67,6 +67,7 @@ public class MediatorHandler {
     private static final Logger LOGGER = Logger.getLogger(MediatorHandler.class.getName());
     private JsonObject mediatorList;
     private JsonObject agentToolList;
+    private MediatorDispatchTable dispatchTable;
     private Map<String, JsonObject> uiSchemaMap;
     private Map<String, Mustache> templateMap;
     private ConnectorHolder connectorHolder;
@@ -82,6 +83,7 @@ public class MediatorHandler {
             this.connectorHolder = connectorHolder;
             this.mediatorList = Utils.getMediatorList(projectServerVersion, connectorHolder);
             this.agentToolList = Utils.getAgentToolList(mediatorList, connectorHolder);
+            this.dispatchTable = MediatorDispatchTable.build(mediatorList);
             gson = new Gson();
             this.aiConnectorHandler = new AIConnectorHandler(this, projectUri);
         } catch (IOException e) {
@@ -90,6 +92,7 @@ public class MediatorHandler {
             LOGGER.warning(String.format("Falling back to default mediators (MI %s).", Constant.DEFAULT_MI_VERSION));
             try {
                 this.mediatorList = Utils.getMediatorList(Constant.DEFAULT_MI_VERSION, connectorHolder);
+                this.dispatchTable = MediatorDispatchTable.build(mediatorList);
             } catch (IOException ex) {
                 // This should not happen
             }
@@ -107,7 +110,8 @@ public class MediatorHandler {
             if (isRequestedForAgentTool(documentIdentifier.getUri(), position)) {
                 return agentToolList;
             }
-            DOMDocument document = Utils.getDOMDocument(new File(new URI(documentIdentifier.getUri())));
+            DOMDocument document =
+                    DocumentAccess.getInstance().getDocument("getSupportedMediators", documentIdentifier.getUri());
             List<String> lastMediators = Arrays.asList("send", "drop", "loopback", "respond");
             List<String> iterateMediators = Arrays.asList("iterate", "foreach");
             int offset = document.offsetAt(position);
@@ -134,8 +138,9 @@ public class MediatorHandler {
             boolean isUpdate = !range.getEnd().equals(range.getStart());
             STNode node = null;
             if (StringUtils.isNotEmpty(documentUri) && Files.exists(Path.of(documentUri))) {
-                node = getMediatorNodeAtPosition(Utils.getDOMDocument(new File(documentUri)), range.getStart(),
-                        isUpdate);
+                node = getMediatorNodeAtPosition(
+                        DocumentAccess.getInstance().getDocument("generateSynapseConfig", documentUri),
+                        range.getStart(), isUpdate);
             }
             if (isRequestedForAgentTool(documentUri, range.getStart())) {
                 return aiConnectorHandler.generateAgentToolConfig(documentUri, range, mediator, data, dirtyFields,
@@ -323,60 +328,36 @@ public class MediatorHandler {
 
     private SynapseConfigResponse generateMediatorSynapseConfig(STNode node, String mediator, Map<String, Object> data,
                                                                 List<String> dirtyFields,
-                                                                Range range)
-            throws ClassNotFoundException, NoSuchMethodException, InvocationTargetException, InstantiationException,
-            IllegalAccessException {
-
-        for (Map.Entry<String, JsonElement> entry : mediatorList.entrySet()) {
-            if (Constant.AI.equalsIgnoreCase(entry.getKey())) {
-                // Skip AI mediators as that is handled by {@link AIConnectorHandler}
-                continue;
-            }
-            JsonArray mediatorsArray = getMediatorsArrayForCategory(entry.getValue());
-            for (JsonElement mediatorElement : mediatorsArray) {
-                JsonObject mediatorObject = mediatorElement.getAsJsonObject();
-                if (mediator.equals(mediatorObject.get(Constant.TAG).getAsString())) {
-                    String mediatorClass = mediatorObject.get(Constant.MEDIATOR_CLASS).getAsString();
-                    String processingClass = mediatorObject.get(Constant.PROCESSING_CLASS).getAsString();
-                    String processingMethod = mediatorObject.get(Constant.STORE_METHOD).getAsString();
-                    Class<?> mediatorProcessor = Class.forName(processingClass);
-                    Object processorInstance = mediatorProcessor.getDeclaredConstructor().newInstance();
-                    Method processorMethod =
-                            mediatorProcessor.getMethod(processingMethod, Map.class, Class.forName(mediatorClass),
-                                    List.class);
-                    if (!Class.forName(mediatorClass).isInstance(node)) {
-                        node = null;
-                    }
-                    @SuppressWarnings("unchecked")
-                    Either<Map<String, Object>, Map<Range, Map<String, Object>>>
-                            processedData =
-                            (Either<Map<String, Object>, Map<Range, Map<String, Object>>>) processorMethod.invoke(
-                                    processorInstance, data, node, dirtyFields);
-                    if (processedData.isLeft()) {
-                        StringWriter writer = new StringWriter();
-                        String edit =
-                                templateMap.get(mediator).execute(writer, processedData.getLeft()).toString().trim();
-                        TextEdit textEdit = new TextEdit(range, edit);
-                        return new SynapseConfigResponse(textEdit);
-                    } else {
-                        Map<Range, Map<String, Object>> editsData = processedData.getRight();
-                        SynapseConfigResponse edits = new SynapseConfigResponse();
-                        for (Map.Entry<Range, Map<String, Object>> entry1 : editsData.entrySet()) {
-                            StringWriter writer = new StringWriter();
-                            String edit =
-                                    templateMap.get(mediator).execute(writer, entry1.getValue()).toString().trim();
-                            if (isBlankEdit(entry1.getKey(), edit)) {
-                                continue;
-                            }
-                            TextEdit textEdit = new TextEdit(entry1.getKey(), edit);
-                            edits.addTextEdit(textEdit);
-                        }
-                        return edits;
-                    }
+                                                                Range range) throws InvocationTargetException {
+
+        MediatorDispatchTable.MediatorDispatch dispatch = dispatchTable != null ? dispatchTable.get(mediator) : null;
+        if (dispatch == null || !dispatch.canStore()) {
+            return null;
+        }
+        if (!dispatch.isMediatorNode(node)) {
+            node = null;
+        }
+        Either<Map<String, Object>, Map<Range, Map<String, Object>>> processedData =
+                dispatch.processData(data, node, dirtyFields);
+        if (processedData.isLeft()) {
+            StringWriter writer = new StringWriter();
+            String edit = templateMap.get(mediator).execute(writer, processedData.getLeft()).toString().trim();
+            TextEdit textEdit = new TextEdit(range, edit);
+            return new SynapseConfigResponse(textEdit);
+        } else {
+            Map<Range, Map<String, Object>> editsData = processedData.getRight();
+            SynapseConfigResponse edits = new SynapseConfigResponse();
+            for (Map.Entry<Range, Map<String, Object>> entry : editsData.entrySet()) {
+                StringWriter writer = new StringWriter();
+                String edit = templateMap.get(mediator).execute(writer, entry.getValue()).toString().trim();
+                if (isBlankEdit(entry.getKey(), edit)) {
+                    continue;
                 }
+                TextEdit textEdit = new TextEdit(entry.getKey(), edit);
+                edits.addTextEdit(textEdit);
             }
+            return edits;
         }
-        return null;
     }
 
     private boolean isBlankEdit(Range range, String edit) {
@@ -387,26 +368,11 @@ public class MediatorHandler {
         return false;
     }
 
-    private JsonArray getMediatorsArrayForCategory(JsonElement value) {
-
-        JsonElement listElements = value.getAsJsonObject().get(Constant.ITEMS);
-        JsonArray mediatorsArray;
-        if (listElements.isJsonArray()) {
-            mediatorsArray = listElements.getAsJsonArray();
-        } else {
-            // Straighten the categorized connectors to a single array
-            mediatorsArray = new JsonArray();
-            listElements.getAsJsonObject().keySet().forEach(key -> {
-                mediatorsArray.addAll(listElements.getAsJsonObject().getAsJsonArray(key));
-            });
-        }
-        return mediatorsArray;
-    }
-
     public JsonObject getUISchemaWithValues(TextDocumentIdentifier documentIdentifier, Position position) {
 
         try {
-            DOMDocument document = Utils.getDOMDocumentFromPath(documentIdentifier.getUri());
+            DOMDocument document =
+                    DocumentAccess.getInstance().getDocument("getUISchemaWithValues", documentIdentifier.getUri());
             if (isRequestedForAgentTool(documentIdentifier.getUri(), position)) {
                 return aiConnectorHandler.getToolSchemaWithValues(document, position);
             }
@@ -436,33 +402,16 @@ public class MediatorHandler {
         return UISchemaMapper.mapInputToUISchemaForConnector(connector, uiSchema);
     }
 
-    private JsonObject getUISchemaWithValuesForMediator(STNode node)
-            throws InvocationTargetException, IllegalAccessException, NoSuchMethodException, ClassNotFoundException,
-            InstantiationException {
+    private JsonObject getUISchemaWithValuesForMediator(STNode node) throws InvocationTargetException {
 
         String mediatorName = node.getTag();
-        for (Map.Entry<String, JsonElement> entry : mediatorList.entrySet()) {
-            if (Constant.AI.equalsIgnoreCase(entry.getKey())) {
-                // Skip AI mediators as that is handled by {@link AIConnectorHandler}
-                continue;
-            }
-            JsonArray mediatorsArray = getMediatorsArrayForCategory(entry.getValue());
-            for (JsonElement mediatorElement : mediatorsArray) {
-                JsonObject mediator = mediatorElement.getAsJsonObject();
-                if (mediatorName.equals(mediator.get(Constant.TAG).getAsString())) {
-                    String mediatorClass = mediator.get(Constant.MEDIATOR_CLASS).getAsString();
-                    String processingClass = mediator.get(Constant.PROCESSING_CLASS).getAsString();
-                    String processingMethod = mediator.get(Constant.RETRIEVE_METHOD).getAsString();
-                    Class<?> mediatorProcessor = Class.forName(processingClass);
-                    Object processorInstance = mediatorProcessor.getDeclaredConstructor().newInstance();
-                    Method processorMethod =
-                            mediatorProcessor.getMethod(processingMethod, Class.forName(mediatorClass));
-                    Object data = processorMethod.invoke(processorInstance, node);
-                    JsonObject dataJson = gson.toJsonTree(data).getAsJsonObject();
-                    return UISchemaMapper.mapInputToUISchema(dataJson,
-                            findUISchema(mediatorName, dataJson.get(Constant.UI_SCHEMA_NAME)));
-                }
-            }
+        MediatorDispatchTable.MediatorDispatch dispatch =
+                dispatchTable != null ? dispatchTable.get(mediatorName) : null;
+        if (dispatch != null && dispatch.canRetrieve()) {
+            Object data = dispatch.retrieveData(node);
+            JsonObject dataJson = gson.toJsonTree(data).getAsJsonObject();
+            return UISchemaMapper.mapInputToUISchema(dataJson,
+                    findUISchema(mediatorName, dataJson.get(Constant.UI_SCHEMA_NAME)));
         }
         return uiSchemaMap.get(mediatorName);
     }
@@ -585,7 +534,7 @@ public class MediatorHandler {
             if (StringUtils.isEmpty(documentPath) || Files.notExists(Path.of(documentPath))) {
                 return false;
             }
-            DOMDocument document = Utils.getDOMDocument(new File(documentPath));
+            DOMDocument document = DocumentAccess.getInstance().getDocument("isRequestedForAgentTool", documentPath);
             int offset = document.offsetAt(position);
             DOMNode currentNode = document.findNodeAt(offset);
             if (isInsideAiAgent(currentNode)) {
@@ -622,8 +571,8 @@ public class MediatorHandler {
             org.eclipse.lemminx.customservice.synapse.connectors.entity.Connector
                     connector = connectorHolder.getConnector(connectorName);
             ConnectorAction operation = connector.getAction(operationName);
-            if (operation != null) {
-                String uiSchemaPath = operation.getUiSchemaPath();
+            String uiSchemaPath = operation != null ? ConnectorReader.getUISchemaPath(connector, operation) : null;
+            if (uiSchemaPath != null) {
                 try {
                     JsonObject uiSchemaObject = Utils.getJsonObject(Utils.readFile(new File(uiSchemaPath)));
                     uiSchemaObject.addProperty(Constant.CAN_TRY_OUT,
@@ -652,6 +601,7 @@ public class MediatorHandler {
         try {
             this.mediatorList = Utils.getMediatorList(projectServerVersion, connectorHolder);
             this.agentToolList = Utils.getAgentToolList(mediatorList, connectorHolder);
+            this.dispatchTable = MediatorDispatchTable.build(mediatorList);
         } catch (IOException e) {
             LOGGER.log(Level.SEVERE, "Failed to reload mediators.", e);
         }
@@ -14,6 +14,7 @@
 
 package org.eclipse.lemminx.customservice.synapse.resourceFinder;
 
+import org.eclipse.lemminx.customservice.synapse.resourceFinder.pojo.ArtifactIndexEntry;
 import org.eclipse.lemminx.customservice.synapse.resourceFinder.pojo.ArtifactResource;
 import org.eclipse.lemminx.customservice.synapse.resourceFinder.pojo.RegistryResource;
 import org.eclipse.lemminx.customservice.synapse.resourceFinder.pojo.RequestedResource;
@@ -26,9 +27,6 @@ import org.eclipse.lemminx.customservice.synapse.resourceFinder.registryHander.S
 import org.eclipse.lemminx.customservice.synapse.resourceFinder.registryHander.SwaggerResourceHandler;
 import org.eclipse.lemminx.customservice.synapse.utils.Constant;
 import org.eclipse.lemminx.customservice.synapse.utils.Utils;
-import org.eclipse.lemminx.dom.DOMDocument;
-import org.eclipse.lemminx.dom.DOMElement;
-import org.eclipse.lemminx.dom.DOMNode;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
 
 import java.io.File;
@@ -52,12 +50,14 @@ public abstract class AbstractResourceFinder {
     private static final String ARTIFACTS = "ARTIFACTS";
     private static final String REGISTRY = "REGISTRY";
     private static final String LOCAL_ENTRY = "LOCAL_ENTRY";
+    private static final Pattern FILE_EXTENSION_PATTERN = Pattern.compile(".*\\.(.*)$");
     protected static final List<String> resourceFromRegistryOnly = List.of("dataMapper", "js", "json", "smooksConfig",
             "wsdl", "ws_policy", "xsd", "xsl", "xslt", "yaml", "registry", "unitTestRegistry", "schema", "swagger");
 
     // This has the xml tag mapping for each artifact type
     private static final Map<String, String> typeToXmlTagMap = new HashMap<>();
     protected Map<String, ResourceResponse> dependentResourcesMap = new HashMap<>();
+    protected ArtifactIndex artifactIndex;
 
     static {
 
@@ -83,6 +83,47 @@ public abstract class AbstractResourceFinder {
         typeToXmlTagMap.put("wsdl", "wsdl:definitions");
     }
 
+    /**
+     * Builds the artifact index for the given project. Once the index is built, resource lookups are served from the
+     * index instead of listing and parsing the artifact files.
+     *
+     * @param projectPath the absolute path to the project
+     */
+    public void initArtifactIndex(String projectPath) {
+
+        initArtifactIndex(new ArtifactIndex(projectPath, getIndexRoots(projectPath)));
+    }
+
+    /**
+     * Builds the artifact index for the given project, keeping its snapshot in the given folder.
+     *
+     * @param projectPath   the absolute path to the project
+     * @param indexLocation the folder of the index snapshots
+     */
+    public void initArtifactIndex(String projectPath, Path indexLocation) {
+
+        initArtifactIndex(new ArtifactIndex(projectPath, getIndexRoots(projectPath), indexLocation));
+    }
+
+    private void initArtifactIndex(ArtifactIndex index) {
+
+        artifactIndex = index;
+        index.build();
+    }
+
+    public ArtifactIndex getArtifactIndex() {
+
+        return artifactIndex;
+    }
+
+    /**
+     * Returns the folders that should be covered by the artifact index of the given project.
+     *
+     * @param projectPath the absolute path to the project
+     * @return the folders to index
+     */
+    protected abstract List<Path> getIndexRoots(String projectPath);
+
     public void initDependentResourcesMap() {
         dependentResourcesMap.put("endpoint", new ResourceResponse());
         dependentResourcesMap.put("sequence", new ResourceResponse());
@@ -233,10 +274,9 @@ public abstract class AbstractResourceFinder {
                 String resourceTypeFolder = getArtifactFolder(type);
                 if (resourceTypeFolder != null) {
                     Path resourceFolderPath = Path.of(artifactsPath.toString(), resourceTypeFolder);
-                    File folder = new File(resourceFolderPath.toString());
-                    File[] listOfFiles = folder.listFiles();
+                    List<File> listOfFiles = listFiles(resourceFolderPath);
                     if (listOfFiles != null) {
-                        List<Resource> resources1 = createResources(List.of(listOfFiles), type, ARTIFACTS);
+                        List<Resource> resources1 = createResources(listOfFiles, type, ARTIFACTS);
                         resources.addAll(resources1);
                     }
                 }
@@ -251,10 +291,10 @@ public abstract class AbstractResourceFinder {
         File folder = localEntryPath.toFile();
 
         if (folder.exists()) {
+            List<File> listOfFiles = listFiles(localEntryPath);
             for (RequestedResource requestedResource : types) {
-                File[] listOfFiles = folder.listFiles();
                 if (listOfFiles != null) {
-                    List<Resource> resources1 = createResources(List.of(listOfFiles), requestedResource.type,
+                    List<Resource> resources1 = createResources(listOfFiles, requestedResource.type,
                             LOCAL_ENTRY);
                     resources.addAll(resources1);
                 }
@@ -266,6 +306,26 @@ public abstract class AbstractResourceFinder {
 
     protected abstract String getArtifactFolder(String type);
 
+    private List<File> listFiles(Path folder) {
+
+        if (artifactIndex != null && artifactIndex.isIndexed(folder)) {
+            return artifactIndex.getFiles(folder);
+        }
+        File[] listOfFiles = folder.toFile().listFiles();
+        return listOfFiles != null ? List.of(listOfFiles) : null;
+    }
+
+    private ArtifactIndexEntry getIndexEntry(File file) {
+
+        if (artifactIndex != null) {
+            ArtifactIndexEntry entry = artifactIndex.getEntry(file);
+            if (entry != null) {
+                return entry;
+            }
+        }
+        return ArtifactIndex.createEntry(file);
+    }
+
     protected List<Resource> findResourceInRegistry(Path registryPath, List<RequestedResource> requestedResources) {
 
         List<Resource> resources = new ArrayList<>();
@@ -273,11 +333,17 @@ public abstract class AbstractResourceFinder {
         boolean isRegistryTypeRequested =
                 requestedResources.stream().anyMatch(requestedResource -> "registry".equals(requestedResource.type) ||
                         "unitTestRegistry".equals(requestedResource.type));
-        if (isRegistryTypeRequested) {
-            traverseFolder(folder, null, null, resources);
+        HashMap<String, String> requestedTypeToXmlTagMap = null;
+        NonXMLRegistryHandler nonXMLRegistryHandler = null;
+        if (!isRegistryTypeRequested) {
+            requestedTypeToXmlTagMap = getRequestedTypeToXmlTagMap(requestedResources);
+            nonXMLRegistryHandler = getNonXMLRegistryHandler(requestedResources, resources);
+        }
+        if (artifactIndex != null && artifactIndex.isIndexed(registryPath)) {
+            for (File file : artifactIndex.getFilesUnder(registryPath)) {
+                handleRegistryFile(file, requestedTypeToXmlTagMap, nonXMLRegistryHandler, resources);
+            }
         } else {
-            HashMap<String, String> requestedTypeToXmlTagMap = getRequestedTypeToXmlTagMap(requestedResources);
-            NonXMLRegistryHandler nonXMLRegistryHandler = getNonXMLRegistryHandler(requestedResources, resources);
             traverseFolder(folder, requestedTypeToXmlTagMap, nonXMLRegistryHandler, resources);
         }
         return resources;
@@ -348,36 +414,41 @@ public abstract class AbstractResourceFinder {
                         traverseFolder(file, requestedTypeToXmlTagMap, handler, resources);
                     }
                 } else if (file.isFile()) {
-                    if (Utils.isRegistryPropertiesFile(file)) {
-                        continue;
-                    }
-                    if (file.getAbsolutePath().endsWith(Path.of(Constant.RESOURCES, Constant.ARTIFACT_XML).toString()) ||
-                            file.getAbsolutePath().endsWith(Path.of(Constant.RESOURCES, Constant.REGISTRY, Constant.ARTIFACT_XML).toString())) {
-                        continue;
-                    }
-                    if (handler == null && requestedTypeToXmlTagMap == null) {
-                        Resource resource = createNonXmlResource(file, Constant.REGISTRY, REGISTRY);
-                        if (resource != null) {
-                            resources.add(resource);
-                        }
-                        continue;
-                    }
-                    Pattern pattern = Pattern.compile(".*\\.(.*)$");
-                    Matcher matcher = pattern.matcher(file.getName());
-                    if (matcher.find()) {
-                        String fileExtension = matcher.group(1);
-                        if (Constant.XML.equals(fileExtension)) {
-                            Resource resource = createResource(file, requestedTypeToXmlTagMap, REGISTRY);
-                            if (resource != null) {
-                                resources.add(resource);
-                            } else {
-                                handler.handleFile(file);
-                            }
-                        } else {
-                            handler.handleFile(file);
-                        }
-                    }
+                    handleRegistryFile(file, requestedTypeToXmlTagMap, handler, resources);
+                }
+            }
+        }
+    }
+
+    private void handleRegistryFile(File file, HashMap<String, String> requestedTypeToXmlTagMap,
+                                    NonXMLRegistryHandler handler, List<Resource> resources) {
+
+        if (Utils.isRegistryPropertiesFile(file)) {
+            return;
+        }
+        if (file.getAbsolutePath().endsWith(Path.of(Constant.RESOURCES, Constant.ARTIFACT_XML).toString()) ||
+                file.getAbsolutePath().endsWith(Path.of(Constant.RESOURCES, Constant.REGISTRY, Constant.ARTIFACT_XML).toString())) {
+            return;
+        }
+        if (handler == null && requestedTypeToXmlTagMap == null) {
+            Resource resource = createNonXmlResource(file, Constant.REGISTRY, REGISTRY);
+            if (resource != null) {
+                resources.add(resource);
+            }
+            return;
+        }
+        Matcher matcher = FILE_EXTENSION_PATTERN.matcher(file.getName());
+        if (matcher.find()) {
+            String fileExtension = matcher.group(1);
+            if (Constant.XML.equals(fileExtension)) {
+                Resource resource = createResource(file, requestedTypeToXmlTagMap, REGISTRY);
+                if (resource != null) {
+                    resources.add(resource);
+                } else {
+                    handler.handleFile(file);
                 }
+            } else {
+                handler.handleFile(file);
             }
         }
     }
@@ -389,25 +460,16 @@ public abstract class AbstractResourceFinder {
 
     private Resource createResource(File file, HashMap<String, String> requestedTypeToXmlTagMap, String from) {
 
-        try {
-            DOMDocument document = Utils.getDOMDocument(file);
-            if (document != null && document.getDocumentElement() != null) {
-                DOMElement rootElement = Utils.getRootElement(document);
-                if (rootElement != null) {
-                    String type = rootElement.getNodeName();
-                    if (type != null && requestedTypeToXmlTagMap.containsValue(type)) {
-                        Resource resource = null;
-                        if (ARTIFACTS.equals(from)) {
-                            resource = createArtifactResource(file, rootElement, type, Boolean.FALSE);
-                        } else if (REGISTRY.equals(from)) {
-                            resource = createRegistryResource(file, rootElement, type);
-                        }
-                        return resource;
-                    }
-                }
+        ArtifactIndexEntry entry = getIndexEntry(file);
+        String type = entry.getRootTag();
+        if (type != null && requestedTypeToXmlTagMap.containsValue(type)) {
+            Resource resource = null;
+            if (ARTIFACTS.equals(from)) {
+                resource = createArtifactResource(file, entry, type, Boolean.FALSE);
+            } else if (REGISTRY.equals(from)) {
+                resource = createRegistryResource(file, entry, type);
             }
-        } catch (IOException e) {
-            LOGGER.warning("Error while reading file: " + file.getName() + " to create resource object");
+            return resource;
         }
         return null;
     }
@@ -426,29 +488,23 @@ public abstract class AbstractResourceFinder {
 
     private Resource createResource(File file, String type, String from) {
 
-        try {
-            DOMDocument document = Utils.getDOMDocument(file);
-            DOMElement rootElement;
-            String nodeName;
-            if (LOCAL_ENTRY.equals(from)) {
-                nodeName = Constant.LOCAL_ENTRY;
-            } else {
-                nodeName = typeToXmlTagMap.get(type);
-            }
-            rootElement = (DOMElement) Utils.getChildNodeByName(document, nodeName);
-            if (rootElement != null && checkValid(rootElement, type, from)) {
-                Resource resource = null;
-                if (ARTIFACTS.equals(from)) {
-                    resource = createArtifactResource(file, rootElement, type, Boolean.FALSE);
-                } else if (REGISTRY.equals(from)) {
-                    resource = createRegistryResource(file, rootElement, type);
-                } else if (LOCAL_ENTRY.equals(from)) {
-                    resource = createArtifactResource(file, rootElement, type, Boolean.TRUE);
-                }
-                return resource;
+        ArtifactIndexEntry entry = getIndexEntry(file);
+        String nodeName;
+        if (LOCAL_ENTRY.equals(from)) {
+            nodeName = Constant.LOCAL_ENTRY;
+        } else {
+            nodeName = typeToXmlTagMap.get(type);
+        }
+        if (nodeName != null && nodeName.equals(entry.getRootTag()) && checkValid(entry, type, from)) {
+            Resource resource = null;
+            if (ARTIFACTS.equals(from)) {
+                resource = createArtifactResource(file, entry, type, Boolean.FALSE);
+            } else if (REGISTRY.equals(from)) {
+                resource = createRegistryResource(file, entry, type);
+            } else if (LOCAL_ENTRY.equals(from)) {
+                resource = createArtifactResource(file, entry, type, Boolean.TRUE);
             }
-        } catch (IOException e) {
-            LOGGER.warning("Error while reading file: " + file.getName() + " to create resource object");
+            return resource;
         }
         return null;
     }
@@ -470,38 +526,31 @@ public abstract class AbstractResourceFinder {
         return resource;
     }
 
-    private boolean checkValid(DOMElement rootElement, String type, String from) {
+    private boolean checkValid(ArtifactIndexEntry entry, String type, String from) {
 
-        String nodeName = rootElement.getNodeName();
+        String nodeName = entry.getRootTag();
         if (LOCAL_ENTRY.equals(from)) {
             String xmlTag = typeToXmlTagMap.containsKey(type) ? typeToXmlTagMap.get(type) : type;
-            DOMElement artifactElt = Utils.getFirstElement(rootElement);
-            if (artifactElt != null) {
-                String artifactType = artifactElt.getNodeName();
+            String artifactType = entry.getFirstChildTag();
+            if (artifactType != null) {
                 return xmlTag.equals(artifactType);
             }
             return false;
         } else if (Constant.TEMPLATE.equals(nodeName)) {
             if ("sequenceTemplate".equals(type)) {
-                DOMElement sequenceElement = (DOMElement) Utils.getChildNodeByName(rootElement, Constant.SEQUENCE);
-                if (sequenceElement != null) {
-                    return true;
-                }
+                return entry.hasChild(Constant.SEQUENCE);
             } else if ("endpointTemplate".equals(type)) {
-                DOMElement endpointElement = (DOMElement) Utils.getChildNodeByName(rootElement, Constant.ENDPOINT);
-                if (endpointElement != null) {
-                    return true;
-                }
+                return entry.hasChild(Constant.ENDPOINT);
             }
             return false;
         }
         return true;
     }
 
-    private Resource createArtifactResource(File file, DOMElement rootElement, String type, boolean isLocalEntry) {
+    private Resource createArtifactResource(File file, ArtifactIndexEntry entry, String type, boolean isLocalEntry) {
 
         Resource artifact = new ArtifactResource();
-        String name = getArtifactName(rootElement);
+        String name = entry.getName();
         if (name != null) {
             artifact.setName(name);
             artifact.setType(Utils.addUnderscoreBetweenWords(type).toUpperCase());
@@ -514,10 +563,10 @@ public abstract class AbstractResourceFinder {
         return null;
     }
 
-    private Resource createRegistryResource(File file, DOMElement rootElement, String type) {
+    private Resource createRegistryResource(File file, ArtifactIndexEntry entry, String type) {
 
         Resource registry = new RegistryResource();
-        String name = getArtifactName(rootElement);
+        String name = entry.getName();
         if (name == null) {
             name = file.getName();
         }
@@ -528,50 +577,10 @@ public abstract class AbstractResourceFinder {
         ((RegistryResource) registry).setRegistryPath(file.getAbsolutePath());
         if (Utils.isFileInRegistry(file)) {
             registry.setFrom(Constant.REGISTRY);
-            ((RegistryResource) registry).setRegistryKey(Utils.getRegistryKey(file));
         } else {
             registry.setFrom(Constant.RESOURCES);
-            ((RegistryResource) registry).setRegistryKey(Utils.getResourceKey(file));
         }
+        ((RegistryResource) registry).setRegistryKey(entry.getRegistryKey());
         return registry;
     }
-
-    private String getArtifactName(DOMElement rootElement) {
-
-        if (isApiArtifact(rootElement)) {
-            return getApiArtifactName(rootElement);
-        } else {
-            return getNonApiArtifactName(rootElement);
-        }
-    }
-
-    private boolean isApiArtifact(DOMElement rootElement) {
-
-        return Constant.API.equalsIgnoreCase(rootElement.getNodeName());
-    }
-
-    private String getApiArtifactName(DOMElement rootElement) {
-
-        StringBuilder name = new StringBuilder();
-        name.append(rootElement.getAttribute(Constant.NAME));
-        if (rootElement.hasAttribute(Constant.VERSION)) {
-            name.append(":v").append(rootElement.getAttribute(Constant.VERSION));
-        }
-        return name.toString();
-    }
-
-    private String getNonApiArtifactName(DOMElement rootElement) {
-
-        if (rootElement.hasAttribute(Constant.NAME)) {
-            return rootElement.getAttribute(Constant.NAME);
-        } else if (rootElement.hasAttribute(Constant.KEY)) {
-            return rootElement.getAttribute(Constant.KEY);
-        } else {
-            DOMNode nameNode = Utils.getChildNodeByName(rootElement, Constant.NAME);
-            if (nameNode != null) {
-                return Utils.getInlineString(nameNode.getFirstChild());
-            }
-            return null;
-        }
-    }
 }
@@ -0,0 +1,402 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.resourceFinder;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import org.eclipse.lemminx.customservice.synapse.resourceFinder.pojo.ArtifactIndexEntry;
+import org.eclipse.lemminx.customservice.synapse.utils.Constant;
+import org.eclipse.lemminx.customservice.synapse.utils.Utils;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMElement;
+import org.eclipse.lemminx.dom.DOMNode;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * In-memory index of the files in the artifact and registry folders of a project.
+ * <p>
+ * The index is built once when the language server starts and is kept up to date using the file events received
+ * from the client. The file events received while the index is being built are replayed once the build completes. A
+ * snapshot of the index is written to the {@code ~/.wso2-mi/artifact-index} folder, unless another location is given,
+ * so that a later start can reuse the entries of the files whose modified time and size did not change.
+ */
+public class ArtifactIndex {
+
+    private static final Logger LOGGER = Logger.getLogger(ArtifactIndex.class.getName());
+    private static final Path ARTIFACT_INDEX_LOCATION =
+            Path.of(System.getProperty(Constant.USER_HOME), Constant.WSO2_MI, "artifact-index");
+    private static final String META_FOLDER = ".meta";
+
+    private final List<Path> roots;
+    private final Path snapshotPath;
+    private final Map<String, ArtifactIndexEntry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> folders = new ConcurrentHashMap<>();
+    private final Set<File> pendingFiles = new LinkedHashSet<>();
+    private volatile boolean built;
+    private int reusedCount;
+
+    public ArtifactIndex(String projectPath, List<Path> roots) {
+
+        this(projectPath, roots, ARTIFACT_INDEX_LOCATION);
+    }
+
+    /**
+     * Creates the index of the given project, keeping its snapshot in the given folder.
+     *
+     * @param projectPath   the absolute path to the project
+     * @param roots         the folders to index
+     * @param indexLocation the folder of the index snapshots
+     */
+    public ArtifactIndex(String projectPath, List<Path> roots, Path indexLocation) {
+
+        this.roots = roots.stream().map(root -> root.toAbsolutePath().normalize()).collect(Collectors.toList());
+        this.snapshotPath = indexLocation.resolve(Utils.getHash(projectPath) + ".json");
+    }
+
+    /**
+     * Builds the index by walking the index roots. Entries of the previous snapshot are reused for the files that
+     * are not modified since the snapshot was taken.
+     */
+    public void build() {
+
+        long start = System.currentTimeMillis();
+        Map<String, ArtifactIndexEntry> snapshot = loadSnapshot();
+        int reused = 0;
+        entries.clear();
+        folders.clear();
+        for (Path root : roots) {
+            if (!Files.isDirectory(root)) {
+                continue;
+            }
+            try (Stream<Path> walk = Files.walk(root)) {
+                List<Path> files = walk.filter(Files::isRegularFile).collect(Collectors.toList());
+                for (Path path : files) {
+                    File file = path.toFile();
+                    ArtifactIndexEntry cached = snapshot.get(file.getAbsolutePath());
+                    if (cached != null && cached.getLastModified() == file.lastModified() &&
+                            cached.getSize() == file.length()) {
+                        put(cached);
+                        reused++;
+                    } else {
+                        put(createEntry(file));
+                    }
+                }
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Error while indexing the folder: " + root, e);
+            }
+        }
+        reusedCount = reused;
+        List<File> pending;
+        synchronized (pendingFiles) {
+            built = true;
+            pending = new ArrayList<>(pendingFiles);
+            pendingFiles.clear();
+        }
+        // the files changed while the folders were walked are indexed again from their current state
+        for (File file : pending) {
+            update(file);
+        }
+        saveSnapshot();
+        LOGGER.info(String.format("Artifact index built with %d entries (%d reused from snapshot) in %d ms",
+                entries.size(), reused, System.currentTimeMillis() - start));
+    }
+
+    /**
+     * Re-indexes the given file or folder. Files that no longer exist are removed from the index. If the index is
+     * being built, the file is re-indexed once the build completes.
+     *
+     * @param file the created or changed file
+     */
+    public void update(File file) {
+
+        if (!isUnderRoots(file.toPath()) || deferUntilBuilt(file)) {
+            return;
+        }
+        if (file.isDirectory()) {
+            remove(file);
+            try (Stream<Path> walk = Files.walk(file.toPath())) {
+                walk.filter(Files::isRegularFile).forEach(path -> put(createEntry(path.toFile())));
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Error while indexing the folder: " + file, e);
+            }
+        } else if (file.isFile()) {
+            put(createEntry(file));
+        } else {
+            remove(file);
+        }
+    }
+
+    /**
+     * Removes the given file, or all the files under the given folder, from the index. If the index is being built,
+     * the file is removed once the build completes.
+     *
+     * @param file the deleted file or folder
+     */
+    public void remove(File file) {
+
+        if (deferUntilBuilt(file)) {
+            return;
+        }
+        String path = file.getAbsolutePath();
+        ArtifactIndexEntry removed = entries.remove(path);
+        if (removed != null) {
+            Set<String> siblings = folders.get(file.getParent());
+            if (siblings != null) {
+                siblings.remove(path);
+            }
+            return;
+        }
+        String folderPrefix = path + File.separator;
+        entries.keySet().removeIf(entryPath -> entryPath.startsWith(folderPrefix));
+        folders.keySet().removeIf(folderPath -> folderPath.equals(path) || folderPath.startsWith(folderPrefix));
+    }
+
+    /**
+     * Checks whether the given path is covered by the index.
+     *
+     * @param path the file or folder path
+     * @return true if the index is built and the path is inside one of the index roots
+     */
+    public boolean isIndexed(Path path) {
+
+        return built && isUnderRoots(path);
+    }
+
+    private boolean isUnderRoots(Path path) {
+
+        if (path == null) {
+            return false;
+        }
+        Path normalized = path.toAbsolutePath().normalize();
+        return roots.stream().anyMatch(normalized::startsWith);
+    }
+
+    private boolean deferUntilBuilt(File file) {
+
+        if (built) {
+            return false;
+        }
+        synchronized (pendingFiles) {
+            if (built) {
+                return false;
+            }
+            pendingFiles.add(file);
+            return true;
+        }
+    }
+
+    public ArtifactIndexEntry getEntry(File file) {
+
+        if (!built) {
+            return null;
+        }
+        return entries.get(file.getAbsolutePath());
+    }
+
+    /**
+     * Returns the files directly inside the given folder.
+     *
+     * @param folder the folder
+     * @return the files in the folder sorted by path
+     */
+    public List<File> getFiles(Path folder) {
+
+        Set<String> paths = folders.get(folder.toAbsolutePath().normalize().toString());
+        if (paths == null) {
+            return new ArrayList<>();
+        }
+        return paths.stream().sorted().map(File::new).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns all the files under the given folder, skipping the registry {@code .meta} folders.
+     *
+     * @param folder the folder
+     * @return the files under the folder sorted by path
+     */
+    public List<File> getFilesUnder(Path folder) {
+
+        String folderPrefix = folder.toAbsolutePath().normalize() + File.separator;
+        String metaSegment = File.separator + META_FOLDER + File.separator;
+        return entries.keySet().stream()
+                .filter(path -> path.startsWith(folderPrefix))
+                .filter(path -> !path.substring(folderPrefix.length() - 1).contains(metaSegment))
+                .sorted(Comparator.naturalOrder())
+                .map(File::new)
+                .collect(Collectors.toList());
+    }
+
+    public int size() {
+
+        return entries.size();
+    }
+
+    public boolean isBuilt() {
+
+        return built;
+    }
+
+    /**
+     * Returns the number of entries reused from the snapshot by the last build.
+     *
+     * @return the number of reused entries
+     */
+    public int getReusedCount() {
+
+        return reusedCount;
+    }
+
+    /**
+     * Writes the current index to the snapshot file.
+     */
+    public void saveSnapshot() {
+
+        if (!built) {
+            return;
+        }
+        try {
+            Files.createDirectories(snapshotPath.getParent());
+            try (Writer writer = Files.newBufferedWriter(snapshotPath, StandardCharsets.UTF_8)) {
+                new Gson().toJson(entries.values().toArray(new ArtifactIndexEntry[0]), writer);
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Error while writing the artifact index snapshot", e);
+        }
+    }
+
+    private Map<String, ArtifactIndexEntry> loadSnapshot() {
+
+        Map<String, ArtifactIndexEntry> snapshot = new HashMap<>();
+        if (!Files.exists(snapshotPath)) {
+            return snapshot;
+        }
+        try (Reader reader = Files.newBufferedReader(snapshotPath, StandardCharsets.UTF_8)) {
+            ArtifactIndexEntry[] cachedEntries = new Gson().fromJson(reader, ArtifactIndexEntry[].class);
+            if (cachedEntries != null) {
+                for (ArtifactIndexEntry entry : cachedEntries) {
+                    snapshot.put(entry.getPath(), entry);
+                }
+            }
+        } catch (IOException | JsonSyntaxException e) {
+            LOGGER.log(Level.WARNING, "Error while reading the artifact index snapshot. Rebuilding the index.", e);
+        }
+        return snapshot;
+    }
+
+    private void put(ArtifactIndexEntry entry) {
+
+        entries.put(entry.getPath(), entry);
+        String parent = new File(entry.getPath()).getParent();
+        if (parent != null) {
+            folders.computeIfAbsent(parent, key -> ConcurrentHashMap.newKeySet()).add(entry.getPath());
+        }
+    }
+
+    /**
+     * Creates the index entry for the given file. XML files are parsed to read the root element details.
+     *
+     * @param file the file
+     * @return the index entry of the file
+     */
+    public static ArtifactIndexEntry createEntry(File file) {
+
+        ArtifactIndexEntry entry = new ArtifactIndexEntry();
+        entry.setPath(file.getAbsolutePath());
+        entry.setLastModified(file.lastModified());
+        entry.setSize(file.length());
+        if (Utils.isFileInRegistry(file)) {
+            entry.setRegistryKey(Utils.getRegistryKey(file));
+        } else {
+            entry.setRegistryKey(Utils.getResourceKey(file));
+        }
+        if (Utils.isXml(file)) {
+            try {
+                DOMDocument document = Utils.getDOMDocument(file);
+                DOMElement rootElement = Utils.getRootElement(document);
+                if (rootElement != null) {
+                    entry.setRootTag(rootElement.getNodeName());
+                    entry.setName(getArtifactName(rootElement));
+                    DOMElement firstChild = Utils.getFirstElement(rootElement);
+                    if (firstChild != null) {
+                        entry.setFirstChildTag(firstChild.getNodeName());
+                    }
+                    List<String> childTags = new ArrayList<>();
+                    for (DOMNode child : rootElement.getChildren()) {
+                        if (child instanceof DOMElement && !childTags.contains(child.getNodeName())) {
+                            childTags.add(child.getNodeName());
+                        }
+                    }
+                    entry.setChildTags(childTags);
+                }
+            } catch (IOException e) {
+                LOGGER.warning("Error while reading file: " + file.getName() + " to create the index entry");
+            }
+        }
+        return entry;
+    }
+
+    private static String getArtifactName(DOMElement rootElement) {
+
+        if (Constant.API.equalsIgnoreCase(rootElement.getNodeName())) {
+            return getApiArtifactName(rootElement);
+        } else {
+            return getNonApiArtifactName(rootElement);
+        }
+    }
+
+    private static String getApiArtifactName(DOMElement rootElement) {
+
+        StringBuilder name = new StringBuilder();
+        name.append(rootElement.getAttribute(Constant.NAME));
+        if (rootElement.hasAttribute(Constant.VERSION)) {
+            name.append(":v").append(rootElement.getAttribute(Constant.VERSION));
+        }
+        return name.toString();
+    }
+
+    private static String getNonApiArtifactName(DOMElement rootElement) {
+
+        if (rootElement.hasAttribute(Constant.NAME)) {
+            return rootElement.getAttribute(Constant.NAME);
+        } else if (rootElement.hasAttribute(Constant.KEY)) {
+            return rootElement.getAttribute(Constant.KEY);
+        } else {
+            DOMNode nameNode = Utils.getChildNodeByName(rootElement, Constant.NAME);
+            if (nameNode != null) {
+                return Utils.getInlineString(nameNode.getFirstChild());
+            }
+            return null;
+        }
+    }
+}
@@ -81,6 +81,13 @@ public class NewProjectResourceFinder extends AbstractResourceFinder {
         }
     }
 
+    @Override
+    protected List<Path> getIndexRoots(String projectPath) {
+
+        return List.of(Path.of(projectPath, "src", "main", "wso2mi", "artifacts"),
+                Path.of(projectPath, Constant.SRC, Constant.MAIN, Constant.WSO2MI, Constant.RESOURCES));
+    }
+
     @Override
     protected String getArtifactFolder(String type) {
 
@@ -62,6 +62,25 @@ public class OldProjectResourceFinder extends AbstractResourceFinder {
         return response;
     }
 
+    @Override
+    protected List<Path> getIndexRoots(String projectPath) {
+
+        List<Path> roots = new ArrayList<>();
+        try {
+            for (String esbConfigPath : LegacyConfigFinder.getConfigPaths(projectPath,
+                    ProjectType.ESB_CONFIGS.value)) {
+                roots.add(Path.of(esbConfigPath, "src", "main", "synapse-config"));
+            }
+            for (String registryConfigPath : LegacyConfigFinder.getConfigPaths(projectPath,
+                    ProjectType.REGISTRY_RESOURCE.value)) {
+                roots.add(Path.of(registryConfigPath));
+            }
+        } catch (IOException e) {
+            LOGGER.warning("Error while finding the folders to index in legacy project");
+        }
+        return roots;
+    }
+
     @Override
     protected String getArtifactFolder(String type) {
 
@@ -79,4 +79,23 @@ public class ResourceUsageFinder {
         return DirectoryTreeBuilder.getProjectIdentifiers(new WorkspaceFolder(projectUri),
                 resourceUsagesList);
     }
+
+    /**
+     * Finds the usages of the given resource using the reverse dependency graph of the project.
+     *
+     * @param projectUri         the project path
+     * @param resourceFilePath   the path of the resource file
+     * @param resourceUsageGraph the reverse dependency graph of the project
+     * @param connectorHolder    the available connectors
+     * @return the project identifiers of the artifacts and connections using the resource
+     */
+    public static List<String> findResourceUsagesProjectIdentifiers(String projectUri, String resourceFilePath,
+                                                                    ResourceUsageGraph resourceUsageGraph,
+                                                                    ConnectorHolder connectorHolder) {
+
+        String derivedKey = Utils.deriveResourceKeyFromFilePath(resourceFilePath);
+        List<String> resourceUsagesList = resourceUsageGraph.findUsages(derivedKey, connectorHolder);
+        return DirectoryTreeBuilder.getProjectIdentifiers(new WorkspaceFolder(projectUri),
+                resourceUsagesList);
+    }
 }
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.resourceFinder;
+
+import org.eclipse.lemminx.customservice.synapse.connectors.ConnectionFinder;
+import org.eclipse.lemminx.customservice.synapse.connectors.ConnectorHolder;
+import org.eclipse.lemminx.customservice.synapse.connectors.entity.Connection;
+import org.eclipse.lemminx.customservice.synapse.connectors.entity.ConnectionParameter;
+import org.eclipse.lemminx.customservice.synapse.dependency.tree.DependencyScanner;
+import org.eclipse.lemminx.customservice.synapse.dependency.tree.pojo.Dependency;
+import org.eclipse.lemminx.customservice.synapse.dependency.tree.pojo.DependencyTree;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Reverse dependency graph of a project. For each resource key, the graph keeps the artifacts and the connections
+ * that refer to it, so that finding the usages of a resource does not need to analyze the whole project.
+ * <p>
+ * The forward edges of an artifact are computed with the {@link DependencyScanner}. Only the artifacts reported as
+ * changed are re-analyzed on the next lookup. Creating a file can introduce new references from existing artifacts,
+ * hence it triggers a full refresh of the graph.
+ */
+public class ResourceUsageGraph {
+
+    private static final Logger LOGGER = Logger.getLogger(ResourceUsageGraph.class.getName());
+    private static final String LOCAL_ENTRY_TYPE = "LOCAL_ENTRY";
+
+    private final String projectPath;
+    private final Map<String, Set<String>> forwardEdges = new HashMap<>();
+    private final Map<String, Set<String>> artifactUsages = new HashMap<>();
+    private final Map<String, Connection> connections = new HashMap<>();
+    private final Map<String, Set<String>> connectionUsages = new HashMap<>();
+    private final Set<String> changedArtifacts = new HashSet<>();
+    private boolean refreshRequired = true;
+
+    public ResourceUsageGraph(String projectPath) {
+
+        this.projectPath = projectPath;
+    }
+
+    /**
+     * Returns the artifacts and connections that use the given resource key.
+     *
+     * @param resourceKey     the resource key
+     * @param connectorHolder the available connectors
+     * @return the paths of the artifacts and the connections using the resource
+     */
+    public synchronized List<String> findUsages(String resourceKey, ConnectorHolder connectorHolder) {
+
+        refresh();
+        List<String> usages = new ArrayList<>(artifactUsages.getOrDefault(resourceKey, Collections.emptySet()));
+        for (String connectionPath : connectionUsages.getOrDefault(resourceKey, Collections.emptySet())) {
+            Connection connection = connections.get(connectionPath);
+            if (connection != null && isAvailableConnector(connection.getConnectorName(), connectorHolder)) {
+                usages.add(connectionPath);
+            }
+        }
+        return usages;
+    }
+
+    /**
+     * Marks the given artifact to be re-analyzed on the next lookup.
+     *
+     * @param artifactPath the absolute path of the changed artifact
+     */
+    public synchronized void artifactChanged(String artifactPath) {
+
+        if (isArtifact(artifactPath)) {
+            changedArtifacts.add(artifactPath);
+        }
+    }
+
+    /**
+     * Records a newly created file. Existing artifacts might already refer to it, so the graph is refreshed fully on
+     * the next lookup.
+     *
+     * @param path the absolute path of the created file
+     */
+    public synchronized void artifactCreated(String path) {
+
+        if (Path.of(path).startsWith(Path.of(projectPath, "src", "main", "wso2mi"))) {
+            refreshRequired = true;
+        }
+    }
+
+    /**
+     * Removes the edges of a deleted artifact, or of all the artifacts in a deleted folder.
+     *
+     * @param path the absolute path of the deleted file or folder
+     */
+    public synchronized void artifactDeleted(String path) {
+
+        String folderPrefix = path + File.separator;
+        for (String artifactPath : new ArrayList<>(forwardEdges.keySet())) {
+            if (artifactPath.equals(path) || artifactPath.startsWith(folderPrefix)) {
+                removeEdges(artifactPath);
+                forwardEdges.remove(artifactPath);
+            }
+        }
+        changedArtifacts.remove(path);
+    }
+
+    private void refresh() {
+
+        if (refreshRequired) {
+            long start = System.currentTimeMillis();
+            forwardEdges.clear();
+            artifactUsages.clear();
+            connections.clear();
+            connectionUsages.clear();
+            changedArtifacts.clear();
+            DependencyScanner dependencyScanner = new DependencyScanner(projectPath);
+            for (String artifactPath : ArtifactFileScanner.scanArtifactFiles(projectPath, true)) {
+                analyze(artifactPath, dependencyScanner);
+            }
+            refreshRequired = false;
+            LOGGER.info(String.format("Resource usage graph built for %d artifacts in %d ms", forwardEdges.size(),
+                    System.currentTimeMillis() - start));
+        } else if (!changedArtifacts.isEmpty()) {
+            DependencyScanner dependencyScanner = new DependencyScanner(projectPath);
+            for (String artifactPath : changedArtifacts) {
+                removeEdges(artifactPath);
+                if (new File(artifactPath).isFile()) {
+                    analyze(artifactPath, dependencyScanner);
+                } else {
+                    forwardEdges.remove(artifactPath);
+                }
+            }
+            changedArtifacts.clear();
+        }
+    }
+
+    private void analyze(String artifactPath, DependencyScanner dependencyScanner) {
+
+        Set<String> keys = new HashSet<>();
+        DependencyTree dependencyTree = dependencyScanner.analyzeArtifact(artifactPath);
+        for (Dependency dependency : dependencyTree.getDependencyList()) {
+            if (dependency.getName() != null) {
+                keys.add(dependency.getName());
+                artifactUsages.computeIfAbsent(dependency.getName(), key -> new TreeSet<>()).add(artifactPath);
+            }
+        }
+        forwardEdges.put(artifactPath, keys);
+        if (LOCAL_ENTRY_TYPE.equals(dependencyTree.getType())) {
+            analyzeConnection(artifactPath, dependencyTree.getName());
+        }
+    }
+
+    private void analyzeConnection(String artifactPath, String localEntryName) {
+
+        try {
+            Connection connection = ConnectionFinder.getConnection(localEntryName, artifactPath);
+            if (connection != null && connection.getParameters() != null) {
+                connections.put(artifactPath, connection);
+                for (ConnectionParameter parameter : connection.getParameters()) {
+                    if (parameter.getValue() != null) {
+                        connectionUsages.computeIfAbsent(parameter.getValue(), key -> new TreeSet<>())
+                                .add(artifactPath);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Error while reading the connection in: " + artifactPath, e);
+        }
+    }
+
+    private void removeEdges(String artifactPath) {
+
+        Set<String> keys = forwardEdges.get(artifactPath);
+        if (keys != null) {
+            for (String key : keys) {
+                removeUsage(artifactUsages, key, artifactPath);
+            }
+        }
+        Connection connection = connections.remove(artifactPath);
+        if (connection != null) {
+            for (ConnectionParameter parameter : connection.getParameters()) {
+                if (parameter.getValue() != null) {
+                    removeUsage(connectionUsages, parameter.getValue(), artifactPath);
+                }
+            }
+        }
+    }
+
+    private void removeUsage(Map<String, Set<String>> usages, String key, String artifactPath) {
+
+        Set<String> paths = usages.get(key);
+        if (paths != null) {
+            paths.remove(artifactPath);
+            if (paths.isEmpty()) {
+                usages.remove(key);
+            }
+        }
+    }
+
+    private boolean isArtifact(String path) {
+
+        Path artifactsPath = Path.of(projectPath, "src", "main", "wso2mi", "artifacts");
+        return Path.of(path).startsWith(artifactsPath);
+    }
+
+    private boolean isAvailableConnector(String connectorName, ConnectorHolder connectorHolder) {
+
+        return connectorHolder != null && connectorHolder.getConnectors().stream()
+                .anyMatch(connector -> connector.getName().equals(connectorName));
+    }
+}
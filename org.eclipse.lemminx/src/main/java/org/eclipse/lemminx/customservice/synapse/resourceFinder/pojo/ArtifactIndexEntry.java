@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.resourceFinder.pojo;
+
+import java.util.List;
+
+/**
+ * Summary of a single project file kept in the artifact index. Only the information required to build
+ * {@link Resource} objects is stored, so that resource lookups do not need to re-parse the file.
+ */
+public class ArtifactIndexEntry {
+
+    private String path;
+    private long lastModified;
+    private long size;
+    private String rootTag;
+    private String name;
+    private String firstChildTag;
+    private List<String> childTags;
+    private String registryKey;
+
+    public String getPath() {
+
+        return path;
+    }
+
+    public void setPath(String path) {
+
+        this.path = path;
+    }
+
+    public long getLastModified() {
+
+        return lastModified;
+    }
+
+    public void setLastModified(long lastModified) {
+
+        this.lastModified = lastModified;
+    }
+
+    public long getSize() {
+
+        return size;
+    }
+
+    public void setSize(long size) {
+
+        this.size = size;
+    }
+
+    public String getRootTag() {
+
+        return rootTag;
+    }
+
+    public void setRootTag(String rootTag) {
+
+        this.rootTag = rootTag;
+    }
+
+    public String getName() {
+
+        return name;
+    }
+
+    public void setName(String name) {
+
+        this.name = name;
+    }
+
+    public String getFirstChildTag() {
+
+        return firstChildTag;
+    }
+
+    public void setFirstChildTag(String firstChildTag) {
+
+        this.firstChildTag = firstChildTag;
+    }
+
+    public List<String> getChildTags() {
+
+        return childTags;
+    }
+
+    public void setChildTags(List<String> childTags) {
+
+        this.childTags = childTags;
+    }
+
+    public String getRegistryKey() {
+
+        return registryKey;
+    }
+
+    public void setRegistryKey(String registryKey) {
+
+        this.registryKey = registryKey;
+    }
+
+    public boolean isXml() {
+
+        return rootTag != null;
+    }
+
+    public boolean hasChild(String tag) {
+
+        return childTags != null && childTags.stream().anyMatch(tag::equalsIgnoreCase);
+    }
+
+    @Override
+    public String toString() {
+
+        return "ArtifactIndexEntry{" +
+                "path='" + path + '\'' +
+                ", rootTag='" + rootTag + '\'' +
+                ", name='" + name + '\'' +
+                '}';
+    }
+}
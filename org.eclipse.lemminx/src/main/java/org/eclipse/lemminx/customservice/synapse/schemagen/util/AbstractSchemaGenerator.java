@@ -14,14 +14,49 @@
 
 package org.eclipse.lemminx.customservice.synapse.schemagen.util;
 
+import java.io.BufferedReader;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 
 // import org.json.Schema;
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.input.BOMInputStream;
 
 public class AbstractSchemaGenerator implements ISchemaGenerator {
 
+	private int sampleSize = SchemaSampler.DEFAULT_SAMPLE_SIZE;
+
+	/**
+	 * Sets the number of array elements, CSV rows or repeated XML elements from
+	 * which the schema is inferred.
+	 *
+	 * @param sampleSize the sample size
+	 */
+	public void setSampleSize(int sampleSize) {
+		this.sampleSize = sampleSize;
+	}
+
+	protected SchemaSampler getSampler() {
+		return new SchemaSampler(sampleSize);
+	}
+
+	/**
+	 * Opens the JSON or CSV file with the UTF-8 encoding, skipping the byte order
+	 * mark if any.
+	 *
+	 * @param file the file
+	 * @return the reader of the file
+	 * @throws IOException
+	 */
+	protected Reader openReader(File file) throws IOException {
+		return new BufferedReader(
+				new InputStreamReader(new BOMInputStream(new FileInputStream(file)), StandardCharsets.UTF_8));
+	}
+
 	/* (non-Javadoc)
 	 * @see org.eclipse.lemminx.customservice.synapse.schemagen.util.ISchemaGenerator#getAvroSchema(java.lang.String)
 	 */
@@ -71,6 +71,10 @@ public class SchemaBuilder {
 
 	public String createSchema(String jsonString, FileType type) {
 		JsonParser jsonParser = new JsonParser();
+		return createSchema(jsonParser.parse(jsonString), type);
+	}
+
+	public String createSchema(JsonElement jsonElement, FileType type) {
 		JsonObject firstObject = null;
 		String title = ROOT_TITLE;
 		JsonObject jsonObject = null;
@@ -80,9 +84,8 @@ public class SchemaBuilder {
 		root.setDolarSchema(HTTP_JSON_SCHEMA_ORG_DRAFT_04_SCHEMA);
 		root.setId(HTTP_WSO2JSONSCHEMA_ORG);
 
-		if (jsonParser.parse(jsonString) instanceof JsonObject) {
-			// TODO handle parsing exception
-			jsonObject = (JsonObject) jsonParser.parse(jsonString); 
+		if (jsonElement instanceof JsonObject) {
+			jsonObject = (JsonObject) jsonElement;
 			Set<Entry<String, JsonElement>> entrySet = jsonObject.entrySet();
 			if(type.toString().toLowerCase().equals(XML)){
 				//If type is xml, then check if it has a root element
@@ -110,7 +113,7 @@ public class SchemaBuilder {
 			createSchemaForObject(firstObject, root);
 
 		} else {
-			jsonArray = (JsonArray) jsonParser.parse(jsonString);
+			jsonArray = (JsonArray) jsonElement;
 			root.setType(ARRAY);
 			createSchemaForArrayRoot(jsonArray, root);
 		}
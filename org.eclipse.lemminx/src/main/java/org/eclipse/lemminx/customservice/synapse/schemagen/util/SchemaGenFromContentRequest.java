@@ -20,4 +20,5 @@ public class SchemaGenFromContentRequest {
     public String delimiter;
     public String type;
     public String title;
+    public Integer sampleSize;
 }
@@ -16,21 +16,29 @@ package org.eclipse.lemminx.customservice.synapse.schemagen.util;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
 
-import org.apache.commons.io.FileUtils;
+import com.google.gson.JsonElement;
 
 public class SchemaGeneratorForJSON extends AbstractSchemaGenerator implements ISchemaGenerator {
 
 	@Override
 	public String getSchemaResourcePath(String filePath, FileType type, String delimiter) throws IOException {
-		String entireFileText = FileUtils.readFileToString(new File(filePath));
-		return  getSchemaContent(entireFileText, type, null);
+		// the file is streamed and only a sample of its arrays is kept in memory
+		try (Reader reader = openReader(new File(filePath))) {
+			return getSchemaContent(getSampler().readJson(reader), type);
+		}
 	}
 
 	@Override
 	public String getSchemaContent(String fileText, FileType type, String delimiter) throws IOException {
+		return getSchemaContent(getSampler().readJson(new StringReader(fileText)), type);
+	}
+
+	protected String getSchemaContent(JsonElement json, FileType type) {
 		SchemaBuilderWithNamepaces sb = new SchemaBuilderWithNamepaces();
-		String jsonSchema = sb.createSchema(fileText, type);
+		String jsonSchema = sb.createSchema(json, type);
 		return  jsonSchema;
 	}
 
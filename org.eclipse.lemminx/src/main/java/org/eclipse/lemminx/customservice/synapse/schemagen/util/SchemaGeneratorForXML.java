@@ -15,7 +15,12 @@
 package org.eclipse.lemminx.customservice.synapse.schemagen.util;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -33,7 +38,6 @@ import org.apache.axiom.om.OMNamespace;
 import org.apache.axiom.om.OMNode;
 import org.apache.axiom.om.OMText;
 import org.apache.axiom.om.util.AXIOMUtil;
-import org.apache.commons.io.FileUtils;
 import org.eclipse.lemminx.customservice.synapse.schemagen.json.JSONException;
 import org.eclipse.lemminx.customservice.synapse.schemagen.json.JSONObject;
 import org.eclipse.lemminx.customservice.synapse.schemagen.json.XML;
@@ -49,10 +53,34 @@ public class SchemaGeneratorForXML extends SchemaGeneratorForJSON implements ISc
 	protected static final String DOLLLAR_AT_PREFIX = "$@";
 	protected static final String XSI_NAMESPACE_URI = "http://www.w3.org/2001/XMLSchema-instance";
 	protected static final String XSI_TYPE = "type";
+	public static final int DEFAULT_MAX_SAMPLED_LENGTH = 16 * 1024 * 1024;
+
+	private int maxSampledLength = DEFAULT_MAX_SAMPLED_LENGTH;
+
+	/**
+	 * Sets the maximum number of characters of the sample of an XML file, as the
+	 * attributes and the org.json conversion need the whole sample in memory.
+	 *
+	 * @param maxSampledLength the maximum number of characters
+	 */
+	public void setMaxSampledLength(int maxSampledLength) {
+		this.maxSampledLength = maxSampledLength;
+	}
 
 	@Override
 	public String getSchemaContent(String content, FileType type, String delimiter) throws IOException {
+		StringWriter writer = new StringWriter();
+		try {
+			if (getSampler().sampleXml(new StringReader(content), writer)) {
+				content = writer.toString();
+			}
+		} catch (IOException e) {
+			// the error is reported by the conversion of the whole content
+		}
+		return toSchemaContent(content, type);
+	}
 
+	private String toSchemaContent(String content, FileType type) throws IOException {
 		JSONObject xmlJSONObj;
 		try {
 			xmlJSONObj = XML.toJSONObject(content);
@@ -85,11 +113,21 @@ public class SchemaGeneratorForXML extends SchemaGeneratorForJSON implements ISc
 	 * return outputFile; }
 	 */
 
+	/**
+	 * The file is streamed once, with the encoding declared by its XML
+	 * declaration, and only the sampled elements are loaded in memory. A file
+	 * whose sample is still larger than the maximum sampled length, because its
+	 * elements are not repeated under the same parent, is rejected.
+	 */
 	@Override
 	public String getSchemaResourcePath(String filePath, FileType type, String delimiter) throws IOException {
-		String entireFileText = FileUtils.readFileToString(new File(filePath));
-		entireFileText = replaceAttributesWithElements(entireFileText);
-		return getSchemaContent(entireFileText, type, null);
+		File file = new File(filePath);
+		BoundedWriter writer = new BoundedWriter(maxSampledLength);
+		try (InputStream input = new FileInputStream(file)) {
+			getSampler().sampleXml(input, writer);
+		}
+		String entireFileText = replaceAttributesWithElements(writer.toString());
+		return toSchemaContent(entireFileText, type);
 	}
 
 	protected String replaceAttributesWithElements(String entireFileText) throws IOException {
@@ -251,4 +289,42 @@ public class SchemaGeneratorForXML extends SchemaGeneratorForJSON implements ISc
 			return;
 		}
 	}
+
+	/**
+	 * Writer which keeps the written characters in memory and fails once more
+	 * than the given number of characters are written.
+	 */
+	private static class BoundedWriter extends Writer {
+
+		private final StringBuilder buffer = new StringBuilder();
+		private final int maxLength;
+
+		BoundedWriter(int maxLength) {
+			this.maxLength = maxLength;
+		}
+
+		@Override
+		public void write(char[] cbuf, int off, int len) throws IOException {
+			if (buffer.length() + len > maxLength) {
+				throw new IOException("The XML sample exceeds " + maxLength
+						+ " characters, its elements are not repeated enough to be sampled");
+			}
+			buffer.append(cbuf, off, len);
+		}
+
+		@Override
+		public void flush() {
+			// Do nothing
+		}
+
+		@Override
+		public void close() {
+			// Do nothing
+		}
+
+		@Override
+		public String toString() {
+			return buffer.toString();
+		}
+	}
 }
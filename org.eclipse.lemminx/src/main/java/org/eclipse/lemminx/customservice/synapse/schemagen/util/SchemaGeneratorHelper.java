@@ -32,9 +32,22 @@ public class SchemaGeneratorHelper {
 	 * @return
 	 */
 	public String getSchemaContent(FileType option, String filePath, String delimiter) {
+		return getSchemaContent(option, filePath, delimiter, null);
+	}
 
-		SchemaGeneratorFactory schemaGenFactory = new SchemaGeneratorFactory();
-		ISchemaGenerator schemaGenerator = schemaGenFactory.getSchemaGenerator(option);
+	/**
+	 * Returns the generated schema as a string, inferred from the given number
+	 * of array elements, CSV rows or repeated XML elements of the file.
+	 * 
+	 * @param option
+	 * @param filePath
+	 * @param delimiter
+	 * @param sampleSize the sample size, or null to use the default one
+	 * @return
+	 */
+	public String getSchemaContent(FileType option, String filePath, String delimiter, Integer sampleSize) {
+
+		ISchemaGenerator schemaGenerator = getSchemaGenerator(option, sampleSize);
 
 		try {
 			return schemaGenerator.getSchemaResourcePath(filePath, option, delimiter);
@@ -46,9 +59,12 @@ public class SchemaGeneratorHelper {
 	}
 
 	public String getSchemaFromContent(FileType option, String fileContent, String delimiter) {
+		return getSchemaFromContent(option, fileContent, delimiter, null);
+	}
 
-		SchemaGeneratorFactory schemaGenFactory = new SchemaGeneratorFactory();
-		ISchemaGenerator schemaGenerator = schemaGenFactory.getSchemaGenerator(option);
+	public String getSchemaFromContent(FileType option, String fileContent, String delimiter, Integer sampleSize) {
+
+		ISchemaGenerator schemaGenerator = getSchemaGenerator(option, sampleSize);
 
 		try {
 			return schemaGenerator.getSchemaContent(fileContent, option, delimiter);
@@ -59,4 +75,13 @@ public class SchemaGeneratorHelper {
 		return null;
 	}
 
+	private ISchemaGenerator getSchemaGenerator(FileType option, Integer sampleSize) {
+		SchemaGeneratorFactory schemaGenFactory = new SchemaGeneratorFactory();
+		ISchemaGenerator schemaGenerator = schemaGenFactory.getSchemaGenerator(option);
+		if (sampleSize != null && schemaGenerator instanceof AbstractSchemaGenerator) {
+			((AbstractSchemaGenerator) schemaGenerator).setSampleSize(sampleSize);
+		}
+		return schemaGenerator;
+	}
+
 }
@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.schemagen.util;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLEventWriter;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.events.XMLEvent;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.internal.LazilyParsedNumber;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+
+/**
+ * Reads a sample of a JSON, CSV or XML payload from a stream, so that the
+ * schema is inferred without loading the whole payload in memory.
+ * <p>
+ * Only the first elements of a JSON array, the first rows of a CSV file and
+ * the first occurrences of an XML element under the same parent are kept, the
+ * others are skipped while they are read.
+ * </p>
+ */
+public class SchemaSampler {
+
+	public static final int DEFAULT_SAMPLE_SIZE = 1000;
+
+	private final int sampleSize;
+
+	public SchemaSampler(int sampleSize) {
+		this.sampleSize = sampleSize > 0 ? sampleSize : DEFAULT_SAMPLE_SIZE;
+	}
+
+	/**
+	 * Reads the JSON content leniently, as the Gson parser does, keeping only
+	 * the first elements of the arrays.
+	 *
+	 * @param reader the JSON content
+	 * @return the sampled JSON tree, JsonNull if the content is empty
+	 */
+	public JsonElement readJson(Reader reader) {
+		JsonReader jsonReader = new JsonReader(reader);
+		jsonReader.setLenient(true);
+		try {
+			try {
+				jsonReader.peek();
+			} catch (EOFException e) {
+				return JsonNull.INSTANCE;
+			}
+			JsonElement element = readJsonElement(jsonReader);
+			if (!element.isJsonNull() && jsonReader.peek() != JsonToken.END_DOCUMENT) {
+				throw new JsonSyntaxException("Did not consume the entire document.");
+			}
+			return element;
+		} catch (MalformedJsonException | EOFException | NumberFormatException e) {
+			throw new JsonSyntaxException(e);
+		} catch (IOException e) {
+			throw new JsonIOException(e);
+		}
+	}
+
+	private JsonElement readJsonElement(JsonReader jsonReader) throws IOException {
+		switch (jsonReader.peek()) {
+			case STRING:
+				return new JsonPrimitive(jsonReader.nextString());
+			case NUMBER:
+				return new JsonPrimitive(new LazilyParsedNumber(jsonReader.nextString()));
+			case BOOLEAN:
+				return new JsonPrimitive(jsonReader.nextBoolean());
+			case NULL:
+				jsonReader.nextNull();
+				return JsonNull.INSTANCE;
+			case BEGIN_ARRAY:
+				JsonArray array = new JsonArray();
+				jsonReader.beginArray();
+				while (jsonReader.hasNext()) {
+					if (array.size() < sampleSize) {
+						array.add(readJsonElement(jsonReader));
+					} else {
+						jsonReader.skipValue();
+					}
+				}
+				jsonReader.endArray();
+				return array;
+			case BEGIN_OBJECT:
+				JsonObject object = new JsonObject();
+				jsonReader.beginObject();
+				while (jsonReader.hasNext()) {
+					object.add(jsonReader.nextName(), readJsonElement(jsonReader));
+				}
+				jsonReader.endObject();
+				return object;
+			default:
+				throw new IllegalArgumentException();
+		}
+	}
+
+	/**
+	 * Reads the first rows of the CSV content, the first line being the header.
+	 *
+	 * @param reader    the CSV content
+	 * @param delimiter the column separator, comma if empty
+	 * @return the sampled rows as a JSON array of objects
+	 * @throws IOException
+	 */
+	public JsonArray readCsv(Reader reader, String delimiter) throws IOException {
+		CsvMapper mapper = new CsvMapper();
+		char delimiterChar = ',';
+		if (!delimiter.isEmpty()) {
+			delimiterChar = delimiter.charAt(0);
+		}
+		CsvSchema schema = CsvSchema.emptySchema().withHeader().withColumnSeparator(delimiterChar);
+		JsonArray rows = new JsonArray();
+		try (MappingIterator<Map<String, String>> it = mapper.readerFor(Map.class).with(schema)
+				.readValues(reader)) {
+			while (rows.size() < sampleSize && it.hasNextValue()) {
+				JsonObject row = new JsonObject();
+				for (Map.Entry<String, String> column : it.nextValue().entrySet()) {
+					String value = column.getValue();
+					row.add(column.getKey(), value != null ? new JsonPrimitive(value) : JsonNull.INSTANCE);
+				}
+				rows.add(row);
+			}
+		}
+		return rows;
+	}
+
+	/**
+	 * Writes the XML content, without the occurrences of an element under the
+	 * same parent which exceed the sample size.
+	 *
+	 * @param reader the XML content
+	 * @param writer the sampled XML content
+	 * @return true if occurrences of an element were skipped
+	 * @throws IOException
+	 */
+	public boolean sampleXml(Reader reader, Writer writer) throws IOException {
+		try {
+			return copyXml(createXMLInputFactory().createXMLEventReader(reader), writer);
+		} catch (XMLStreamException e) {
+			throw new IOException(e);
+		}
+	}
+
+	/**
+	 * Writes the XML content read with the encoding declared by its XML
+	 * declaration or detected from its byte order mark, without the occurrences
+	 * of an element under the same parent which exceed the sample size.
+	 *
+	 * @param input  the XML content
+	 * @param writer the sampled XML content
+	 * @return true if occurrences of an element were skipped
+	 * @throws IOException
+	 */
+	public boolean sampleXml(InputStream input, Writer writer) throws IOException {
+		try {
+			return copyXml(createXMLInputFactory().createXMLEventReader(input), writer);
+		} catch (XMLStreamException e) {
+			throw new IOException(e);
+		}
+	}
+
+	private static XMLInputFactory createXMLInputFactory() {
+		XMLInputFactory inputFactory = XMLInputFactory.newInstance();
+		inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+		inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+		return inputFactory;
+	}
+
+	private boolean copyXml(XMLEventReader eventReader, Writer writer) throws IOException {
+		XMLEventWriter eventWriter = null;
+		try {
+			eventWriter = XMLOutputFactory.newInstance().createXMLEventWriter(writer);
+			boolean sampled = false;
+			// occurrences of the child elements of each open element
+			Deque<Map<QName, Integer>> occurrences = new ArrayDeque<>();
+			occurrences.push(new HashMap<>());
+			int skippedDepth = 0;
+			while (eventReader.hasNext()) {
+				XMLEvent event = eventReader.nextEvent();
+				if (skippedDepth > 0) {
+					if (event.isStartElement()) {
+						skippedDepth++;
+					} else if (event.isEndElement()) {
+						skippedDepth--;
+					}
+					continue;
+				}
+				if (event.isStartElement()) {
+					int occurrence = occurrences.peek().merge(event.asStartElement().getName(), 1, Integer::sum);
+					if (occurrence > sampleSize) {
+						sampled = true;
+						skippedDepth = 1;
+						continue;
+					}
+					occurrences.push(new HashMap<>());
+				} else if (event.isEndElement()) {
+					occurrences.pop();
+				}
+				eventWriter.add(event);
+			}
+			eventWriter.flush();
+			return sampled;
+		} catch (XMLStreamException e) {
+			throw new IOException(e);
+		} finally {
+			try {
+				if (eventWriter != null) {
+					eventWriter.close();
+				}
+				eventReader.close();
+			} catch (XMLStreamException e) {
+				// ignore
+			}
+		}
+	}
+}
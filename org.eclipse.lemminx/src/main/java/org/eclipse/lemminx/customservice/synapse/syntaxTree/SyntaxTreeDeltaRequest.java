@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.syntaxTree;
+
+import org.eclipse.lsp4j.TextDocumentIdentifier;
+
+/**
+ * Request for the changes of the syntax tree of a document since the version of the tree the client has.
+ */
+public class SyntaxTreeDeltaRequest {
+
+    private TextDocumentIdentifier textDocument;
+    private Integer baseVersion;
+
+    public SyntaxTreeDeltaRequest(TextDocumentIdentifier textDocument, Integer baseVersion) {
+
+        this.textDocument = textDocument;
+        this.baseVersion = baseVersion;
+    }
+
+    public TextDocumentIdentifier getTextDocument() {
+
+        return textDocument;
+    }
+
+    /**
+     * Returns the version of the syntax tree the client has, or null if the client does not have a tree.
+     *
+     * @return the base version
+     */
+    public Integer getBaseVersion() {
+
+        return baseVersion;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.syntaxTree;
+
+import com.google.gson.JsonElement;
+
+import java.util.List;
+
+/**
+ * Syntax tree of a document, sent either as the whole tree or as the patches to the tree of the base version.
+ */
+public class SyntaxTreeDeltaResponse {
+
+    private int version;
+    private JsonElement syntaxTree;
+    private List<SyntaxTreePatch> patches;
+    private String defFilePath;
+
+    public SyntaxTreeDeltaResponse(int version, JsonElement syntaxTree, List<SyntaxTreePatch> patches,
+                                   String defFilePath) {
+
+        this.version = version;
+        this.syntaxTree = syntaxTree;
+        this.patches = patches;
+        this.defFilePath = defFilePath;
+    }
+
+    public int getVersion() {
+
+        return version;
+    }
+
+    /**
+     * Returns the whole syntax tree, or null if the patches are sent instead.
+     *
+     * @return the syntax tree
+     */
+    public JsonElement getSyntaxTree() {
+
+        return syntaxTree;
+    }
+
+    public List<SyntaxTreePatch> getPatches() {
+
+        return patches;
+    }
+
+    public String getDefFilePath() {
+
+        return defFilePath;
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.syntaxTree;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Computes the patches that transform the JSON of a syntax tree to the JSON of the syntax tree after an edit.
+ * <p>
+ * A node is addressed by the path of the field names and the list indexes from the root, such as
+ * {@code /api/resource/0/inSequence/mediatorList/2}. A node that is unchanged except that all of its positions moved by
+ * the same number of lines, as for the nodes below an edit, is patched with a shift instead of being sent again.
+ * Insertions and deletions in a list are patched with a splice, after which the following patches use the new
+ * indexes of the list. The elements around the splice are matched by their content regardless of their positions,
+ * as the range of the leading space of the element after an insertion starts at the end of the inserted element. The paths are JSON pointers, hence a {@code /} in a field name is written as {@code ~1}.
+ */
+public class SyntaxTreeDiff {
+
+    private static final String LINE = "line";
+    private static final String CHARACTER = "character";
+
+    private SyntaxTreeDiff() {
+
+    }
+
+    /**
+     * Computes the patches from the old tree to the new tree.
+     *
+     * @param oldTree the JSON of the old tree
+     * @param newTree the JSON of the new tree
+     * @return the patches, in the order to apply them
+     */
+    public static List<SyntaxTreePatch> diff(JsonElement oldTree, JsonElement newTree) {
+
+        List<SyntaxTreePatch> patches = new ArrayList<>();
+        diff(oldTree, newTree, "", patches);
+        return patches;
+    }
+
+    private static void diff(JsonElement oldNode, JsonElement newNode, String path, List<SyntaxTreePatch> patches) {
+
+        Integer lineDelta = getLineDelta(oldNode, newNode);
+        if (lineDelta != null) {
+            if (lineDelta != 0) {
+                patches.add(SyntaxTreePatch.shift(path, lineDelta));
+            }
+            return;
+        }
+        if (oldNode.isJsonObject() && newNode.isJsonObject() && !isPosition(newNode.getAsJsonObject()) &&
+                oldNode.getAsJsonObject().keySet().equals(newNode.getAsJsonObject().keySet())) {
+            for (Map.Entry<String, JsonElement> entry : newNode.getAsJsonObject().entrySet()) {
+                diff(oldNode.getAsJsonObject().get(entry.getKey()), entry.getValue(),
+                        path + "/" + escape(entry.getKey()), patches);
+            }
+        } else if (oldNode.isJsonArray() && newNode.isJsonArray()) {
+            diffArray(oldNode.getAsJsonArray(), newNode.getAsJsonArray(), path, patches);
+        } else {
+            patches.add(SyntaxTreePatch.replace(path, newNode));
+        }
+    }
+
+    private static void diffArray(JsonArray oldArray, JsonArray newArray, String path,
+                                  List<SyntaxTreePatch> patches) {
+
+        // Match the elements with the same content at the start and at the end of the list, their positions are
+        // patched by the diff of the matched elements.
+        int prefix = 0;
+        int maxPrefix = Math.min(oldArray.size(), newArray.size());
+        while (prefix < maxPrefix && isSameContent(oldArray.get(prefix), newArray.get(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        int maxSuffix = maxPrefix - prefix;
+        while (suffix < maxSuffix && isSameContent(oldArray.get(oldArray.size() - 1 - suffix),
+                newArray.get(newArray.size() - 1 - suffix))) {
+            suffix++;
+        }
+        for (int i = 0; i < prefix; i++) {
+            diff(oldArray.get(i), newArray.get(i), path + "/" + i, patches);
+        }
+        int oldEnd = oldArray.size() - suffix;
+        int newEnd = newArray.size() - suffix;
+        if (oldEnd == newEnd) {
+            for (int i = prefix; i < newEnd; i++) {
+                diff(oldArray.get(i), newArray.get(i), path + "/" + i, patches);
+            }
+        } else {
+            JsonArray inserted = new JsonArray();
+            for (int i = prefix; i < newEnd; i++) {
+                inserted.add(newArray.get(i));
+            }
+            patches.add(SyntaxTreePatch.splice(path, prefix, oldEnd - prefix, inserted));
+        }
+        for (int i = 0; i < suffix; i++) {
+            diff(oldArray.get(oldEnd + i), newArray.get(newEnd + i), path + "/" + (newEnd + i), patches);
+        }
+    }
+
+    /**
+     * Returns the number of lines all the positions of the new node moved from the old node, or null if the nodes
+     * differ in anything other than the lines of the positions.
+     */
+    static Integer getLineDelta(JsonElement oldNode, JsonElement newNode) {
+
+        int[] delta = {0};
+        boolean[] hasDelta = {false};
+        return isShifted(oldNode, newNode, delta, hasDelta) ? delta[0] : null;
+    }
+
+    /**
+     * Returns true if the nodes differ in nothing other than their positions.
+     */
+    private static boolean isSameContent(JsonElement oldNode, JsonElement newNode) {
+
+        if (oldNode.isJsonObject() && newNode.isJsonObject()) {
+            JsonObject oldObject = oldNode.getAsJsonObject();
+            JsonObject newObject = newNode.getAsJsonObject();
+            if (oldObject.size() != newObject.size()) {
+                return false;
+            }
+            if (isPosition(oldObject) && isPosition(newObject)) {
+                return true;
+            }
+            for (Map.Entry<String, JsonElement> entry : oldObject.entrySet()) {
+                JsonElement newValue = newObject.get(entry.getKey());
+                if (newValue == null || !isSameContent(entry.getValue(), newValue)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (oldNode.isJsonArray() && newNode.isJsonArray()) {
+            JsonArray oldArray = oldNode.getAsJsonArray();
+            JsonArray newArray = newNode.getAsJsonArray();
+            if (oldArray.size() != newArray.size()) {
+                return false;
+            }
+            for (int i = 0; i < oldArray.size(); i++) {
+                if (!isSameContent(oldArray.get(i), newArray.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return oldNode.equals(newNode);
+    }
+
+    private static boolean isShifted(JsonElement oldNode, JsonElement newNode, int[] delta, boolean[] hasDelta) {
+
+        if (oldNode.isJsonObject() && newNode.isJsonObject()) {
+            JsonObject oldObject = oldNode.getAsJsonObject();
+            JsonObject newObject = newNode.getAsJsonObject();
+            if (oldObject.size() != newObject.size()) {
+                return false;
+            }
+            if (isPosition(oldObject) && isPosition(newObject)) {
+                if (!oldObject.get(CHARACTER).equals(newObject.get(CHARACTER))) {
+                    return false;
+                }
+                int lineDelta = newObject.get(LINE).getAsInt() - oldObject.get(LINE).getAsInt();
+                if (!hasDelta[0]) {
+                    hasDelta[0] = true;
+                    delta[0] = lineDelta;
+                }
+                return delta[0] == lineDelta;
+            }
+            for (Map.Entry<String, JsonElement> entry : oldObject.entrySet()) {
+                JsonElement newValue = newObject.get(entry.getKey());
+                if (newValue == null || !isShifted(entry.getValue(), newValue, delta, hasDelta)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (oldNode.isJsonArray() && newNode.isJsonArray()) {
+            JsonArray oldArray = oldNode.getAsJsonArray();
+            JsonArray newArray = newNode.getAsJsonArray();
+            if (oldArray.size() != newArray.size()) {
+                return false;
+            }
+            for (int i = 0; i < oldArray.size(); i++) {
+                if (!isShifted(oldArray.get(i), newArray.get(i), delta, hasDelta)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return oldNode.equals(newNode);
+    }
+
+    private static String escape(String key) {
+
+        return key.replace("~", "~0").replace("/", "~1");
+    }
+
+    private static boolean isPosition(JsonObject object) {
+
+        return object.size() == 2 && object.has(LINE) && object.has(CHARACTER);
+    }
+}
@@ -14,10 +14,6 @@
 
 package org.eclipse.lemminx.customservice.synapse.syntaxTree;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.factory.APIFactory;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.factory.AbstractFactory;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.factory.DataServiceConfigFactory;
@@ -39,8 +35,7 @@ import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.ArtifactTypeRes
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.LocalEntry;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.STNode;
 import org.eclipse.lemminx.customservice.synapse.utils.Constant;
-import org.eclipse.lemminx.customservice.synapse.utils.EnumTypeAdapter;
-import org.eclipse.lemminx.customservice.synapse.utils.OptionalTypeAdapter;
+import org.eclipse.lemminx.customservice.synapse.utils.DocumentAccess;
 import org.eclipse.lemminx.customservice.synapse.utils.Utils;
 import org.eclipse.lemminx.dom.DOMDocument;
 import org.eclipse.lemminx.dom.DOMElement;
@@ -49,7 +44,6 @@ import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
 import java.util.logging.Logger;
 
 public class SyntaxTreeGenerator {
@@ -67,16 +61,8 @@ public class SyntaxTreeGenerator {
         DOMElement rootElement = getRootElement(document);
         STNode tree = buildTree(rootElement);
         if (tree != null) {
-            String rootTag = tree.getTag();
-            Gson gson = new GsonBuilder()
-                    .registerTypeHierarchyAdapter(Optional.class, new OptionalTypeAdapter())
-                    .registerTypeHierarchyAdapter(Enum.class, new EnumTypeAdapter())
-                    .disableHtmlEscaping()
-                    .create();
-            JsonElement nextNode = gson.toJsonTree(tree);
-            JsonObject root = new JsonObject();
-            root.add(rootTag, nextNode);
-            response.setSyntaxTree(root);
+            // The tree is serialized by the SyntaxTreeSerializer when the response is written.
+            response.setSyntaxTree(tree);
         }
         return response;
     }
@@ -152,7 +138,7 @@ public class SyntaxTreeGenerator {
             return new ArtifactTypeResponse("File not found in the given path: " + artifactPath);
         }
         try {
-            DOMDocument document = Utils.getDOMDocument(file);
+            DOMDocument document = DocumentAccess.getInstance().getDocument("getArtifactType", file);
             STNode node = buildTree(document.getDocumentElement());
             if (node == null || node.getTag() == null) {
                 return new ArtifactTypeResponse("Invalid artifact file: " + artifactPath);
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.syntaxTree;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+
+/**
+ * Change of a node of the syntax tree, addressed by the path of the node from the root of the tree.
+ */
+public class SyntaxTreePatch {
+
+    public enum Operation {
+        /**
+         * The node at the path is replaced with the value.
+         */
+        REPLACE,
+        /**
+         * The lines of all the positions of the node at the path are moved by the line delta.
+         */
+        SHIFT,
+        /**
+         * The delete count elements starting at the index of the list at the path are replaced with the elements of
+         * the value.
+         */
+        SPLICE
+    }
+
+    private Operation operation;
+    private String path;
+    private JsonElement value;
+    private Integer lineDelta;
+    private Integer index;
+    private Integer deleteCount;
+
+    private SyntaxTreePatch(Operation operation, String path) {
+
+        this.operation = operation;
+        this.path = path;
+    }
+
+    public static SyntaxTreePatch replace(String path, JsonElement value) {
+
+        SyntaxTreePatch patch = new SyntaxTreePatch(Operation.REPLACE, path);
+        patch.value = value;
+        return patch;
+    }
+
+    public static SyntaxTreePatch shift(String path, int lineDelta) {
+
+        SyntaxTreePatch patch = new SyntaxTreePatch(Operation.SHIFT, path);
+        patch.lineDelta = lineDelta;
+        return patch;
+    }
+
+    public static SyntaxTreePatch splice(String path, int index, int deleteCount, JsonArray elements) {
+
+        SyntaxTreePatch patch = new SyntaxTreePatch(Operation.SPLICE, path);
+        patch.index = index;
+        patch.deleteCount = deleteCount;
+        patch.value = elements;
+        return patch;
+    }
+
+    public Operation getOperation() {
+
+        return operation;
+    }
+
+    public String getPath() {
+
+        return path;
+    }
+
+    public JsonElement getValue() {
+
+        return value;
+    }
+
+    public Integer getLineDelta() {
+
+        return lineDelta;
+    }
+
+    public Integer getIndex() {
+
+        return index;
+    }
+
+    public Integer getDeleteCount() {
+
+        return deleteCount;
+    }
+}
@@ -14,19 +14,22 @@
 
 package org.eclipse.lemminx.customservice.synapse.syntaxTree;
 
-import com.google.gson.JsonElement;
+import com.google.gson.annotations.JsonAdapter;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.STNode;
 
 public class SyntaxTreeResponse {
 
-    private JsonElement syntaxTree;
+    // Streamed to the response as an object that has the tree under the tag of the root node.
+    @JsonAdapter(SyntaxTreeSerializer.SyntaxTreeAdapter.class)
+    private STNode syntaxTree;
     private String defFilePath;
 
-    public JsonElement getSyntaxTree() {
+    public STNode getSyntaxTree() {
 
         return syntaxTree;
     }
 
-    public void setSyntaxTree(JsonElement syntaxTree) {
+    public void setSyntaxTree(STNode syntaxTree) {
 
         this.syntaxTree = syntaxTree;
     }
@@ -41,7 +44,7 @@ public class SyntaxTreeResponse {
         return defFilePath;
     }
 
-    public SyntaxTreeResponse(JsonElement syntaxTree, String defFilePath) {
+    public SyntaxTreeResponse(STNode syntaxTree, String defFilePath) {
 
         this.syntaxTree = syntaxTree;
         this.defFilePath = defFilePath;
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.syntaxTree;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.STNode;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+/**
+ * Serializes the syntax trees to JSON.
+ * <p>
+ * The serializer is shared and thread-safe, so that the type adapters of the syntax tree classes are created once. The
+ * trees are written directly to the given JSON writer, such as the writer of the JSON-RPC response, without building
+ * an intermediate JSON tree.
+ */
+public class SyntaxTreeSerializer {
+
+    private static final SyntaxTreeSerializer INSTANCE = new SyntaxTreeSerializer();
+
+    private final Gson gson;
+
+    private SyntaxTreeSerializer() {
+
+        gson = new GsonBuilder()
+                .registerTypeAdapterFactory(new SyntaxTreeTypeAdapterFactory())
+                .disableHtmlEscaping()
+                .create();
+    }
+
+    public static SyntaxTreeSerializer getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Writes the given tree as a JSON object that has the tree under the tag of the root node.
+     *
+     * @param out  the JSON writer
+     * @param tree the syntax tree
+     * @throws IOException if the tree cannot be written
+     */
+    @SuppressWarnings("unchecked")
+    public void write(JsonWriter out, STNode tree) throws IOException {
+
+        if (tree == null) {
+            out.nullValue();
+            return;
+        }
+        boolean serializeNulls = out.getSerializeNulls();
+        // The empty optional values are written as null, and are omitted similar to the other null fields.
+        out.setSerializeNulls(false);
+        try {
+            out.beginObject();
+            out.name(tree.getTag());
+            ((TypeAdapter<STNode>) gson.getAdapter(tree.getClass())).write(out, tree);
+            out.endObject();
+        } finally {
+            out.setSerializeNulls(serializeNulls);
+        }
+    }
+
+    public String toJson(STNode tree) {
+
+        StringWriter writer = new StringWriter();
+        try {
+            write(gson.newJsonWriter(writer), tree);
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+        return writer.toString();
+    }
+
+    public JsonElement toJsonTree(STNode tree) {
+
+        if (tree == null) {
+            return JsonNull.INSTANCE;
+        }
+        JsonObject root = new JsonObject();
+        root.add(tree.getTag(), gson.toJsonTree(tree, tree.getClass()));
+        return root;
+    }
+
+    /**
+     * Adapter of the syntax tree field of the responses, which writes the tree through the shared serializer.
+     */
+    public static class SyntaxTreeAdapter extends TypeAdapter<STNode> {
+
+        @Override
+        public void write(JsonWriter out, STNode tree) throws IOException {
+
+            SyntaxTreeSerializer.getInstance().write(out, tree);
+        }
+
+        @Override
+        public STNode read(JsonReader in) throws IOException {
+
+            // The syntax tree is only sent to the client.
+            in.skipValue();
+            return null;
+        }
+    }
+}
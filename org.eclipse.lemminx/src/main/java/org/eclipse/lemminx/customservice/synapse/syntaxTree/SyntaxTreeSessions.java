@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.syntaxTree;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.STNode;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.services.extensions.IDocumentLifecycleParticipant;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Versioned syntax trees of the documents shown in the diagram editor.
+ * <p>
+ * The last syntax tree sent for a document is kept with a version. When the client requests the tree with the version
+ * it has, only the patches from that tree are sent. The whole tree is sent if the client does not have the last
+ * version, or if the root of the tree changed. If the document is unchanged since the last tree was sent, the tree is
+ * not built again. The session of a document is removed when the document is closed.
+ */
+public class SyntaxTreeSessions implements IDocumentLifecycleParticipant {
+
+    private static final int DEFAULT_MAX_SESSIONS = 32;
+    private static final SyntaxTreeSessions INSTANCE = new SyntaxTreeSessions(DEFAULT_MAX_SESSIONS);
+
+    private final Map<String, Session> sessions;
+
+    public SyntaxTreeSessions(int maxSessions) {
+
+        this.sessions = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Session> eldest) {
+
+                return size() > maxSessions;
+            }
+        };
+    }
+
+    public static SyntaxTreeSessions getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the syntax tree of the given document as the patches to the tree of the given version.
+     *
+     * @param document    the document
+     * @param baseVersion the version of the tree the client has, or null if the client does not have a tree
+     * @param generator   the syntax tree generator
+     * @return the syntax tree or the patches
+     */
+    public SyntaxTreeDeltaResponse getSyntaxTree(DOMDocument document, Integer baseVersion,
+                                                 SyntaxTreeGenerator generator) {
+
+        String uri = document.getDocumentURI();
+        int documentVersion = document.getTextDocument().getVersion();
+        Session session;
+        synchronized (this) {
+            session = sessions.computeIfAbsent(uri, key -> new Session());
+        }
+        synchronized (session) {
+            boolean hasBaseTree = session.tree != null && baseVersion != null && baseVersion == session.version;
+            if (hasBaseTree && session.isCurrent(document, documentVersion)) {
+                return new SyntaxTreeDeltaResponse(session.version, null, Collections.emptyList(), uri);
+            }
+            STNode tree = generator.getSyntaxTree(document).getSyntaxTree();
+            JsonElement treeJson = tree != null ? SyntaxTreeSerializer.getInstance().toJsonTree(tree) :
+                    JsonNull.INSTANCE;
+            JsonElement baseTree = session.tree;
+            session.version++;
+            session.documentVersion = documentVersion;
+            session.document = new WeakReference<>(document);
+            session.tree = treeJson;
+            if (hasBaseTree) {
+                List<SyntaxTreePatch> patches = SyntaxTreeDiff.diff(baseTree, treeJson);
+                if (!isRootReplaced(patches)) {
+                    return new SyntaxTreeDeltaResponse(session.version, null, patches, uri);
+                }
+            }
+            return new SyntaxTreeDeltaResponse(session.version, treeJson, null, uri);
+        }
+    }
+
+    private static boolean isRootReplaced(List<SyntaxTreePatch> patches) {
+
+        return !patches.isEmpty() && patches.get(0).getOperation() == SyntaxTreePatch.Operation.REPLACE &&
+                patches.get(0).getPath().isEmpty();
+    }
+
+    public synchronized void remove(String uri) {
+
+        sessions.remove(uri);
+    }
+
+    @Override
+    public void didOpen(DOMDocument document) {
+
+    }
+
+    @Override
+    public void didChange(DOMDocument document) {
+
+    }
+
+    @Override
+    public void didSave(DOMDocument document) {
+
+    }
+
+    @Override
+    public void didClose(DOMDocument document) {
+
+        remove(document.getDocumentURI());
+    }
+
+    public synchronized int size() {
+
+        return sessions.size();
+    }
+
+    private static class Session {
+
+        private int version;
+        private int documentVersion;
+        private WeakReference<DOMDocument> document;
+        private JsonElement tree;
+
+        /**
+         * Checks whether the tree of the session is built from the given version of the document. Versions are only
+         * tracked for the documents open in the editor. The other documents are served by the DOMDocumentCache,
+         * which returns the same document as long as the file is unchanged.
+         */
+        private boolean isCurrent(DOMDocument current, int currentVersion) {
+
+            if (currentVersion > 0) {
+                return currentVersion == documentVersion;
+            }
+            return document != null && document.get() == current;
+        }
+    }
+}
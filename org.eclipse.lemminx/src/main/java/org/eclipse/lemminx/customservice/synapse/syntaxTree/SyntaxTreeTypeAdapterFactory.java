@@ -0,0 +1,335 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.syntaxTree;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.STNode;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the type adapters used to serialize the syntax tree.
+ * <p>
+ * The adapters registered for a class, such as the ranges which are the most frequent objects of a tree, are used as
+ * they are. For the other syntax tree classes, an adapter that writes the fields through the method handles resolved
+ * once per class is created. The optional values and the enums are written as the value they hold.
+ */
+public class SyntaxTreeTypeAdapterFactory implements TypeAdapterFactory {
+
+    private static final String POJO_PACKAGE = STNode.class.getPackageName();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final Map<Class<?>, TypeAdapter<?>> registeredAdapters = new ConcurrentHashMap<>();
+
+    public SyntaxTreeTypeAdapterFactory() {
+
+        PositionAdapter positionAdapter = new PositionAdapter();
+        register(Position.class, positionAdapter);
+        register(Range.class, new RangeAdapter(positionAdapter));
+    }
+
+    /**
+     * Registers the adapter to use for the given class instead of the generated one.
+     *
+     * @param type    the class
+     * @param adapter the adapter
+     * @param <T>     the type of the class
+     */
+    public <T> void register(Class<T> type, TypeAdapter<T> adapter) {
+
+        registeredAdapters.put(type, adapter);
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+
+        Class<? super T> rawType = type.getRawType();
+        TypeAdapter<?> registeredAdapter = registeredAdapters.get(rawType);
+        if (registeredAdapter != null) {
+            return (TypeAdapter<T>) registeredAdapter;
+        }
+        if (rawType == Optional.class) {
+            return (TypeAdapter<T>) new OptionalAdapter(gson);
+        }
+        if (Enum.class.isAssignableFrom(rawType) && rawType != Enum.class) {
+            return (TypeAdapter<T>) new EnumValueAdapter(rawType);
+        }
+        if (rawType.getName().startsWith(POJO_PACKAGE) && !rawType.isInterface() && !rawType.isEnum()) {
+            return new NodeAdapter<>(gson, rawType);
+        }
+        return null;
+    }
+
+    /**
+     * Writes the non-null fields of a syntax tree class, in the same order and with the same names as the reflective
+     * serialization of Gson. The field getters and the adapters of the declared field types are resolved when the
+     * adapter is created.
+     */
+    private static class NodeAdapter<T> extends TypeAdapter<T> {
+
+        private final Gson gson;
+        private final BoundField[] fields;
+
+        NodeAdapter(Gson gson, Class<?> type) {
+
+            this.gson = gson;
+            List<BoundField> boundFields = new ArrayList<>();
+            Set<String> names = new HashSet<>();
+            for (Class<?> current = type; current != null && current != Object.class;
+                 current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    int modifiers = field.getModifiers();
+                    if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic() ||
+                            !names.add(field.getName())) {
+                        continue;
+                    }
+                    boundFields.add(new BoundField(gson, field));
+                }
+            }
+            this.fields = boundFields.toArray(new BoundField[0]);
+        }
+
+        @Override
+        public void write(JsonWriter out, T value) throws IOException {
+
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            for (BoundField field : fields) {
+                field.write(gson, out, value);
+            }
+            out.endObject();
+        }
+
+        @Override
+        public T read(JsonReader in) {
+
+            throw new UnsupportedOperationException("The syntax tree is only serialized");
+        }
+    }
+
+    private static class BoundField {
+
+        private final String name;
+        private final MethodHandle getter;
+        private final Class<?> declaredType;
+        private final boolean isRuntimeTyped;
+        private final TypeAdapter<Object> adapter;
+
+        @SuppressWarnings("unchecked")
+        BoundField(Gson gson, Field field) {
+
+            this.name = field.getName();
+            this.declaredType = field.getType();
+            Type genericType = field.getGenericType();
+            // Collections, maps and arrays resolve the runtime types of their elements on their own.
+            this.isRuntimeTyped = genericType instanceof Class && !declaredType.isPrimitive();
+            this.adapter = (TypeAdapter<Object>) gson.getAdapter(TypeToken.get(genericType));
+            try {
+                field.setAccessible(true);
+                this.getter = MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE);
+            } catch (IllegalAccessException e) {
+                throw new JsonIOException("Cannot access the field " + field, e);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        void write(Gson gson, JsonWriter out, Object node) throws IOException {
+
+            Object value;
+            try {
+                value = (Object) getter.invokeExact(node);
+            } catch (Throwable e) {
+                throw new IOException("Cannot read the field " + name, e);
+            }
+            if (value == null) {
+                return;
+            }
+            TypeAdapter<Object> valueAdapter = adapter;
+            if (isRuntimeTyped && value.getClass() != declaredType) {
+                valueAdapter = (TypeAdapter<Object>) gson.getAdapter(value.getClass());
+            }
+            out.name(name);
+            valueAdapter.write(out, value);
+        }
+    }
+
+    private static class OptionalAdapter extends TypeAdapter<Optional<?>> {
+
+        private final Gson gson;
+
+        OptionalAdapter(Gson gson) {
+
+            this.gson = gson;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void write(JsonWriter out, Optional<?> value) throws IOException {
+
+            if (value == null || value.isEmpty()) {
+                out.nullValue();
+                return;
+            }
+            Object content = value.get();
+            ((TypeAdapter<Object>) gson.getAdapter(content.getClass())).write(out, content);
+        }
+
+        @Override
+        public Optional<?> read(JsonReader in) {
+
+            throw new UnsupportedOperationException("The syntax tree is only serialized");
+        }
+    }
+
+    /**
+     * Writes an enum constant as the value returned by its {@code getValue} method, or as its name if there is no
+     * such method. The values are resolved once per enum class.
+     */
+    private static class EnumValueAdapter extends TypeAdapter<Enum<?>> {
+
+        private final Enum<?>[] constants;
+        private final String[] values;
+
+        EnumValueAdapter(Class<?> type) {
+
+            Class<?> enumType = type.isEnum() ? type : type.getSuperclass();
+            this.constants = (Enum<?>[]) enumType.getEnumConstants();
+            this.values = new String[constants.length];
+            for (Enum<?> constant : constants) {
+                values[constant.ordinal()] = getValue(constant);
+            }
+        }
+
+        private static String getValue(Enum<?> constant) {
+
+            try {
+                Method method = constant.getClass().getDeclaredMethod("getValue");
+                return (String) method.invoke(constant);
+            } catch (Exception e) {
+                return constant.name();
+            }
+        }
+
+        @Override
+        public void write(JsonWriter out, Enum<?> value) throws IOException {
+
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.value(values[value.ordinal()]);
+        }
+
+        @Override
+        public Enum<?> read(JsonReader in) throws IOException {
+
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            String value = in.nextString();
+            for (Enum<?> constant : constants) {
+                if (value.equals(values[constant.ordinal()]) || value.equals(constant.name())) {
+                    return constant;
+                }
+            }
+            return null;
+        }
+    }
+
+    private static class PositionAdapter extends TypeAdapter<Position> {
+
+        @Override
+        public void write(JsonWriter out, Position value) throws IOException {
+
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("line").value(value.getLine());
+            out.name("character").value(value.getCharacter());
+            out.endObject();
+        }
+
+        @Override
+        public Position read(JsonReader in) {
+
+            throw new UnsupportedOperationException("The syntax tree is only serialized");
+        }
+    }
+
+    private static class RangeAdapter extends TypeAdapter<Range> {
+
+        private final PositionAdapter positionAdapter;
+
+        RangeAdapter(PositionAdapter positionAdapter) {
+
+            this.positionAdapter = positionAdapter;
+        }
+
+        @Override
+        public void write(JsonWriter out, Range value) throws IOException {
+
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            if (value.getStart() != null) {
+                out.name("start");
+                positionAdapter.write(out, value.getStart());
+            }
+            if (value.getEnd() != null) {
+                out.name("end");
+                positionAdapter.write(out, value.getEnd());
+            }
+            out.endObject();
+        }
+
+        @Override
+        public Range read(JsonReader in) {
+
+            throw new UnsupportedOperationException("The syntax tree is only serialized");
+        }
+    }
+}
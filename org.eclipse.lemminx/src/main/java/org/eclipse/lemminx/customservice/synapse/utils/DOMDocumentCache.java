@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.utils;
+
+import org.eclipse.lemminx.commons.TextDocument;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMParser;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+/**
+ * Cache of the parsed DOM documents of the project files, shared by the Synapse custom services.
+ * <p>
+ * A cached document is reused only while the modified time and the size of the file are unchanged. If the file is
+ * open in the editor, the DOM of the editor document is returned instead. The cache is bounded by the total length of
+ * the cached documents and evicts the least recently used documents first.
+ * <p>
+ * The returned documents are shared, hence they must not be modified by the callers.
+ */
+public class DOMDocumentCache {
+
+    private static final Logger LOGGER = Logger.getLogger(DOMDocumentCache.class.getName());
+    private static final long DEFAULT_MAX_WEIGHT = 16 * 1024 * 1024;
+    private static final DOMDocumentCache INSTANCE = new DOMDocumentCache(DEFAULT_MAX_WEIGHT);
+
+    private final long maxWeight;
+    private final LinkedHashMap<String, CachedDocument> documents = new LinkedHashMap<>(64, 0.75f, true);
+    private long weight;
+    private volatile Function<File, DOMDocument> openDocumentProvider;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong openDocumentHitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    public DOMDocumentCache(long maxWeight) {
+
+        this.maxWeight = maxWeight;
+    }
+
+    public static DOMDocumentCache getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Sets the function used to get the DOM of a file that is open in the editor. The function should return null if
+     * the file is not open.
+     *
+     * @param openDocumentProvider the open document provider
+     */
+    public void setOpenDocumentProvider(Function<File, DOMDocument> openDocumentProvider) {
+
+        this.openDocumentProvider = openDocumentProvider;
+    }
+
+    /**
+     * Returns the DOM document of the given file.
+     *
+     * @param file the file
+     * @return the DOM document of the file
+     * @throws IOException if the file cannot be read
+     */
+    public DOMDocument getDocument(File file) throws IOException {
+
+        DOMDocument openDocument = getOpenDocument(file);
+        if (openDocument != null) {
+            return openDocument;
+        }
+        return getFileDocument(file);
+    }
+
+    /**
+     * Returns the DOM of the given file if it is open in the editor.
+     *
+     * @param file the file
+     * @return the DOM document of the editor, or null if the file is not open
+     */
+    public DOMDocument getOpenDocument(File file) {
+
+        Function<File, DOMDocument> provider = openDocumentProvider;
+        if (provider != null) {
+            DOMDocument openDocument = provider.apply(file);
+            if (openDocument != null) {
+                openDocumentHitCount.incrementAndGet();
+                return openDocument;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the DOM document parsed from the content of the given file on the disk, ignoring the editor.
+     *
+     * @param file the file
+     * @return the DOM document of the file
+     * @throws IOException if the file cannot be read
+     */
+    public DOMDocument getFileDocument(File file) throws IOException {
+
+        String key = file.getAbsolutePath();
+        long lastModified = file.lastModified();
+        long size = file.length();
+        synchronized (this) {
+            CachedDocument cached = documents.get(key);
+            if (cached != null && cached.lastModified == lastModified && cached.size == size) {
+                hitCount.incrementAndGet();
+                return cached.document;
+            }
+        }
+        missCount.incrementAndGet();
+        Path path = file.toPath();
+        String text = Files.readString(path);
+        DOMDocument document = DOMParser.getInstance().parse(new TextDocument(text, path.toUri().toString()), null);
+        put(key, new CachedDocument(document, lastModified, size, text.length()));
+        return document;
+    }
+
+    /**
+     * Removes the given file, or all the files under the given folder, from the cache.
+     *
+     * @param file the changed or deleted file or folder
+     */
+    public synchronized void invalidate(File file) {
+
+        String path = file.getAbsolutePath();
+        String folderPrefix = path + File.separator;
+        Iterator<Map.Entry<String, CachedDocument>> iterator = documents.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, CachedDocument> entry = iterator.next();
+            if (entry.getKey().equals(path) || entry.getKey().startsWith(folderPrefix)) {
+                weight -= entry.getValue().weight;
+                iterator.remove();
+            }
+        }
+    }
+
+    public synchronized void clear() {
+
+        documents.clear();
+        weight = 0;
+    }
+
+    public synchronized int size() {
+
+        return documents.size();
+    }
+
+    public synchronized long getWeight() {
+
+        return weight;
+    }
+
+    public long getHitCount() {
+
+        return hitCount.get();
+    }
+
+    public long getOpenDocumentHitCount() {
+
+        return openDocumentHitCount.get();
+    }
+
+    public long getMissCount() {
+
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+
+        return evictionCount.get();
+    }
+
+    /**
+     * Logs the cache statistics.
+     */
+    public void logStatistics() {
+
+        LOGGER.info(String.format("DOM document cache: %d hits, %d open document hits, %d misses, %d evictions, " +
+                        "%d documents (%d characters) cached", getHitCount(), getOpenDocumentHitCount(),
+                getMissCount(), getEvictionCount(), size(), getWeight()));
+    }
+
+    private synchronized void put(String key, CachedDocument document) {
+
+        CachedDocument previous = documents.remove(key);
+        if (previous != null) {
+            weight -= previous.weight;
+        }
+        if (document.weight > maxWeight) {
+            return;
+        }
+        documents.put(key, document);
+        weight += document.weight;
+        Iterator<CachedDocument> iterator = documents.values().iterator();
+        while (weight > maxWeight && iterator.hasNext()) {
+            CachedDocument eldest = iterator.next();
+            weight -= eldest.weight;
+            iterator.remove();
+            evictionCount.incrementAndGet();
+        }
+    }
+
+    private static class CachedDocument {
+
+        private final DOMDocument document;
+        private final long lastModified;
+        private final long size;
+        private final long weight;
+
+        CachedDocument(DOMDocument document, long lastModified, long size, long weight) {
+
+            this.document = document;
+            this.lastModified = lastModified;
+            this.size = size;
+            this.weight = weight;
+        }
+    }
+}
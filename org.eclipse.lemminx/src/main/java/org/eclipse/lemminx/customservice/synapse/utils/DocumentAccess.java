@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.utils;
+
+import org.eclipse.lemminx.dom.DOMDocument;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Entry point of the Synapse custom requests to the DOM of a document.
+ * <p>
+ * If the document is open in the editor, the DOM maintained by the text document service is returned, so that the
+ * requests see the unsaved content without parsing the document again. Otherwise, the document is read from the disk
+ * through the {@link DOMDocumentCache}. The source used by each request is recorded, to find the requests that parse
+ * the documents from the disk.
+ * <p>
+ * The returned documents are shared, hence they must not be modified by the callers.
+ */
+public class DocumentAccess {
+
+    private static final Logger LOGGER = Logger.getLogger(DocumentAccess.class.getName());
+    private static final DocumentAccess INSTANCE = new DocumentAccess(DOMDocumentCache.getInstance());
+
+    private final DOMDocumentCache documentCache;
+    private final Map<String, AtomicLongArray> requestSources = new ConcurrentHashMap<>();
+
+    /**
+     * Source of a document returned to a request.
+     */
+    public enum Source {
+        OPEN_DOCUMENT,
+        FILE
+    }
+
+    public DocumentAccess(DOMDocumentCache documentCache) {
+
+        this.documentCache = documentCache;
+    }
+
+    public static DocumentAccess getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the DOM document of the given file uri or path.
+     *
+     * @param request the name of the request that accesses the document
+     * @param uri     the uri or the path of the file
+     * @return the DOM document
+     * @throws IOException if the file is not open and cannot be read
+     */
+    public DOMDocument getDocument(String request, String uri) throws IOException {
+
+        return getDocument(request, new File(Utils.getAbsolutePath(uri)));
+    }
+
+    /**
+     * Returns the DOM document of the given file.
+     *
+     * @param request the name of the request that accesses the document
+     * @param file    the file
+     * @return the DOM document
+     * @throws IOException if the file is not open and cannot be read
+     */
+    public DOMDocument getDocument(String request, File file) throws IOException {
+
+        DOMDocument document = documentCache.getOpenDocument(file);
+        if (document != null) {
+            record(request, Source.OPEN_DOCUMENT, file);
+            return document;
+        }
+        document = documentCache.getFileDocument(file);
+        record(request, Source.FILE, file);
+        return document;
+    }
+
+    /**
+     * Returns the number of the documents served to the given request from the given source.
+     *
+     * @param request the name of the request
+     * @param source  the source
+     * @return the number of the documents
+     */
+    public long getRequestCount(String request, Source source) {
+
+        AtomicLongArray counts = requestSources.get(request);
+        return counts != null ? counts.get(source.ordinal()) : 0;
+    }
+
+    /**
+     * Logs the sources of the documents served to each request.
+     */
+    public void logStatistics() {
+
+        for (Map.Entry<String, AtomicLongArray> entry : requestSources.entrySet()) {
+            LOGGER.info(String.format("Documents of %s: %d from the editor, %d from the disk", entry.getKey(),
+                    entry.getValue().get(Source.OPEN_DOCUMENT.ordinal()), entry.getValue().get(Source.FILE.ordinal())));
+        }
+    }
+
+    private void record(String request, Source source, File file) {
+
+        requestSources.computeIfAbsent(request, key -> new AtomicLongArray(Source.values().length))
+                .incrementAndGet(source.ordinal());
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.fine(String.format("%s served %s from %s", request, file.getAbsolutePath(), source));
+        }
+    }
+}
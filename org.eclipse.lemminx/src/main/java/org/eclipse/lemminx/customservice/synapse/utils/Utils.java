@@ -99,6 +99,7 @@ public class Utils {
     private static final Logger logger = Logger.getLogger(Utils.class.getName());
     private static FileSystem fileSystem;
     private static final MustacheFactory mustacheFactory = new SynapseMustacheFactory();
+    private static final int ZIP_BUFFER_SIZE = 64 * 1024;
 
     /**
      * Get the inline string of the given node
@@ -194,13 +195,17 @@ public class Utils {
         return getDOMDocument(file);
     }
 
+    /**
+     * Get the DOM document of the given file. The document is served from the {@link DOMDocumentCache}, hence it
+     * must not be modified.
+     *
+     * @param file the file
+     * @return the DOM document of the file
+     * @throws IOException if the file cannot be read
+     */
     public static DOMDocument getDOMDocument(File file) throws IOException {
 
-        Path path = file.toPath();
-        String text = Files.readString(path);
-        TextDocument document = new TextDocument(text, path.toUri().toString());
-        DOMDocument domDocument = DOMParser.getInstance().parse(document, null);
-        return domDocument;
+        return DOMDocumentCache.getInstance().getDocument(file);
     }
 
     /**
@@ -355,50 +360,70 @@ public class Utils {
     public static void extractZip(File zip, File extractTo) throws IOException {
 
         waitForDownload(zip);
-        byte[] buffer = new byte[1024];
-        ZipInputStream zis = new ZipInputStream(new FileInputStream(zip));
-        ZipEntry zipEntry = zis.getNextEntry();
+        byte[] buffer = new byte[ZIP_BUFFER_SIZE];
         String zipName = zip.getName().replace(Constant.ZIP_EXTENSION, StringUtils.EMPTY);
-        boolean removeUpperFolder = false;
-        while (zipEntry != null) {
-            String entryName = zipEntry.getName();
-            if (removeUpperFolder) {
-                if (entryName.startsWith(zipName + "/")) {
-                    entryName = entryName.substring(zipName.length() + 1);
-                    if (entryName.isEmpty()) {
-                        zipEntry = zis.getNextEntry();
-                        continue;
+        try (ZipInputStream zis = new ZipInputStream(new BufferedInputStream(new FileInputStream(zip),
+                ZIP_BUFFER_SIZE))) {
+            ZipEntry zipEntry = zis.getNextEntry();
+            boolean removeUpperFolder = false;
+            while (zipEntry != null) {
+                String entryName = zipEntry.getName();
+                if (removeUpperFolder) {
+                    if (entryName.startsWith(zipName + "/")) {
+                        entryName = entryName.substring(zipName.length() + 1);
+                        if (entryName.isEmpty()) {
+                            zipEntry = zis.getNextEntry();
+                            continue;
+                        }
+                    }
+                } else if (entryName.equals(zipName + "/") && zipEntry.isDirectory()) {
+                    removeUpperFolder = true;
+                    zipEntry = zis.getNextEntry();
+                    continue;
+                }
+                File newFile = newFile(extractTo, entryName);
+                if (zipEntry.isDirectory()) {
+                    if (!newFile.isDirectory() && !newFile.mkdirs()) {
+                        throw new IOException("Failed to create directory " + newFile);
+                    }
+                } else {
+                    File parent = newFile.getParentFile();
+                    if (!parent.isDirectory() && !parent.mkdirs()) {
+                        throw new IOException("Failed to create directory " + parent);
+                    }
+                    try (OutputStream fos = new FileOutputStream(newFile)) {
+                        int len;
+                        while ((len = zis.read(buffer)) > 0) {
+                            fos.write(buffer, 0, len);
+                        }
                     }
                 }
-            } else if (entryName.equals(zipName + "/") && zipEntry.isDirectory()) {
-                removeUpperFolder = true;
                 zipEntry = zis.getNextEntry();
-                continue;
             }
-            File newFile = newFile(extractTo, entryName);
-            if (zipEntry.isDirectory()) {
-                if (!newFile.isDirectory() && !newFile.mkdirs()) {
-                    throw new IOException("Failed to create directory " + newFile);
-                }
-            } else {
-                File parent = newFile.getParentFile();
-                if (!parent.isDirectory() && !parent.mkdirs()) {
-                    throw new IOException("Failed to create directory " + parent);
-                }
+            zis.closeEntry();
+        }
+    }
 
-                FileOutputStream fos = new FileOutputStream(newFile);
-                int len;
-                while ((len = zis.read(buffer)) > 0) {
-                    fos.write(buffer, 0, len);
-                }
-                fos.close();
+    /**
+     * Returns the SHA-256 hash of the content of the given file.
+     *
+     * @param file the file
+     * @return the hex encoded hash
+     * @throws IOException if the file cannot be read
+     */
+    public static String getFileHash(File file) throws IOException {
+
+        try (InputStream inputStream = new FileInputStream(file)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[ZIP_BUFFER_SIZE];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
             }
-            zipEntry = zis.getNextEntry();
+            return new BigInteger(1, digest.digest()).toString(16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException("Error while creating the hash of: " + file, e);
         }
-
-        zis.closeEntry();
-        zis.close();
-
     }
 
     private static void waitForDownload(File file) {
@@ -66,6 +66,13 @@ public abstract class DOMNode implements Node, DOMRange {
 	private XMLNamedNodeMap<DOMAttr> attributeNodes;
 	private XMLNodeList<DOMNode> children;
 
+	/**
+	 * The node of a previous DOM document whose attributes and children are
+	 * copied on the first access, see {@link DOMParser#copyLazily(DOMNode, int)}.
+	 */
+	private volatile DOMNode copiedNode;
+	private int copiedDelta;
+
 	final int start; // |<root> </root>
 	int end; // <root> </root>|
 
@@ -192,6 +199,7 @@ public abstract class DOMNode implements Node, DOMRange {
 		result.append(getNodeName());
 		result.append(", closed: ");
 		result.append(closed);
+		copyIfNeeded();
 		if (children != null && children.size() > 0) {
 			result.append(", \n");
 			for (int i = 0; i < indent + 1; i++) {
@@ -320,7 +328,7 @@ public abstract class DOMNode implements Node, DOMRange {
 	 * @returns the least x for which p(x) is true or array.length if no element
 	 *          full fills the given function.
 	 */
-	private static <T> int findFirst(List<T> array, Function<T, Boolean> p) {
+	static <T> int findFirst(List<T> array, Function<T, Boolean> p) {
 		int low = 0, high = array.size();
 		if (high == 0) {
 			return 0; // no children
@@ -356,6 +364,7 @@ public abstract class DOMNode implements Node, DOMRange {
 		if (!hasAttributes()) {
 			return null;
 		}
+		copyIfNeeded();
 		for (DOMAttr attr : attributeNodes) {
 			if (name.equals(attr.getName())) {
 				return attr;
@@ -413,6 +422,7 @@ public abstract class DOMNode implements Node, DOMRange {
 	 */
 	@Override
 	public boolean hasAttributes() {
+		copyIfNeeded();
 		return attributeNodes != null && attributeNodes.size() != 0;
 	}
 
@@ -426,6 +436,7 @@ public abstract class DOMNode implements Node, DOMRange {
 	}
 
 	public void setAttributeNode(DOMAttr attr) {
+		copyIfNeeded();
 		if (attributeNodes == null) {
 			attributeNodes = new XMLNamedNodeMap<>();
 		}
@@ -433,6 +444,7 @@ public abstract class DOMNode implements Node, DOMRange {
 	}
 
 	public List<DOMAttr> getAttributeNodes() {
+		copyIfNeeded();
 		return attributeNodes;
 	}
 
@@ -463,12 +475,68 @@ public abstract class DOMNode implements Node, DOMRange {
 	 * @return the node children.
 	 */
 	public List<DOMNode> getChildren() {
+		copyIfNeeded();
 		if (children == null) {
 			return Collections.emptyList();
 		}
 		return children;
 	}
 
+	/**
+	 * Copies the attributes and the children of the given node when they are
+	 * accessed for the first time.
+	 * 
+	 * @param node  the node of a previous DOM document.
+	 * @param delta the delta to add to the offsets of the copied nodes.
+	 */
+	void copyLazily(DOMNode node, int delta) {
+		this.copiedDelta = delta;
+		this.copiedNode = node;
+	}
+
+	/**
+	 * Returns the node copied lazily by this node, or null if the attributes and
+	 * the children of this node are already copied.
+	 */
+	DOMNode getCopiedNode() {
+		return copiedNode;
+	}
+
+	int getCopiedDelta() {
+		return copiedDelta;
+	}
+
+	private void copyIfNeeded() {
+		if (copiedNode == null) {
+			return;
+		}
+		synchronized (this) {
+			DOMNode node = copiedNode;
+			if (node == null) {
+				return;
+			}
+			int delta = copiedDelta;
+			if (node.hasAttributes()) {
+				XMLNamedNodeMap<DOMAttr> attributeCopies = new XMLNamedNodeMap<>();
+				for (DOMAttr attr : node.getAttributeNodes()) {
+					attributeCopies.add(DOMParser.copyAttr(attr, this, offset -> offset + delta));
+				}
+				attributeNodes = attributeCopies;
+			}
+			List<DOMNode> nodeChildren = node.getChildren();
+			if (!nodeChildren.isEmpty()) {
+				XMLNodeList<DOMNode> childCopies = new XMLNodeList<>();
+				for (DOMNode child : nodeChildren) {
+					DOMNode childCopy = DOMParser.copyLazily(child, delta);
+					childCopy.parent = this;
+					childCopies.add(childCopy);
+				}
+				children = childCopies;
+			}
+			copiedNode = null;
+		}
+	}
+
 	/**
 	 * Add node child and set child.parent to {@code this}
 	 * 
@@ -476,6 +544,7 @@ public abstract class DOMNode implements Node, DOMRange {
 	 */
 	public void addChild(DOMNode child) {
 		child.parent = this;
+		copyIfNeeded();
 		if (children == null) {
 			children = new XMLNodeList<>();
 		}
@@ -613,6 +682,7 @@ public abstract class DOMNode implements Node, DOMRange {
 	 */
 	@Override
 	public DOMNode getFirstChild() {
+		copyIfNeeded();
 		return this.children != null && children.size() > 0 ? this.children.get(0) : null;
 	}
 
@@ -623,6 +693,7 @@ public abstract class DOMNode implements Node, DOMRange {
 	 */
 	@Override
 	public DOMNode getLastChild() {
+		copyIfNeeded();
 		return this.children != null && this.children.size() > 0 ? this.children.get(this.children.size() - 1) : null;
 	}
 
@@ -633,6 +704,7 @@ public abstract class DOMNode implements Node, DOMRange {
 	 */
 	@Override
 	public NamedNodeMap getAttributes() {
+		copyIfNeeded();
 		return attributeNodes;
 	}
 
@@ -643,6 +715,7 @@ public abstract class DOMNode implements Node, DOMRange {
 	 */
 	@Override
 	public NodeList getChildNodes() {
+		copyIfNeeded();
 		return children != null ? children : EMPTY_CHILDREN;
 	}
 
@@ -826,6 +899,7 @@ public abstract class DOMNode implements Node, DOMRange {
 	 */
 	@Override
 	public boolean hasChildNodes() {
+		copyIfNeeded();
 		return children != null && !children.isEmpty();
 	}
 
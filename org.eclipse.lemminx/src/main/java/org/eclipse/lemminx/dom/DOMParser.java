@@ -17,11 +17,14 @@
  */
 package org.eclipse.lemminx.dom;
 
+import java.util.List;
+import java.util.function.IntUnaryOperator;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.eclipse.lemminx.commons.BadLocationException;
 import org.eclipse.lemminx.commons.TextDocument;
+import org.eclipse.lemminx.commons.TextEditRange;
 import org.eclipse.lemminx.dom.parser.Scanner;
 import org.eclipse.lemminx.dom.parser.TokenType;
 import org.eclipse.lemminx.dom.parser.XMLScanner;
@@ -694,6 +697,377 @@ public class DOMParser {
 		return xmlDocument;
 	}
 
+	/**
+	 * Returns the DOM document of the given text document by reusing the DOM
+	 * document parsed before the given changes of the text.
+	 * 
+	 * <p>
+	 * Only the smallest element which contains the changes is parsed again. The
+	 * other nodes are copied from the previous DOM document, with the offsets of
+	 * the nodes after the changes shifted, instead of being scanned again. The
+	 * whole text is parsed again when the changes are not inside an element which
+	 * is still well formed after the changes.
+	 * </p>
+	 * 
+	 * <p>
+	 * Only the ancestors of the changed element are copied eagerly, the other
+	 * nodes copy their attributes and children on the first access, so that a
+	 * change costs about the size of the changed element and of the siblings of
+	 * its ancestors instead of the size of the document.
+	 * </p>
+	 * 
+	 * <p>
+	 * The previous DOM document is not modified, so it can still be used by the
+	 * requests and the validation which are computed with it.
+	 * </p>
+	 * 
+	 * @param document                 the text document.
+	 * @param previousDocument         the DOM document parsed before the changes.
+	 * @param editRange                the range of the text changed since the
+	 *                                 previous DOM document was parsed, or null if
+	 *                                 the text didn't change.
+	 * @param resolverExtensionManager the resolver extension manager.
+	 * @param ignoreWhitespaceContent  true if the whitespace content must be
+	 *                                 ignored as in the previous DOM document.
+	 * @param monitor                  the cancel checker.
+	 * @return the DOM document of the given text document.
+	 */
+	public DOMDocument parse(TextDocument document, DOMDocument previousDocument, TextEditRange editRange,
+			URIResolverExtensionManager resolverExtensionManager, boolean ignoreWhitespaceContent,
+			CancelChecker monitor) {
+		String text = document.getText();
+		if (editRange == null && previousDocument.getEnd() == text.length()) {
+			// only the version of the text document changed
+			DOMDocument xmlDocument = copyDocument(previousDocument, document, null, null, 0,
+					resolverExtensionManager, monitor);
+			if (xmlDocument != null) {
+				return xmlDocument;
+			}
+		}
+		if (editRange != null && canReparse(previousDocument, text, editRange)) {
+			DOMElement element = findReparsedElement(previousDocument, editRange);
+			if (element != null) {
+				DOMDocument xmlDocument = reparse(document, previousDocument, element, editRange,
+						resolverExtensionManager, ignoreWhitespaceContent, monitor);
+				if (xmlDocument != null) {
+					return xmlDocument;
+				}
+			}
+		}
+		return parse(document, resolverExtensionManager, ignoreWhitespaceContent, monitor);
+	}
+
+	private static boolean canReparse(DOMDocument previousDocument, String text, TextEditRange editRange) {
+		if (previousDocument.isDTD() || previousDocument.getDoctype() != null) {
+			return false;
+		}
+		if (previousDocument.getEnd() + editRange.getDelta() != text.length()) {
+			// the changes don't match the text of the previous DOM document
+			return false;
+		}
+		// The text nodes cache the line delimiter of the first line
+		int firstLineEnd = text.indexOf('\n');
+		return firstLineEnd != -1 && firstLineEnd < editRange.getStart();
+	}
+
+	/**
+	 * Returns the smallest well formed element of the given DOM document which
+	 * contains the given range, and null otherwise.
+	 */
+	private static DOMElement findReparsedElement(DOMDocument previousDocument, TextEditRange editRange) {
+		DOMElement element = null;
+		DOMNode node = previousDocument;
+		while (true) {
+			List<DOMNode> children = node.getChildren();
+			int index = DOMNode.findFirst(children, child -> editRange.getStart() <= child.start) - 1;
+			if (index < 0) {
+				return element;
+			}
+			DOMNode child = children.get(index);
+			if (!child.isElement() || editRange.getOldEnd() >= child.end || !isWellFormed((DOMElement) child)) {
+				return element;
+			}
+			element = (DOMElement) child;
+			node = child;
+		}
+	}
+
+	/**
+	 * Parses again the given element and returns the DOM document with the new
+	 * element, or null if the element is no longer well formed.
+	 */
+	private DOMDocument reparse(TextDocument document, DOMDocument previousDocument, DOMElement element,
+			TextEditRange editRange, URIResolverExtensionManager resolverExtensionManager,
+			boolean ignoreWhitespaceContent, CancelChecker monitor) {
+		int start = element.start;
+		int oldEnd = element.end;
+		int delta = editRange.getDelta();
+		String elementText = document.getText().substring(start, oldEnd + delta);
+		DOMDocument elementDocument = parse(new TextDocument(elementText, document.getUri()),
+				resolverExtensionManager, ignoreWhitespaceContent, monitor);
+		List<DOMNode> roots = elementDocument.getRoots();
+		if (roots.size() != 1 || !roots.get(0).isElement()) {
+			return null;
+		}
+		DOMElement newElement = (DOMElement) roots.get(0);
+		if (newElement.end != elementText.length() || !isWellFormedSubtree(newElement)
+				|| hasCommentAfterPreviousEndTag(newElement, elementText)) {
+			return null;
+		}
+		if (monitor != null) {
+			monitor.checkCanceled();
+		}
+
+		// Copy the previous nodes with the new element instead of the old element
+		return copyDocument(previousDocument, document, element, newElement, delta, resolverExtensionManager,
+				monitor);
+	}
+
+	/**
+	 * Returns a new DOM document for the given text document with copies of the
+	 * nodes of the given DOM document, or null if a node cannot be copied.
+	 * 
+	 * @param previousDocument the DOM document to copy.
+	 * @param document         the text document.
+	 * @param oldElement       the element to replace, or null.
+	 * @param newElement       the element parsed from the start of the old
+	 *                         element.
+	 * @param delta            the delta to add to the offsets of the nodes after
+	 *                         the old element.
+	 */
+	private static DOMDocument copyDocument(DOMDocument previousDocument, TextDocument document,
+			DOMElement oldElement, DOMElement newElement, int delta,
+			URIResolverExtensionManager resolverExtensionManager, CancelChecker monitor) {
+		DOMDocument xmlDocument = new DOMDocument(document, resolverExtensionManager);
+		xmlDocument.setCancelChecker(monitor);
+		if (!copyChildren(previousDocument, xmlDocument, oldElement, newElement, delta)) {
+			return null;
+		}
+		return xmlDocument;
+	}
+
+	/**
+	 * Copies the children of the given node. The ancestors of the old element are
+	 * copied with their children, the new element and the other children are
+	 * copied lazily.
+	 */
+	private static boolean copyChildren(DOMNode node, DOMNode copy, DOMElement oldElement, DOMElement newElement,
+			int delta) {
+		int oldEnd = oldElement != null ? oldElement.end : Integer.MAX_VALUE;
+		for (DOMNode child : node.getChildren()) {
+			DOMNode childCopy;
+			if (child == oldElement) {
+				childCopy = copyLazily(newElement, oldElement.start);
+			} else if (oldElement != null && child.start <= oldElement.start && oldEnd <= child.end) {
+				// an ancestor of the old element
+				IntUnaryOperator offsets = offset -> offset >= oldEnd ? offset + delta : offset;
+				childCopy = copyNode(child, offsets);
+				if (childCopy == null) {
+					return false;
+				}
+				if (child.hasAttributes()) {
+					for (DOMAttr attr : child.getAttributeNodes()) {
+						childCopy.setAttributeNode(copyAttr(attr, childCopy, offsets));
+					}
+				}
+				if (!copyChildren(child, childCopy, oldElement, newElement, delta)) {
+					return false;
+				}
+			} else if (isCopiedLazily(child)) {
+				childCopy = copyLazily(child, child.start >= oldEnd ? delta : 0);
+			} else {
+				return false;
+			}
+			copy.addChild(childCopy);
+		}
+		return true;
+	}
+
+	private static boolean isCopiedLazily(DOMNode node) {
+		return node.isElement() || node.isCDATA() || node.isText() || node.isComment()
+				|| node.isProcessingInstruction() || node.isProlog();
+	}
+
+	/**
+	 * Returns a copy of the given node whose attributes and children are copied
+	 * on the first access.
+	 * 
+	 * <p>
+	 * When the given node is itself a lazy copy which is not accessed yet, the
+	 * node it copies is copied instead, so that the DOM documents copied one after
+	 * the other don't retain each other.
+	 * </p>
+	 * 
+	 * @param node  the node to copy.
+	 * @param delta the delta to add to the offsets of the copied nodes.
+	 */
+	static DOMNode copyLazily(DOMNode node, int delta) {
+		DOMNode copiedNode = node.getCopiedNode();
+		if (copiedNode != null) {
+			delta += node.getCopiedDelta();
+			node = copiedNode;
+		}
+		int nodeDelta = delta;
+		DOMNode copy = copyNode(node, offset -> offset + nodeDelta);
+		if (copy == null) {
+			throw new IllegalStateException("Cannot copy the node " + node.getNodeName());
+		}
+		copy.copyLazily(node, delta);
+		return copy;
+	}
+
+	/**
+	 * Returns a copy of the given node without its attributes and its children, or
+	 * null if the node cannot be copied.
+	 */
+	private static DOMNode copyNode(DOMNode node, IntUnaryOperator offsets) {
+		int start = offsets.applyAsInt(node.start);
+		int end = offsets.applyAsInt(node.end);
+		DOMNode copy;
+		if (node.isElement()) {
+			DOMElement element = (DOMElement) node;
+			DOMElement elementCopy = new DOMElement(start, end);
+			elementCopy.tag = element.tag;
+			elementCopy.selfClosed = element.selfClosed;
+			elementCopy.startTagOpenOffset = copyOffset(element.startTagOpenOffset, offsets);
+			elementCopy.startTagCloseOffset = copyOffset(element.startTagCloseOffset, offsets);
+			elementCopy.endTagOpenOffset = copyOffset(element.endTagOpenOffset, offsets);
+			elementCopy.endTagCloseOffset = copyOffset(element.endTagCloseOffset, offsets);
+			copy = elementCopy;
+		} else if (node.isCDATA()) {
+			DOMCDATASection cdata = (DOMCDATASection) node;
+			DOMCDATASection cdataCopy = new DOMCDATASection(start, end);
+			cdataCopy.setWhitespace(cdata.isWhitespace());
+			// the content offsets are not set when the CDATA section is empty
+			if (cdata.endContent != 0) {
+				cdataCopy.startContent = offsets.applyAsInt(cdata.startContent);
+				cdataCopy.endContent = offsets.applyAsInt(cdata.endContent);
+			}
+			copy = cdataCopy;
+		} else if (node.isText()) {
+			DOMText textCopy = new DOMText(start, end);
+			textCopy.setWhitespace(((DOMText) node).isWhitespace());
+			copy = textCopy;
+		} else if (node.isComment()) {
+			DOMComment comment = (DOMComment) node;
+			DOMComment commentCopy = new DOMComment(start, end);
+			commentCopy.commentSameLineEndTag = comment.commentSameLineEndTag;
+			// the content offsets are not set when the comment is empty
+			if (comment.endContent != 0) {
+				commentCopy.startContent = offsets.applyAsInt(comment.startContent);
+				commentCopy.endContent = offsets.applyAsInt(comment.endContent);
+			}
+			copy = commentCopy;
+		} else if (node.isProcessingInstruction() || node.isProlog()) {
+			DOMProcessingInstruction processingInstruction = (DOMProcessingInstruction) node;
+			DOMProcessingInstruction processingInstructionCopy = new DOMProcessingInstruction(start, end);
+			processingInstructionCopy.startTagClose = processingInstruction.startTagClose;
+			processingInstructionCopy.target = processingInstruction.target;
+			processingInstructionCopy.prolog = processingInstruction.prolog;
+			processingInstructionCopy.processingInstruction = processingInstruction.processingInstruction;
+			// the content offsets are not set when the processing instruction is empty
+			if (processingInstruction.endContent != 0) {
+				processingInstructionCopy.startContent = offsets.applyAsInt(processingInstruction.startContent);
+				processingInstructionCopy.endContent = offsets.applyAsInt(processingInstruction.endContent);
+			}
+			processingInstructionCopy.endTagOpenOffset = copyOffset(processingInstruction.endTagOpenOffset,
+					offsets);
+			copy = processingInstructionCopy;
+		} else {
+			return null;
+		}
+		copy.closed = node.closed;
+		return copy;
+	}
+
+	static DOMAttr copyAttr(DOMAttr attr, DOMNode ownerElement, IntUnaryOperator offsets) {
+		DOMRange name = attr.getNodeAttrName();
+		DOMAttr copy = name != null
+				? new DOMAttr(null, offsets.applyAsInt(name.getStart()), offsets.applyAsInt(name.getEnd()),
+						ownerElement)
+				: new DOMAttr(attr.getName(), ownerElement);
+		copy.setDelimiter(copyOffset(attr.getDelimiterOffset(), offsets));
+		DOMRange value = attr.getNodeAttrValue();
+		if (value != null) {
+			copy.setValue(null, offsets.applyAsInt(value.getStart()), offsets.applyAsInt(value.getEnd()));
+		}
+		return copy;
+	}
+
+	private static int copyOffset(int offset, IntUnaryOperator offsets) {
+		return offset != DOMNode.NULL_VALUE ? offsets.applyAsInt(offset) : DOMNode.NULL_VALUE;
+	}
+
+	/**
+	 * Returns true if the given element is closed by its end tag or is self
+	 * closed.
+	 */
+	private static boolean isWellFormed(DOMElement element) {
+		return element.isClosed() && element.hasStartTag() && element.hasTagName()
+				&& (element.isSelfClosed() || element.isEndTagClosed());
+	}
+
+	private static boolean isWellFormedSubtree(DOMNode node) {
+		if (!node.isClosed()) {
+			return false;
+		}
+		if (node.isElement()) {
+			if (!isWellFormed((DOMElement) node)) {
+				return false;
+			}
+		} else if (!(node.isText() || node.isCDATA() || node.isComment() || node.isProcessingInstruction()
+				|| node.isProlog())) {
+			return false;
+		}
+		for (DOMNode child : node.getChildren()) {
+			if (!isWellFormedSubtree(child)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns true if the given element has a comment on its first line before any
+	 * element is closed in it. Such a comment is marked as on the same line as the
+	 * end tag closed before the element, which is not parsed again.
+	 */
+	private static boolean hasCommentAfterPreviousEndTag(DOMElement element, String elementText) {
+		int firstLineEnd = 0;
+		while (firstLineEnd < elementText.length() && elementText.charAt(firstLineEnd) != '\n'
+				&& elementText.charAt(firstLineEnd) != '\r') {
+			firstLineEnd++;
+		}
+		DOMNode comment = findFirstComment(element, firstLineEnd);
+		return comment != null && getFirstClosedElementEnd(element) > comment.start;
+	}
+
+	private static DOMNode findFirstComment(DOMNode node, int limit) {
+		for (DOMNode child : node.getChildren()) {
+			if (child.start >= limit) {
+				return null;
+			}
+			if (child.isComment()) {
+				return child;
+			}
+			DOMNode comment = findFirstComment(child, limit);
+			if (comment != null) {
+				return comment;
+			}
+		}
+		return null;
+	}
+
+	private static int getFirstClosedElementEnd(DOMNode node) {
+		int end = Integer.MAX_VALUE;
+		for (DOMNode child : node.getChildren()) {
+			if (child.isElement()) {
+				end = Math.min(end, Math.min(child.end, getFirstClosedElementEnd(child)));
+			}
+		}
+		return end;
+	}
+
 	private static boolean isEmptyElement(String tag) {
 		return false;
 	}
@@ -399,7 +399,12 @@ public class ContentModelManager {
 	 * @return true if catalogs changed and false otherwise
 	 */
 	public boolean setCatalogs(String[] catalogs) {
-		return catalogResolverExtension.setCatalogs(catalogs);
+		boolean changed = catalogResolverExtension.setCatalogs(catalogs);
+		if (changed) {
+			// the grammars resolved from their namespace by the catalogs are cached by namespace
+			grammarPool.clear();
+		}
+		return changed;
 	}
 
 	/**
@@ -407,6 +412,7 @@ public class ContentModelManager {
 	 */
 	public void refreshCatalogs() {
 		catalogResolverExtension.refreshCatalogs();
+		grammarPool.clear();
 	}
 
 	/**
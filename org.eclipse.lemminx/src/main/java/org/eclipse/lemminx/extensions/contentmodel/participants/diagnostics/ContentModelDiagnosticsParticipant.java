@@ -36,8 +36,11 @@ public class ContentModelDiagnosticsParticipant implements IDiagnosticsParticipa
 
 	private final ContentModelPlugin contentModelPlugin;
 
+	private final XMLScopedValidator scopedValidator;
+
 	public ContentModelDiagnosticsParticipant(ContentModelPlugin contentModelPlugin) {
 		this.contentModelPlugin = contentModelPlugin;
+		this.scopedValidator = new XMLScopedValidator();
 	}
 
 	@Override
@@ -55,8 +58,14 @@ public class ContentModelDiagnosticsParticipant implements IDiagnosticsParticipa
 				(DiagnosticsResult) diagnostics);
 
 		// Process validation
-		XMLValidator.doDiagnostics(xmlDocument, entityResolverWrapper, diagnostics, validationSettings,
-				contentModelPlugin.getContentModelManager(), monitor);
+		if (validationSettings != null && validationSettings.isScoped()) {
+			scopedValidator.doDiagnostics(xmlDocument, entityResolverWrapper, diagnostics, validationSettings,
+					contentModelPlugin.getContentModelManager(), ((DiagnosticsResult) diagnostics).isDidChange(),
+					monitor);
+		} else {
+			XMLValidator.doDiagnostics(xmlDocument, entityResolverWrapper, diagnostics, validationSettings,
+					contentModelPlugin.getContentModelManager(), monitor);
+		}
 
 	}
 
@@ -19,6 +19,7 @@ package org.eclipse.lemminx.extensions.contentmodel.participants.diagnostics;
 import org.apache.xerces.impl.dtd.DTDGrammar;
 import org.apache.xerces.impl.dtd.XMLDTDDescription;
 import org.apache.xerces.impl.xs.SchemaGrammar;
+import org.apache.xerces.impl.xs.XSDDescription;
 import org.apache.xerces.xni.grammars.Grammar;
 import org.apache.xerces.xni.grammars.XMLGrammarDescription;
 import org.apache.xerces.xni.grammars.XMLGrammarPool;
@@ -154,6 +155,27 @@ public class LSPXMLGrammarPool implements XMLGrammarPool {
 		}
 	}
 
+	/**
+	 * Returns the XML Schema grammar cached for the given target namespace.
+	 *
+	 * @param namespace the target namespace.
+	 * @return the XML Schema grammar cached for the given target namespace and
+	 *         null otherwise.
+	 */
+	public Grammar getSchemaGrammar(String namespace) {
+		synchronized (fGrammars) {
+			for (Entry bucket : fGrammars) {
+				for (Entry entry = bucket; entry != null; entry = entry.next) {
+					if (entry.grammar instanceof SchemaGrammar
+							&& Objects.equal(namespace, ((SchemaGrammar) entry.grammar).getTargetNamespace())) {
+						return entry.grammar;
+					}
+				}
+			}
+			return null;
+		}
+	}
+
 	public void removeGrammar(String grammarURI) {
 		for (Entry entry : fGrammars) {
 			if (entry != null) {
@@ -187,8 +209,9 @@ public class LSPXMLGrammarPool implements XMLGrammarPool {
 
 	/**
 	 * This method checks whether two grammars are the same. Currently, we compare
-	 * the root element names for DTD grammars and the target namespaces for Schema
-	 * grammars. The application can override this behaviour and add its own logic.
+	 * the expanded system ids, or the target namespaces for the XML Schema grammars
+	 * which are resolved from their namespace only, for instance with an XML
+	 * catalog. The application can override this behaviour and add its own logic.
 	 *
 	 * @param desc1 The grammar description
 	 * @param desc2 The grammar description of the grammar to be compared to
@@ -200,6 +223,11 @@ public class LSPXMLGrammarPool implements XMLGrammarPool {
 		if (systemId1 != null && systemId2 != null) {
 			return Objects.equal(systemId1, systemId2);
 		}
+		if (systemId1 == null && systemId2 == null && desc1 instanceof XSDDescription
+				&& desc2 instanceof XSDDescription) {
+			String namespace = desc1.getNamespace();
+			return namespace != null && namespace.equals(desc2.getNamespace());
+		}
 		return false; // desc1.equals(desc2);
 	}
 
@@ -0,0 +1,431 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+package org.eclipse.lemminx.extensions.contentmodel.participants.diagnostics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.apache.xerces.xni.parser.XMLEntityResolver;
+import org.eclipse.lemminx.commons.BadLocationException;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMElement;
+import org.eclipse.lemminx.dom.DOMNode;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.eclipse.lemminx.extensions.contentmodel.model.ContentModelManager;
+import org.eclipse.lemminx.extensions.contentmodel.participants.XMLSyntaxErrorCode;
+import org.eclipse.lemminx.extensions.contentmodel.settings.XMLValidationSettings;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+
+/**
+ * XML validator which revalidates only the top-level mediator or resource
+ * which contains the change of a document.
+ * <p>
+ * The diagnostics of the last validation of each document are kept. When a
+ * document is changed inside one scope (a child element of the root element,
+ * or a child element of a <code>target</code>, <code>inSequence</code>,
+ * <code>outSequence</code>, <code>faultSequence</code> or
+ * <code>sequence</code> element), only the scope is validated, in a document
+ * made of the start tags of its ancestors, of its preceding siblings and of the
+ * preceding siblings of its ancestors as empty elements, the scope, and the end
+ * tags of its ancestors. This context gives the scope the same schema context as
+ * in the whole document, and its size doesn't depend on the size of the other
+ * mediators or resources. The diagnostics of the scope are mapped to the
+ * document and merged with the previous diagnostics of the other parts of the
+ * document.
+ * </p>
+ * <p>
+ * The whole document is validated when the validation is not triggered by a
+ * change, when the document or the change is not well-formed and when the
+ * change is not contained in a scope. Identity constraints (ID/IDREF,
+ * xs:key/xs:keyref) between the scope and the rest of the document are not
+ * checked by a scoped validation.
+ * </p>
+ */
+public class XMLScopedValidator {
+
+	private static final Logger LOGGER = Logger.getLogger(XMLScopedValidator.class.getName());
+
+	private static final int MAX_DOCUMENTS = 32;
+
+	private static final Set<String> CONTAINERS = new HashSet<>(
+			Arrays.asList("target", "inSequence", "outSequence", "faultSequence", "sequence"));
+
+	/**
+	 * Text and diagnostics of the last validation of a document.
+	 */
+	private static class ValidatedDocument {
+
+		private final String text;
+
+		private final List<Diagnostic> diagnostics;
+
+		/**
+		 * End offsets of the scopes by start offsets.
+		 */
+		private final Map<Integer, Integer> scopes;
+
+		private final XMLValidationSettings validationSettings;
+
+		private final boolean wellFormed;
+
+		public ValidatedDocument(String text, List<Diagnostic> diagnostics, Map<Integer, Integer> scopes,
+				XMLValidationSettings validationSettings) {
+			this.text = text;
+			this.diagnostics = diagnostics;
+			this.scopes = scopes;
+			this.validationSettings = validationSettings;
+			this.wellFormed = !hasSyntaxError(diagnostics);
+		}
+	}
+
+	private final Map<String, ValidatedDocument> validatedDocuments;
+
+	public XMLScopedValidator() {
+		this.validatedDocuments = new LinkedHashMap<>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, ValidatedDocument> eldest) {
+				return size() > MAX_DOCUMENTS;
+			}
+		};
+	}
+
+	/**
+	 * Validate the given DOM document and add the diagnostics to the given list.
+	 *
+	 * @param document            the DOM document.
+	 * @param entityResolver      the entity resolver.
+	 * @param diagnostics         the list where the diagnostics must be added.
+	 * @param validationSettings  the validation settings.
+	 * @param contentModelManager the content model manager.
+	 * @param didChange           true if the validation is triggered by a change
+	 *                            of the document and false otherwise.
+	 * @param monitor             the cancel checker.
+	 */
+	public void doDiagnostics(DOMDocument document, XMLEntityResolver entityResolver, List<Diagnostic> diagnostics,
+			XMLValidationSettings validationSettings, ContentModelManager contentModelManager, boolean didChange,
+			CancelChecker monitor) {
+		long start = System.currentTimeMillis();
+		String uri = document.getDocumentURI();
+		String text = document.getText();
+		ValidatedDocument previous = didChange ? getValidatedDocument(uri) : null;
+		List<Diagnostic> validatorDiagnostics = null;
+		if (previous != null && previous.wellFormed
+				&& Objects.equals(previous.validationSettings, validationSettings) && !document.hasDTD()) {
+			validatorDiagnostics = doScopedDiagnostics(document, text, previous, entityResolver, validationSettings,
+					contentModelManager, monitor);
+		}
+		boolean scoped = validatorDiagnostics != null;
+		if (!scoped) {
+			validatorDiagnostics = new ArrayList<>();
+			XMLValidator.doDiagnostics(document, entityResolver, validatorDiagnostics, validationSettings,
+					contentModelManager, monitor);
+		}
+		diagnostics.addAll(validatorDiagnostics);
+		if (!monitor.isCanceled()) {
+			Map<Integer, Integer> scopes = new HashMap<>();
+			collectScopes(document.getDocumentElement(), scopes);
+			putValidatedDocument(uri,
+					new ValidatedDocument(text, validatorDiagnostics, scopes, validationSettings));
+		}
+		if (LOGGER.isLoggable(Level.FINE)) {
+			LOGGER.fine((scoped ? "Scoped" : "Full") + " validation of '" + uri + "' in "
+					+ (System.currentTimeMillis() - start) + "ms");
+		}
+	}
+
+	/**
+	 * Returns the diagnostics of the given document by validating only the scope
+	 * which contains the change since the previous validation, and null if the
+	 * whole document must be validated.
+	 */
+	private static List<Diagnostic> doScopedDiagnostics(DOMDocument document, String text,
+			ValidatedDocument previous, XMLEntityResolver entityResolver, XMLValidationSettings validationSettings,
+			ContentModelManager contentModelManager, CancelChecker monitor) {
+		String previousText = previous.text;
+		if (previousText.equals(text)) {
+			return new ArrayList<>(previous.diagnostics);
+		}
+		// Range [start, newEnd) of the text which replaces the range [start, oldEnd)
+		// of the previous text
+		int start = 0;
+		int maxStart = Math.min(text.length(), previousText.length());
+		while (start < maxStart && text.charAt(start) == previousText.charAt(start)) {
+			start++;
+		}
+		int oldEnd = previousText.length();
+		int newEnd = text.length();
+		while (oldEnd > start && newEnd > start && text.charAt(newEnd - 1) == previousText.charAt(oldEnd - 1)) {
+			oldEnd--;
+			newEnd--;
+		}
+
+		DOMElement scope = findScope(document, start, newEnd);
+		if (scope == null) {
+			return null;
+		}
+		// The previous text must contain the same element, so that the content model
+		// of its parent is not changed
+		int previousScopeEnd = scope.getEnd() - (newEnd - oldEnd);
+		Integer previousEnd = previous.scopes.get(scope.getStart());
+		if (previousEnd == null || previousEnd != previousScopeEnd) {
+			return null;
+		}
+
+		// Validate the scope in its context
+		StringBuilder scopedText = new StringBuilder();
+		if (!appendStartContext(text, scope, scopedText)) {
+			return null;
+		}
+		int scopeOffset = scopedText.length();
+		scopedText.append(text, scope.getStart(), scope.getEnd());
+		appendEndContext(text, scope, scopedText);
+		DOMDocument scopedDocument = DOMParser.getInstance().parse(scopedText.toString(),
+				document.getDocumentURI(), document.getResolverExtensionManager());
+		List<Diagnostic> scopeDiagnostics = new ArrayList<>();
+		XMLValidator.doDiagnostics(scopedDocument, entityResolver, scopeDiagnostics, validationSettings,
+				contentModelManager, monitor);
+		if (hasSyntaxError(scopeDiagnostics)) {
+			return null;
+		}
+
+		try {
+			Position scopeStart = document.positionAt(scope.getStart());
+			Position scopeEnd = document.positionAt(scope.getEnd());
+			Position previousScopeEndPosition = advance(scopeStart, previousText, scope.getStart(),
+					previousScopeEnd);
+
+			List<Diagnostic> before = new ArrayList<>();
+			List<Diagnostic> after = new ArrayList<>();
+			for (Diagnostic diagnostic : previous.diagnostics) {
+				Range range = diagnostic.getRange();
+				if (compare(range.getStart(), scopeStart) < 0) {
+					if (compare(range.getEnd(), scopeStart) > 0) {
+						// the diagnostic overlaps the scope
+						return null;
+					}
+					before.add(diagnostic);
+				} else if (compare(range.getStart(), previousScopeEndPosition) >= 0) {
+					after.add(shift(diagnostic, previousScopeEndPosition, scopeEnd));
+				} else if (compare(range.getEnd(), previousScopeEndPosition) > 0) {
+					// the diagnostic overlaps the end of the scope
+					return null;
+				}
+			}
+			List<Diagnostic> result = before;
+			int scopeEndOffset = scopeOffset + scope.getEnd() - scope.getStart();
+			for (Diagnostic diagnostic : scopeDiagnostics) {
+				Range range = diagnostic.getRange();
+				int startOffset = scopedDocument.offsetAt(range.getStart());
+				int endOffset = scopedDocument.offsetAt(range.getEnd());
+				if (startOffset >= scopeOffset && startOffset < scopeEndOffset && endOffset <= scopeEndOffset) {
+					if (diagnostic.getRelatedInformation() != null
+							&& !diagnostic.getRelatedInformation().isEmpty()) {
+						// the related locations are in the scoped document
+						return null;
+					}
+					int delta = scope.getStart() - scopeOffset;
+					diagnostic.setRange(new Range(document.positionAt(startOffset + delta),
+							document.positionAt(endOffset + delta)));
+					result.add(diagnostic);
+				}
+			}
+			result.addAll(after);
+			return result;
+		} catch (BadLocationException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the scope whose content contains the given range and null
+	 * otherwise.
+	 */
+	private static DOMElement findScope(DOMDocument document, int start, int end) {
+		DOMElement scope = null;
+		DOMElement parent = document.getDocumentElement();
+		while (parent != null) {
+			DOMElement child = findChild(parent, start, end);
+			if (child == null) {
+				break;
+			}
+			scope = child;
+			parent = CONTAINERS.contains(child.getLocalName()) ? child : null;
+		}
+		return scope;
+	}
+
+	private static DOMElement findChild(DOMElement parent, int start, int end) {
+		for (DOMNode child : parent.getChildren()) {
+			if (child.getStart() >= end) {
+				break;
+			}
+			if (child.isElement()) {
+				DOMElement element = (DOMElement) child;
+				if (element.isStartTagClosed() && element.hasEndTag() && element.getStartTagCloseOffset() < start
+						&& end <= element.getEndTagOpenOffset()) {
+					return element;
+				}
+			}
+		}
+		return null;
+	}
+
+	private static void collectScopes(DOMElement parent, Map<Integer, Integer> scopes) {
+		if (parent == null) {
+			return;
+		}
+		for (DOMNode child : parent.getChildren()) {
+			if (child.isElement()) {
+				DOMElement element = (DOMElement) child;
+				scopes.put(element.getStart(), element.getEnd());
+				if (CONTAINERS.contains(element.getLocalName())) {
+					collectScopes(element, scopes);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Appends the text before the root element, the start tags of the ancestors
+	 * of the given scope, and the preceding siblings of the scope and of its
+	 * ancestors as empty elements. Returns false if an ancestor has no end tag.
+	 */
+	private static boolean appendStartContext(String text, DOMElement scope, StringBuilder scopedText) {
+		List<DOMElement> ancestors = new ArrayList<>();
+		for (DOMNode node = scope.getParentNode(); node != null && node.isElement(); node = node.getParentNode()) {
+			DOMElement ancestor = (DOMElement) node;
+			if (!ancestor.isStartTagClosed() || !ancestor.hasEndTag()) {
+				return false;
+			}
+			ancestors.add(ancestor);
+		}
+		if (ancestors.isEmpty()) {
+			return false;
+		}
+		DOMElement root = ancestors.get(ancestors.size() - 1);
+		// prolog, processing instructions and comments which can associate a grammar
+		scopedText.append(text, 0, root.getStart());
+		for (int i = ancestors.size() - 1; i >= 0; i--) {
+			DOMElement ancestor = ancestors.get(i);
+			DOMNode child = i > 0 ? ancestors.get(i - 1) : scope;
+			scopedText.append(text, ancestor.getStart(), ancestor.getStartTagCloseOffset() + 1);
+			for (DOMNode sibling : ancestor.getChildren()) {
+				if (sibling == child) {
+					break;
+				}
+				if (sibling.isElement()) {
+					appendEmptyElement(text, (DOMElement) sibling, scopedText);
+				}
+			}
+		}
+		return true;
+	}
+
+	private static void appendEmptyElement(String text, DOMElement element, StringBuilder scopedText) {
+		if (element.isSelfClosed()) {
+			scopedText.append(text, element.getStart(), element.getEnd());
+		} else if (element.isStartTagClosed()) {
+			scopedText.append(text, element.getStart(), element.getStartTagCloseOffset()).append("/>");
+		}
+	}
+
+	/**
+	 * Appends the end tags of the ancestors of the given scope.
+	 */
+	private static void appendEndContext(String text, DOMElement scope, StringBuilder scopedText) {
+		for (DOMNode node = scope.getParentNode(); node != null && node.isElement(); node = node.getParentNode()) {
+			DOMElement ancestor = (DOMElement) node;
+			scopedText.append(text, ancestor.getEndTagOpenOffset(), ancestor.getEnd());
+		}
+	}
+
+	/**
+	 * Returns the position of the given end offset of the given text, from the
+	 * given position of the given start offset.
+	 */
+	private static Position advance(Position position, String text, int start, int end) {
+		int line = position.getLine();
+		int character = position.getCharacter();
+		for (int i = start; i < end; i++) {
+			char c = text.charAt(i);
+			if (c == '\n' || (c == '\r' && (i + 1 >= text.length() || text.charAt(i + 1) != '\n'))) {
+				line++;
+				character = 0;
+			} else if (c != '\r') {
+				character++;
+			}
+		}
+		return new Position(line, character);
+	}
+
+	private static Diagnostic shift(Diagnostic diagnostic, Position previousEnd, Position end) {
+		Range range = diagnostic.getRange();
+		Diagnostic shifted = new Diagnostic(
+				new Range(shift(range.getStart(), previousEnd, end), shift(range.getEnd(), previousEnd, end)),
+				diagnostic.getMessage(), diagnostic.getSeverity(), diagnostic.getSource());
+		shifted.setCode(diagnostic.getCode());
+		shifted.setTags(diagnostic.getTags());
+		shifted.setRelatedInformation(diagnostic.getRelatedInformation());
+		shifted.setData(diagnostic.getData());
+		return shifted;
+	}
+
+	private static Position shift(Position position, Position previousEnd, Position end) {
+		if (position.getLine() == previousEnd.getLine()) {
+			return new Position(end.getLine(),
+					end.getCharacter() + position.getCharacter() - previousEnd.getCharacter());
+		}
+		return new Position(position.getLine() + end.getLine() - previousEnd.getLine(), position.getCharacter());
+	}
+
+	private static int compare(Position position, Position other) {
+		if (position.getLine() != other.getLine()) {
+			return Integer.compare(position.getLine(), other.getLine());
+		}
+		return Integer.compare(position.getCharacter(), other.getCharacter());
+	}
+
+	private static boolean hasSyntaxError(List<Diagnostic> diagnostics) {
+		for (Diagnostic diagnostic : diagnostics) {
+			if (diagnostic.getCode() != null && diagnostic.getCode().isLeft()
+					&& XMLSyntaxErrorCode.get(diagnostic.getCode().getLeft()) != null) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private synchronized ValidatedDocument getValidatedDocument(String uri) {
+		return validatedDocuments.get(uri);
+	}
+
+	private synchronized void putValidatedDocument(String uri, ValidatedDocument validatedDocument) {
+		validatedDocuments.put(uri, validatedDocument);
+	}
+}
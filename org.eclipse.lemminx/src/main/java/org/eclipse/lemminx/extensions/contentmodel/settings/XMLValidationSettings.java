@@ -33,6 +33,8 @@ public class XMLValidationSettings {
 
 	private XMLXIncludeSettings xInclude;
 
+	private boolean scoped;
+
 	/**
 	 * This severity preference to mark the root element of XML document which is
 	 * not bound to a XML Schema/DTD.
@@ -51,6 +53,7 @@ public class XMLValidationSettings {
 		setNamespaces(new XMLNamespacesSettings());
 		setSchema(new XMLSchemaSettings());
 		setXInclude(new XMLXIncludeSettings());
+		setScoped(false);
 	}
 
 	/**
@@ -172,6 +175,35 @@ public class XMLValidationSettings {
 		this.xInclude = xInclude;
 	}
 
+	/**
+	 * Returns true if the validation triggered by a change of the document must
+	 * be scoped to the top-level mediator or resource which contains the change
+	 * and false otherwise.
+	 * <p>
+	 * The diagnostics of the other parts of the document are taken from the
+	 * previous validation. The validation triggered when the document is opened
+	 * or saved always validates the whole document.
+	 * </p>
+	 *
+	 * @return true if the validation triggered by a change of the document must
+	 *         be scoped and false otherwise.
+	 */
+	public boolean isScoped() {
+		return scoped;
+	}
+
+	/**
+	 * Set true if the validation triggered by a change of the document must be
+	 * scoped to the top-level mediator or resource which contains the change and
+	 * false otherwise.
+	 *
+	 * @param scoped true if the validation triggered by a change of the document
+	 *               must be scoped.
+	 */
+	public void setScoped(boolean scoped) {
+		this.scoped = scoped;
+	}
+
 	/**
 	 * Returns the <code>noGrammar</code> severity according the given settings and
 	 * {@link DiagnosticSeverity#Hint} otherwise.
@@ -208,6 +240,7 @@ public class XMLValidationSettings {
 			this.disallowDocTypeDecl = settings.disallowDocTypeDecl;
 			this.resolveExternalEntities = settings.resolveExternalEntities;
 			this.xInclude = settings.xInclude;
+			this.scoped = settings.scoped;
 		}
 		return this;
 	}
@@ -231,6 +264,7 @@ public class XMLValidationSettings {
 		result = prime * result + ((noGrammar == null) ? 0 : noGrammar.hashCode());
 		result = prime * result + (resolveExternalEntities ? 1231 : 1237);
 		result = prime * result + ((schema == null) ? 0 : schema.hashCode());
+		result = prime * result + (scoped ? 1231 : 1237);
 		result = prime * result + ((xInclude == null) ? 0 : xInclude.hashCode());
 		return result;
 	}
@@ -274,6 +308,9 @@ public class XMLValidationSettings {
 		if (resolveExternalEntities != other.resolveExternalEntities) {
 			return false;
 		}
+		if (scoped != other.scoped) {
+			return false;
+		}
 		if (xInclude == null) {
 			if (other.xInclude != null) {
 				return false;
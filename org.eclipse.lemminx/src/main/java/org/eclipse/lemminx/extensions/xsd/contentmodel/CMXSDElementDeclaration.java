@@ -13,6 +13,7 @@
 package org.eclipse.lemminx.extensions.xsd.contentmodel;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -20,6 +21,7 @@ import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.Vector;
 
@@ -63,6 +65,28 @@ public class CMXSDElementDeclaration implements CMElementDeclaration {
 
 	private static final short PC_UNKWOWN = -1;
 
+	/**
+	 * Key of the states of a Xerces validator.
+	 */
+	private static class StatesKey {
+
+		private final int[] states;
+
+		public StatesKey(int[] states) {
+			this.states = states.clone();
+		}
+
+		@Override
+		public int hashCode() {
+			return Arrays.hashCode(states);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof StatesKey && Arrays.equals(states, ((StatesKey) obj).states);
+		}
+	}
+
 	final CMXSDDocument document;
 
 	final XSElementDeclaration elementDeclaration;
@@ -79,6 +103,12 @@ public class CMXSDElementDeclaration implements CMElementDeclaration {
 
 	private Map<String, Boolean> elementOptionality;
 
+	private List<QName> statesQNames;
+
+	private List<int[]> statesByChild;
+
+	private Map<StatesKey, Collection<CMElementDeclaration>> possibleElementsByStates;
+
 	public CMXSDElementDeclaration(CMXSDDocument document, XSElementDeclaration elementDeclaration) {
 		this.document = document;
 		this.elementDeclaration = elementDeclaration;
@@ -152,62 +182,125 @@ public class CMXSDElementDeclaration implements CMElementDeclaration {
 			// The type definition is complex (ex: xs:all; xs:sequence), returns list of
 			// element declaration according those XML Schema constraints
 
-			// Initialize Xerces validator
-			CMBuilder cmBuilder = new CMBuilder(new CMNodeFactory());
-			XSCMValidator validator = ((XSComplexTypeDecl) typeDefinition).getContentModel(cmBuilder);
+			// Get the Xerces validator of the complex type, which is cached by Xerces
+			XSCMValidator validator = ((XSComplexTypeDecl) typeDefinition)
+					.getContentModel(new CMBuilder(new CMNodeFactory()));
 			if (validator == null) {
 				return Collections.emptyList();
 			}
 
-			SubstitutionGroupHandler handler = new SubstitutionGroupHandler(document);
 			// Compute list of child element (QName)
 			List<QName> qNames = toQNames(parentElement, offset);
-			// Loop for each element (QName) and check if it is valid according the XML
-			// Schema constraint
-			int[] states = validator.startContentModel();
-			for (QName elementName : qNames) {
-				Object decl = validator.oneTransition(elementName, states, handler);
-				if (decl == null) {
+			synchronized (this) {
+				// Loop for each element (QName) and check if it is valid according the XML
+				// Schema constraint
+				int[] states = getStates(validator, qNames);
+				if (states == null) {
 					return Collections.emptyList();
 				}
+
+				// At this step, all child elements are valid, collect the next valid elements
+				// according the XML Schema constraints for the states
+				if (possibleElementsByStates == null) {
+					possibleElementsByStates = new HashMap<>();
+				}
+				StatesKey key = new StatesKey(states);
+				Collection<CMElementDeclaration> possibleElements = possibleElementsByStates.get(key);
+				if (possibleElements == null) {
+					possibleElements = getPossibleElements(validator.whatCanGoHere(states));
+					possibleElementsByStates.put(key, possibleElements);
+				}
+				return possibleElements;
 			}
+		}
+		return getElements();
+	}
 
-			// At this step, all child elements are valid, the call of
-			// XSCMValidator#oneTransition has updated the states flag.
-			// Collect the next valid elements according the XML Schema constraints
-			Vector<?> result = validator.whatCanGoHere(states);
-			if (result.isEmpty()) {
-				return Collections.emptyList();
+	/**
+	 * Returns the states of the given validator after the given child elements and
+	 * null if a child element is not valid.
+	 *
+	 * <p>
+	 * The states after each child element of the last call are kept, and only the
+	 * child elements which follow the common child elements are validated.
+	 * </p>
+	 *
+	 * @param validator the Xerces validator.
+	 * @param qNames    the child elements.
+	 * @return the states of the given validator after the given child elements and
+	 *         null if a child element is not valid.
+	 */
+	private int[] getStates(XSCMValidator validator, List<QName> qNames) {
+		if (statesQNames == null) {
+			statesQNames = new ArrayList<>();
+			statesByChild = new ArrayList<>();
+		}
+		int common = 0;
+		int max = Math.min(qNames.size(), statesQNames.size());
+		while (common < max && isSameQName(qNames.get(common), statesQNames.get(common))) {
+			common++;
+		}
+		statesQNames.subList(common, statesQNames.size()).clear();
+		statesByChild.subList(common, statesByChild.size()).clear();
+
+		int[] states = common > 0 ? statesByChild.get(common - 1).clone() : validator.startContentModel();
+		SubstitutionGroupHandler handler = document.getSubstitutionGroupHandler();
+		for (int i = common; i < qNames.size(); i++) {
+			QName elementName = qNames.get(i);
+			// XSCMValidator#oneTransition updates the states flag.
+			Object decl = validator.oneTransition(elementName, states, handler);
+			if (decl == null) {
+				return null;
 			}
+			statesQNames.add(elementName);
+			statesByChild.add(states.clone());
+		}
+		return states;
+	}
 
-			// Compute list of possible elements
-			Collection<CMElementDeclaration> possibleElements = new HashSet<>();
-			for (Object object : result) {
-				if (object instanceof XSElementDeclaration) {
-					XSElementDeclaration elementDecl = (XSElementDeclaration) object;
-					document.collectElement(elementDecl, possibleElements);
-					// Collect substitution group
-					XSObjectList group = document.getSubstitutionGroup(elementDecl);
-					if (group != null) {
-						for (int i = 0; i < group.getLength(); i++) {
-							XSElementDeclaration o = (XSElementDeclaration) group.item(i);
-							document.collectElement(o, possibleElements);
-						}
-					}
-				} else {
-					// case with xs:any. Ex:
-					// <xs:sequence>
-					// <xs:any maxOccurs="2" processContents="lax" />
-					// </xs:sequence>
-					Collection<CMElementDeclaration> anyElements = getXSAnyElements(object);
-					if (anyElements != null) {
-						return anyElements;
+	private static boolean isSameQName(QName qName, QName other) {
+		return Objects.equals(qName.localpart, other.localpart) && Objects.equals(qName.uri, other.uri);
+	}
+
+	/**
+	 * Returns the possible elements declaration from the given result of
+	 * XSCMValidator#whatCanGoHere.
+	 *
+	 * @param result the element, wildcard declarations.
+	 * @return the possible elements declaration from the given result of
+	 *         XSCMValidator#whatCanGoHere.
+	 */
+	private Collection<CMElementDeclaration> getPossibleElements(Vector<?> result) {
+		if (result.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		// Compute list of possible elements
+		Collection<CMElementDeclaration> possibleElements = new HashSet<>();
+		for (Object object : result) {
+			if (object instanceof XSElementDeclaration) {
+				XSElementDeclaration elementDecl = (XSElementDeclaration) object;
+				document.collectElement(elementDecl, possibleElements);
+				// Collect substitution group
+				XSObjectList group = document.getSubstitutionGroup(elementDecl);
+				if (group != null) {
+					for (int i = 0; i < group.getLength(); i++) {
+						XSElementDeclaration o = (XSElementDeclaration) group.item(i);
+						document.collectElement(o, possibleElements);
 					}
 				}
+			} else {
+				// case with xs:any. Ex:
+				// <xs:sequence>
+				// <xs:any maxOccurs="2" processContents="lax" />
+				// </xs:sequence>
+				Collection<CMElementDeclaration> anyElements = getXSAnyElements(object);
+				if (anyElements != null) {
+					return anyElements;
+				}
 			}
-			return possibleElements;
 		}
-		return getElements();
+		return possibleElements;
 	}
 
 	/**
@@ -38,6 +38,12 @@ public class DiagnosticsResult extends ArrayList<Diagnostic> {
 
 	private static final long serialVersionUID = 1L;
 
+	/**
+	 * Key of the validation argument which is set to true when the validation is
+	 * triggered by a change of the document.
+	 */
+	public static final String DID_CHANGE_KEY = "didChange";
+
 	public static final DiagnosticsResult EMPTY;
 
 	static {
@@ -62,6 +68,17 @@ public class DiagnosticsResult extends ArrayList<Diagnostic> {
 		return validationArgs;
 	}
 
+	/**
+	 * Returns true if the validation is triggered by a change of the document and
+	 * false otherwise (ex : the document is opened or saved).
+	 *
+	 * @return true if the validation is triggered by a change of the document and
+	 *         false otherwise.
+	 */
+	public boolean isDidChange() {
+		return validationArgs != null && Boolean.TRUE.equals(validationArgs.get(DID_CHANGE_KEY));
+	}
+
 	public void addFuture(CompletableFuture<?> future) {
 		if (futures == null) {
 			futures = new ArrayList<>();
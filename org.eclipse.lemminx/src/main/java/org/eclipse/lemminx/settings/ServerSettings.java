@@ -22,6 +22,8 @@ public class ServerSettings {
 
 	private String workDir;
 
+	private boolean incrementalParsing;
+
 	/**
 	 * @return the workDir
 	 */
@@ -36,6 +38,23 @@ public class ServerSettings {
 		this.workDir = workDir;
 	}
 
+	/**
+	 * Returns true if the DOM document is parsed again only for the element which
+	 * contains the changes of the text and false otherwise.
+	 * 
+	 * @return true if the DOM document is parsed incrementally and false otherwise.
+	 */
+	public boolean isIncrementalParsing() {
+		return incrementalParsing;
+	}
+
+	/**
+	 * @param incrementalParsing the incrementalParsing to set
+	 */
+	public void setIncrementalParsing(boolean incrementalParsing) {
+		this.incrementalParsing = incrementalParsing;
+	}
+
 	/**
 	 * Returns a normalized workDir that was defined in the client preferences.
 	 * 
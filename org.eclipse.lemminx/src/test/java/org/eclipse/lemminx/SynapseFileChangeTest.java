@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx;
+
+import org.eclipse.lemminx.commons.TextDocument;
+import org.eclipse.lemminx.customservice.synapse.expression.MediatorTryoutInfoCache;
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.MediatorTryoutInfo;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.eclipse.lsp4j.FileChangeType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SynapseFileChangeTest {
+
+    private static final String SEQUENCE = "<sequence name=\"testSequence\" " +
+            "xmlns=\"http://ws.apache.org/ns/synapse\"><log category=\"%s\"/></sequence>";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void duplicateChangeOfSavedFileIsSkipped() throws IOException {
+
+        XMLLanguageServer languageServer = new MockXMLLanguageServer();
+        SynapseLanguageService synapseLanguageService =
+                (SynapseLanguageService) languageServer.getSynapseLanguageService();
+        File file = tempDir.resolve("testSequence.xml").toFile();
+        Files.writeString(file.toPath(), String.format(SEQUENCE, "INFO"));
+        String uri = file.toPath().toUri().toString();
+        AtomicInteger loadCount = new AtomicInteger();
+
+        // the save of the document, then the watched-file event of the same save
+        load(file, loadCount);
+        synapseLanguageService.didChangeWatchedFile(uri, FileChangeType.Changed);
+        load(file, loadCount);
+        synapseLanguageService.didChangeWatchedFile(uri, FileChangeType.Changed);
+        load(file, loadCount);
+        assertEquals(2, loadCount.get());
+
+        Files.writeString(file.toPath(), String.format(SEQUENCE, "DEBUG"));
+        file.setLastModified(file.lastModified() + 1000);
+        synapseLanguageService.didChangeWatchedFile(uri, FileChangeType.Changed);
+        load(file, loadCount);
+        assertEquals(3, loadCount.get());
+    }
+
+    private static void load(File file, AtomicInteger loadCount) throws IOException {
+
+        TextDocument textDocument =
+                new TextDocument(Files.readString(file.toPath()), file.toPath().toUri().toString());
+        DOMDocument document = DOMParser.getInstance().parse(textDocument, null);
+        int offset = document.getText().indexOf("<log") + 1;
+        MediatorTryoutInfoCache.getInstance().get(document, offset, false, () -> {
+            loadCount.incrementAndGet();
+            return new MediatorTryoutInfo();
+        });
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx;
+
+import org.apache.xerces.xni.grammars.Grammar;
+import org.eclipse.lemminx.customservice.synapse.CodeDiagnosticRequest;
+import org.eclipse.lemminx.extensions.contentmodel.model.ContentModelManager;
+import org.eclipse.lemminx.synapse.TestUtils;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class SynapseGrammarWarmUpTest {
+
+    private static final String SYNAPSE_NAMESPACE = "http://ws.apache.org/ns/synapse";
+
+    @Test
+    public void validationReusesWarmedUpGrammar() throws Exception {
+
+        XMLLanguageServer languageServer = new MockXMLLanguageServer();
+        SynapseLanguageService synapseLanguageService =
+                (SynapseLanguageService) languageServer.getSynapseLanguageService();
+        languageServer.getXMLLanguageService().initializeIfNeeded();
+        ContentModelManager contentModelManager =
+                languageServer.getXMLLanguageService().getComponent(ContentModelManager.class);
+        Path catalogPath = Path.of(TestUtils.getResourceFilePath("/org/eclipse/lemminx/schemas/440/catalog.xml"));
+        contentModelManager.setCatalogs(new String[]{catalogPath.toString()});
+        synapseLanguageService.setSynapseXSDPath(catalogPath.getParent());
+
+        synapseLanguageService.init(null, null, null);
+        synapseLanguageService.getGrammarWarmUp().get(1, TimeUnit.MINUTES);
+        Grammar warmedUpGrammar = contentModelManager.getGrammarPool().getSchemaGrammar(SYNAPSE_NAMESPACE);
+        CodeDiagnosticRequest request = new CodeDiagnosticRequest();
+        request.setCode("<sequence name=\"test\" xmlns=\"" + SYNAPSE_NAMESPACE + "\"/>");
+        synapseLanguageService.codeDiagnostic(request).get();
+
+        assertNotNull(warmedUpGrammar);
+        // a pool miss would have compiled the schema again and replaced the cached grammar
+        assertSame(warmedUpGrammar, contentModelManager.getGrammarPool().getSchemaGrammar(SYNAPSE_NAMESPACE));
+    }
+}
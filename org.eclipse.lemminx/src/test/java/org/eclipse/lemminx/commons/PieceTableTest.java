@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+package org.eclipse.lemminx.commons;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link PieceTable} tests
+ *
+ */
+public class PieceTableTest {
+
+	@Test
+	public void testReplace() {
+		PieceTable table = new PieceTable("<a></a>");
+		table.replace(3, 0, "<b/>");
+		assertEquals("<a><b/></a>", table.toString());
+		table.replace(4, 1, "cd");
+		assertEquals("<a><cd/></a>", table.toString());
+		table.replace(0, table.length(), "");
+		assertEquals("", table.toString());
+		assertEquals(0, table.getPieceCount());
+		table.replace(0, 0, "<e/>");
+		assertEquals("<e/>", table.toString());
+		assertThrows(IndexOutOfBoundsException.class, () -> table.replace(3, 2, ""));
+	}
+
+	@Test
+	public void testRandomEdits() {
+		Random random = new Random(42);
+		StringBuilder expected = new StringBuilder("<root>\n\t<child attr=\"value\">text</child>\n</root>");
+		PieceTable table = new PieceTable(expected.toString());
+		for (int i = 0; i < 2000; i++) {
+			int offset = random.nextInt(expected.length() + 1);
+			int length = random.nextInt(Math.min(5, expected.length() - offset) + 1);
+			String text = random.nextInt(3) == 0 ? "" : "<x" + i + "/>\n";
+			expected.replace(offset, offset + length, text);
+			table.replace(offset, length, text);
+
+			assertEquals(expected.length(), table.length());
+			if (expected.length() > 0) {
+				int index = random.nextInt(expected.length());
+				assertEquals(expected.charAt(index), table.charAt(index));
+				int end = index + random.nextInt(expected.length() - index + 1);
+				assertEquals(expected.substring(index, end), table.subSequence(index, end));
+			}
+		}
+		assertTrue(table.getPieceCount() > 1);
+		assertEquals(expected.toString(), table.toString());
+	}
+
+	@Test
+	public void testTextDocumentMaterializesTextLazily() throws BadLocationException {
+		ModelTextDocument<DOMDocument> document = new ModelTextDocument<>("<a>\n</a>", "test.xml",
+				(textDocument, cancelChecker) -> null);
+		document.setIncremental(true);
+
+		document.update(change(new Position(1, 0), "\t<b/>\n"));
+		document.update(change(new Position(2, 0), "\t<c/>\n"));
+		// the changes are available without materializing the text
+		assertEquals("\t<c/>", document.lineText(2));
+		assertEquals(new Position(3, 2), document.positionAt(document.offsetAt(new Position(3, 2))));
+
+		assertEquals("<a>\n\t<b/>\n\t<c/>\n</a>", document.getText());
+		assertEquals("\t<b/>", document.lineText(1));
+
+		document.setText("<d/>");
+		assertEquals("<d/>", document.getText());
+	}
+
+	private static List<TextDocumentContentChangeEvent> change(Position position, String text) {
+		return Collections.singletonList(new TextDocumentContentChangeEvent(new Range(position, position), 0, text));
+	}
+}
@@ -14,9 +14,14 @@ package org.eclipse.lemminx.commons;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.List;
+
 import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -267,4 +272,22 @@ public class TextDocumentTest {
 		assertNotNull(ex);
 	}
 
+	@Test
+	public void testEditRangeTrackedOnlyWhenRequested() {
+		TextDocument document = new TextDocument("abcd\nefgh", "");
+		document.setIncremental(true);
+		Range range = new Range(new Position(1, 0), new Position(1, 1));
+		document.update(List.of(new TextDocumentContentChangeEvent(range, 1, "E")));
+		document.setText("abcd\nefgh");
+		assertNull(document.takeEditRange());
+
+		document.setEditRangeTracked(true);
+		document.update(List.of(new TextDocumentContentChangeEvent(range, 1, "FG")));
+		TextEditRange editRange = document.takeEditRange();
+		assertEquals(5, editRange.getStart());
+		assertEquals(6, editRange.getOldEnd());
+		assertEquals(7, editRange.getNewEnd());
+		assertNull(document.takeEditRange());
+	}
+
 }
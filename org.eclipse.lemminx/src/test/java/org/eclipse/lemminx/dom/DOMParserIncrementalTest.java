@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+package org.eclipse.lemminx.dom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.lemminx.commons.BadLocationException;
+import org.eclipse.lemminx.commons.TextDocument;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Incremental XML parser tests, which compare the incremental parse with a
+ * full parse.
+ *
+ */
+public class DOMParserIncrementalTest {
+
+	private static final String URI = "test.xml";
+
+	private static final String SEQUENCE = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" + //
+			"<sequence name=\"main\" xmlns=\"http://ws.apache.org/ns/synapse\">\n" + //
+			"\t<log level=\"custom\">\n" + //
+			"\t\t<property name=\"a\" value=\"1\"/>\n" + //
+			"\t</log>\n" + //
+			"\t<respond/>\n" + //
+			"</sequence>";
+
+	private static final String[] DOCUMENTS = { SEQUENCE, //
+			"<?xml version=\"1.0\"?>\r\n" + //
+					"<api context=\"/test\">\r\n" + //
+					"\t<resource methods=\"GET\"> <!-- get -->\r\n" + //
+					"\t\t<inSequence>\r\n" + //
+					"\t\t\t<payloadFactory><format><![CDATA[{\"id\": $1}]]></format></payloadFactory>\r\n" + //
+					"\t\t\t<call><endpoint key=\"ep\"/></call>\r\n" + //
+					"\t\t</inSequence>\r\n" + //
+					"\t\t<faultSequence/>\r\n" + //
+					"\t</resource>\r\n" + //
+					"\t<?pi data?>\r\n" + //
+					"\t<resource methods='POST'>text &amp; more<a><b>c</b></a></resource>\r\n" + //
+					"</api>\r\n" + //
+					"<!-- end -->", //
+			"<root>\n" + //
+					"<a>\n" + //
+					"  <b x=\"1\" y = '2'>b text</b> <!-- b -->\n" + //
+					"  <c/><c></c><c>\n" + //
+					"  </c>\n" + //
+					"</a>\n" + //
+					"</root>" };
+
+	private static final String[] SNIPPETS = { "", "a", " ", "\n", "\r\n", "<", ">", "/", "</", "/>", "=", "\"", "'",
+			"<b>", "</b>", "<c/>", "<c>", "</c>", "<a>", "</a>", "<d x=\"1\">", "</d>", "<!-- x -->", "<!--", "-->",
+			"<![CDATA[ y ]]>", "<![CDATA[", "]]>", "<?pi z?>", "<?", "?>", " x=\"1\"", "text", "&amp;", "<>", "</>" };
+
+	@Test
+	public void testScansOnlyEditedElement() throws BadLocationException {
+		TextDocument document = createDocument(SEQUENCE);
+		DOMDocument previous = DOMParser.getInstance().parse(document, null);
+		String previousNodes = describe(previous);
+		DOMElement respond = (DOMElement) previous.getDocumentElement().getChildren().get(1);
+
+		int offset = SEQUENCE.indexOf("\t</log>");
+		update(document, offset, 0, "\t\t<property name=\"b\" value=\"2\"/>\n");
+		int[] tokens = new int[1];
+		DOMDocument xmlDocument = parseIncrementally(document, previous, () -> tokens[0]++);
+
+		assertTrue(tokens[0] < countTokens(document), "Scanned " + tokens[0] + " tokens");
+		DOMElement sequence = xmlDocument.getDocumentElement();
+		DOMElement respondCopy = (DOMElement) sequence.getChildren().get(1);
+		assertNotSame(respond, respondCopy);
+		assertEquals(document.getText().indexOf("<respond/>"), respondCopy.getStart());
+		assertSame(xmlDocument, respondCopy.getOwnerDocument());
+		assertEquals(2, sequence.getChildren().get(0).getChildren().size());
+		assertDocument(document, xmlDocument);
+
+		// the previous DOM document can still be used by the pending requests
+		assertEquals(previousNodes, describe(previous));
+		assertSame(previous, respond.getOwnerDocument());
+	}
+
+	@Test
+	public void testFullParseWhenElementIsNotClosed() throws BadLocationException {
+		TextDocument document = createDocument(SEQUENCE);
+		DOMDocument previous = DOMParser.getInstance().parse(document, null);
+
+		// <log> -> <log><log>
+		int offset = SEQUENCE.indexOf("\t\t<property");
+		update(document, offset, 0, "<log>");
+		int[] tokens = new int[1];
+		DOMDocument xmlDocument = parseIncrementally(document, previous, () -> tokens[0]++);
+
+		assertTrue(tokens[0] >= countTokens(document), "Scanned " + tokens[0] + " tokens");
+		assertDocument(document, xmlDocument);
+	}
+
+	@Test
+	public void testRandomEdits() throws BadLocationException {
+		Random random = new Random(42);
+		int incremental = 0;
+		for (int i = 0; i < 300; i++) {
+			TextDocument document = createDocument(DOCUMENTS[i % DOCUMENTS.length]);
+			DOMDocument xmlDocument = DOMParser.getInstance().parse(document, null);
+			for (int j = 0; j < 10; j++) {
+				// one or two changes in a did change notification
+				List<TextDocumentContentChangeEvent> changes = new ArrayList<>();
+				String text = document.getText();
+				for (int k = random.nextInt(2); k >= 0; k--) {
+					int offset = skipLineFeed(text, random.nextInt(text.length() + 1));
+					int length = skipLineFeed(text, offset + random.nextInt(Math.min(8, text.length() - offset) + 1))
+							- offset;
+					String snippet = SNIPPETS[random.nextInt(SNIPPETS.length)];
+					changes.add(change(new TextDocument(text, URI), offset, length, snippet));
+					text = text.substring(0, offset) + snippet + text.substring(offset + length);
+				}
+				// the previous DOM document reads the text document, describe it before the changes
+				DOMDocument previous = xmlDocument;
+				String previousNodes = describe(previous);
+				document.update(changes);
+				assertEquals(text, document.getText());
+				if (!canParse(text)) {
+					// the parser fails on some malformed texts, start again from a new document
+					break;
+				}
+
+				int[] tokens = new int[1];
+				xmlDocument = parseIncrementally(document, previous, () -> tokens[0]++);
+				if (tokens[0] < countTokens(document)) {
+					incremental++;
+				}
+				assertDocument(document, xmlDocument);
+				assertEquals(previousNodes, describe(previous), document.getText());
+			}
+		}
+		// most of the random edits break the edited element, but not all of them
+		assertTrue(incremental > 0, "Parsed " + incremental + " documents incrementally");
+	}
+
+	/**
+	 * Returns the given offset, or the next offset if the given offset is between
+	 * '\r' and '\n', which is not a position of the text document.
+	 */
+	private static int skipLineFeed(String text, int offset) {
+		if (offset > 0 && offset < text.length() && text.charAt(offset - 1) == '\r' && text.charAt(offset) == '\n') {
+			return offset + 1;
+		}
+		return offset;
+	}
+
+	private static boolean canParse(String text) {
+		try {
+			DOMParser.getInstance().parse(text, URI, null);
+			return true;
+		} catch (RuntimeException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Returns the number of tokens scanned by a full parse of the given document.
+	 * The parser checks the cancellation once per token.
+	 */
+	private static int countTokens(TextDocument document) {
+		int[] tokens = new int[1];
+		DOMParser.getInstance().parse(new TextDocument(document.getText(), URI), null, true, () -> tokens[0]++);
+		return tokens[0];
+	}
+
+	private static DOMDocument parseIncrementally(TextDocument document, DOMDocument previous,
+			CancelChecker monitor) {
+		return DOMParser.getInstance().parse(document, previous, document.takeEditRange(), null, true, monitor);
+	}
+
+	private static void assertDocument(TextDocument document, DOMDocument actual) {
+		DOMDocument expected = DOMParser.getInstance().parse(new TextDocument(document.getText(), URI), null);
+		assertEquals(describe(expected), describe(actual), document.getText());
+	}
+
+	private static TextDocument createDocument(String text) {
+		TextDocument document = new TextDocument(text, URI);
+		document.setIncremental(true);
+		document.setEditRangeTracked(true);
+		return document;
+	}
+
+	private static void update(TextDocument document, int offset, int length, String text)
+			throws BadLocationException {
+		List<TextDocumentContentChangeEvent> changes = new ArrayList<>();
+		changes.add(change(document, offset, length, text));
+		document.update(changes);
+	}
+
+	private static TextDocumentContentChangeEvent change(TextDocument document, int offset, int length,
+			String text) throws BadLocationException {
+		Range range = new Range(document.positionAt(offset), document.positionAt(offset + length));
+		return new TextDocumentContentChangeEvent(range, length, text);
+	}
+
+	/**
+	 * Returns the structure and the offsets of the given node and of its
+	 * descendants.
+	 */
+	private static String describe(DOMNode node) {
+		StringBuilder builder = new StringBuilder();
+		describe(node, "", builder);
+		return builder.toString();
+	}
+
+	private static void describe(DOMNode node, String indent, StringBuilder builder) {
+		builder.append(indent).append(node.getNodeName()).append(" [").append(node.start).append(", ")
+				.append(node.end).append(") closed=").append(node.closed);
+		if (node.isElement()) {
+			DOMElement element = (DOMElement) node;
+			builder.append(" startTag=").append(element.startTagOpenOffset).append(", ")
+					.append(element.startTagCloseOffset).append(" endTag=").append(element.endTagOpenOffset)
+					.append(", ").append(element.endTagCloseOffset).append(" selfClosed=")
+					.append(element.selfClosed);
+		} else if (node.isComment()) {
+			DOMComment comment = (DOMComment) node;
+			builder.append(" content=").append(comment.startContent).append(", ").append(comment.endContent)
+					.append(" sameLine=").append(comment.commentSameLineEndTag).append(" data=")
+					.append(comment.getData());
+		} else if (node.isCDATA()) {
+			DOMCDATASection cdata = (DOMCDATASection) node;
+			builder.append(" content=").append(cdata.startContent).append(", ").append(cdata.endContent)
+					.append(" data=").append(cdata.getData());
+		} else if (node.getNodeType() == DOMNode.PROCESSING_INSTRUCTION_NODE) {
+			DOMProcessingInstruction processingInstruction = (DOMProcessingInstruction) node;
+			builder.append(" target=").append(processingInstruction.target).append(" content=")
+					.append(processingInstruction.startContent).append(", ")
+					.append(processingInstruction.endContent).append(" endTag=")
+					.append(processingInstruction.endTagOpenOffset);
+		} else if (node.isText()) {
+			DOMText text = (DOMText) node;
+			builder.append(" whitespace=").append(text.isWhitespace()).append(" data=").append(text.getData());
+		}
+		builder.append('\n');
+		if (node.hasAttributes()) {
+			for (DOMAttr attr : node.getAttributeNodes()) {
+				builder.append(indent).append("  @").append(attr.getName()).append(" [").append(attr.getStart())
+						.append(", ").append(attr.getEnd()).append(") delimiter=").append(attr.getDelimiterOffset())
+						.append(" value=").append(attr.getOriginalValue());
+				if (attr.getNodeAttrValue() != null) {
+					builder.append(" [").append(attr.getNodeAttrValue().getStart()).append(", ")
+							.append(attr.getNodeAttrValue().getEnd()).append(")");
+				}
+				builder.append('\n');
+			}
+		}
+		for (DOMNode child : node.getChildren()) {
+			describe(child, indent + "  ", builder);
+		}
+	}
+}
@@ -886,6 +886,60 @@ public class XMLSchemaCompletionExtensionsTest extends BaseFileTempTest {
 				c("End with '</data>'", "</data>"));
 	}
 
+	@Test
+	public void sequenceWithSameLanguageService() throws BadLocationException {
+		// The states of the content model after the previous child elements are
+		// reused when the child elements are changed
+		XMLLanguageService xmlLanguageService = new XMLLanguageService();
+		String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\" ?>\r\n" + //
+				"<data xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"\r\n" + //
+				"	xsi:noNamespaceSchemaLocation=\"xsd/sequence.xsd\">\r\n" + //
+				"	<e1></e1><e2></e2><e3 /><optional3></optional3>|";
+		XMLAssert.testCompletionFor(xmlLanguageService, xml, null, null, "src/test/resources/sequence.xml", null,
+				true, c("optional3", "<optional3></optional3>"));
+
+		xml = "<?xml version=\"1.0\" encoding=\"UTF-8\" ?>\r\n" + //
+				"<data xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"\r\n" + //
+				"	xsi:noNamespaceSchemaLocation=\"xsd/sequence.xsd\">\r\n" + //
+				"	<e1></e1><e2></e2>|";
+		XMLAssert.testCompletionFor(xmlLanguageService, xml, null, null, "src/test/resources/sequence.xml", null,
+				true, c("e3", "<e3></e3>"), c("optional2", "<optional2></optional2>"),
+				c("optional22", "<optional22></optional22>"));
+
+		xml = "<?xml version=\"1.0\" encoding=\"UTF-8\" ?>\r\n" + //
+				"<data xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"\r\n" + //
+				"	xsi:noNamespaceSchemaLocation=\"xsd/sequence.xsd\">\r\n" + //
+				"	<e1></e1><e2></e2><e3 /><optional3></optional3><optional3></optional3>|";
+		XMLAssert.testCompletionFor(xmlLanguageService, xml, null, null, "src/test/resources/sequence.xml",
+				1 + 2 /* CDATA and Comments */, true, c("End with '</data>'", "</data>"));
+
+		xml = "<?xml version=\"1.0\" encoding=\"UTF-8\" ?>\r\n" + //
+				"<data xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"\r\n" + //
+				"	xsi:noNamespaceSchemaLocation=\"xsd/sequence.xsd\">\r\n" + //
+				"	<e1></e1> | ";
+		XMLAssert.testCompletionFor(xmlLanguageService, xml, null, null, "src/test/resources/sequence.xml", null,
+				true, c("e2", "<e2></e2>"), c("optional1", "<optional1></optional1>"),
+				c("optional11", "<optional11></optional11>"));
+
+		xml = "<?xml version=\"1.0\" encoding=\"UTF-8\" ?>\r\n" + //
+				"<data xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"\r\n" + //
+				"	xsi:noNamespaceSchemaLocation=\"xsd/sequence.xsd\">\r\n" + //
+				"	<e1></e1><e3 />|";
+		// e3 is not valid after e1, Xerces keeps the states before the invalid
+		// element, so the elements which can follow e1 are proposed
+		XMLAssert.testCompletionFor(xmlLanguageService, xml, null, null, "src/test/resources/sequence.xml",
+				3 + 1 + 2 /* End tag, CDATA and Comments */, true, c("e2", "<e2></e2>"),
+				c("optional1", "<optional1></optional1>"), c("optional11", "<optional11></optional11>"),
+				c("End with '</data>'", "</data>"));
+
+		xml = "<?xml version=\"1.0\" encoding=\"UTF-8\" ?>\r\n" + //
+				"<data xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"\r\n" + //
+				"	xsi:noNamespaceSchemaLocation=\"xsd/sequence.xsd\">\r\n" + //
+				"	|";
+		XMLAssert.testCompletionFor(xmlLanguageService, xml, null, null, "src/test/resources/sequence.xml", null,
+				true, c("e1", "<e1></e1>"), c("optional0", "<optional0></optional0>"));
+	}
+
 	@Test
 	public void xsAnyStrict() throws IOException, BadLocationException {
 		Path dir = getTempDirPath().resolve("target/xsd/");
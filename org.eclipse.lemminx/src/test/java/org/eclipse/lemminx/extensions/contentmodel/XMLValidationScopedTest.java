@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+package org.eclipse.lemminx.extensions.contentmodel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.lemminx.XMLAssert.SettingsSaveContext;
+import org.eclipse.lemminx.commons.TextDocument;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.eclipse.lemminx.extensions.contentmodel.settings.ContentModelSettings;
+import org.eclipse.lemminx.extensions.contentmodel.settings.XMLValidationRootSettings;
+import org.eclipse.lemminx.services.XMLLanguageService;
+import org.eclipse.lemminx.services.extensions.diagnostics.DiagnosticsResult;
+import org.eclipse.lsp4j.Diagnostic;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Scoped validation tests, which compare the diagnostics of a validation
+ * triggered by a change of the document with the diagnostics of a validation
+ * of the whole document.
+ *
+ */
+public class XMLValidationScopedTest {
+
+	private static final String INVOICE = "<invoice xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xsi:noNamespaceSchemaLocation=\"src/test/resources/xsd/invoice.xsd\">\r\n"
+			+ //
+			"  <date>2017-11-30</date>\r\n" + //
+			"  <number>zero</number>\r\n" + //
+			"  <products>\r\n" + //
+			"    <product description=\"laptop\" price=\"700.00\"/>\r\n" + //
+			"    <product description=\"mouse\" price=\"20.00\"/>\r\n" + //
+			"  </products>\r\n" + //
+			"  <payments>\r\n" + //
+			"    <payment amount=\"1\" method=\"bitcoin\"/>\r\n" + //
+			"    <payment amount=\"x\" method=\"cash\"/>\r\n" + //
+			"  </payments>\r\n" + //
+			"</invoice>";
+
+	private static final String INLINE_INVOICE = "<invoice xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xsi:noNamespaceSchemaLocation=\"src/test/resources/xsd/invoice.xsd\">"
+			+ "<date>2017-11-30</date><number>zero</number>"
+			+ "<products><product description=\"laptop\" price=\"700.00\"/></products>"
+			+ "<payments><payment amount=\"1\" method=\"bitcoin\"/></payments></invoice>";
+
+	@Test
+	public void changeInScope() {
+		assertScoped(INVOICE, INVOICE.replace("price=\"700.00\"", "price=\"abc\""));
+		assertScoped(INVOICE, INVOICE.replace("method=\"cash\"", "method=\"check\""));
+		assertScoped(INVOICE, INVOICE.replace("  </products>", "    <product/>\r\n  </products>"));
+		assertScoped(INVOICE,
+				INVOICE.replace("  </payments>", "    <payment amount=\"2\" method=\"cash\"/>\r\n  </payments>"));
+	}
+
+	@Test
+	public void shiftDiagnosticsAfterScope() {
+		// the diagnostics of the payments are moved to other lines
+		assertScoped(INVOICE, INVOICE.replace("    <product description=\"mouse\" price=\"20.00\"/>\r\n",
+				"    <product description=\"mouse\" price=\"20.00\"/>\r\n    <product price=\"x\"/>\r\n\r\n"));
+		assertScoped(INVOICE, INVOICE.replace("    <product description=\"mouse\" price=\"20.00\"/>\r\n", ""));
+		// the diagnostics of the payments are moved on the same line
+		assertScoped(INLINE_INVOICE, INLINE_INVOICE.replace("price=\"700.00\"", "price=\"7\""));
+		assertScoped(INLINE_INVOICE, INLINE_INVOICE.replace("price=\"700.00\"", "price=\"abcdef\""));
+		// the diagnostics of the payments are moved to another line and column
+		assertScoped(INLINE_INVOICE, INLINE_INVOICE.replace("<product ", "\n\t<product "));
+	}
+
+	@Test
+	public void changeOutOfScope() {
+		// the content model of the invoice is changed
+		assertScoped(INVOICE, INVOICE.replace("  <number>zero</number>\r\n", ""));
+		// the start tag of a scope is changed
+		assertScoped(INVOICE, INVOICE.replace("<products>", "<products a=\"b\">"));
+		assertScoped(INVOICE, INVOICE.replace("<products>", "<product>"));
+		// two scopes are changed
+		assertScoped(INVOICE, INVOICE.replace("price=\"700.00\"", "price=\"abc\"").replace("amount=\"1\"",
+				"amount=\"y\""));
+	}
+
+	@Test
+	public void syntaxErrors() {
+		String notClosed = INVOICE.replace("<product description=\"laptop\" price=\"700.00\"/>",
+				"<product description=\"laptop\" price=\"700.00\">");
+		assertScoped(INVOICE, notClosed);
+		assertScoped(notClosed, INVOICE);
+	}
+
+	private static void assertScoped(String xml, String changedXml) {
+		XMLLanguageService xmlLanguageService = new XMLLanguageService();
+		doDiagnostics(xmlLanguageService, xml, Collections.emptyMap());
+		List<Diagnostic> actual = doDiagnostics(xmlLanguageService, changedXml,
+				Collections.singletonMap(DiagnosticsResult.DID_CHANGE_KEY, true));
+		List<Diagnostic> expected = doDiagnostics(new XMLLanguageService(), changedXml, Collections.emptyMap());
+		assertFalse(expected.isEmpty());
+		assertEquals(expected, actual, changedXml);
+	}
+
+	private static List<Diagnostic> doDiagnostics(XMLLanguageService xmlLanguageService, String xml,
+			Map<String, Object> validationArgs) {
+		ContentModelSettings settings = new ContentModelSettings();
+		settings.setUseCache(false);
+		XMLValidationRootSettings validation = new XMLValidationRootSettings();
+		validation.setNoGrammar("ignore");
+		validation.setScoped(true);
+		settings.setValidation(validation);
+		DOMDocument xmlDocument = DOMParser.getInstance().parse(new TextDocument(xml, "test.xml"),
+				xmlLanguageService.getResolverExtensionManager());
+		xmlLanguageService.setDocumentProvider((u) -> xmlDocument);
+		xmlLanguageService.doSave(new SettingsSaveContext(settings));
+		return xmlLanguageService.doDiagnostics(xmlDocument, settings.getValidation(), validationArgs, () -> {
+		});
+	}
+}
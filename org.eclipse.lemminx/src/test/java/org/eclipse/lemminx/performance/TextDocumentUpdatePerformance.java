@@ -45,7 +45,11 @@ public class TextDocumentUpdatePerformance {
 					new Range(new Position(14, 13), new Position(14, 13)), 0, " ");
 			changes.add(change);
 			document.update(changes);
-			System.err.println("Update 'content.xml' text document in " + (System.currentTimeMillis() - start) + " ms.");
+			long updated = System.currentTimeMillis();
+			// Materialize the text, as done when the DOM document is parsed
+			document.getText();
+			System.err.println("Update 'content.xml' text document in " + (updated - start)
+					+ " ms, and get the text in " + (System.currentTimeMillis() - updated) + " ms.");
 		}
 
 	}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.synapse.connector;
+
+import org.eclipse.lemminx.customservice.synapse.connectors.ConnectorHolder;
+import org.eclipse.lemminx.customservice.synapse.connectors.entity.Connector;
+import org.eclipse.lemminx.customservice.synapse.connectors.entity.ConnectorAction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConnectorHolderTest {
+
+    private ConnectorHolder connectorHolder;
+    private Connector httpConnector;
+    private Connector emailConnector;
+
+    @BeforeEach
+    public void setUp() {
+
+        connectorHolder = ConnectorHolder.getInstance();
+        connectorHolder.clearConnectors();
+        httpConnector = createConnector("http", "HTTP Connector", "get", "post");
+        emailConnector = createConnector("email", null, "send");
+        connectorHolder.addConnectors(List.of(httpConnector, emailConnector));
+    }
+
+    @AfterEach
+    public void tearDown() {
+
+        connectorHolder.clearConnectors();
+    }
+
+    @Test
+    public void testConnectorLookup() {
+
+        assertSame(httpConnector, connectorHolder.getConnector("HTTP"));
+        assertSame(httpConnector, connectorHolder.getConnector("http connector"));
+        assertSame(emailConnector, connectorHolder.getConnector("email"));
+        assertNull(connectorHolder.getConnector("file"));
+        assertTrue(connectorHolder.exists("Email"));
+        assertFalse(connectorHolder.exists("HTTP Connector"));
+    }
+
+    @Test
+    public void testConnectorActionLookup() {
+
+        assertSame(httpConnector.getAction("post"), connectorHolder.getConnectorAction("http.post"));
+        assertSame(httpConnector.getAction("post"), connectorHolder.getConnectorAction("HTTP.post"));
+        assertNull(connectorHolder.getConnectorAction("http.send"));
+        assertNull(connectorHolder.getConnectorAction("http"));
+        assertTrue(ConnectorHolder.isValidConnector("email.send"));
+        assertTrue(ConnectorHolder.isValidConnector("Http.Get"));
+        assertFalse(ConnectorHolder.isValidConnector("email.get"));
+    }
+
+    @Test
+    public void testRemoveConnector() {
+
+        List<Connector> connectors = connectorHolder.getConnectors();
+
+        connectorHolder.removeConnector("HTTP");
+
+        assertEquals(2, connectors.size());
+        assertEquals(List.of(emailConnector), connectorHolder.getConnectors());
+        assertNull(connectorHolder.getConnector("http"));
+        assertNull(connectorHolder.getConnectorAction("http.get"));
+        assertFalse(ConnectorHolder.isValidConnector("http.get"));
+    }
+
+    private static Connector createConnector(String name, String displayName, String... actionNames) {
+
+        Connector connector = new Connector();
+        connector.setName(name);
+        connector.setDisplayName(displayName);
+        for (String actionName : actionNames) {
+            ConnectorAction action = new ConnectorAction();
+            action.setName(actionName);
+            action.setTag(name + "." + actionName);
+            connector.addAction(action);
+        }
+        return connector;
+    }
+}
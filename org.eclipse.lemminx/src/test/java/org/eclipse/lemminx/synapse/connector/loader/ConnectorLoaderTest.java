@@ -165,6 +165,20 @@ public class ConnectorLoaderTest {
         assertNotNull(connectorHolder.getConnector("file"));
     }
 
+    @Test
+    @Order(9)
+    public void testConnectorLoading_UnchangedZipNotExtractedAgain() {
+
+        File connectorFile = tempPath.resolve("extracted").resolve("mi-connector-http-0.1.8")
+                .resolve("connector.xml").toFile();
+        long lastModified = 1000000000000L;
+        connectorFile.setLastModified(lastModified);
+        connectorLoader.loadConnector();
+
+        assertEquals(lastModified, connectorFile.lastModified());
+        assertEquals(2, connectorHolder.getConnectors().size());
+    }
+
     private void loadConnector(String... connectorPaths) throws IOException {
 
         for (String path : connectorPaths) {
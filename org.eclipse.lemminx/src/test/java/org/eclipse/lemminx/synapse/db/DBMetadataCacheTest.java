@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.synapse.db;
+
+import org.eclipse.lemminx.customservice.synapse.dataService.DynamicClassLoader;
+import org.eclipse.lemminx.customservice.synapse.db.DBColumn;
+import org.eclipse.lemminx.customservice.synapse.db.DBConnectionPool;
+import org.eclipse.lemminx.customservice.synapse.db.DBDataSource;
+import org.eclipse.lemminx.customservice.synapse.db.DBMetadataCache;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the database connection pool and the metadata cache against an embedded H2 database.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class DBMetadataCacheTest {
+
+    private static final String H2_DRIVER = "org.h2.Driver";
+    private static final long TTL_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    private DBDataSource dataSource;
+    private List<String> tables;
+
+    @BeforeAll
+    public void setup() throws Exception {
+
+        File driverJar = new File(org.h2.Driver.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        DynamicClassLoader.updateJarInClassLoader(driverJar, true);
+        dataSource = new DBDataSource("jdbc:h2:mem:dbmetadatacache;DB_CLOSE_DELAY=-1", "sa", "", H2_DRIVER);
+        tables = new ArrayList<>();
+        try (Connection connection = DBConnectionPool.getInstance().getConnection(dataSource);
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE STUDENT (ID INT AUTO_INCREMENT PRIMARY KEY, NAME VARCHAR(20) NOT NULL," +
+                    " AGE INT)");
+            for (int i = 0; i < DBMetadataCache.COLUMNS_BATCH_THRESHOLD; i++) {
+                statement.execute("CREATE TABLE COURSE" + i + " (CODE VARCHAR(10) PRIMARY KEY, TITLE VARCHAR(50))");
+                tables.add("COURSE" + i);
+            }
+        }
+    }
+
+    @Test
+    public void connectionIsReusedOnceClosed() throws Exception {
+
+        DBConnectionPool pool = DBConnectionPool.getInstance();
+        Connection first;
+        try (Connection connection = pool.getConnection(dataSource)) {
+            first = connection.unwrap(Connection.class);
+            try (Connection other = pool.getConnection(dataSource)) {
+                assertNotSame(first, other.unwrap(Connection.class));
+            }
+        }
+        try (Connection connection = pool.getConnection(dataSource)) {
+            assertFalse(connection.isClosed());
+            assertSame(first, connection.unwrap(Connection.class));
+        }
+    }
+
+    @Test
+    public void columnsAndPrimaryKeys() throws Exception {
+
+        DBMetadataCache cache = new DBMetadataCache(TTL_MILLIS);
+        try (Connection connection = DBConnectionPool.getInstance().getConnection(dataSource)) {
+            List<DBColumn> columns = cache.getColumns(dataSource, connection, "STUDENT");
+            assertEquals(List.of("ID", "NAME", "AGE"), getNames(columns));
+            assertTrue(columns.get(0).isAutoIncrement());
+            assertFalse(columns.get(1).isAutoIncrement());
+            assertEquals("NO", columns.get(1).getNullable());
+            assertEquals("YES", columns.get(2).getNullable());
+            assertSame(columns, cache.getColumns(dataSource, connection, "STUDENT"));
+            assertEquals(Collections.singletonList("ID"), cache.getPrimaryKeys(dataSource, connection, "STUDENT"));
+        }
+    }
+
+    @Test
+    public void batchedColumns() throws Exception {
+
+        DBMetadataCache batched = new DBMetadataCache(TTL_MILLIS);
+        DBMetadataCache single = new DBMetadataCache(TTL_MILLIS);
+        try (Connection connection = DBConnectionPool.getInstance().getConnection(dataSource)) {
+            Map<String, List<DBColumn>> columns = batched.getColumns(dataSource, connection, tables);
+            assertEquals(tables, new ArrayList<>(columns.keySet()));
+            for (String table : tables) {
+                assertEquals(getNames(single.getColumns(dataSource, connection, table)),
+                        getNames(columns.get(table)));
+                assertSame(columns.get(table), batched.getColumns(dataSource, connection, table));
+            }
+        }
+    }
+
+    @Test
+    public void expireAndRefresh() throws Exception {
+
+        DBMetadataCache cache = new DBMetadataCache(TTL_MILLIS);
+        DBMetadataCache expired = new DBMetadataCache(0);
+        try (Connection connection = DBConnectionPool.getInstance().getConnection(dataSource);
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE TEACHER (ID INT PRIMARY KEY)");
+            assertEquals(List.of("ID"), getNames(cache.getColumns(dataSource, connection, "TEACHER")));
+            assertEquals(List.of("ID"), getNames(expired.getColumns(dataSource, connection, "TEACHER")));
+
+            statement.execute("ALTER TABLE TEACHER ADD COLUMN NAME VARCHAR(20)");
+            assertEquals(List.of("ID"), getNames(cache.getColumns(dataSource, connection, "TEACHER")));
+            assertEquals(List.of("ID", "NAME"), getNames(expired.getColumns(dataSource, connection, "TEACHER")));
+
+            cache.refresh(dataSource);
+            assertEquals(List.of("ID", "NAME"), getNames(cache.getColumns(dataSource, connection, "TEACHER")));
+        }
+    }
+
+    private static List<String> getNames(List<DBColumn> columns) {
+
+        return columns.stream().map(DBColumn::getName).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.synapse.debugger;
+
+import org.eclipse.lemminx.customservice.synapse.debugger.DebuggerHelper;
+import org.eclipse.lemminx.customservice.synapse.debugger.DebuggerPositionIndex;
+import org.eclipse.lemminx.customservice.synapse.debugger.entity.Breakpoint;
+import org.eclipse.lemminx.customservice.synapse.debugger.entity.StepOverInfo;
+import org.eclipse.lemminx.customservice.synapse.debugger.entity.debuginfo.ApiDebugInfo;
+import org.eclipse.lemminx.customservice.synapse.debugger.entity.debuginfo.IDebugInfo;
+import org.eclipse.lemminx.synapse.TestUtils;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class DebuggerPositionIndexTest {
+
+    private String filePath;
+
+    @BeforeAll
+    public void init() throws Exception {
+
+        filePath = TestUtils.getResourceFilePath("/synapse/debugger/api.xml");
+    }
+
+    @Test
+    public void indexIsReused() throws Exception {
+
+        assertSame(DebuggerPositionIndex.getIndex(filePath), DebuggerPositionIndex.getIndex(filePath));
+    }
+
+    @Test
+    public void debugInfoInRequestOrder() {
+
+        Breakpoint breakpoint1 = new Breakpoint(22, 12);
+        Breakpoint breakpoint2 = new Breakpoint(25, 12);
+        List<IDebugInfo> debugInfos = new DebuggerHelper(filePath).generateDebugInfo(List.of(breakpoint2,
+                breakpoint1));
+        assertEquals("1", debugInfos.get(0).getMediatorPosition());
+        assertEquals("0", debugInfos.get(1).getMediatorPosition());
+
+        List<IDebugInfo> cached = new DebuggerHelper(filePath).generateDebugInfo(List.of(breakpoint1,
+                new Breakpoint(30, 12)));
+        assertSame(debugInfos.get(1), cached.get(0));
+        assertEquals("0", cached.get(1).getMediatorPosition());
+        assertEquals("api_outseq", ((ApiDebugInfo) cached.get(1)).getSequenceType());
+    }
+
+    @Test
+    public void stepOverInfo() {
+
+        Breakpoint breakpoint = new Breakpoint(30, 12);
+        StepOverInfo stepOverInfo = new DebuggerHelper(filePath).getStepOverBreakpoints(breakpoint);
+        assertEquals(List.of(new Breakpoint(33, 12)), stepOverInfo.getStepOverBreakpoints());
+        assertSame(stepOverInfo, new DebuggerHelper(filePath).getStepOverBreakpoints(breakpoint));
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.synapse.directorytree.builder;
+
+import org.eclipse.lemminx.customservice.synapse.connectors.ConnectorHolder;
+import org.eclipse.lemminx.customservice.synapse.directoryTree.DirectoryMapResponse;
+import org.eclipse.lemminx.customservice.synapse.directoryTree.DirectoryTreeBuilder;
+import org.eclipse.lemminx.customservice.synapse.directoryTree.DirectoryTreeDelta;
+import org.eclipse.lemminx.customservice.synapse.directoryTree.DirectoryTreeModel;
+import org.eclipse.lemminx.customservice.synapse.utils.Utils;
+import org.eclipse.lemminx.synapse.TestUtils;
+import org.eclipse.lsp4j.WorkspaceFolder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.MockedStatic;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.mockStatic;
+
+public class DirectoryTreeModelTest {
+
+    @TempDir
+    Path tempDir;
+
+    private MockedStatic<ConnectorHolder> connectorHolderMock;
+    private WorkspaceFolder projectFolder;
+    private Path sequencesPath;
+    private DirectoryTreeModel directoryTreeModel;
+
+    @BeforeEach
+    void setUp() throws Exception {
+
+        connectorHolderMock = mockStatic(ConnectorHolder.class);
+        connectorHolderMock.when(() -> ConnectorHolder.isValidConnector(any())).thenReturn(true);
+        Path projectPath = tempDir.resolve("test_project");
+        Utils.copyFolder(Path.of(TestUtils.getResourceFilePath("/synapse/resource.finder/test_project")),
+                projectPath, null);
+        projectFolder = new WorkspaceFolder(projectPath.toString());
+        sequencesPath = projectPath.resolve(Path.of("src", "main", "wso2mi", "artifacts", "sequences"));
+        directoryTreeModel = new DirectoryTreeModel(projectFolder);
+    }
+
+    @AfterEach
+    void tearDown() {
+
+        connectorHolderMock.close();
+    }
+
+    @Test
+    void directoryTreeReusedUntilFileChanged() throws Exception {
+
+        DirectoryMapResponse first = directoryTreeModel.getDirectoryTree();
+        assertSame(first, directoryTreeModel.getDirectoryTree());
+
+        Path sequence = writeSequence("newSequence");
+        directoryTreeModel.fileChanged(sequence.toString());
+        DirectoryMapResponse second = directoryTreeModel.getDirectoryTree();
+
+        assertNotSame(first, second);
+        assertEquals(DirectoryTreeBuilder.buildDirectoryTree(projectFolder).getDirectoryMap(),
+                second.getDirectoryMap());
+    }
+
+    @Test
+    void artifactNodeUpdatedInPlace() throws Exception {
+
+        directoryTreeModel.getDirectoryTree();
+        Path unnotifiedSequence = writeSequence("unnotifiedSequence");
+        Path sequence = writeSequence("newSequence");
+        directoryTreeModel.fileChanged(sequence.toString());
+
+        // the project is not walked again, hence the file without an event is not in the tree yet
+        String directoryMap = directoryTreeModel.getDirectoryTree().getDirectoryMap().toString();
+        assertTrue(directoryMap.contains("newSequence"));
+        assertFalse(directoryMap.contains("unnotifiedSequence"));
+
+        directoryTreeModel.fileChanged(unnotifiedSequence.toString());
+        Files.delete(sequence);
+        directoryTreeModel.fileChanged(sequence.toString());
+        assertEquals(DirectoryTreeBuilder.buildDirectoryTree(projectFolder).getDirectoryMap(),
+                directoryTreeModel.getDirectoryTree().getDirectoryMap());
+    }
+
+    @Test
+    void deltaContainsChangedAndRemovedPaths() throws Exception {
+
+        directoryTreeModel.getDirectoryTree();
+        long version = directoryTreeModel.getVersion();
+        Path sequence = writeSequence("newSequence");
+        directoryTreeModel.fileChanged(sequence.toString());
+
+        DirectoryTreeDelta delta = directoryTreeModel.getDelta(version);
+        assertFalse(delta.isFullTree());
+        assertEquals(List.of(sequence.toString()), delta.getChangedPaths());
+        assertEquals(1, delta.getArtifacts().size());
+        assertEquals("newSequence", delta.getArtifacts().get(0).getName());
+
+        long createdVersion = delta.getVersion();
+        Files.delete(sequence);
+        directoryTreeModel.fileChanged(sequence.toString());
+
+        delta = directoryTreeModel.getDelta(createdVersion);
+        assertTrue(delta.getChangedPaths().isEmpty());
+        assertEquals(List.of(sequence.toString()), delta.getRemovedPaths());
+    }
+
+    @Test
+    void fullTreeReturnedForUnknownVersion() {
+
+        long version = directoryTreeModel.getVersion();
+
+        assertTrue(directoryTreeModel.getDelta(version - 1).isFullTree());
+        assertTrue(directoryTreeModel.getDelta(version + 1).isFullTree());
+        assertFalse(directoryTreeModel.getDelta(version).isFullTree());
+    }
+
+    private Path writeSequence(String name) throws Exception {
+
+        Path sequence = sequencesPath.resolve(name + ".xml");
+        Files.writeString(sequence, "<sequence name=\"" + name + "\" xmlns=\"http://ws.apache.org/ns/synapse\"/>");
+        return sequence;
+    }
+}
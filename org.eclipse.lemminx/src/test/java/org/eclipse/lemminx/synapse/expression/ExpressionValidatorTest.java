@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.synapse.expression;
+
+import org.eclipse.lemminx.customservice.synapse.expression.ExpressionValidator;
+import org.eclipse.lemminx.customservice.synapse.expression.pojo.ExpressionError;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ExpressionValidatorTest {
+
+    private static final String VALID_EXPRESSION = "payload.price * 2 + vars.total";
+    private static final String INVALID_EXPRESSION = "(vars.total + 2";
+
+    @BeforeEach
+    public void setUp() {
+
+        ExpressionValidator.clearCache();
+    }
+
+    @Test
+    public void testResultCachedByExpression() {
+
+        long missCount = ExpressionValidator.getCacheMissCount();
+        List<ExpressionError> first = ExpressionValidator.validate(INVALID_EXPRESSION);
+        List<ExpressionError> second = ExpressionValidator.validate(INVALID_EXPRESSION);
+
+        assertFalse(first.isEmpty());
+        assertSame(first, second);
+        assertEquals(missCount + 1, ExpressionValidator.getCacheMissCount());
+    }
+
+    @Test
+    public void testErrorsNotCarriedOverToNextExpression() {
+
+        assertFalse(ExpressionValidator.validate(INVALID_EXPRESSION).isEmpty());
+        assertTrue(ExpressionValidator.validate(VALID_EXPRESSION).isEmpty());
+    }
+
+    @Test
+    public void testBatchValidation() {
+
+        List<List<ExpressionError>> results = ExpressionValidator.validate(
+                List.of(VALID_EXPRESSION, INVALID_EXPRESSION, VALID_EXPRESSION));
+
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).isEmpty());
+        assertFalse(results.get(1).isEmpty());
+        assertEquals(INVALID_EXPRESSION, results.get(1).get(0).getExpression());
+        assertSame(results.get(0), results.get(2));
+    }
+}
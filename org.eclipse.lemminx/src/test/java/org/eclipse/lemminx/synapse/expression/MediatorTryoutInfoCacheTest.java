@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.synapse.expression;
+
+import org.eclipse.lemminx.commons.TextDocument;
+import org.eclipse.lemminx.customservice.synapse.expression.MediatorTryoutInfoCache;
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.MediatorTryoutInfo;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class MediatorTryoutInfoCacheTest {
+
+    private static final String URI = "file:///project/src/main/wso2mi/artifacts/sequences/testSequence.xml";
+    private static final String SEQUENCE = "<sequence name=\"testSequence\" " +
+            "xmlns=\"http://ws.apache.org/ns/synapse\"><property name=\"%s\" value=\"1\"/>" +
+            "<log category=\"%s\"/><respond/></sequence>";
+
+    @Test
+    public void testDownstreamChangeKeepsEntry() {
+
+        MediatorTryoutInfoCache cache = new MediatorTryoutInfoCache(16);
+        AtomicInteger loadCount = new AtomicInteger();
+        DOMDocument document = parse(String.format(SEQUENCE, "prop", "INFO"), 1);
+        MediatorTryoutInfo first = cache.get(document, getLogOffset(document), false, () -> load(loadCount));
+
+        DOMDocument edited = parse(String.format(SEQUENCE, "prop", "DEBUG"), 2);
+        MediatorTryoutInfo second = cache.get(edited, getLogOffset(edited), false, () -> load(loadCount));
+
+        assertSame(first, second);
+        assertEquals(1, loadCount.get());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void testUpstreamChangeInvalidatesEntry() {
+
+        MediatorTryoutInfoCache cache = new MediatorTryoutInfoCache(16);
+        AtomicInteger loadCount = new AtomicInteger();
+        DOMDocument document = parse(String.format(SEQUENCE, "prop", "INFO"), 1);
+        MediatorTryoutInfo first = cache.get(document, getLogOffset(document), false, () -> load(loadCount));
+
+        DOMDocument edited = parse(String.format(SEQUENCE, "updatedProp", "INFO"), 2);
+        MediatorTryoutInfo second = cache.get(edited, getLogOffset(edited), false, () -> load(loadCount));
+
+        assertNotSame(first, second);
+        assertEquals(2, loadCount.get());
+        assertEquals(0, cache.getHitCount());
+    }
+
+    @Test
+    public void testNewMediatorCachedSeparately() {
+
+        MediatorTryoutInfoCache cache = new MediatorTryoutInfoCache(16);
+        AtomicInteger loadCount = new AtomicInteger();
+        DOMDocument document = parse(String.format(SEQUENCE, "prop", "INFO"), 1);
+        int offset = getLogOffset(document);
+
+        cache.get(document, offset, false, () -> load(loadCount));
+        cache.get(document, offset, true, () -> load(loadCount));
+        cache.get(document, offset, true, () -> load(loadCount));
+
+        assertEquals(2, loadCount.get());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testClear() {
+
+        MediatorTryoutInfoCache cache = new MediatorTryoutInfoCache(16);
+        AtomicInteger loadCount = new AtomicInteger();
+        DOMDocument document = parse(String.format(SEQUENCE, "prop", "INFO"), 1);
+        cache.get(document, getLogOffset(document), false, () -> load(loadCount));
+
+        cache.clear();
+        cache.get(document, getLogOffset(document), false, () -> load(loadCount));
+
+        assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    public void testChangedDocumentInvalidatesEntries() {
+
+        assertEquals(2, loadAfterChange("/project/src/main/wso2mi/artifacts/sequences/testSequence.xml"));
+    }
+
+    @Test
+    public void testChangedPayloadsInvalidateEntries() {
+
+        assertEquals(2, loadAfterChange("/project/.tryout/testSequence.json"));
+    }
+
+    @Test
+    public void testChangedConfigurablesInvalidateEntries() {
+
+        assertEquals(2, loadAfterChange("/project/src/main/wso2mi/resources/conf/config.properties"));
+    }
+
+    @Test
+    public void testChangedUnrelatedFileKeepsEntries() {
+
+        assertEquals(1, loadAfterChange("/project/src/main/wso2mi/artifacts/sequences/otherSequence.xml"));
+        assertEquals(1, loadAfterChange("/project/.tryout/otherSequence.json"));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntryEvicted() {
+
+        MediatorTryoutInfoCache cache = new MediatorTryoutInfoCache(1);
+        AtomicInteger loadCount = new AtomicInteger();
+        DOMDocument document = parse(String.format(SEQUENCE, "prop", "INFO"), 1);
+        int logOffset = getLogOffset(document);
+        int respondOffset = document.getText().indexOf("<respond") + 1;
+
+        cache.get(document, logOffset, false, () -> load(loadCount));
+        cache.get(document, respondOffset, false, () -> load(loadCount));
+        cache.get(document, logOffset, false, () -> load(loadCount));
+
+        assertEquals(3, loadCount.get());
+        assertEquals(1, cache.size());
+    }
+
+    /**
+     * Loads the info at the log mediator, notifies the change of the given file and loads the info again.
+     *
+     * @return the number of times the info was computed
+     */
+    private static int loadAfterChange(String changedFilePath) {
+
+        MediatorTryoutInfoCache cache = new MediatorTryoutInfoCache(16);
+        AtomicInteger loadCount = new AtomicInteger();
+        DOMDocument document = parse(String.format(SEQUENCE, "prop", "INFO"), 1);
+        cache.get(document, getLogOffset(document), false, () -> load(loadCount));
+
+        cache.invalidate(new File(changedFilePath));
+        cache.get(document, getLogOffset(document), false, () -> load(loadCount));
+        return loadCount.get();
+    }
+
+    private static DOMDocument parse(String text, int version) {
+
+        TextDocument textDocument = new TextDocument(text, URI);
+        textDocument.setVersion(version);
+        return DOMParser.getInstance().parse(textDocument, null);
+    }
+
+    private static int getLogOffset(DOMDocument document) {
+
+        return document.getText().indexOf("<log") + 1;
+    }
+
+    private static MediatorTryoutInfo load(AtomicInteger loadCount) {
+
+        loadCount.incrementAndGet();
+        return new MediatorTryoutInfo();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.synapse.mediator;
+
+import com.google.gson.JsonObject;
+import org.eclipse.lemminx.customservice.synapse.connectors.ConnectorHolder;
+import org.eclipse.lemminx.customservice.synapse.mediatorService.MediatorDispatchTable;
+import org.eclipse.lemminx.customservice.synapse.mediatorService.mediators.LogMediator;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.core.Log;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.core.Variable;
+import org.eclipse.lemminx.customservice.synapse.utils.Utils;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MediatorDispatchTableTest {
+
+    private static MediatorDispatchTable dispatchTable;
+
+    @BeforeAll
+    public static void setUp() throws Exception {
+
+        JsonObject mediatorList = Utils.getMediatorList("4.4.0", ConnectorHolder.getInstance());
+        dispatchTable = MediatorDispatchTable.build(mediatorList);
+    }
+
+    @Test
+    public void testMediatorsResolved() {
+
+        MediatorDispatchTable.MediatorDispatch logDispatch = dispatchTable.get("log");
+
+        assertNotNull(logDispatch);
+        assertTrue(logDispatch.canStore());
+        assertTrue(logDispatch.canRetrieve());
+        assertTrue(logDispatch.isMediatorNode(new Log()));
+        assertFalse(logDispatch.isMediatorNode(new Variable()));
+        assertFalse(logDispatch.isMediatorNode(null));
+        assertNull(dispatchTable.get("unknownMediator"));
+        assertNull(dispatchTable.get(null));
+    }
+
+    @Test
+    public void testDispatchMatchesProcessor() throws Exception {
+
+        MediatorDispatchTable.MediatorDispatch logDispatch = dispatchTable.get("log");
+        Log log = new Log();
+        log.setDescription("Log the request");
+
+        assertEquals(LogMediator.getDataFromST440(log), logDispatch.retrieveData(log));
+
+        Either<Map<String, Object>, Map<Range, Map<String, Object>>> processedData =
+                logDispatch.processData(createLogData(), null, new ArrayList<>());
+        assertTrue(processedData.isLeft());
+        assertEquals(LogMediator.processData430(createLogData(), null, new ArrayList<>()).getLeft(),
+                processedData.getLeft());
+    }
+
+    /**
+     * Checks that the dispatch through the table returns the same data as the reflective lookup and invocation done
+     * per request before the dispatch table.
+     */
+    @Test
+    public void testDispatchMatchesReflectiveInvocation() throws Exception {
+
+        Log log = new Log();
+        log.setDescription("Log the request");
+
+        Class<?> processorClass = Class.forName(LogMediator.class.getName());
+        Object processor = processorClass.getDeclaredConstructor().newInstance();
+        Method method = processorClass.getMethod("getDataFromST440", Class.forName(Log.class.getName()));
+
+        assertEquals(method.invoke(processor, log), dispatchTable.get("log").retrieveData(log));
+    }
+
+    private static Map<String, Object> createLogData() {
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("level", "FULL");
+        data.put("category", "INFO");
+        data.put("description", "Log the request");
+        data.put("properties", new ArrayList<>(List.of(List.of("id", Map.of("value", "1", "isExpression", false)))));
+        return data;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.synapse.mediator.tryout;
+
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.CAPPCacheManifest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CAPPCacheManifestTest {
+
+    private static final String CAPP_TYPE = "DATA_MAPPER";
+    private static final List<String> INCLUDE_PATHS = List.of(Path.of("src", "main", "wso2mi", "resources",
+            "datamapper").toString());
+
+    @TempDir
+    Path tempDir;
+
+    private Path projectPath;
+    private Path manifestPath;
+    private Path mappingPath;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+
+        projectPath = tempDir.resolve("project");
+        manifestPath = tempDir.resolve("manifest.json");
+        Path dataMapperPath = projectPath.resolve(INCLUDE_PATHS.get(0)).resolve("mapping");
+        Files.createDirectories(dataMapperPath);
+        mappingPath = dataMapperPath.resolve("mapping.ts");
+        Files.writeString(mappingPath, "export function mapFunction() {}");
+    }
+
+    @Test
+    public void testNotBuiltUntilMarked() {
+
+        CAPPCacheManifest manifest = new CAPPCacheManifest(projectPath, manifestPath);
+
+        assertEquals(CAPPCacheManifest.ChangeReason.NOT_BUILT, manifest.validate(CAPP_TYPE, INCLUDE_PATHS));
+        assertFalse(manifest.isBuilt(CAPP_TYPE));
+
+        manifest.markBuilt(CAPP_TYPE);
+
+        assertTrue(manifest.isBuilt(CAPP_TYPE));
+        assertNull(manifest.validate(CAPP_TYPE, INCLUDE_PATHS));
+    }
+
+    @Test
+    public void testTouchedFileDoesNotInvalidateCache() throws Exception {
+
+        CAPPCacheManifest manifest = buildManifest();
+
+        mappingPath.toFile().setLastModified(System.currentTimeMillis() + 10000);
+        manifest.fileChanged(mappingPath);
+
+        assertNull(manifest.validate(CAPP_TYPE, INCLUDE_PATHS));
+    }
+
+    @Test
+    public void testChangedContentInvalidatesCache() throws Exception {
+
+        CAPPCacheManifest manifest = buildManifest();
+
+        Files.writeString(mappingPath, "export function mapFunction() { return 1; }");
+        manifest.fileChanged(mappingPath);
+
+        assertEquals(CAPPCacheManifest.ChangeReason.CONTENT_CHANGED, manifest.validate(CAPP_TYPE, INCLUDE_PATHS));
+    }
+
+    @Test
+    public void testAddedAndRemovedFilesInvalidateCache() throws Exception {
+
+        CAPPCacheManifest manifest = buildManifest();
+        Path newFile = mappingPath.resolveSibling("input.schema.json");
+        Files.writeString(newFile, "{}");
+        manifest.fileChanged(newFile);
+
+        assertEquals(CAPPCacheManifest.ChangeReason.FILES_ADDED, manifest.validate(CAPP_TYPE, INCLUDE_PATHS));
+
+        Files.delete(newFile);
+        Files.delete(mappingPath);
+        manifest.fileChanged(mappingPath.getParent());
+
+        assertEquals(CAPPCacheManifest.ChangeReason.FILES_REMOVED, manifest.validate(CAPP_TYPE, INCLUDE_PATHS));
+    }
+
+    @Test
+    public void testManifestReloaded() throws Exception {
+
+        buildManifest();
+        mappingPath.toFile().setLastModified(System.currentTimeMillis() + 10000);
+
+        CAPPCacheManifest reloaded = new CAPPCacheManifest(projectPath, manifestPath);
+
+        assertTrue(reloaded.isBuilt(CAPP_TYPE));
+        assertNull(reloaded.validate(CAPP_TYPE, INCLUDE_PATHS));
+    }
+
+    private CAPPCacheManifest buildManifest() {
+
+        CAPPCacheManifest manifest = new CAPPCacheManifest(projectPath, manifestPath);
+        manifest.validate(CAPP_TYPE, INCLUDE_PATHS);
+        manifest.markBuilt(CAPP_TYPE);
+        return manifest;
+    }
+}
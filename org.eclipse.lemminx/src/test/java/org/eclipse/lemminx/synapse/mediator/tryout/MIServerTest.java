@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.synapse.mediator.tryout;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.eclipse.lemminx.customservice.synapse.mediator.TryOutConstants;
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.server.MIServer;
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.server.ManagementAPIClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the readiness detection and the artifact redeployment of the try-out server against a stub management API
+ * server that reports the APIs found in the deployment folder as deployed.
+ */
+public class MIServerTest {
+
+    private static final long OLD_TIME = 1000000000000L;
+
+    @TempDir
+    Path tempDir;
+
+    private HttpServer stubServer;
+    private volatile boolean isReady = false;
+    private Path apiDeploymentPath;
+    private Path projectApiPath;
+    private ManagementAPIClient managementAPIClient;
+
+    @BeforeEach
+    void setUp() throws Exception {
+
+        Path serverPath = tempDir.resolve("mi");
+        apiDeploymentPath = serverPath.resolve(TryOutConstants.MI_REPOSITORY_PATH).resolve("api");
+        projectApiPath = tempDir.resolve("project").resolve(TryOutConstants.API_RELATIVE_PATH);
+        Files.createDirectories(apiDeploymentPath);
+        Files.createDirectories(projectApiPath);
+
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubServer.createContext("/healthz", exchange -> respond(exchange, isReady ? 200 : 503, "{}"));
+        stubServer.createContext("/management/login",
+                exchange -> respond(exchange, 200, "{\"AccessToken\":\"token\"}"));
+        stubServer.createContext("/management/apis", exchange -> respond(exchange, 200, getDeployedApis()));
+        stubServer.start();
+        String baseUrl = "http://localhost:" + stubServer.getAddress().getPort();
+        managementAPIClient = new ManagementAPIClient(baseUrl, baseUrl);
+    }
+
+    @AfterEach
+    void tearDown() {
+
+        stubServer.stop(0);
+    }
+
+    @Test
+    void serverReadinessDetected() throws Exception {
+
+        assertFalse(managementAPIClient.isReady());
+        assertFalse(managementAPIClient.waitUntilReady(200));
+
+        Thread readinessThread = new Thread(() -> {
+            try {
+                Thread.sleep(300);
+                isReady = true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        readinessThread.start();
+
+        assertTrue(managementAPIClient.waitUntilReady(5000));
+        assertTrue(managementAPIClient.isReady());
+    }
+
+    @Test
+    void onlyChangedArtifactsRedeployed() throws Exception {
+
+        MIServer server = new MIServer(tempDir.resolve("mi"), tempDir.resolve("project").toString(),
+                managementAPIClient);
+        managementAPIClient.connect();
+        writeApi("FirstAPI", "/first");
+        writeApi("SecondAPI", "/second");
+
+        server.deployProject(tempDir.resolve("project").toString(), tempDir.resolve("project").toString());
+
+        Path firstDeployed = apiDeploymentPath.resolve("FirstAPI.xml");
+        Path secondDeployed = apiDeploymentPath.resolve("SecondAPI.xml");
+        assertTrue(Files.exists(firstDeployed));
+        assertTrue(Files.exists(secondDeployed));
+        firstDeployed.toFile().setLastModified(OLD_TIME);
+        secondDeployed.toFile().setLastModified(OLD_TIME);
+
+        writeApi("FirstAPI", "/edited");
+        server.deployProject(tempDir.resolve("project").toString(), tempDir.resolve("project").toString());
+
+        assertTrue(Files.readString(firstDeployed).contains("/edited"));
+        assertEquals(OLD_TIME, secondDeployed.toFile().lastModified());
+
+        Files.delete(projectApiPath.resolve("SecondAPI.xml"));
+        server.deployProject(tempDir.resolve("project").toString(), tempDir.resolve("project").toString());
+
+        assertTrue(Files.exists(firstDeployed));
+        assertFalse(Files.exists(secondDeployed));
+
+        server.deleteDeployedFiles();
+
+        assertFalse(Files.exists(firstDeployed));
+    }
+
+    private void writeApi(String name, String context) throws IOException {
+
+        Files.writeString(projectApiPath.resolve(name + ".xml"),
+                "<api context=\"" + context + "\" name=\"" + name + "\" xmlns=\"http://ws.apache.org/ns/synapse\">" +
+                        "<resource methods=\"GET\" uri-template=\"/\"><inSequence><respond/></inSequence></resource>" +
+                        "</api>");
+    }
+
+    private String getDeployedApis() throws IOException {
+
+        try (Stream<Path> files = Files.list(apiDeploymentPath)) {
+            String apis = files.map(file -> file.getFileName().toString().replace(".xml", ""))
+                    .map(name -> "{\"name\":\"" + name + "\"}")
+                    .collect(Collectors.joining(","));
+            return "{\"list\":[" + apis + "]}";
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+
+        byte[] response = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, response.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(response);
+        }
+    }
+}
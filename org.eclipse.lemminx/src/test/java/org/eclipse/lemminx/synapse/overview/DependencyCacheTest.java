@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.synapse.overview;
+
+import org.eclipse.lemminx.customservice.synapse.dependency.tree.DependencyCache;
+import org.eclipse.lemminx.customservice.synapse.dependency.tree.DependencyScanner;
+import org.eclipse.lemminx.customservice.synapse.dependency.tree.pojo.Dependency;
+import org.eclipse.lemminx.customservice.synapse.dependency.tree.pojo.DependencyTree;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DependencyCacheTest {
+
+    @TempDir
+    Path projectPath;
+
+    private Path sequencesPath;
+
+    @BeforeEach
+    void setUp() throws IOException {
+
+        sequencesPath = Files.createDirectories(projectPath.resolve("src/main/wso2mi/artifacts/sequences"));
+        writeSequence("First", "Shared");
+        writeSequence("Second", "Shared");
+        writeSequence("Shared", "Leaf");
+        writeSequence("Leaf");
+    }
+
+    @Test
+    void sharedDependencyIsReused() throws IOException {
+
+        DependencyCache dependencyCache = new DependencyCache();
+        DependencyScanner dependencyScanner = new DependencyScanner(projectPath.toString(), dependencyCache);
+        Dependency first = getDependency(dependencyScanner.analyzeArtifact(getPath("First")), "Shared");
+        Dependency second = getDependency(dependencyScanner.analyzeArtifact(getPath("Second")), "Shared");
+        assertSame(first, second);
+        assertEquals("Leaf", first.getDependencyList().get(0).getName());
+
+        writeSequence("Leaf", "Other");
+        writeSequence("Other");
+        Dependency changed = getDependency(dependencyScanner.analyzeArtifact(getPath("Second")), "Shared");
+        assertNotSame(first, changed);
+        Dependency leaf = changed.getDependencyList().get(0);
+        assertEquals("Other", leaf.getDependencyList().get(0).getName());
+    }
+
+    @Test
+    void cyclicDependencies() throws IOException {
+
+        writeSequence("Cyclic1", "Cyclic2");
+        writeSequence("Cyclic2", "Cyclic1");
+        DependencyCache dependencyCache = new DependencyCache();
+        DependencyScanner dependencyScanner = new DependencyScanner(projectPath.toString(), dependencyCache);
+        Dependency cyclic2 = getDependency(dependencyScanner.analyzeArtifact(getPath("Cyclic1")), "Cyclic2");
+        Dependency cyclic1 = cyclic2.getDependencyList().get(0);
+        assertEquals("Cyclic1", cyclic1.getName());
+        assertTrue(cyclic1.getDependencyList().isEmpty());
+
+        Dependency other = getDependency(dependencyScanner.analyzeArtifact(getPath("Cyclic2")), "Cyclic1");
+        assertEquals("Cyclic2", other.getDependencyList().get(0).getName());
+        assertTrue(other.getDependencyList().get(0).getDependencyList().isEmpty());
+    }
+
+    private Dependency getDependency(DependencyTree dependencyTree, String name) {
+
+        List<Dependency> dependencies = dependencyTree.getDependencyList();
+        return dependencies.stream().filter(dependency -> name.equals(dependency.getName())).findFirst()
+                .orElseThrow();
+    }
+
+    private void writeSequence(String name, String... references) throws IOException {
+
+        StringBuilder content = new StringBuilder();
+        content.append("<sequence name=\"").append(name).append("\" xmlns=\"http://ws.apache.org/ns/synapse\">\n");
+        for (String reference : references) {
+            content.append("    <sequence key=\"").append(reference).append("\"/>\n");
+        }
+        content.append("</sequence>\n");
+        File file = sequencesPath.resolve(name + ".xml").toFile();
+        long lastModified = file.lastModified();
+        Files.writeString(file.toPath(), content);
+        file.setLastModified(Math.max(file.lastModified(), lastModified + 1000));
+    }
+
+    private String getPath(String name) {
+
+        return sequencesPath.resolve(name + ".xml").toString();
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.synapse.resource.finder;
+
+import org.eclipse.lemminx.customservice.synapse.resourceFinder.AbstractResourceFinder;
+import org.eclipse.lemminx.customservice.synapse.resourceFinder.ArtifactIndex;
+import org.eclipse.lemminx.customservice.synapse.resourceFinder.ResourceFinderFactory;
+import org.eclipse.lemminx.customservice.synapse.resourceFinder.pojo.Resource;
+import org.eclipse.lemminx.customservice.synapse.resourceFinder.pojo.ResourceResponse;
+import org.eclipse.lemminx.customservice.synapse.utils.Utils;
+import org.eclipse.lemminx.synapse.TestUtils;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ArtifactIndexTest {
+
+    private static final String PROJECT_PATH = "/synapse/resource.finder/test_project";
+    private static final List<String> TYPES = List.of("api", "sequence", "endpoint", "proxyService",
+            "messageProcessor", "messageStore", "sequenceTemplate", "endpointTemplate", "task", "localEntry", "js",
+            "json", "smooksConfig", "wsdl", "ws_policy", "xsd", "xsl", "xslt", "yaml", "registry", "swagger",
+            "schema");
+
+    @TempDir
+    Path tempDir;
+
+    private String projectPath;
+    private Path indexLocation;
+    private AbstractResourceFinder indexedFinder;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+
+        Path projectCopy = tempDir.resolve("test_project");
+        Utils.copyFolder(Path.of(TestUtils.getResourceFilePath(PROJECT_PATH)), projectCopy, null);
+        projectPath = projectCopy.toString();
+        indexLocation = tempDir.resolve("artifact-index");
+        indexedFinder = ResourceFinderFactory.getResourceFinder(false);
+        indexedFinder.initArtifactIndex(projectPath, indexLocation);
+    }
+
+    @Test
+    public void testIndexedResourcesMatchScannedResources() {
+
+        AbstractResourceFinder scanningFinder = ResourceFinderFactory.getResourceFinder(false);
+        assertNotNull(indexedFinder.getArtifactIndex());
+        assertTrue(indexedFinder.getArtifactIndex().isBuilt());
+        for (String type : TYPES) {
+            ResourceResponse expected = scanningFinder.getAvailableResources(projectPath, Either.forLeft(type));
+            ResourceResponse actual = indexedFinder.getAvailableResources(projectPath, Either.forLeft(type));
+            assertEquals(getNames(expected.getResources()), getNames(actual.getResources()), type);
+            assertEquals(getNames(expected.getRegistryResources()), getNames(actual.getRegistryResources()), type);
+        }
+    }
+
+    @Test
+    public void testIndexUpdatedOnFileEvents() throws Exception {
+
+        Path sequencePath = Path.of(projectPath, "src", "main", "wso2mi", "artifacts", "sequences",
+                "newSequence.xml");
+        Files.writeString(sequencePath, "<sequence name=\"newSequence\" xmlns=\"http://ws.apache.org/ns/synapse\"/>");
+        indexedFinder.getArtifactIndex().update(sequencePath.toFile());
+
+        ResourceResponse sequences = indexedFinder.getAvailableResources(projectPath, Either.forLeft("sequence"));
+        assertEquals(List.of("newSequence", "testSequence1"), getNames(sequences.getResources()));
+
+        File sequenceFile = sequencePath.toFile();
+        assertTrue(sequenceFile.delete());
+        indexedFinder.getArtifactIndex().remove(sequenceFile);
+
+        sequences = indexedFinder.getAvailableResources(projectPath, Either.forLeft("sequence"));
+        assertEquals(List.of("testSequence1"), getNames(sequences.getResources()));
+    }
+
+    @Test
+    public void testIndexUpdatedOnFileEventsDuringBuild() throws Exception {
+
+        Path sequencesPath = Path.of(projectPath, "src", "main", "wso2mi", "artifacts", "sequences");
+        Path sequencePath = sequencesPath.resolve("newSequence.xml");
+        ArtifactIndex index = new ArtifactIndex(projectPath, List.of(sequencesPath), indexLocation);
+        Files.writeString(sequencePath, "<sequence name=\"newSequence\" xmlns=\"http://ws.apache.org/ns/synapse\"/>");
+        index.update(sequencePath.toFile());
+        assertNull(index.getEntry(sequencePath.toFile()));
+
+        File sequenceFile = sequencesPath.resolve("testSequence1.xml").toFile();
+        assertTrue(sequenceFile.delete());
+        index.remove(sequenceFile);
+        Files.writeString(sequencePath, "<sequence name=\"renamedSequence\" xmlns=\"http://ws.apache.org/ns/synapse\"/>");
+        index.build();
+
+        assertEquals(List.of(sequencePath.toFile()), index.getFiles(sequencesPath));
+        assertEquals("renamedSequence", index.getEntry(sequencePath.toFile()).getName());
+    }
+
+    @Test
+    public void testIndexReusedFromSnapshot() throws Exception {
+
+        int size = indexedFinder.getArtifactIndex().size();
+        assertTrue(size > 0);
+        assertEquals(0, indexedFinder.getArtifactIndex().getReusedCount());
+        Path snapshotPath = indexLocation.resolve(Utils.getHash(projectPath) + ".json");
+        assertTrue(Files.exists(snapshotPath));
+
+        AbstractResourceFinder reloadedFinder = ResourceFinderFactory.getResourceFinder(false);
+        reloadedFinder.initArtifactIndex(projectPath, indexLocation);
+
+        assertEquals(size, reloadedFinder.getArtifactIndex().size());
+        assertEquals(size, reloadedFinder.getArtifactIndex().getReusedCount());
+        ResourceResponse apis = reloadedFinder.getAvailableResources(projectPath, Either.forLeft("api"));
+        assertEquals(List.of("testApi"), getNames(apis.getResources()));
+    }
+
+    private List<String> getNames(List<Resource> resources) {
+
+        if (resources == null) {
+            return List.of();
+        }
+        return resources.stream().map(Resource::getName).sorted().collect(Collectors.toList());
+    }
+}
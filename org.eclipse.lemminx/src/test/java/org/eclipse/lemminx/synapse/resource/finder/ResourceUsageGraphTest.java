@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.synapse.resource.finder;
+
+import org.eclipse.lemminx.customservice.synapse.resourceFinder.ResourceUsageGraph;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ResourceUsageGraphTest {
+
+    private static final String XSLT_KEY = "gov:xslt/transform.xslt";
+    private static final String API_WITH_XSLT = "<api name=\"TestAPI\" context=\"/test\" " +
+            "xmlns=\"http://ws.apache.org/ns/synapse\"><resource methods=\"GET\" uri-template=\"/\"><inSequence>" +
+            "<xslt key=\"" + XSLT_KEY + "\"/><respond/></inSequence></resource></api>";
+    private static final String API_WITHOUT_XSLT = "<api name=\"TestAPI\" context=\"/test\" " +
+            "xmlns=\"http://ws.apache.org/ns/synapse\"><resource methods=\"GET\" uri-template=\"/\"><inSequence>" +
+            "<respond/></inSequence></resource></api>";
+    private static final String SEQUENCE_WITH_XSLT = "<sequence name=\"TestSequence\" " +
+            "xmlns=\"http://ws.apache.org/ns/synapse\"><xslt key=\"" + XSLT_KEY + "\"/></sequence>";
+
+    @TempDir
+    Path projectPath;
+
+    private Path apiPath;
+    private ResourceUsageGraph resourceUsageGraph;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+
+        Path artifactsPath = projectPath.resolve(Path.of("src", "main", "wso2mi", "artifacts"));
+        Path xsltPath = projectPath.resolve(Path.of("src", "main", "wso2mi", "resources", "registry", "gov", "xslt"));
+        Files.createDirectories(artifactsPath.resolve("apis"));
+        Files.createDirectories(artifactsPath.resolve("sequences"));
+        Files.createDirectories(xsltPath);
+        Files.writeString(xsltPath.resolve("transform.xslt"), "<xsl:stylesheet version=\"1.0\" " +
+                "xmlns:xsl=\"http://www.w3.org/1999/XSL/Transform\"/>");
+        apiPath = artifactsPath.resolve("apis").resolve("TestAPI.xml");
+        Files.writeString(apiPath, API_WITH_XSLT);
+        resourceUsageGraph = new ResourceUsageGraph(projectPath.toString());
+    }
+
+    @Test
+    public void testFindUsages() {
+
+        List<String> usages = resourceUsageGraph.findUsages(XSLT_KEY, null);
+
+        assertEquals(List.of(apiPath.toString()), usages);
+    }
+
+    @Test
+    public void testUsagesUpdatedOnChange() throws Exception {
+
+        assertEquals(1, resourceUsageGraph.findUsages(XSLT_KEY, null).size());
+
+        Files.writeString(apiPath, API_WITHOUT_XSLT);
+        resourceUsageGraph.artifactChanged(apiPath.toString());
+
+        assertTrue(resourceUsageGraph.findUsages(XSLT_KEY, null).isEmpty());
+    }
+
+    @Test
+    public void testUsagesUpdatedOnCreateAndDelete() throws Exception {
+
+        assertEquals(1, resourceUsageGraph.findUsages(XSLT_KEY, null).size());
+
+        Path sequencePath = projectPath.resolve(Path.of("src", "main", "wso2mi", "artifacts", "sequences",
+                "TestSequence.xml"));
+        Files.writeString(sequencePath, SEQUENCE_WITH_XSLT);
+        resourceUsageGraph.artifactCreated(sequencePath.toString());
+
+        assertEquals(List.of(apiPath.toString(), sequencePath.toString()),
+                resourceUsageGraph.findUsages(XSLT_KEY, null));
+
+        Files.delete(apiPath);
+        resourceUsageGraph.artifactDeleted(apiPath.toString());
+
+        assertEquals(List.of(sequencePath.toString()), resourceUsageGraph.findUsages(XSLT_KEY, null));
+    }
+}
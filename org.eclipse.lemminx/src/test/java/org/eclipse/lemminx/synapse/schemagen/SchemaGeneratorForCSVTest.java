@@ -18,6 +18,9 @@ import org.eclipse.lemminx.customservice.synapse.schemagen.util.FileType;
 import org.eclipse.lemminx.customservice.synapse.schemagen.util.SchemaGeneratorForCSV;
 import org.junit.jupiter.api.Test;
 
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
@@ -214,4 +217,24 @@ public class SchemaGeneratorForCSVTest {
         verifyGeneratedJSONSchema(csvFilePath, expectedJSONSchemaFilePath, "\t");
     }
 
+    @Test
+    public void testGenerateSchemaFromFile() throws IOException {
+
+        String csvFilePath = "src/test/resources/synapse/schemagen/csv/sampleWithMixedDataTypes.csv";
+        SchemaGeneratorForCSV schemaGenerator = new SchemaGeneratorForCSV();
+        assertEquals(generateJSONSchema(csvFilePath, ","),
+                schemaGenerator.getSchemaResourcePath(csvFilePath, FileType.CSV, ","));
+    }
+
+    @Test
+    public void testGenerateSchemaWithSampledRows() throws IOException {
+
+        String csvFilePath = "src/test/resources/synapse/schemagen/csv/sampleWithMixedDataTypes.csv";
+        SchemaGeneratorForCSV schemaGenerator = new SchemaGeneratorForCSV();
+        schemaGenerator.setSampleSize(2);
+        String generatedSchema = schemaGenerator.getSchemaResourcePath(csvFilePath, FileType.CSV, ",");
+        JsonObject schema = JsonParser.parseString(generatedSchema).getAsJsonObject();
+        assertEquals(2, schema.getAsJsonArray("items").size());
+    }
+
 }
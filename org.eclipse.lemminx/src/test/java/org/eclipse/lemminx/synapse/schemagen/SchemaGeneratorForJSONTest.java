@@ -17,16 +17,23 @@ package org.eclipse.lemminx.synapse.schemagen;
 import org.eclipse.lemminx.customservice.synapse.schemagen.util.FileType;
 import org.eclipse.lemminx.customservice.synapse.schemagen.util.SchemaGeneratorForJSON;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class SchemaGeneratorForJSONTest {
 
+    @TempDir
+    Path tempDir;
+
     private void verifyGeneratedJSONSchema(String jsonFilePath, String jsonSchemaFilePath) throws IOException {
 
         String generatedSchema = generateJSONSchema(jsonFilePath);
@@ -42,6 +49,26 @@ public class SchemaGeneratorForJSONTest {
         return schemaGenerator.getSchemaContent(fileContent, FileType.JSON, "");
     }
 
+    @Test
+    public void testGenerateSchemaFromFile() throws IOException {
+
+        String jsonFilePath = "src/test/resources/synapse/schemagen/json/sampleWithComplexArray.json";
+        SchemaGeneratorForJSON schemaGenerator = new SchemaGeneratorForJSON();
+        assertEquals(generateJSONSchema(jsonFilePath),
+                schemaGenerator.getSchemaResourcePath(jsonFilePath, FileType.JSON, ""));
+    }
+
+    @Test
+    public void testGenerateSchemaWithSampledArrays() throws IOException {
+
+        SchemaGeneratorForJSON schemaGenerator = new SchemaGeneratorForJSON();
+        schemaGenerator.setSampleSize(1);
+        String sample = "[{\"name\": \"John\", \"roles\": [\"a\"]}]";
+        String content = "[{\"name\": \"John\", \"roles\": [\"a\", \"b\"]}, {\"name\": \"Jane\"}]";
+        assertEquals(schemaGenerator.getSchemaContent(sample, FileType.JSON, ""),
+                schemaGenerator.getSchemaContent(content, FileType.JSON, ""));
+    }
+
     @Test
     public void testGenerateSchemaWithArrayOfNulls() throws IOException {
 
@@ -308,4 +335,15 @@ public class SchemaGeneratorForJSONTest {
         String jsonFilePath = "src/test/resources/synapse/schemagen/json/sampleWithWhitespaceOnly.json";
         assertThrows(ClassCastException.class, () -> generateJSONSchema(jsonFilePath));
     }
+
+    @Test
+    public void testGenerateSchemaFromUTF8FileWithByteOrderMark() throws IOException {
+
+        Path jsonFile = tempDir.resolve("byteOrderMark.json");
+        Files.writeString(jsonFile, "\ufeff{\"caf\u00e9\": \"cr\u00e8me\"}", StandardCharsets.UTF_8);
+
+        String generatedSchema = new SchemaGeneratorForJSON().getSchemaResourcePath(jsonFile.toString(),
+                FileType.JSON, "");
+        assertTrue(generatedSchema.contains("\"caf\u00e9\""));
+    }
 }
@@ -17,15 +17,26 @@ package org.eclipse.lemminx.synapse.schemagen;
 import org.eclipse.lemminx.customservice.synapse.schemagen.util.FileType;
 import org.eclipse.lemminx.customservice.synapse.schemagen.util.SchemaGeneratorForXML;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class SchemaGeneratorForXMLTest {
 
+    @TempDir
+    Path tempDir;
+
     private void verifyGeneratedJSONSchema(String xmlFilePath, String jsonSchemaFilePath) throws IOException {
 
         SchemaGeneratorForXML schemaGenerator = new SchemaGeneratorForXML();
@@ -216,4 +227,70 @@ public class SchemaGeneratorForXMLTest {
                 "src/test/resources/synapse/schemagen/xml/expectedJsonSchema/sampleWithSpecialCharacters.json";
         verifyGeneratedJSONSchema(xmlFilePath, expectedJSONSchemaFilePath);
     }
+
+    @Test
+    public void testGenerateSchemaWithSampledElements() throws IOException {
+
+        SchemaGeneratorForXML schemaGenerator = new SchemaGeneratorForXML();
+        schemaGenerator.setSampleSize(2);
+        String sample = "<orders><order><id>1</id></order><order><id>2</id></order></orders>";
+        String content = "<orders><order><id>1</id></order><order><id>2</id></order>"
+                + "<order><id>3</id><note>skipped</note></order></orders>";
+        assertEquals(schemaGenerator.getSchemaContent(sample, FileType.XML, ","),
+                schemaGenerator.getSchemaContent(content, FileType.XML, ","));
+    }
+
+    @Test
+    public void testGenerateSchemaWithLargeNonRepetitivePayload() throws IOException {
+
+        // no element is repeated under the same parent, hence nothing is sampled and the payload is loaded in full
+        int recordCount = 5000;
+        StringBuilder content = new StringBuilder("<payload>");
+        for (int i = 0; i < recordCount; i++) {
+            content.append("<record").append(i).append("><id>").append(i).append("</id><name>name").append(i)
+                    .append("</name></record").append(i).append('>');
+        }
+        content.append("</payload>");
+        Path xmlFile = tempDir.resolve("largeNonRepetitivePayload.xml");
+        Files.writeString(xmlFile, content);
+
+        SchemaGeneratorForXML schemaGenerator = new SchemaGeneratorForXML();
+        schemaGenerator.setSampleSize(1);
+        for (String generatedSchema : new String[]{
+                schemaGenerator.getSchemaResourcePath(xmlFile.toString(), FileType.XML, ","),
+                schemaGenerator.getSchemaContent(content.toString(), FileType.XML, ",")}) {
+            JsonObject properties = JsonParser.parseString(generatedSchema).getAsJsonObject()
+                    .getAsJsonObject("properties");
+            assertEquals(recordCount, properties.size());
+            JsonObject lastRecord = properties.getAsJsonObject("record" + (recordCount - 1));
+            assertTrue(lastRecord.getAsJsonObject("properties").has("name"));
+        }
+    }
+
+    @Test
+    public void testGenerateSchemaWithSampleExceedingMaxLength() throws IOException {
+
+        Path xmlFile = tempDir.resolve("exceedingMaxLength.xml");
+        Files.writeString(xmlFile, "<payload><first>1</first><second>2</second><third>3</third></payload>");
+
+        SchemaGeneratorForXML schemaGenerator = new SchemaGeneratorForXML();
+        schemaGenerator.setMaxSampledLength(32);
+        assertThrows(IOException.class,
+                () -> schemaGenerator.getSchemaResourcePath(xmlFile.toString(), FileType.XML, ","));
+    }
+
+    @Test
+    public void testGenerateSchemaFromFileWithDeclaredEncoding() throws IOException {
+
+        String content = "<?xml version=\"1.0\" encoding=\"ISO-8859-1\"?><commande><caf\u00e9>cr\u00e8me</caf\u00e9>"
+                + "</commande>";
+        Path xmlFile = tempDir.resolve("declaredEncoding.xml");
+        Files.writeString(xmlFile, content, StandardCharsets.ISO_8859_1);
+
+        String generatedSchema = new SchemaGeneratorForXML().getSchemaResourcePath(xmlFile.toString(), FileType.XML,
+                ",");
+        JsonObject properties = JsonParser.parseString(generatedSchema).getAsJsonObject()
+                .getAsJsonObject("properties");
+        assertTrue(properties.has("caf\u00e9"));
+    }
 }
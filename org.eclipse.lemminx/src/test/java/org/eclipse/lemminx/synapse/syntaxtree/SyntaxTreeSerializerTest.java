@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.synapse.syntaxtree;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.SyntaxTreeGenerator;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.SyntaxTreeResponse;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.SyntaxTreeSerializer;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.STNode;
+import org.eclipse.lemminx.customservice.synapse.utils.EnumTypeAdapter;
+import org.eclipse.lemminx.customservice.synapse.utils.OptionalTypeAdapter;
+import org.eclipse.lemminx.customservice.synapse.utils.Utils;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SyntaxTreeSerializerTest {
+
+    private static final String[] SAMPLE_PROJECTS = {"/synapse/resource.finder/test_project",
+            "/synapse/connector/test_project"};
+
+    private static List<STNode> trees;
+
+    @BeforeAll
+    public static void setUp() throws Exception {
+
+        trees = new ArrayList<>();
+        for (String project : SAMPLE_PROJECTS) {
+            Path artifactsPath = Path.of(SyntaxTreeSerializerTest.class.getResource(project).getPath(), "src", "main",
+                    "wso2mi", "artifacts");
+            List<Path> artifacts;
+            try (Stream<Path> files = Files.walk(artifactsPath)) {
+                artifacts = files.filter(file -> file.toString().endsWith(".xml")).sorted()
+                        .collect(Collectors.toList());
+            }
+            for (Path artifact : artifacts) {
+                DOMDocument document = Utils.getDOMDocument(new File(artifact.toString()));
+                STNode tree = new SyntaxTreeGenerator().getSyntaxTree(document).getSyntaxTree();
+                if (tree != null) {
+                    trees.add(tree);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSerializationMatchesReflectiveSerialization() throws Exception {
+
+        assertFalse(trees.isEmpty());
+        Gson reflectiveGson = createReflectiveGson();
+        for (STNode tree : trees) {
+            JsonElement expected = toReflectiveJsonTree(reflectiveGson, tree);
+            assertEquals(expected, SyntaxTreeSerializer.getInstance().toJsonTree(tree), tree.getTag());
+            assertEquals(expected, JsonParser.parseString(SyntaxTreeSerializer.getInstance().toJson(tree)),
+                    tree.getTag());
+        }
+    }
+
+    @Test
+    public void testResponseStreamsTree() {
+
+        STNode tree = trees.get(0);
+        SyntaxTreeResponse response = new SyntaxTreeResponse(tree, "file:///test.xml");
+
+        JsonObject json = new Gson().toJsonTree(response).getAsJsonObject();
+
+        assertEquals("file:///test.xml", json.get("defFilePath").getAsString());
+        assertTrue(json.getAsJsonObject("syntaxTree").has(tree.getTag()));
+        assertEquals(toReflectiveJsonTree(createReflectiveGson(), tree), json.get("syntaxTree"));
+        assertFalse(new Gson().toJsonTree(new SyntaxTreeResponse(null, null)).getAsJsonObject().has("syntaxTree"));
+    }
+
+    private static Gson createReflectiveGson() {
+
+        return new GsonBuilder()
+                .registerTypeHierarchyAdapter(Optional.class, new OptionalTypeAdapter())
+                .registerTypeHierarchyAdapter(Enum.class, new EnumTypeAdapter())
+                .disableHtmlEscaping()
+                .create();
+    }
+
+    private static JsonElement toReflectiveJsonTree(Gson gson, STNode tree) {
+
+        JsonObject root = new JsonObject();
+        root.add(tree.getTag(), gson.toJsonTree(tree));
+        return root;
+    }
+}
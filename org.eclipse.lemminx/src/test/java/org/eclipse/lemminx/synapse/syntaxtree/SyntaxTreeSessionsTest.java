@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.synapse.syntaxtree;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.eclipse.lemminx.commons.TextDocument;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.SyntaxTreeDeltaResponse;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.SyntaxTreeGenerator;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.SyntaxTreePatch;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.SyntaxTreeSerializer;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.SyntaxTreeSessions;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.STNode;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class SyntaxTreeSessionsTest {
+
+    private static final String URI = "file:///project/src/main/wso2mi/artifacts/sequences/testSequence.xml";
+    private static final String SEQUENCE =
+            "<sequence name=\"testSequence\" xmlns=\"http://ws.apache.org/ns/synapse\">\n" +
+            "    <log category=\"INFO\"/>\n" +
+            "%s" +
+            "    <respond/>\n" +
+            "</sequence>";
+    private static final String INSERTED_MEDIATOR = "    <property name=\"id\" value=\"1\"/>\n";
+
+    @Test
+    public void testInsertedMediatorPatched() {
+
+        SyntaxTreeSessions sessions = new SyntaxTreeSessions(4);
+        SyntaxTreeDeltaResponse first = sessions.getSyntaxTree(parse(String.format(SEQUENCE, ""), 1), null,
+                new SyntaxTreeGenerator());
+        SyntaxTreeDeltaResponse second = sessions.getSyntaxTree(parse(String.format(SEQUENCE, INSERTED_MEDIATOR), 2),
+                first.getVersion(), new SyntaxTreeGenerator());
+
+        assertNull(second.getSyntaxTree());
+        List<SyntaxTreePatch> patches = second.getPatches();
+        SyntaxTreePatch splice = patches.stream()
+                .filter(patch -> patch.getOperation() == SyntaxTreePatch.Operation.SPLICE).findFirst().orElse(null);
+        assertNotNull(splice);
+        assertEquals("/sequence/mediatorList", splice.getPath());
+        assertEquals(1, splice.getIndex());
+        assertEquals(0, splice.getDeleteCount());
+        assertEquals(1, splice.getValue().getAsJsonArray().size());
+        // the mediator after the inserted one is shifted, except the start of its leading space which is the end of
+        // the inserted mediator
+        assertTrue(patches.stream().anyMatch(patch -> patch.getOperation() == SyntaxTreePatch.Operation.SHIFT &&
+                patch.getPath().equals("/sequence/mediatorList/2/range") && patch.getLineDelta() == 1));
+        assertEquals(List.of("/sequence/mediatorList/2/spaces/startingTagSpace/leadingSpace/range/start"),
+                patches.stream().filter(patch -> patch.getOperation() == SyntaxTreePatch.Operation.REPLACE)
+                        .map(SyntaxTreePatch::getPath).collect(Collectors.toList()));
+
+        JsonElement patched = first.getSyntaxTree().deepCopy();
+        for (SyntaxTreePatch patch : patches) {
+            patched = apply(patched, patch);
+        }
+        SyntaxTreeDeltaResponse full = new SyntaxTreeSessions(4).getSyntaxTree(
+                parse(String.format(SEQUENCE, INSERTED_MEDIATOR), 2), null, new SyntaxTreeGenerator());
+        assertEquals(full.getSyntaxTree(), patched);
+    }
+
+    @Test
+    public void testVersions() {
+
+        SyntaxTreeSessions sessions = new SyntaxTreeSessions(4);
+        DOMDocument document = parse(String.format(SEQUENCE, ""), 1);
+
+        SyntaxTreeDeltaResponse first = sessions.getSyntaxTree(document, null, new SyntaxTreeGenerator());
+        assertNotNull(first.getSyntaxTree());
+        assertEquals(1, first.getVersion());
+
+        SyntaxTreeDeltaResponse unchanged = sessions.getSyntaxTree(document, 1, new SyntaxTreeGenerator());
+        assertNull(unchanged.getSyntaxTree());
+        assertTrue(unchanged.getPatches().isEmpty());
+        assertEquals(1, unchanged.getVersion());
+
+        DOMDocument edited = parse(String.format(SEQUENCE, INSERTED_MEDIATOR), 2);
+        SyntaxTreeDeltaResponse stale = sessions.getSyntaxTree(edited, 0, new SyntaxTreeGenerator());
+        assertNotNull(stale.getSyntaxTree());
+        assertNull(stale.getPatches());
+        assertEquals(2, stale.getVersion());
+    }
+
+    @Test
+    public void testUnchangedDocumentNotRebuilt() {
+
+        SyntaxTreeSessions sessions = new SyntaxTreeSessions(4);
+        // documents that are not open in the editor have no version
+        DOMDocument document = parse(String.format(SEQUENCE, ""), 0);
+        SyntaxTreeGenerator generator = spy(new SyntaxTreeGenerator());
+
+        SyntaxTreeDeltaResponse first = sessions.getSyntaxTree(document, null, generator);
+        SyntaxTreeDeltaResponse unchanged = sessions.getSyntaxTree(document, first.getVersion(), generator);
+        assertTrue(unchanged.getPatches().isEmpty());
+        assertEquals(first.getVersion(), unchanged.getVersion());
+        verify(generator, times(1)).getSyntaxTree(document);
+
+        DOMDocument reloaded = parse(String.format(SEQUENCE, INSERTED_MEDIATOR), 0);
+        SyntaxTreeDeltaResponse changed = sessions.getSyntaxTree(reloaded, first.getVersion(), generator);
+        assertFalse(changed.getPatches().isEmpty());
+        assertEquals(first.getVersion() + 1, changed.getVersion());
+    }
+
+    @Test
+    public void testSessionRemovedOnClose() {
+
+        SyntaxTreeSessions sessions = new SyntaxTreeSessions(4);
+        DOMDocument document = parse(String.format(SEQUENCE, ""), 1);
+        sessions.getSyntaxTree(document, null, new SyntaxTreeGenerator());
+        assertEquals(1, sessions.size());
+
+        sessions.didClose(document);
+        assertEquals(0, sessions.size());
+    }
+
+    @Test
+    public void testJsonTreeMatchesJson() {
+
+        STNode tree = new SyntaxTreeGenerator().getSyntaxTree(parse(String.format(SEQUENCE, INSERTED_MEDIATOR), 1))
+                .getSyntaxTree();
+        SyntaxTreeSerializer serializer = SyntaxTreeSerializer.getInstance();
+        assertEquals(JsonParser.parseString(serializer.toJson(tree)), serializer.toJsonTree(tree));
+    }
+
+    private static DOMDocument parse(String text, int version) {
+
+        TextDocument textDocument = new TextDocument(text, URI);
+        textDocument.setVersion(version);
+        return DOMParser.getInstance().parse(textDocument, null);
+    }
+
+    /**
+     * Applies the patch as the diagram client does, and returns the patched tree.
+     */
+    private static JsonElement apply(JsonElement root, SyntaxTreePatch patch) {
+
+        if (patch.getPath().isEmpty()) {
+            if (patch.getOperation() == SyntaxTreePatch.Operation.REPLACE) {
+                return patch.getValue();
+            }
+            shift(root, patch.getLineDelta());
+            return root;
+        }
+        String[] segments = patch.getPath().substring(1).split("/");
+        JsonElement parent = root;
+        for (int i = 0; i < segments.length - 1; i++) {
+            parent = getChild(parent, segments[i]);
+        }
+        String last = segments[segments.length - 1];
+        switch (patch.getOperation()) {
+            case REPLACE:
+                if (parent.isJsonArray()) {
+                    parent.getAsJsonArray().set(Integer.parseInt(last), patch.getValue());
+                } else {
+                    parent.getAsJsonObject().add(unescape(last), patch.getValue());
+                }
+                break;
+            case SHIFT:
+                shift(getChild(parent, last), patch.getLineDelta());
+                break;
+            case SPLICE:
+                JsonArray array = getChild(parent, last).getAsJsonArray();
+                JsonArray spliced = new JsonArray();
+                for (int i = 0; i < patch.getIndex(); i++) {
+                    spliced.add(array.get(i));
+                }
+                spliced.addAll(patch.getValue().getAsJsonArray());
+                for (int i = patch.getIndex() + patch.getDeleteCount(); i < array.size(); i++) {
+                    spliced.add(array.get(i));
+                }
+                if (parent.isJsonArray()) {
+                    parent.getAsJsonArray().set(Integer.parseInt(last), spliced);
+                } else {
+                    parent.getAsJsonObject().add(unescape(last), spliced);
+                }
+                break;
+            default:
+                break;
+        }
+        return root;
+    }
+
+    private static JsonElement getChild(JsonElement parent, String segment) {
+
+        if (parent.isJsonArray()) {
+            return parent.getAsJsonArray().get(Integer.parseInt(segment));
+        }
+        return parent.getAsJsonObject().get(unescape(segment));
+    }
+
+    private static String unescape(String segment) {
+
+        return segment.replace("~1", "/").replace("~0", "~");
+    }
+
+    private static void shift(JsonElement node, int lineDelta) {
+
+        if (node.isJsonArray()) {
+            for (JsonElement element : node.getAsJsonArray()) {
+                shift(element, lineDelta);
+            }
+        } else if (node.isJsonObject()) {
+            JsonObject object = node.getAsJsonObject();
+            if (object.size() == 2 && object.has("line") && object.has("character")) {
+                object.addProperty("line", object.get("line").getAsInt() + lineDelta);
+                return;
+            }
+            for (Map.Entry<String, JsonElement> entry : object.entrySet()) {
+                shift(entry.getValue(), lineDelta);
+            }
+        }
+    }
+}
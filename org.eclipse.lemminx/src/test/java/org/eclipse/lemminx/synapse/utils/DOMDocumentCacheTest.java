@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.synapse.utils;
+
+import org.eclipse.lemminx.customservice.synapse.utils.DOMDocumentCache;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class DOMDocumentCacheTest {
+
+    private static final String SEQUENCE = "<sequence name=\"%s\" xmlns=\"http://ws.apache.org/ns/synapse\"/>";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testCachedDocumentReused() throws Exception {
+
+        DOMDocumentCache cache = new DOMDocumentCache(1024);
+        File file = writeSequence("seq1", "testSequence");
+
+        DOMDocument first = cache.getDocument(file);
+        DOMDocument second = cache.getDocument(file);
+
+        assertSame(first, second);
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void testDocumentReparsedWhenFileChanged() throws Exception {
+
+        DOMDocumentCache cache = new DOMDocumentCache(1024);
+        File file = writeSequence("seq1", "testSequence");
+        DOMDocument first = cache.getDocument(file);
+
+        writeSequence("seq1", "updatedTestSequence");
+        DOMDocument second = cache.getDocument(file);
+
+        assertNotSame(first, second);
+        assertEquals("updatedTestSequence", second.getDocumentElement().getAttribute("name"));
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void testInvalidate() throws Exception {
+
+        DOMDocumentCache cache = new DOMDocumentCache(1024);
+        File file = writeSequence("seq1", "testSequence");
+        cache.getDocument(file);
+
+        cache.invalidate(tempDir.toFile());
+
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getWeight());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedDocumentEvicted() throws Exception {
+
+        File file1 = writeSequence("seq1", "testSequence1");
+        File file2 = writeSequence("seq2", "testSequence2");
+        File file3 = writeSequence("seq3", "testSequence3");
+        DOMDocumentCache cache = new DOMDocumentCache(file1.length() + file2.length());
+
+        DOMDocument first = cache.getDocument(file1);
+        cache.getDocument(file2);
+        cache.getDocument(file1);
+        cache.getDocument(file3);
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        assertSame(first, cache.getDocument(file1));
+    }
+
+    @Test
+    public void testOpenDocumentPreferred() throws Exception {
+
+        DOMDocumentCache cache = new DOMDocumentCache(1024);
+        File file = writeSequence("seq1", "testSequence");
+        DOMDocument openDocument = new DOMDocumentCache(1024).getDocument(writeSequence("seq2", "openSequence"));
+        cache.setOpenDocumentProvider(requested -> requested.equals(file) ? openDocument : null);
+
+        assertSame(openDocument, cache.getDocument(file));
+        assertEquals(1, cache.getOpenDocumentHitCount());
+        assertEquals(0, cache.getMissCount());
+    }
+
+    private File writeSequence(String fileName, String sequenceName) throws Exception {
+
+        Path path = tempDir.resolve(fileName + ".xml");
+        Files.writeString(path, String.format(SEQUENCE, sequenceName));
+        return path.toFile();
+    }
+}
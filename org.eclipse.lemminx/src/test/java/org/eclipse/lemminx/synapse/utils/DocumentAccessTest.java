@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.synapse.utils;
+
+import org.eclipse.lemminx.commons.TextDocument;
+import org.eclipse.lemminx.customservice.synapse.utils.DOMDocumentCache;
+import org.eclipse.lemminx.customservice.synapse.utils.DocumentAccess;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class DocumentAccessTest {
+
+    private static final String SEQUENCE = "<sequence name=\"%s\" xmlns=\"http://ws.apache.org/ns/synapse\"/>";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testOpenDocumentServed() throws Exception {
+
+        File file = writeSequence("seq1", "savedSequence");
+        DOMDocument openDocument = DOMParser.getInstance().parse(new TextDocument(String.format(SEQUENCE,
+                "unsavedSequence"), file.toPath().toUri().toString()), null);
+        DOMDocumentCache cache = new DOMDocumentCache(1024);
+        cache.setOpenDocumentProvider(requested -> requested.equals(file) ? openDocument : null);
+        DocumentAccess documentAccess = new DocumentAccess(cache);
+
+        DOMDocument document = documentAccess.getDocument("getSupportedMediators", file.toPath().toUri().toString());
+
+        assertSame(openDocument, document);
+        assertEquals("unsavedSequence", document.getDocumentElement().getAttribute("name"));
+        assertEquals(1, documentAccess.getRequestCount("getSupportedMediators", DocumentAccess.Source.OPEN_DOCUMENT));
+        assertEquals(0, documentAccess.getRequestCount("getSupportedMediators", DocumentAccess.Source.FILE));
+        assertEquals(0, cache.getMissCount());
+    }
+
+    @Test
+    public void testClosedDocumentReadFromDisk() throws Exception {
+
+        File file = writeSequence("seq1", "savedSequence");
+        DOMDocumentCache cache = new DOMDocumentCache(1024);
+        cache.setOpenDocumentProvider(requested -> null);
+        DocumentAccess documentAccess = new DocumentAccess(cache);
+
+        DOMDocument first = documentAccess.getDocument("getArtifactType", file.getAbsolutePath());
+        DOMDocument second = documentAccess.getDocument("getArtifactType", file);
+
+        assertSame(first, second);
+        assertEquals("savedSequence", first.getDocumentElement().getAttribute("name"));
+        assertEquals(2, documentAccess.getRequestCount("getArtifactType", DocumentAccess.Source.FILE));
+        assertEquals(0, documentAccess.getRequestCount("getUISchemaWithValues", DocumentAccess.Source.FILE));
+        assertEquals(1, cache.getMissCount());
+    }
+
+    private File writeSequence(String fileName, String sequenceName) throws Exception {
+
+        Path path = tempDir.resolve(fileName + ".xml");
+        Files.writeString(path, String.format(SEQUENCE, sequenceName));
+        return path.toFile();
+    }
+}